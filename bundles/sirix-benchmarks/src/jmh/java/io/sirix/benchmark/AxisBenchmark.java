@@ -0,0 +1,111 @@
+package io.sirix.benchmark;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.api.Axis;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.axis.ChildAxis;
+import io.sirix.axis.DescendantAxis;
+import io.sirix.axis.concurrent.ConcurrentAxis;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures full traversals with the {@link DescendantAxis}, the {@link ChildAxis} (of the array of
+ * records) and a {@link ConcurrentAxis}, which computes the descendants in another thread.
+ *
+ * @author Johannes Lichtenberger
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AxisBenchmark {
+
+  @Param({ "10000", "100000" })
+  private int numberOfRecords;
+
+  private Path databasePath;
+
+  private Database<JsonResourceSession> database;
+
+  private JsonResourceSession session;
+
+  private JsonNodeReadOnlyTrx rtx;
+
+  private JsonNodeReadOnlyTrx producerRtx;
+
+  private long recordsArrayKey;
+
+  @Setup(Level.Trial)
+  public void createDatabase() {
+    databasePath = BenchmarkDatabases.newDatabasePath("axis");
+    database = BenchmarkDatabases.createJsonDatabase(databasePath,
+                                                     ResourceConfiguration.newBuilder(BenchmarkDatabases.RESOURCE)
+                                                                          .build(),
+                                                     numberOfRecords);
+    session = database.beginResourceSession(BenchmarkDatabases.RESOURCE);
+    rtx = session.beginNodeReadOnlyTrx();
+    producerRtx = session.beginNodeReadOnlyTrx();
+
+    // document root -> object -> "records" -> array
+    rtx.moveToDocumentRoot();
+    rtx.moveToFirstChild();
+    rtx.moveToFirstChild();
+    rtx.moveToFirstChild();
+    recordsArrayKey = rtx.getNodeKey();
+  }
+
+  @TearDown(Level.Trial)
+  public void removeDatabase() {
+    producerRtx.close();
+    rtx.close();
+    session.close();
+    BenchmarkDatabases.removeDatabase(database, databasePath);
+  }
+
+  @Benchmark
+  public long descendantAxis() {
+    rtx.moveToDocumentRoot();
+    return count(new DescendantAxis(rtx));
+  }
+
+  @Benchmark
+  public long childAxis() {
+    rtx.moveTo(recordsArrayKey);
+    return count(new ChildAxis(rtx));
+  }
+
+  @Benchmark
+  public long concurrentDescendantAxis() {
+    rtx.moveToDocumentRoot();
+    producerRtx.moveToDocumentRoot();
+    return count(new ConcurrentAxis<>(rtx, new DescendantAxis(producerRtx)));
+  }
+
+  private static long count(final Axis axis) {
+    long count = 0;
+    while (axis.hasNext()) {
+      axis.nextLong();
+      count++;
+    }
+    return count;
+  }
+}
@@ -0,0 +1,140 @@
+package io.sirix.benchmark;
+
+import io.sirix.access.DatabaseConfiguration;
+import io.sirix.access.Databases;
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.cache.BufferManager;
+import io.sirix.service.json.shredder.JsonShredder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Creates the databases and the (synthetic, reproducible) JSON documents of the benchmarks.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class BenchmarkDatabases {
+
+  /**
+   * The name of the resource of all benchmark databases.
+   */
+  static final String RESOURCE = "benchmark";
+
+  private BenchmarkDatabases() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Get a path for a new database in the temporary directory.
+   *
+   * @param name the name of the benchmark
+   * @return the path of the database, which doesn't exist yet
+   */
+  static Path newDatabasePath(final String name) {
+    try {
+      return Files.createTempDirectory("sirix-benchmark-" + name).resolve("database");
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Create and open a JSON database with a single resource.
+   *
+   * @param path                  the path of the database
+   * @param resourceConfiguration the configuration of the resource
+   * @return the opened database
+   */
+  static Database<JsonResourceSession> createJsonDatabase(final Path path,
+      final ResourceConfiguration resourceConfiguration) {
+    Databases.createJsonDatabase(new DatabaseConfiguration(path));
+    final var database = Databases.openJsonDatabase(path);
+    database.createResource(resourceConfiguration);
+    return database;
+  }
+
+  /**
+   * Create and open a JSON database with a single resource, into which a generated document is
+   * imported and committed.
+   *
+   * @param path                  the path of the database
+   * @param resourceConfiguration the configuration of the resource
+   * @param numberOfRecords       the number of records of the document
+   * @return the opened database
+   */
+  static Database<JsonResourceSession> createJsonDatabase(final Path path,
+      final ResourceConfiguration resourceConfiguration, final int numberOfRecords) {
+    final var database = createJsonDatabase(path, resourceConfiguration);
+    try (final var session = database.beginResourceSession(RESOURCE); final var wtx = session.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(generateJson(numberOfRecords)));
+    }
+    return database;
+  }
+
+  /**
+   * Close and remove a database.
+   *
+   * @param database the database or {@code null}
+   * @param path     the path of the database
+   */
+  static void removeDatabase(final Database<?> database, final Path path) {
+    if (database != null) {
+      database.close();
+    }
+    Databases.removeDatabase(path);
+  }
+
+  /**
+   * Clear the buffer managers of all resources of a database, such that the next reads are served by
+   * the storage.
+   *
+   * @param path the path of the database
+   */
+  static void clearCaches(final Path path) {
+    Databases.getBufferManager(path).values().forEach(BufferManager::clearAllCaches);
+  }
+
+  /**
+   * Generate a JSON document with an array of records. Each record has a string, a number, a
+   * boolean, a nested object and an array, so that all node kinds are covered. The document only
+   * depends on the number of records.
+   *
+   * @param numberOfRecords the number of records
+   * @return the JSON document
+   */
+  static String generateJson(final int numberOfRecords) {
+    final var json = new StringBuilder(numberOfRecords * 160);
+    json.append("{\"records\":[");
+    for (int i = 0; i < numberOfRecords; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"id\":")
+          .append(i)
+          .append(",\"name\":\"name")
+          .append(i)
+          .append("\",\"category\":\"category")
+          .append(i % 100)
+          .append("\",\"price\":")
+          .append((i % 1000) / 10.0)
+          .append(",\"available\":")
+          .append(i % 2 == 0)
+          .append(",\"address\":{\"city\":\"city")
+          .append(i % 50)
+          .append("\",\"zip\":\"")
+          .append(10000 + i % 9000)
+          .append("\"},\"tags\":[\"tag")
+          .append(i % 7)
+          .append("\",\"tag")
+          .append(i % 11)
+          .append("\"]}");
+    }
+    json.append("]}");
+    return json.toString();
+  }
+}
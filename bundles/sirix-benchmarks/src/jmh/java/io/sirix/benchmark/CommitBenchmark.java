@@ -0,0 +1,106 @@
+package io.sirix.benchmark;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonNodeTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.axis.DescendantAxis;
+import io.sirix.settings.Constants;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of a commit depending on the number of modified record pages. Before each
+ * commit one string value in each of {@code dirtyPages} distinct record pages is modified.
+ *
+ * @author Johannes Lichtenberger
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 50)
+@Fork(1)
+public class CommitBenchmark {
+
+  private static final int NUMBER_OF_RECORDS = 150_000;
+
+  @Param({ "1", "16", "256", "1024" })
+  private int dirtyPages;
+
+  private Path databasePath;
+
+  private Database<JsonResourceSession> database;
+
+  private JsonResourceSession session;
+
+  private JsonNodeTrx wtx;
+
+  private long[] nodeKeys;
+
+  private int revision;
+
+  @Setup(Level.Trial)
+  public void createDatabase() {
+    databasePath = BenchmarkDatabases.newDatabasePath("commit");
+    database = BenchmarkDatabases.createJsonDatabase(databasePath,
+                                                     ResourceConfiguration.newBuilder(BenchmarkDatabases.RESOURCE)
+                                                                          .build(),
+                                                     NUMBER_OF_RECORDS);
+    session = database.beginResourceSession(BenchmarkDatabases.RESOURCE);
+    wtx = session.beginNodeTrx();
+
+    // Collect the first string value of each record page.
+    final var stringValueNodeKeys = new LongArrayList();
+    long lastRecordPageKey = -1;
+    final var axis = new DescendantAxis(wtx);
+    while (axis.hasNext()) {
+      final long nodeKey = axis.nextLong();
+      final long recordPageKey = nodeKey >> Constants.NDP_NODE_COUNT_EXPONENT;
+      if (wtx.isStringValue() && recordPageKey != lastRecordPageKey) {
+        stringValueNodeKeys.add(nodeKey);
+        lastRecordPageKey = recordPageKey;
+      }
+    }
+    if (stringValueNodeKeys.size() < dirtyPages) {
+      throw new IllegalStateException("The document only spans " + stringValueNodeKeys.size() + " record pages.");
+    }
+    nodeKeys = stringValueNodeKeys.toLongArray();
+  }
+
+  @Setup(Level.Invocation)
+  public void modifyRecordPages() {
+    revision++;
+    for (int i = 0; i < dirtyPages; i++) {
+      wtx.moveTo(nodeKeys[i]);
+      wtx.setStringValue("revision" + revision);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void removeDatabase() {
+    wtx.close();
+    session.close();
+    BenchmarkDatabases.removeDatabase(database, databasePath);
+  }
+
+  @Benchmark
+  public void commit() {
+    wtx.commit();
+  }
+}
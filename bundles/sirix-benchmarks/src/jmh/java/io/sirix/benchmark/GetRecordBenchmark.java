@@ -0,0 +1,143 @@
+package io.sirix.benchmark;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.api.Database;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.axis.DescendantAxis;
+import io.sirix.index.IndexType;
+import io.sirix.io.StorageType;
+import io.sirix.settings.VersioningType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PageReadOnlyTrx#getRecord} of random records of the most recent revision per
+ * {@link VersioningType} and {@link StorageType}. The resource has several revisions, which modify
+ * records spread over all record pages, such that the versioning approach determines how many page
+ * fragments are read and combined.
+ *
+ * <p>With a hot cache, the records are read by the same transaction with filled buffer managers.
+ * With a cold cache, the buffer managers are cleared and a new transaction is opened before each
+ * batch of reads (the operating system's page cache isn't cleared).</p>
+ *
+ * @author Johannes Lichtenberger
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GetRecordBenchmark {
+
+  private static final int NUMBER_OF_RECORDS = 50_000;
+
+  private static final int NUMBER_OF_REVISIONS = 10;
+
+  private static final int BATCH_SIZE = 1024;
+
+  public enum Cache {
+    HOT,
+
+    COLD
+  }
+
+  @Param({ "FULL", "DIFFERENTIAL", "INCREMENTAL", "SLIDING_SNAPSHOT" })
+  private VersioningType versioningType;
+
+  @Param({ "FILE_CHANNEL", "MEMORY_MAPPED" })
+  private StorageType storageType;
+
+  @Param({ "HOT", "COLD" })
+  private Cache cache;
+
+  private Path databasePath;
+
+  private Database<JsonResourceSession> database;
+
+  private JsonResourceSession session;
+
+  private JsonNodeReadOnlyTrx rtx;
+
+  private long[] nodeKeys;
+
+  @Setup(Level.Trial)
+  public void createDatabase() {
+    databasePath = BenchmarkDatabases.newDatabasePath("get-record");
+    database = BenchmarkDatabases.createJsonDatabase(databasePath,
+                                                     ResourceConfiguration.newBuilder(BenchmarkDatabases.RESOURCE)
+                                                                          .versioningApproach(versioningType)
+                                                                          .storageType(storageType)
+                                                                          .build(),
+                                                     NUMBER_OF_RECORDS);
+    session = database.beginResourceSession(BenchmarkDatabases.RESOURCE);
+
+    // Modify every 64th string value in each revision.
+    try (final var wtx = session.beginNodeTrx()) {
+      for (int revision = 1; revision < NUMBER_OF_REVISIONS; revision++) {
+        int i = 0;
+        final var axis = new DescendantAxis(wtx);
+        while (axis.hasNext()) {
+          axis.nextLong();
+          if (wtx.isStringValue() && i++ % 64 == revision) {
+            wtx.setStringValue("revision" + revision);
+          }
+        }
+        wtx.commit();
+        wtx.moveToDocumentRoot();
+      }
+    }
+
+    rtx = session.beginNodeReadOnlyTrx();
+    final long maxNodeKey = rtx.getMaxNodeKey();
+    final var random = new SplittableRandom(42);
+    nodeKeys = new long[BATCH_SIZE];
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      nodeKeys[i] = random.nextLong(1, maxNodeKey + 1);
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void coolDown() {
+    if (cache == Cache.COLD) {
+      rtx.close();
+      BenchmarkDatabases.clearCaches(databasePath);
+      rtx = session.beginNodeReadOnlyTrx();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void removeDatabase() {
+    rtx.close();
+    session.close();
+    BenchmarkDatabases.removeDatabase(database, databasePath);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void getRecord(final Blackhole blackhole) {
+    final PageReadOnlyTrx pageTrx = rtx.getPageTrx();
+    for (final long nodeKey : nodeKeys) {
+      blackhole.consume(pageTrx.getRecord(nodeKey, IndexType.DOCUMENT, -1));
+    }
+  }
+}
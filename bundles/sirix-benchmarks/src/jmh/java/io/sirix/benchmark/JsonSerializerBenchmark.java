@@ -0,0 +1,71 @@
+package io.sirix.benchmark;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.service.json.serialize.JsonSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the output throughput of the {@link JsonSerializer} for the most recent revision of a
+ * resource. The output is discarded, so only serialization and reading are measured.
+ *
+ * @author Johannes Lichtenberger
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JsonSerializerBenchmark {
+
+  @Param({ "10000", "100000" })
+  private int numberOfRecords;
+
+  @Param({ "false", "true" })
+  private boolean withMetaData;
+
+  private Path databasePath;
+
+  private Database<JsonResourceSession> database;
+
+  private JsonResourceSession session;
+
+  @Setup(Level.Trial)
+  public void createDatabase() {
+    databasePath = BenchmarkDatabases.newDatabasePath("serializer");
+    database = BenchmarkDatabases.createJsonDatabase(databasePath,
+                                                     ResourceConfiguration.newBuilder(BenchmarkDatabases.RESOURCE)
+                                                                          .build(),
+                                                     numberOfRecords);
+    session = database.beginResourceSession(BenchmarkDatabases.RESOURCE);
+  }
+
+  @TearDown(Level.Trial)
+  public void removeDatabase() {
+    session.close();
+    BenchmarkDatabases.removeDatabase(database, databasePath);
+  }
+
+  @Benchmark
+  public void serialize() {
+    JsonSerializer.newBuilder(session, Writer.nullWriter()).withMetaData(withMetaData).build().call();
+  }
+}
@@ -0,0 +1,77 @@
+package io.sirix.benchmark;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.service.json.shredder.JsonShredder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the import throughput of the {@link JsonShredder} (including the commit) into a new
+ * resource.
+ *
+ * @author Johannes Lichtenberger
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class JsonShredderBenchmark {
+
+  @Param({ "10000", "100000" })
+  private int numberOfRecords;
+
+  @Param({ "true", "false" })
+  private boolean buildPathSummary;
+
+  private String json;
+
+  private Path databasePath;
+
+  private Database<JsonResourceSession> database;
+
+  @Setup(Level.Trial)
+  public void generateJson() {
+    json = BenchmarkDatabases.generateJson(numberOfRecords);
+  }
+
+  @Setup(Level.Invocation)
+  public void createDatabase() {
+    databasePath = BenchmarkDatabases.newDatabasePath("shredder");
+    database = BenchmarkDatabases.createJsonDatabase(databasePath,
+                                                     ResourceConfiguration.newBuilder(BenchmarkDatabases.RESOURCE)
+                                                                          .buildPathSummary(buildPathSummary)
+                                                                          .build());
+  }
+
+  @TearDown(Level.Invocation)
+  public void removeDatabase() {
+    BenchmarkDatabases.removeDatabase(database, databasePath);
+  }
+
+  @Benchmark
+  public long shred() {
+    try (final var session = database.beginResourceSession(BenchmarkDatabases.RESOURCE);
+         final var wtx = session.beginNodeTrx()) {
+      wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(json));
+      return wtx.getMaxNodeKey();
+    }
+  }
+}
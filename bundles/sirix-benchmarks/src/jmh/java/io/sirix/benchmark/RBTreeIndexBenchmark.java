@@ -0,0 +1,141 @@
+package io.sirix.benchmark;
+
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.atomic.Str;
+import io.brackit.query.jdm.Type;
+import io.brackit.query.util.path.Path;
+import io.brackit.query.util.path.PathException;
+import io.brackit.query.util.path.PathParser;
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.api.Database;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.index.IndexDef;
+import io.sirix.index.IndexDefs;
+import io.sirix.index.IndexType;
+import io.sirix.index.SearchMode;
+import io.sirix.index.redblacktree.RBTreeReader;
+import io.sirix.index.redblacktree.keyvalue.CASValue;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures point lookups in red-black tree based indexes: a CAS index on the names of the records
+ * (one node per key) and a name index (many nodes per key).
+ *
+ * @author Johannes Lichtenberger
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RBTreeIndexBenchmark {
+
+  private static final int BATCH_SIZE = 1024;
+
+  private static final String[] OBJECT_KEY_NAMES =
+      { "id", "name", "category", "price", "available", "address", "city", "zip", "tags" };
+
+  @Param({ "10000", "100000" })
+  private int numberOfRecords;
+
+  private java.nio.file.Path databasePath;
+
+  private Database<JsonResourceSession> database;
+
+  private JsonResourceSession session;
+
+  private JsonNodeReadOnlyTrx rtx;
+
+  private CASValue[] casKeys;
+
+  private QNm[] nameKeys;
+
+  @Setup(Level.Trial)
+  public void createDatabase() throws PathException {
+    databasePath = BenchmarkDatabases.newDatabasePath("rbtree-index");
+    database = BenchmarkDatabases.createJsonDatabase(databasePath,
+                                                     ResourceConfiguration.newBuilder(BenchmarkDatabases.RESOURCE)
+                                                                          .build(),
+                                                     numberOfRecords);
+    session = database.beginResourceSession(BenchmarkDatabases.RESOURCE);
+
+    final Path<QNm> namePath = Path.parse("/records/[]/name", PathParser.Type.JSON);
+    try (final var wtx = session.beginNodeTrx()) {
+      final var indexController = session.getWtxIndexController(wtx.getRevisionNumber());
+      indexController.createIndexes(Set.of(IndexDefs.createCASIdxDef(false,
+                                                                     Type.STR,
+                                                                     Set.of(namePath),
+                                                                     0,
+                                                                     IndexDef.DbType.JSON),
+                                           IndexDefs.createNameIdxDef(0, IndexDef.DbType.JSON)), wtx);
+      wtx.commit();
+    }
+
+    final long pathNodeKey;
+    try (final var pathSummary = session.openPathSummary()) {
+      pathNodeKey = pathSummary.getPCRsForPath(namePath).iterator().nextLong();
+    }
+
+    final var random = new SplittableRandom(42);
+    casKeys = new CASValue[BATCH_SIZE];
+    nameKeys = new QNm[BATCH_SIZE];
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      casKeys[i] = new CASValue(new Str("name" + random.nextInt(numberOfRecords)), Type.STR, pathNodeKey);
+      nameKeys[i] = new QNm(OBJECT_KEY_NAMES[random.nextInt(OBJECT_KEY_NAMES.length)]);
+    }
+
+    rtx = session.beginNodeReadOnlyTrx();
+  }
+
+  @TearDown(Level.Trial)
+  public void removeDatabase() {
+    rtx.close();
+    session.close();
+    BenchmarkDatabases.removeDatabase(database, databasePath);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void casIndexLookup(final Blackhole blackhole) {
+    final var reader = RBTreeReader.<CASValue, NodeReferences>getInstance(session.getIndexCache(),
+                                                                          rtx.getPageTrx(),
+                                                                          IndexType.CAS,
+                                                                          0);
+    for (final CASValue key : casKeys) {
+      blackhole.consume(reader.get(key, SearchMode.EQUAL));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void nameIndexLookup(final Blackhole blackhole) {
+    final var reader = RBTreeReader.<QNm, NodeReferences>getInstance(session.getIndexCache(),
+                                                                     rtx.getPageTrx(),
+                                                                     IndexType.NAME,
+                                                                     0);
+    for (final QNm key : nameKeys) {
+      blackhole.consume(reader.get(key, SearchMode.EQUAL));
+    }
+  }
+}
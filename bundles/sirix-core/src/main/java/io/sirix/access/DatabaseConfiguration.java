@@ -42,6 +42,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
@@ -151,6 +154,11 @@ public final class DatabaseConfiguration {
    */
   private DatabaseType databaseType;
 
+  /**
+   * Batching window of group commits in microseconds ({@code 0}, if group commit is disabled).
+   */
+  private long groupCommitWindowMicros;
+
   /**
    * Constructor with the path to be set.
    *
@@ -192,6 +200,38 @@ public final class DatabaseConfiguration {
     return this;
   }
 
+  /**
+   * Enable group commit for all resources of the database. Durable flushes of concurrent commits,
+   * which are issued within the batching window, are coalesced and the waiting commits are released
+   * together.
+   *
+   * @param batchingWindow the batching window, {@link Duration#ZERO} to disable group commit
+   * @return this {@link DatabaseConfiguration} instance
+   */
+  public DatabaseConfiguration setGroupCommitWindow(final Duration batchingWindow) {
+    checkArgument(!batchingWindow.isNegative(), "The batching window must not be negative!");
+    groupCommitWindowMicros = TimeUnit.NANOSECONDS.toMicros(batchingWindow.toNanos());
+    return this;
+  }
+
+  /**
+   * Get the batching window of group commits.
+   *
+   * @return the batching window in microseconds, {@code 0}, if group commit is disabled
+   */
+  public long getGroupCommitWindowMicros() {
+    return groupCommitWindowMicros;
+  }
+
+  /**
+   * Determines if group commit is enabled.
+   *
+   * @return {@code true}, if group commit is enabled, {@code false} otherwise
+   */
+  public boolean isGroupCommitEnabled() {
+    return groupCommitWindowMicros > 0;
+  }
+
   /**
    * Get maximum resource transactions.
    *
@@ -260,6 +300,7 @@ public final class DatabaseConfiguration {
       jsonWriter.name("file").value(filePath);
       jsonWriter.name("ID").value(config.maxResourceID);
       jsonWriter.name("databaseType").value(config.databaseType.toString());
+      jsonWriter.name("groupCommitWindowMicros").value(config.groupCommitWindowMicros);
       jsonWriter.endObject();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -287,10 +328,20 @@ public final class DatabaseConfiguration {
       final String databaseType = jsonReader.nextName();
       assert databaseType.equals("databaseType");
       final String type = jsonReader.nextString();
+      // Not present in configurations of older databases.
+      long groupCommitWindowMicros = 0;
+      if (jsonReader.hasNext()) {
+        final String groupCommitWindowName = jsonReader.nextName();
+        assert groupCommitWindowName.equals("groupCommitWindowMicros");
+        groupCommitWindowMicros = jsonReader.nextLong();
+      }
       jsonReader.endObject();
       final DatabaseType dbType = DatabaseType.fromString(type)
                                               .orElseThrow(() -> new IllegalStateException("Type can not be unknown."));
-      return new DatabaseConfiguration(dbFile).setMaximumResourceID(ID).setDatabaseType(dbType);
+      return new DatabaseConfiguration(dbFile).setMaximumResourceID(ID)
+                                              .setDatabaseType(dbType)
+                                              .setGroupCommitWindow(Duration.of(groupCommitWindowMicros,
+                                                                                ChronoUnit.MICROS));
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -5,10 +5,12 @@ import io.sirix.api.*;
 import io.sirix.api.json.JsonResourceSession;
 import io.sirix.api.xml.XmlResourceSession;
 import io.sirix.cache.BufferManager;
+import io.sirix.cache.MemoryBudget;
 import io.sirix.exception.SirixIOException;
 import io.sirix.exception.SirixUsageException;
 import io.sirix.utils.LogWrapper;
 import io.sirix.utils.SirixFiles;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.LoggerFactory;
 
 import javax.crypto.Cipher;
@@ -50,6 +52,12 @@ public final class Databases {
    */
   private static final ConcurrentMap<Path, ConcurrentMap<Path, BufferManager>> BUFFER_MANAGERS = new ConcurrentHashMap<>();
 
+  /**
+   * Global memory budget for the caches of all resources, or {@code null}, if the caches are bounded
+   * by entry count.
+   */
+  private static volatile MemoryBudget memoryBudget;
+
   /**
    * DI component that manages the database.
    */
@@ -174,7 +182,10 @@ public final class Databases {
       ConcurrentMap<Path, BufferManager> bufferManagers = BUFFER_MANAGERS.remove(dbFile);
       if (bufferManagers != null && !bufferManagers.isEmpty()) {
         // TODO: Why is this necessary? BUG!
-        bufferManagers.values().forEach(BufferManager::clearAllCaches);
+        bufferManagers.values().forEach(bufferManager -> {
+          bufferManager.clearAllCaches();
+          closeBufferManager(bufferManager);
+        });
       }
       SirixFiles.recursiveRemove(dbFile);
     }
@@ -292,4 +303,31 @@ public final class Databases {
   public static ConcurrentMap<Path, BufferManager> getBufferManager(Path databaseFile) {
     return BUFFER_MANAGERS.computeIfAbsent(databaseFile, (unused) -> new ConcurrentHashMap<>());
   }
+
+  /**
+   * Bound the caches of all resources by a single global memory budget in bytes instead of by entry
+   * count. Only affects buffer managers of resources opened afterwards.
+   *
+   * @param memoryBudget the memory budget, or {@code null} to bound caches by entry count
+   */
+  public static void setMemoryBudget(final @Nullable MemoryBudget memoryBudget) {
+    Databases.memoryBudget = memoryBudget;
+  }
+
+  /**
+   * Get the global memory budget for the caches of all resources.
+   *
+   * @return the memory budget, or {@code null}, if the caches are bounded by entry count
+   */
+  public static @Nullable MemoryBudget getMemoryBudget() {
+    return memoryBudget;
+  }
+
+  static void closeBufferManager(final BufferManager bufferManager) {
+    try {
+      bufferManager.close();
+    } catch (final Exception e) {
+      throw new SirixIOException(e);
+    }
+  }
 }
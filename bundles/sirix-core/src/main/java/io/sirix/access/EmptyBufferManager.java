@@ -2,6 +2,7 @@ package io.sirix.access;
 
 import io.sirix.cache.*;
 import io.sirix.index.name.Names;
+import io.sirix.node.interfaces.DataRecord;
 import io.sirix.node.interfaces.Node;
 import io.sirix.page.PageReference;
 import io.sirix.page.RevisionRootPage;
@@ -21,6 +22,8 @@ public final class EmptyBufferManager implements BufferManager {
 
   private static final EmptyCache<Integer, PathSummaryData> PATH_SUMMARY_CACHE = new EmptyCache<>();
 
+  private static final EmptyCache<RecordCacheKey, DataRecord> RECORD_CACHE = new EmptyCache<>();
+
   EmptyBufferManager() {
   }
 
@@ -54,6 +57,11 @@ public final class EmptyBufferManager implements BufferManager {
     return PATH_SUMMARY_CACHE;
   }
 
+  @Override
+  public Cache<RecordCacheKey, DataRecord> getRecordCache() {
+    return RECORD_CACHE;
+  }
+
   @Override
   public void close() {
   }
@@ -12,9 +12,11 @@ import io.sirix.access.trx.node.AfterCommitState;
 import io.sirix.api.*;
 import io.sirix.cache.BufferManager;
 import io.sirix.cache.BufferManagerImpl;
+import io.sirix.cache.MemoryBudget;
 import io.sirix.exception.SirixException;
 import io.sirix.exception.SirixIOException;
 import io.sirix.exception.SirixUsageException;
+import io.sirix.io.GroupCommitter;
 import io.sirix.io.StorageType;
 import io.sirix.io.bytepipe.Encryptor;
 import io.sirix.utils.SirixFiles;
@@ -119,10 +121,13 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
   }
 
   private void addResourceToBufferManagerMapping(Path resourceFile, ResourceConfiguration resourceConfig) {
-    if (resourceConfig.getStorageType() == StorageType.MEMORY_MAPPED) {
-      bufferManagers.put(resourceFile, new BufferManagerImpl(100, 1_000, 5_000, 50_000, 500, 20));
+    final MemoryBudget memoryBudget = Databases.getMemoryBudget();
+    if (memoryBudget != null) {
+      bufferManagers.put(resourceFile, new BufferManagerImpl(memoryBudget));
+    } else if (resourceConfig.getStorageType() == StorageType.MEMORY_MAPPED) {
+      bufferManagers.put(resourceFile, new BufferManagerImpl(100, 1_000, 5_000, 50_000, 500, 20, 50_000));
     } else {
-      bufferManagers.put(resourceFile, new BufferManagerImpl(500, 1_000, 5_000, 50_000, 500, 20));
+      bufferManagers.put(resourceFile, new BufferManagerImpl(500, 1_000, 5_000, 50_000, 500, 20, 50_000));
     }
   }
 
@@ -291,6 +296,7 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
         } catch (Exception e) {
           throw new RuntimeException(e);
         }
+        Databases.closeBufferManager(bufferManager);
       }
 
       final var cache = StorageType.CACHE_REPOSITORY.remove(resourceFile);
@@ -362,6 +368,7 @@ public final class LocalDatabase<T extends ResourceSession<? extends NodeReadOnl
     isClosed = true;
     resourceStore.close();
     transactionManager.close();
+    GroupCommitter.closeInstance(dbConfig.getDatabaseFile());
 
     // Remove from database mapping.
     this.sessions.removeObject(dbConfig.getDatabaseFile(), this);
@@ -197,6 +197,17 @@ public final class ResourceConfiguration {
    */
   public static final BinaryEncodingVersion BINARY_ENCODING_VERSION = BinaryEncodingVersion.V0;
 
+  /**
+   * Maximum number of record pages a write-transaction keeps in memory (no limit by default).
+   */
+  private static final int TRX_INTENT_LOG_MAX_IN_MEMORY_RECORD_PAGES = Integer.MAX_VALUE;
+
+  /**
+   * Minimum number of record pages a write-transaction keeps in memory, if record pages are evicted to
+   * disk.
+   */
+  public static final int MIN_TRX_INTENT_LOG_IN_MEMORY_RECORD_PAGES = 1 << 10;
+
   // END FIXED STANDARD FIELDS
 
   // MEMBERS FOR FIXED FIELDS
@@ -295,6 +306,22 @@ public final class ResourceConfiguration {
    */
   private final BinaryEncodingVersion binaryVersion;
 
+  /**
+   * Maximum number of record pages kept in memory by the transaction intent log of a
+   * write-transaction. Further modified record pages are evicted to disk.
+   */
+  private final int trxIntentLogMaxInMemoryRecordPages;
+
+  /**
+   * Determines if the slots of cached record pages are stored off-heap.
+   */
+  private final boolean recordPagesOffHeap;
+
+  /**
+   * Determines if read-only transactions share single deserialized records in a cache.
+   */
+  private final boolean cacheRecords;
+
   // END MEMBERS FOR FIXED FIELDS
 
   /**
@@ -330,6 +357,9 @@ public final class ResourceConfiguration {
     customCommitTimestamps = builder.customCommitTimestamps;
     storeNodeHistory = builder.storeNodeHistory;
     binaryVersion = builder.binaryEncodingVersion;
+    trxIntentLogMaxInMemoryRecordPages = builder.trxIntentLogMaxInMemoryRecordPages;
+    recordPagesOffHeap = builder.recordPagesOffHeap;
+    cacheRecords = builder.cacheRecords;
   }
 
   public BinaryEncodingVersion getBinaryEncodingVersion() {
@@ -348,6 +378,15 @@ public final class ResourceConfiguration {
     return this;
   }
 
+  /**
+   * Get the configuration of the database the resource belongs to.
+   *
+   * @return the database configuration (might be {@code null}, if the resource is not yet created)
+   */
+  public DatabaseConfiguration getDatabaseConfig() {
+    return databaseConfig;
+  }
+
   /**
    * Set a unique ID.
    *
@@ -442,13 +481,43 @@ public final class ResourceConfiguration {
     return storeNodeHistory;
   }
 
+  /**
+   * Get the maximum number of record pages kept in memory by a write-transaction.
+   *
+   * @return the maximum number of record pages kept in memory, {@link Integer#MAX_VALUE} if record
+   * pages are never evicted to disk
+   */
+  public int getTrxIntentLogMaxInMemoryRecordPages() {
+    return trxIntentLogMaxInMemoryRecordPages;
+  }
+
+  /**
+   * Determines if the serialized slots and DeweyIDs of cached record pages are stored off-heap.
+   *
+   * @return {@code true}, if they are stored off-heap, {@code false} otherwise
+   */
+  public boolean areRecordPagesStoredOffHeap() {
+    return recordPagesOffHeap;
+  }
+
+  /**
+   * Determines if read-only transactions share single deserialized records in the record cache of
+   * the resource.
+   *
+   * @return {@code true}, if records are cached, {@code false} otherwise
+   */
+  public boolean areRecordsCached() {
+    return cacheRecords;
+  }
+
   /**
    * JSON names.
    */
   private static final String[] JSONNAMES =
       { "binaryEncoding", "revisioning", "revisioningClass", "numbersOfRevisiontoRestore", "byteHandlerClasses",
           "storageKind", "hashKind", "hashFunction", "compression", "pathSummary", "resourceID", "deweyIDsStored",
-          "persistenter", "storeDiffs", "customCommitTimestamps", "storeNodeHistory", "storeChildCount" };
+          "persistenter", "storeDiffs", "customCommitTimestamps", "storeNodeHistory", "storeChildCount",
+          "trxIntentLogMaxInMemoryRecordPages", "recordPagesOffHeap", "cacheRecords" };
 
   /**
    * Serialize the configuration.
@@ -500,6 +569,12 @@ public final class ResourceConfiguration {
       jsonWriter.name(JSONNAMES[15]).value(config.storeNodeHistory);
       // Child count.
       jsonWriter.name(JSONNAMES[16]).value(config.storeChildCount);
+      // Max in-memory record pages of the transaction intent log.
+      jsonWriter.name(JSONNAMES[17]).value(config.trxIntentLogMaxInMemoryRecordPages);
+      // Off-heap record pages.
+      jsonWriter.name(JSONNAMES[18]).value(config.recordPagesOffHeap);
+      // Record cache.
+      jsonWriter.name(JSONNAMES[19]).value(config.cacheRecords);
       jsonWriter.endObject();
     } catch (final IOException e) {
       throw new SirixIOException(e);
@@ -596,6 +671,25 @@ public final class ResourceConfiguration {
       name = jsonReader.nextName();
       assert name.equals(JSONNAMES[16]);
       final boolean storeChildCount = jsonReader.nextBoolean();
+      // Not present in configurations of older resources.
+      int trxIntentLogMaxInMemoryRecordPages = TRX_INTENT_LOG_MAX_IN_MEMORY_RECORD_PAGES;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[17]);
+        trxIntentLogMaxInMemoryRecordPages = jsonReader.nextInt();
+      }
+      boolean recordPagesOffHeap = false;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[18]);
+        recordPagesOffHeap = jsonReader.nextBoolean();
+      }
+      boolean cacheRecords = false;
+      if (jsonReader.hasNext()) {
+        name = jsonReader.nextName();
+        assert name.equals(JSONNAMES[19]);
+        cacheRecords = jsonReader.nextBoolean();
+      }
 
       jsonReader.endObject();
       jsonReader.close();
@@ -619,7 +713,10 @@ public final class ResourceConfiguration {
              .storeDiffs(storeDiffs)
              .storeChildCount(storeChildCount)
              .customCommitTimestamps(customCommitTimestamps)
-             .storeNodeHistory(storeNodeHistory);
+             .storeNodeHistory(storeNodeHistory)
+             .trxIntentLogMaxInMemoryRecordPages(trxIntentLogMaxInMemoryRecordPages)
+             .storeRecordPagesOffHeap(recordPagesOffHeap)
+             .cacheRecords(cacheRecords);
 
       // Deserialized instance.
       final ResourceConfiguration config = new ResourceConfiguration(builder);
@@ -713,6 +810,12 @@ public final class ResourceConfiguration {
 
     private BinaryEncodingVersion binaryEncodingVersion = BINARY_ENCODING_VERSION;
 
+    private int trxIntentLogMaxInMemoryRecordPages = TRX_INTENT_LOG_MAX_IN_MEMORY_RECORD_PAGES;
+
+    private boolean recordPagesOffHeap;
+
+    private boolean cacheRecords;
+
     /**
      * Constructor, setting the mandatory fields.
      *
@@ -880,6 +983,48 @@ public final class ResourceConfiguration {
       return this;
     }
 
+    /**
+     * Bound the number of modified record pages a write-transaction keeps in memory. Colder pages are
+     * evicted to a temporary file in the transaction intent log folder and reloaded on demand, such
+     * that the size of a write-transaction is limited by disk space instead of heap space.
+     *
+     * @param maxInMemoryRecordPages the maximum number of record pages kept in memory
+     * @return this builder instance
+     */
+    public Builder trxIntentLogMaxInMemoryRecordPages(final int maxInMemoryRecordPages) {
+      checkArgument(maxInMemoryRecordPages >= MIN_TRX_INTENT_LOG_IN_MEMORY_RECORD_PAGES,
+                    "maxInMemoryRecordPages must be >= " + MIN_TRX_INTENT_LOG_IN_MEMORY_RECORD_PAGES + "!");
+      this.trxIntentLogMaxInMemoryRecordPages = maxInMemoryRecordPages;
+      return this;
+    }
+
+    /**
+     * Store the serialized slots and DeweyIDs of record pages cached by read-only transactions in a
+     * single off-heap memory segment instead of one heap array per slot. Records are still
+     * deserialized lazily and the memory is released, once the page is evicted from the cache.
+     *
+     * @param recordPagesOffHeap {@code true}, if record pages should be stored off-heap
+     * @return this builder instance
+     */
+    public Builder storeRecordPagesOffHeap(final boolean recordPagesOffHeap) {
+      this.recordPagesOffHeap = recordPagesOffHeap;
+      return this;
+    }
+
+    /**
+     * Cache single deserialized records of committed revisions, which are shared by all read-only
+     * transactions of the resource. Useful for workloads reading a few hot records spread over many
+     * record pages, for instance random point lookups, as the records stay in memory without their
+     * whole record pages.
+     *
+     * @param cacheRecords {@code true}, if records should be cached
+     * @return this builder instance
+     */
+    public Builder cacheRecords(final boolean cacheRecords) {
+      this.cacheRecords = cacheRecords;
+      return this;
+    }
+
     @Override
     public String toString() {
       return MoreObjects.toStringHelper(this)
@@ -897,6 +1042,9 @@ public final class ResourceConfiguration {
                         .add("Max number of revisions to restore", maxNumberOfRevisionsToRestore)
                         .add("Use deweyIDs", useDeweyIDs)
                         .add("Byte handler pipeline", byteHandler)
+                        .add("Max in-memory record pages of trx intent log", trxIntentLogMaxInMemoryRecordPages)
+                        .add("Record pages off-heap", recordPagesOffHeap)
+                        .add("Cache records", cacheRecords)
                         .toString();
     }
 
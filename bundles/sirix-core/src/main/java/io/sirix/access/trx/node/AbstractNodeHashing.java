@@ -11,6 +11,10 @@ import io.sirix.node.interfaces.Node;
 import io.sirix.node.interfaces.StructNode;
 import io.sirix.node.interfaces.immutable.ImmutableNode;
 import io.sirix.node.xml.ElementNode;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
 import net.openhft.chronicle.bytes.Bytes;
 import org.checkerframework.checker.index.qual.NonNegative;
 
@@ -45,6 +49,22 @@ public abstract class AbstractNodeHashing<N extends ImmutableNode, T extends Nod
 
   private boolean autoCommit;
 
+  /**
+   * The key of the first node inserted in bulk mode. Nodes with smaller keys already have been hashed.
+   */
+  private long firstBulkInsertedNodeKey;
+
+  /**
+   * The roots of the subtrees inserted in bulk mode, which haven't been hashed yet.
+   */
+  private final LongArrayList bulkInsertedSubtreeRoots = new LongArrayList();
+
+  /**
+   * {@code true} while the bulk inserted subtrees are hashed, such that the postorder hashes of their
+   * ancestors are computed once afterwards, {@code false} otherwise
+   */
+  private boolean hashingBulkInsertedSubtrees;
+
   private final Bytes<ByteBuffer> bytes = Bytes.elasticHeapByteBuffer();
 
   /**
@@ -62,6 +82,9 @@ public abstract class AbstractNodeHashing<N extends ImmutableNode, T extends Nod
   }
 
   public void setBulkInsert(final boolean value) {
+    if (value && !bulkInsert) {
+      firstBulkInsertedNodeKey = pageTrx.getActualRevisionRootPage().getMaxNodeKeyInDocumentIndex() + 1;
+    }
     this.bulkInsert = value;
   }
 
@@ -70,19 +93,155 @@ public abstract class AbstractNodeHashing<N extends ImmutableNode, T extends Nod
   }
 
   /**
-   * Adapting the structure with a hash for all ancestors only with insert.
+   * Adapting the structure with a hash for all ancestors only with insert. In bulk mode the insert is
+   * only recorded and the hashes are computed by {@link #adaptHashesOfBulkInsertedSubtrees(Runnable)}.
    *
    * @throws SirixIOException if an I/O error occurs
    */
   public void adaptHashesWithAdd() {
-    if (!bulkInsert || autoCommit) {
-      switch (hashType) {
-        case ROLLING -> rollingAdd();
-        case POSTORDER -> postorderAdd();
-        case NONE -> {
+    if (bulkInsert) {
+      // Only the roots of the inserted subtrees are recorded, the other nodes are hashed with them.
+      final var node = getCurrentNode();
+      if (hashType != HashType.NONE && node.getNodeKey() >= firstBulkInsertedNodeKey
+          && node.getParentKey() < firstBulkInsertedNodeKey) {
+        bulkInsertedSubtreeRoots.add(node.getNodeKey());
+      }
+      return;
+    }
+    switch (hashType) {
+      case ROLLING -> rollingAdd();
+      case POSTORDER -> postorderAdd();
+      case NONE -> {
+      }
+    }
+  }
+
+  /**
+   * Determines if subtrees have been inserted in bulk mode, which haven't been hashed yet.
+   *
+   * @return {@code true}, if subtrees have to be hashed, {@code false} otherwise
+   */
+  public boolean hasBulkInsertedSubtrees() {
+    return !bulkInsertedSubtreeRoots.isEmpty();
+  }
+
+  /**
+   * Compute the hashes and descendant counts of the subtrees inserted in bulk mode in one bottom-up
+   * pass. First the nodes of each subtree are hashed in postorder. Afterwards the ancestors of all
+   * subtrees are collected and each of them is adapted exactly once, the deepest ancestors first,
+   * instead of walking the path to the root for every inserted node.
+   *
+   * @param subtreeHashing hashes the structural subtree rooted at the current node in postorder by
+   *        calling {@link #addHashAndDescendantCount()} for each of its nodes
+   * @throws SirixIOException if an I/O error occurs
+   */
+  public void adaptHashesOfBulkInsertedSubtrees(final Runnable subtreeHashing) {
+    if (bulkInsertedSubtreeRoots.isEmpty()) {
+      return;
+    }
+
+    final long nodeKey = getCurrentNode().getNodeKey();
+    final var parentKeys = new Long2LongOpenHashMap();
+    final var depths = new Long2IntOpenHashMap();
+    depths.defaultReturnValue(-1);
+    final var hashesToAdd = new Long2LongOpenHashMap();
+    final var descendantCountsToAdd = new Long2LongOpenHashMap();
+
+    hashingBulkInsertedSubtrees = true;
+    try {
+      for (int i = 0, size = bulkInsertedSubtreeRoots.size(); i < size; i++) {
+        final long subtreeRootKey = bulkInsertedSubtreeRoots.getLong(i);
+        // The subtree might have been removed in the meantime.
+        if (!nodeReadOnlyTrx.moveTo(subtreeRootKey)) {
+          continue;
+        }
+        if (getCurrentNode() instanceof StructNode) {
+          subtreeHashing.run();
+        } else {
+          addHashAndDescendantCount();
+        }
+        nodeReadOnlyTrx.moveTo(subtreeRootKey);
+        final var subtreeRoot = getCurrentNode();
+        if (!subtreeRoot.hasParent()) {
+          continue;
+        }
+
+        switch (hashType) {
+          case ROLLING -> {
+            // The parent already has been adapted with the subtree root, all other ancestors are adapted
+            // with the same hash and descendant count.
+            nodeReadOnlyTrx.moveTo(subtreeRoot.getParentKey());
+            final long ancestorKey = getCurrentNode().getParentKey();
+            if (collectAncestors(ancestorKey, parentKeys, depths)) {
+              hashesToAdd.addTo(ancestorKey, subtreeRoot.computeHash(bytes) * PRIME);
+              if (subtreeRoot instanceof StructNode subtreeRootAsStructNode) {
+                descendantCountsToAdd.addTo(ancestorKey, subtreeRootAsStructNode.getDescendantCount() + 1);
+              }
+            }
+          }
+          case POSTORDER -> collectAncestors(subtreeRoot.getParentKey(), parentKeys, depths);
+          case NONE -> {
+          }
         }
       }
+
+      final long[] ancestorKeys = depths.keySet().toLongArray();
+      LongArrays.quickSort(ancestorKeys, (first, second) -> Integer.compare(depths.get(second), depths.get(first)));
+
+      for (final long ancestorKey : ancestorKeys) {
+        switch (hashType) {
+          case ROLLING -> {
+            final long hashToAdd = hashesToAdd.get(ancestorKey);
+            final long descendantCountToAdd = descendantCountsToAdd.get(ancestorKey);
+            final Node node = pageTrx.prepareRecordForModification(ancestorKey, IndexType.DOCUMENT, -1);
+            node.setHash(node.getHash() + hashToAdd);
+            if (node instanceof StructNode structNode) {
+              structNode.setDescendantCount(structNode.getDescendantCount() + descendantCountToAdd);
+            }
+            final long parentKey = parentKeys.get(ancestorKey);
+            hashesToAdd.addTo(parentKey, hashToAdd);
+            descendantCountsToAdd.addTo(parentKey, descendantCountToAdd);
+          }
+          case POSTORDER -> {
+            nodeReadOnlyTrx.moveTo(ancestorKey);
+            adaptPostorderHash();
+          }
+          case NONE -> {
+          }
+        }
+      }
+    } finally {
+      hashingBulkInsertedSubtrees = false;
+      bulkInsertedSubtreeRoots.clear();
     }
+
+    nodeReadOnlyTrx.moveTo(nodeKey);
+  }
+
+  /**
+   * Collect a node and its ancestors up to the document root or up to an already collected ancestor,
+   * together with their parent keys and depths.
+   *
+   * @param nodeKey    the key of the node
+   * @param parentKeys the parent keys of the collected nodes
+   * @param depths     the depths of the collected nodes
+   * @return {@code true}, if the node exists, {@code false} otherwise
+   */
+  private boolean collectAncestors(final long nodeKey, final Long2LongOpenHashMap parentKeys,
+      final Long2IntOpenHashMap depths) {
+    final var path = new LongArrayList();
+    long key = nodeKey;
+    while (!depths.containsKey(key) && nodeReadOnlyTrx.moveTo(key)) {
+      final long parentKey = getCurrentNode().getParentKey();
+      parentKeys.put(key, parentKey);
+      path.add(key);
+      key = parentKey;
+    }
+    int depth = depths.get(key);
+    for (int i = path.size() - 1; i >= 0; i--) {
+      depths.put(path.getLong(i), ++depth);
+    }
+    return depths.containsKey(nodeKey);
   }
 
   /**
@@ -147,38 +306,49 @@ public abstract class AbstractNodeHashing<N extends ImmutableNode, T extends Nod
     // Cursor to root
     StructNode cursorToRoot;
     do {
-      cursorToRoot = pageTrx.prepareRecordForModification(getCurrentNode().getNodeKey(), IndexType.DOCUMENT, -1);
-      hashCodeForParent = getCurrentNode().computeHash(bytes);
-      // Caring about attributes and namespaces if node is an element.
-      if (cursorToRoot.getKind() == NodeKind.ELEMENT) {
-        final ElementNode currentElement = (ElementNode) cursorToRoot;
-        // setting the attributes and namespaces
-        final int attCount = ((ElementNode) cursorToRoot).getAttributeCount();
-        for (int i = 0; i < attCount; i++) {
-          nodeReadOnlyTrx.moveTo(currentElement.getAttributeKey(i));
-          hashCodeForParent = getCurrentNode().computeHash(bytes) + hashCodeForParent * PRIME;
-        }
-        final int nspCount = ((ElementNode) cursorToRoot).getNamespaceCount();
-        for (int i = 0; i < nspCount; i++) {
-          nodeReadOnlyTrx.moveTo(currentElement.getNamespaceKey(i));
-          hashCodeForParent = getCurrentNode().computeHash(bytes) + hashCodeForParent * PRIME;
-        }
-        nodeReadOnlyTrx.moveTo(cursorToRoot.getNodeKey());
-      }
+      cursorToRoot = adaptPostorderHash();
+    } while (nodeReadOnlyTrx.moveTo(cursorToRoot.getParentKey()));
+
+    setCurrentNode(startNode);
+  }
 
-      // Caring about the children of a node
-      if (nodeReadOnlyTrx.moveTo(getStructuralNode().getFirstChildKey())) {
-        do {
-          hashCodeForParent = getCurrentNode().getHash() + hashCodeForParent * PRIME;
-        } while (nodeReadOnlyTrx.moveTo(getStructuralNode().getRightSiblingKey()));
-        nodeReadOnlyTrx.moveTo(getStructuralNode().getParentKey());
+  /**
+   * Compute the postorder hash of the current structural node from its own hash and the hashes of
+   * its attributes, namespaces and children, without adapting its ancestors.
+   *
+   * @return the modified node
+   */
+  private StructNode adaptPostorderHash() {
+    final StructNode node = pageTrx.prepareRecordForModification(getCurrentNode().getNodeKey(), IndexType.DOCUMENT, -1);
+    long hashCodeForParent = getCurrentNode().computeHash(bytes);
+    // Caring about attributes and namespaces if node is an element.
+    if (node.getKind() == NodeKind.ELEMENT) {
+      final ElementNode currentElement = (ElementNode) node;
+      // setting the attributes and namespaces
+      final int attCount = currentElement.getAttributeCount();
+      for (int i = 0; i < attCount; i++) {
+        nodeReadOnlyTrx.moveTo(currentElement.getAttributeKey(i));
+        hashCodeForParent = getCurrentNode().computeHash(bytes) + hashCodeForParent * PRIME;
       }
+      final int nspCount = currentElement.getNamespaceCount();
+      for (int i = 0; i < nspCount; i++) {
+        nodeReadOnlyTrx.moveTo(currentElement.getNamespaceKey(i));
+        hashCodeForParent = getCurrentNode().computeHash(bytes) + hashCodeForParent * PRIME;
+      }
+      nodeReadOnlyTrx.moveTo(node.getNodeKey());
+    }
 
-      // setting hash and resetting hash
-      cursorToRoot.setHash(hashCodeForParent);
-    } while (nodeReadOnlyTrx.moveTo(cursorToRoot.getParentKey()));
+    // Caring about the children of a node
+    if (nodeReadOnlyTrx.moveTo(getStructuralNode().getFirstChildKey())) {
+      do {
+        hashCodeForParent = getCurrentNode().getHash() + hashCodeForParent * PRIME;
+      } while (nodeReadOnlyTrx.moveTo(getStructuralNode().getRightSiblingKey()));
+      nodeReadOnlyTrx.moveTo(getStructuralNode().getParentKey());
+    }
 
-    setCurrentNode(startNode);
+    // setting hash and resetting hash
+    node.setHash(hashCodeForParent);
+    return node;
   }
 
   protected abstract StructNode getStructuralNode();
@@ -379,7 +549,17 @@ public abstract class AbstractNodeHashing<N extends ImmutableNode, T extends Nod
         }
         setCurrentNode(startNode);
       }
-      case POSTORDER -> postorderAdd();
+      case POSTORDER -> {
+        if (!hashingBulkInsertedSubtrees) {
+          postorderAdd();
+        } else if (getCurrentNode() instanceof StructNode) {
+          // The ancestors of the bulk inserted subtrees are adapted once afterwards.
+          adaptPostorderHash();
+        } else {
+          final Node node = pageTrx.prepareRecordForModification(getCurrentNode().getNodeKey(), IndexType.DOCUMENT, -1);
+          node.setHash(getCurrentNode().computeHash(bytes));
+        }
+      }
       case NONE -> {
       }
     }
@@ -213,6 +213,9 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
 
   @Override
   public W setBulkInsertion(final boolean bulkInsertion) {
+    if (!bulkInsertion) {
+      adaptHashesOfBulkInsertedSubtrees();
+    }
     nodeHashing.setBulkInsert(bulkInsertion);
     return self();
   }
@@ -240,6 +243,18 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
     }
   }
 
+  /**
+   * Compute the hashes and descendant counts of all subtrees inserted in bulk mode, which haven't been
+   * hashed yet, in one bottom-up pass.
+   *
+   * @throws SirixIOException if an I/O error occurs
+   */
+  protected void adaptHashesOfBulkInsertedSubtrees() {
+    if (nodeHashing.hasBulkInsertedSubtrees()) {
+      nodeHashing.adaptHashesOfBulkInsertedSubtrees(this::postOrderTraversalHashes);
+    }
+  }
+
   @Override
   public void adaptHashesInPostorderTraversal() {
     if (hashType != HashType.NONE) {
@@ -276,6 +291,9 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
     }
 
     runLocked(() -> {
+      // Hash the subtrees inserted in bulk mode, before the nodes are written.
+      adaptHashesOfBulkInsertedSubtrees();
+
       state = State.COMMITTING;
 
       // Execute pre-commit hooks.
@@ -323,6 +341,8 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
     nodeReadOnlyTrx.assertNotClosed();
     assertRunning();
     modificationCount++;
+    // The previous operation is finished, thus its record pages may be evicted from the log.
+    pageTrx.getLog().unpinAll();
     intermediateCommitIfRequired();
   }
 
@@ -417,6 +437,11 @@ public abstract class AbstractNodeTrxImpl<R extends NodeReadOnlyTrx & NodeCursor
 
     nodeFactory = reInstantiateNodeFactory(pageTrx);
 
+    // Discard the subtrees inserted in bulk mode, which haven't been hashed.
+    final boolean isBulkInsert = nodeHashing.isBulkInsert();
+    nodeHashing = reInstantiateNodeHashing(pageTrx);
+    nodeHashing.setBulkInsert(isBulkInsert);
+
     reInstantiateIndexes();
 
     if (lock != null) {
@@ -372,10 +372,8 @@ final class JsonNodeTrxImpl extends AbstractNodeTrxImpl<JsonNodeReadOnlyTrx, Jso
 
         adaptUpdateOperationsForInsert(getDeweyID(), getNodeKey());
 
-        // bulk inserts will be disabled for auto-commits after the first commit
-        if (!isAutoCommitting) {
-          adaptHashesInPostorderTraversal();
-        }
+        // hash the inserted subtrees (those of intermediate auto-commits already have been hashed)
+        adaptHashesOfBulkInsertedSubtrees();
 
         nodeHashing.setBulkInsert(false);
 
@@ -544,10 +542,8 @@ final class JsonNodeTrxImpl extends AbstractNodeTrxImpl<JsonNodeReadOnlyTrx, Jso
 
       adaptUpdateOperationsForInsert(getDeweyID(), getNodeKey());
 
-      // bulk inserts will be disabled for auto-commits after the first commit
-      if (!isAutoCommitting) {
-        adaptHashesInPostorderTraversal();
-      }
+      // hash the inserted subtrees (those of intermediate auto-commits already have been hashed)
+      adaptHashesOfBulkInsertedSubtrees();
 
       nodeHashing.setBulkInsert(false);
 
@@ -661,7 +661,7 @@ final class XmlNodeTrxImpl extends AbstractNodeTrxImpl<XmlNodeReadOnlyTrx, XmlNo
         switch (insertionPosition) {
           case AS_FIRST_CHILD -> {
             moveToFirstChild();
-            nonElementHashes();
+            moveToFirstElement();
           }
           case AS_RIGHT_SIBLING -> moveToRightSibling();
           case AS_LEFT_SIBLING -> moveToLeftSibling();
@@ -670,7 +670,7 @@ final class XmlNodeTrxImpl extends AbstractNodeTrxImpl<XmlNodeReadOnlyTrx, XmlNo
           // May not happen.
         }
 
-        adaptHashesInPostorderTraversal();
+        adaptHashesOfBulkInsertedSubtrees();
 
         nodeHashing.setBulkInsert(false);
 
@@ -686,13 +686,8 @@ final class XmlNodeTrxImpl extends AbstractNodeTrxImpl<XmlNodeReadOnlyTrx, XmlNo
     }
   }
 
-  private void nonElementHashes() {
+  private void moveToFirstElement() {
     while (getCurrentNode().getKind() != NodeKind.ELEMENT) {
-      long hashToAdd = getCurrentNode().computeHash(bytes);
-      Node node =
-          pageTrx.prepareRecordForModification(nodeReadOnlyTrx.getCurrentNode().getNodeKey(), IndexType.DOCUMENT, -1);
-      node.setHash(hashToAdd);
-
       moveToRightSibling();
     }
   }
@@ -1882,6 +1877,9 @@ final class XmlNodeTrxImpl extends AbstractNodeTrxImpl<XmlNodeReadOnlyTrx, XmlNo
 
   @Override
   public XmlNodeTrx setBulkInsertion(boolean bulkInsertion) {
+    if (!bulkInsertion) {
+      adaptHashesOfBulkInsertedSubtrees();
+    }
     nodeHashing.setBulkInsert(bulkInsertion);
     return this;
   }
@@ -32,6 +32,7 @@ import io.sirix.api.ResourceSession;
 import io.sirix.cache.*;
 import io.sirix.exception.SirixIOException;
 import io.sirix.index.IndexType;
+import io.sirix.io.AbstractReader;
 import io.sirix.io.BytesUtils;
 import io.sirix.io.Reader;
 import io.sirix.node.DeletedNode;
@@ -50,12 +51,15 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
@@ -139,6 +143,19 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
 
   private final Bytes<ByteBuffer> byteBufferForRecords = Bytes.elasticByteBuffer(40);
 
+  /**
+   * Prefetches record pages during sequential scans, or {@code null} for write transactions, which
+   * read the modified pages from the transaction intent log, and for readers, which can't read pages
+   * without deserializing them.
+   */
+  private final @Nullable RecordPagePrefetcher recordPagePrefetcher;
+
+  /**
+   * Caches single records of committed revisions, shared by all read-only transactions of the
+   * resource, or {@code null} if records aren't cached.
+   */
+  private final @Nullable Cache<RecordCacheKey, DataRecord> recordCache;
+
   /**
    * Standard constructor.
    *
@@ -169,6 +186,13 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     revisionNumber = revision;
     rootPage = revisionRootPageReader.loadRevisionRootPage(this, revision);
     namePage = revisionRootPageReader.getNamePage(this, rootPage);
+    recordPagePrefetcher = trxIntentLog == null && reader instanceof AbstractReader abstractReader
+        ? new RecordPagePrefetcher(this::getLeafPageReferenceToPrefetch,
+                                   new PrefetchingRecordPageLoader(abstractReader))
+        : null;
+    recordCache = trxIntentLog == null && resourceConfig.areRecordsCached()
+        ? resourceBufferManager.getRecordCache()
+        : null;
   }
 
   private Page loadPage(final PageReference reference) {
@@ -255,6 +279,17 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       return null;
     }
 
+    final RecordCacheKey recordCacheKey;
+    if (recordCache != null) {
+      recordCacheKey = new RecordCacheKey(revisionNumber, indexType, index, recordKey);
+      final DataRecord cachedRecord = recordCache.get(recordCacheKey);
+      if (cachedRecord != null) {
+        return (V) cachedRecord;
+      }
+    } else {
+      recordCacheKey = null;
+    }
+
     final long recordPageKey = pageKey(recordKey, indexType);
 
     var indexLogKey = new IndexLogKey(indexType, recordPageKey, index, revisionNumber);
@@ -269,9 +304,14 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       return null;
     }
 
-    final var dataRecord = getValue(((KeyValueLeafPage) page), recordKey);
+    final var dataRecord = checkItemIfDeleted(getValue(((KeyValueLeafPage) page), recordKey));
+
+    if (recordCacheKey != null && dataRecord != null) {
+      // Deleted records have already been mapped to null and are never cached.
+      recordCache.put(recordCacheKey, dataRecord);
+    }
 
-    return (V) checkItemIfDeleted(dataRecord);
+    return (V) dataRecord;
   }
 
   @Override
@@ -442,6 +482,12 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
       return null;
     }
 
+    if (recordPagePrefetcher != null) {
+      recordPagePrefetcher.onRecordPageAccess(indexLogKey.getIndexType(),
+                                              indexLogKey.getIndexNumber(),
+                                              indexLogKey.getRecordPageKey());
+    }
+
     // Third: Try to get in-memory instance.
     var page = getInMemoryPageInstance(indexLogKey, pageReferenceToRecordPage);
     if (page != null) {
@@ -484,13 +530,36 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
         && secondMostRecentlyReadRecordPage.revision == indexLogKey.getRevisionNumber();
   }
 
+  /**
+   * Determines if the off-heap memory of a page has been released due to its eviction from the
+   * record page cache, such that the page has to be reloaded.
+   */
+  private static boolean isReleased(final Page page) {
+    return page instanceof KeyValueLeafPage keyValueLeafPage && keyValueLeafPage.isReleased();
+  }
+
+  /**
+   * Pin a record page, such that its off-heap memory isn't freed while this transaction holds it.
+   *
+   * @return {@code true}, if the page has been pinned, {@code false}, if it has already been released
+   */
+  private static boolean pin(final Page page) {
+    return !(page instanceof KeyValueLeafPage keyValueLeafPage) || keyValueLeafPage.pin();
+  }
+
+  private static void unpin(final @Nullable RecordPage recordPage) {
+    if (recordPage != null && recordPage.page() instanceof KeyValueLeafPage keyValueLeafPage) {
+      keyValueLeafPage.unpin();
+    }
+  }
+
   @Nullable
   private Page getFromBufferManager(@NotNull IndexLogKey indexLogKey, PageReference pageReferenceToRecordPage) {
     //if (trxIntentLog == null) {
       final Page recordPageFromBuffer = resourceBufferManager.getRecordPageCache().get(pageReferenceToRecordPage);
 
-      if (recordPageFromBuffer != null) {
-        setMostRecentlyReadRecordPage(indexLogKey, recordPageFromBuffer);
+      // The page might be evicted and released concurrently, before it's pinned.
+      if (recordPageFromBuffer != null && setMostRecentlyReadRecordPage(indexLogKey, recordPageFromBuffer)) {
         pageReferenceToRecordPage.setPage(recordPageFromBuffer);
         return recordPageFromBuffer;
       }
@@ -498,14 +567,27 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     return null;
   }
 
-  private void setMostRecentlyReadRecordPage(@NotNull IndexLogKey indexLogKey, Page recordPageFromBuffer) {
+  /**
+   * Pin the page and remember it as the most recently read page. The page, which isn't remembered
+   * anymore, is unpinned.
+   *
+   * @return {@code true}, if the page has been pinned, {@code false}, if it has already been released
+   *     and must be reloaded
+   */
+  private boolean setMostRecentlyReadRecordPage(@NotNull IndexLogKey indexLogKey, Page recordPageFromBuffer) {
+    if (!pin(recordPageFromBuffer)) {
+      return false;
+    }
+
     if (indexLogKey.getIndexType() == IndexType.PATH_SUMMARY) {
+      unpin(pathSummaryRecordPage);
       pathSummaryRecordPage = new RecordPage(indexLogKey.getIndexNumber(),
                                              indexLogKey.getIndexType(),
                                              indexLogKey.getRecordPageKey(),
                                              indexLogKey.getRevisionNumber(),
                                              recordPageFromBuffer);
     } else {
+      unpin(secondMostRecentlyReadRecordPage);
       secondMostRecentlyReadRecordPage = mostRecentlyReadRecordPage;
       mostRecentlyReadRecordPage = new RecordPage(indexLogKey.getIndexNumber(),
                                                   indexLogKey.getIndexType(),
@@ -513,6 +595,8 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
                                                   indexLogKey.getRevisionNumber(),
                                                   recordPageFromBuffer);
     }
+
+    return true;
   }
 
   @Nullable
@@ -529,22 +613,122 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
     final VersioningType versioningApproach = resourceConfig.versioningType;
     final Page completePage = versioningApproach.combineRecordPages(pages, maxRevisionsToRestore, this);
 
+    // Pinned before it's cached, as it might be evicted right away.
+    setMostRecentlyReadRecordPage(indexLogKey, completePage);
+
     if (trxIntentLog == null) {
+      if (resourceConfig.areRecordPagesStoredOffHeap() && completePage instanceof KeyValueLeafPage keyValueLeafPage) {
+        keyValueLeafPage.moveSlotsOffHeap();
+      }
       resourceBufferManager.getRecordPageCache().put(pageReferenceToRecordPage, completePage);
     }
 
     pageReferenceToRecordPage.setPage(completePage);
-    setMostRecentlyReadRecordPage(indexLogKey, completePage);
     return completePage;
   }
 
+  @Nullable
+  private PageReference getLeafPageReferenceToPrefetch(final @NonNegative long recordPageKey, final int indexNumber,
+      final IndexType indexType) {
+    // Record pages beyond the end of the index mustn't be looked up, as this adds references to the
+    // (shared) indirect pages.
+    if (recordPageKey > getMaxRecordPageKey(indexType, indexNumber)) {
+      return null;
+    }
+
+    final PageReference reference = getLeafPageReference(recordPageKey, indexNumber, indexType);
+    return reference == null || reference.getKey() == Constants.NULL_ID_LONG ? null : reference;
+  }
+
+  private long getMaxRecordPageKey(final IndexType indexType, final int index) {
+    // $CASES-OMITTED$
+    final long maxRecordKey = switch (indexType) {
+      case DOCUMENT -> rootPage.getMaxNodeKeyInDocumentIndex();
+      case CHANGED_NODES -> rootPage.getMaxNodeKeyInChangedNodesIndex();
+      case RECORD_TO_REVISIONS -> rootPage.getMaxNodeKeyInRecordToRevisionsIndex();
+      case CAS -> getCASPage(rootPage).getMaxNodeKey(index);
+      case PATH -> getPathPage(rootPage).getMaxNodeKey(index);
+      case NAME -> getNamePage(rootPage).getMaxNodeKey(index);
+      case PATH_SUMMARY -> getPathSummaryPage(rootPage).getMaxNodeKey(index);
+      case DEWEYID_TO_RECORDID -> getDeweyIDPage(rootPage).getMaxNodeKey();
+      default -> -1;
+    };
+
+    return maxRecordKey < 0 ? -1 : pageKey(maxRecordKey, indexType);
+  }
+
+  /**
+   * Reads record pages ahead of a sequential scan. Only the I/O is done asynchronously, as the
+   * transaction isn't thread safe: the fragments are deserialized into the page cache by the thread of
+   * the transaction, once it accesses the record page, and combined like any other cached fragments.
+   */
+  private final class PrefetchingRecordPageLoader implements RecordPagePrefetcher.RecordPageLoader {
+    private final AbstractReader reader;
+
+    private PrefetchingRecordPageLoader(final AbstractReader reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public @Nullable CompletableFuture<Map<PageReference, MemorySegment>> readAsync(
+        final PageReference pageReferenceToRecordPage) {
+      final Page page = pageReferenceToRecordPage.getPage();
+
+      if ((page != null && !isReleased(page))
+          || resourceBufferManager.getRecordPageCache().get(pageReferenceToRecordPage) != null) {
+        return null;
+      }
+
+      // All fragments are read, which aren't cached, as it's unknown before deserializing the most
+      // recent fragment, whether the older fragments are needed.
+      final var pageFragments = pageReferenceToRecordPage.getPageFragments();
+      final List<PageReference> referencesToRead = new ArrayList<>(pageFragments.size() + 1);
+      addIfNotCached(referencesToRead, pageReferenceToRecordPage.getKey());
+      for (final PageFragmentKey pageFragmentKey : pageFragments) {
+        addIfNotCached(referencesToRead, pageFragmentKey.key());
+      }
+
+      if (referencesToRead.isEmpty()) {
+        return null;
+      }
+
+      return reader.readSerializedAsync(referencesToRead).thenApply(serializedPages -> {
+        final Map<PageReference, MemorySegment> serializedPageFragments = new LinkedHashMap<>();
+        for (int i = 0; i < serializedPages.size(); i++) {
+          serializedPageFragments.put(referencesToRead.get(i), serializedPages.get(i));
+        }
+        return serializedPageFragments;
+      });
+    }
+
+    private void addIfNotCached(final List<PageReference> referencesToRead, final long key) {
+      final var reference = new PageReference().setKey(key);
+      if (resourceBufferManager.getPageCache().get(reference) == null) {
+        referencesToRead.add(reference);
+      }
+    }
+
+    @Override
+    public void load(final Map<PageReference, MemorySegment> pageFragments) {
+      final var pageCache = resourceBufferManager.getPageCache();
+      try {
+        for (final Map.Entry<PageReference, MemorySegment> pageFragment : pageFragments.entrySet()) {
+          if (pageCache.get(pageFragment.getKey()) == null) {
+            pageCache.put(pageFragment.getKey(), reader.deserialize(NodePageReadOnlyTrx.this, pageFragment.getValue()));
+          }
+        }
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }
+  }
+
   @Nullable
   private Page getInMemoryPageInstance(@NotNull IndexLogKey indexLogKey,
       @NotNull PageReference pageReferenceToRecordPage) {
     Page page = pageReferenceToRecordPage.getPage();
 
-    if (page != null) {
-      setMostRecentlyReadRecordPage(indexLogKey, page);
+    if (page != null && setMostRecentlyReadRecordPage(indexLogKey, page)) {
       return page;
     }
 
@@ -608,44 +792,36 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
   }
 
   private List<KeyValuePage<DataRecord>> getPreviousPageFragments(final List<PageFragmentKey> pageFragments) {
-    final var pages = pageFragments.stream().map(this::readPage).collect(Collectors.toList());
-    return sequence(pages).join()
-                          .stream()
-                          .sorted(Comparator.<KeyValuePage<DataRecord>, Integer>comparing(KeyValuePage::getRevision)
-                                            .reversed())
-                          .collect(Collectors.toList());
-  }
+    final List<KeyValuePage<DataRecord>> pages = new ArrayList<>(pageFragments.size());
+    final List<PageReference> referencesToRead = new ArrayList<>(pageFragments.size());
 
-  private CompletableFuture<KeyValuePage<DataRecord>> readPage(final PageFragmentKey pageFragmentKey) {
-    final var pageReference = new PageReference().setKey(pageFragmentKey.key());
-    if (trxIntentLog == null) {
-      final var pageFromBufferManager = resourceBufferManager.getPageCache().get(pageReference);
+    for (final PageFragmentKey pageFragmentKey : pageFragments) {
+      final var pageReference = new PageReference().setKey(pageFragmentKey.key());
+      final var pageFromBufferManager =
+          trxIntentLog == null ? resourceBufferManager.getPageCache().get(pageReference) : null;
       if (pageFromBufferManager != null) {
         assert pageFragmentKey.revision() == ((KeyValuePage<DataRecord>) pageFromBufferManager).getRevision();
-        return CompletableFuture.completedFuture((KeyValuePage<DataRecord>) pageFromBufferManager);
+        pages.add((KeyValuePage<DataRecord>) pageFromBufferManager);
+      } else {
+        referencesToRead.add(pageReference);
+      }
+    }
+
+    if (!referencesToRead.isEmpty()) {
+      // Read all missing fragments in one batch. Deserializing a fragment only requires the resource
+      // configuration, thus no transaction is needed for the revision of each fragment.
+      final List<Page> readPages = pageReader.readAllAsync(referencesToRead, this).join();
+      for (int i = 0; i < readPages.size(); i++) {
+        final var page = (KeyValuePage<DataRecord>) readPages.get(i);
+        if (trxIntentLog == null) {
+          resourceBufferManager.getPageCache().put(referencesToRead.get(i), page);
+        }
+        pages.add(page);
       }
     }
-    final var pageReadOnlyTrx = resourceSession.beginPageReadOnlyTrx(pageFragmentKey.revision());
-    return (CompletableFuture<KeyValuePage<DataRecord>>) pageReadOnlyTrx.getReader()
-                                                                        .readAsync(pageReference, pageReadOnlyTrx)
-                                                                        .whenComplete((page, exception) -> {
-                                                                          pageReadOnlyTrx.close();
-                                                                          if (trxIntentLog == null) {
-                                                                            assert pageFragmentKey.revision()
-                                                                                == ((KeyValuePage<DataRecord>) page).getRevision();
-                                                                            resourceBufferManager.getPageCache()
-                                                                                                 .put(pageReference,
-                                                                                                      page);
-                                                                          }
-                                                                        });
-  }
-
-  static CompletableFuture<List<KeyValuePage<DataRecord>>> sequence(
-      List<CompletableFuture<KeyValuePage<DataRecord>>> listOfCompletableFutures) {
-    return CompletableFuture.allOf(listOfCompletableFutures.toArray(new CompletableFuture[0]))
-                            .thenApply(v -> listOfCompletableFutures.stream()
-                                                                    .map(CompletableFuture::join)
-                                                                    .collect(Collectors.toList()));
+
+    pages.sort(Comparator.<KeyValuePage<DataRecord>, Integer>comparing(KeyValuePage::getRevision).reversed());
+    return pages;
   }
 
   /**
@@ -783,10 +959,21 @@ public final class NodePageReadOnlyTrx implements PageReadOnlyTrx {
   @Override
   public synchronized void close() {
     if (!isClosed) {
+      if (recordPagePrefetcher != null) {
+        recordPagePrefetcher.close();
+      }
+
       if (trxIntentLog == null) {
         pageReader.close();
       }
 
+      unpin(mostRecentlyReadRecordPage);
+      unpin(secondMostRecentlyReadRecordPage);
+      unpin(pathSummaryRecordPage);
+      mostRecentlyReadRecordPage = null;
+      secondMostRecentlyReadRecordPage = null;
+      pathSummaryRecordPage = null;
+
       if (resourceSession.getNodeReadTrxByTrxId(trxId).isEmpty()) {
         resourceSession.closePageReadTransaction(trxId);
       }
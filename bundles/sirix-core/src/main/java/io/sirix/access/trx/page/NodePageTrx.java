@@ -57,10 +57,13 @@ import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -128,8 +131,12 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
    */
   private final boolean isBoundToNodeTrx;
 
+  /**
+   * Caches the reference to a record page in the transaction intent log. The page container itself is
+   * always retrieved from the log, as it might have been evicted to disk in the meantime.
+   */
   private record IndexLogKeyToPageContainer(IndexType indexType, long recordPageKey, int indexNumber,
-                                            int revisionNumber, PageContainer pageContainer) {
+                                            int revisionNumber, PageReference reference) {
   }
 
   /**
@@ -147,7 +154,46 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
    */
   private IndexLogKeyToPageContainer mostRecentPathSummaryPageContainer;
 
-  private final LinkedHashMap<IndexLogKey, PageContainer> pageContainerCache;
+  private final LinkedHashMap<IndexLogKey, PageReference> pageContainerCache;
+
+  /**
+   * Asynchronous serializations of record pages, which are in flight during a commit.
+   */
+  private final Map<KeyValueLeafPage, PageSerialization> pageSerializations;
+
+  /**
+   * Serialization of a record page, which is either done by a worker thread or by the committing
+   * thread itself, whichever claims it first.
+   */
+  private final class PageSerialization {
+    private final KeyValueLeafPage page;
+
+    private final AtomicBoolean claimed = new AtomicBoolean();
+
+    private final CompletableFuture<Void> future;
+
+    PageSerialization(final KeyValueLeafPage page) {
+      this.page = page;
+      this.future = CompletableFuture.runAsync(this::serializeIfUnclaimed);
+    }
+
+    private void serializeIfUnclaimed() {
+      if (claimed.compareAndSet(false, true)) {
+        final Bytes<ByteBuffer> bytes = Bytes.elasticByteBuffer(60_000);
+        PageKind.KEYVALUELEAFPAGE.serializePage(NodePageTrx.this, bytes, page, SerializationType.DATA);
+      }
+    }
+
+    void await() {
+      if (claimed.compareAndSet(false, true)) {
+        // Not yet picked up by a worker: serialize in the committing thread instead of waiting.
+        final Bytes<ByteBuffer> bytes = Bytes.elasticByteBuffer(60_000);
+        PageKind.KEYVALUELEAFPAGE.serializePage(NodePageTrx.this, bytes, page, SerializationType.DATA);
+      } else {
+        future.join();
+      }
+    }
+  }
 
   /**
    * Constructor.
@@ -167,6 +213,7 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
     this.treeModifier = requireNonNull(treeModifier);
     storagePageReaderWriter = requireNonNull(writer);
     this.log = requireNonNull(log);
+    this.log.setPageReadOnlyTrx(this);
     newRevisionRootPage = requireNonNull(revisionRootPage);
     this.pageRtx = requireNonNull(pageRtx);
     this.indexController = requireNonNull(indexController);
@@ -176,9 +223,10 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
     mostRecentPageContainer = new IndexLogKeyToPageContainer(IndexType.DOCUMENT, -1, -1, -1, null);
     secondMostRecentPageContainer = mostRecentPageContainer;
     mostRecentPathSummaryPageContainer = new IndexLogKeyToPageContainer(IndexType.PATH_SUMMARY, -1, -1, -1, null);
+    pageSerializations = new IdentityHashMap<>();
     pageContainerCache = new LinkedHashMap<>(2_500) {
       @Override
-      protected boolean removeEldestEntry(Map.Entry<IndexLogKey, PageContainer> eldest) {
+      protected boolean removeEldestEntry(Map.Entry<IndexLogKey, PageReference> eldest) {
         return size() > 2_500;
       }
     };
@@ -353,6 +401,14 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
 
     // Recursively commit indirectly referenced pages and then write self.
     page.commit(this);
+
+    if (page instanceof KeyValueLeafPage keyValueLeafPage) {
+      final PageSerialization pageSerialization = pageSerializations.remove(keyValueLeafPage);
+      if (pageSerialization != null) {
+        pageSerialization.await();
+      }
+    }
+
     storagePageReaderWriter.write(this, reference, bufferBytes);
 
     container.getComplete().clearPage();
@@ -382,10 +438,20 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
       setUserIfPresent();
       setCommitMessageAndTimestampIfRequired(commitMessage, commitTimestamp);
 
-      parallelSerializationOfKeyValuePages();
+      // Record pages are serialized and compressed by worker threads, while the committing thread
+      // writes them in offset order, as soon as they are ready. Thus, they must not be evicted from
+      // the log in the meantime.
+      log.suspendEviction();
+      asyncSerializationOfKeyValuePages();
 
-      // Recursively write indirectly referenced pages.
-      uberPage.commit(this);
+      // Recursively write indirectly referenced pages (parent pages after their children).
+      try {
+        uberPage.commit(this);
+      } finally {
+        pageSerializations.values().forEach(pageSerialization -> pageSerialization.future.join());
+        pageSerializations.clear();
+        log.resumeEviction();
+      }
 
       uberPageReference.setPage(uberPage);
       storagePageReaderWriter.writeUberPageReference(this, uberPageReference, bufferBytes);
@@ -435,15 +501,13 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
     }
   }
 
-  private void parallelSerializationOfKeyValuePages() {
-    log.getList()
-       .parallelStream()
-       .map(PageContainer::getModified)
-       .filter(page -> page instanceof KeyValueLeafPage)
-       .forEach(page -> {
-         final Bytes<ByteBuffer> bytes = Bytes.elasticByteBuffer(60_000);
-         PageKind.KEYVALUELEAFPAGE.serializePage(this, bytes, page, SerializationType.DATA);
-       });
+  private void asyncSerializationOfKeyValuePages() {
+    // Containers evicted to disk are serialized once they are reloaded during the commit.
+    for (final PageContainer pageContainer : log.getList()) {
+      if (pageContainer != null && pageContainer.getModified() instanceof KeyValueLeafPage page) {
+        pageSerializations.put(page, new PageSerialization(page));
+      }
+    }
   }
 
   private UberPage readUberPage() {
@@ -506,42 +570,52 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
       return pageContainer;
     }
 
-    return pageContainerCache.computeIfAbsent(new IndexLogKey(indexType,
-                                                              recordPageKey,
-                                                              indexNumber,
-                                                              newRevisionRootPage.getRevision()), (unused) -> {
+    final PageReference reference = pageContainerCache.computeIfAbsent(new IndexLogKey(indexType,
+                                                                                       recordPageKey,
+                                                                                       indexNumber,
+                                                                                       newRevisionRootPage.getRevision()),
+                                                                       (unused) -> {
       final PageReference pageReference = pageRtx.getPageReference(newRevisionRootPage, indexType, indexNumber);
       final var leafPageReference =
           pageRtx.getLeafPageReference(pageReference, recordPageKey, indexNumber, indexType, newRevisionRootPage);
-      return log.get(leafPageReference);
+      return log.get(leafPageReference) == null ? null : leafPageReference;
     });
+
+    return reference == null ? null : log.get(reference);
   }
 
   @Nullable
   private PageContainer getMostRecentPageContainer(IndexType indexType, long recordPageKey,
       @NonNegative int indexNumber, @NonNegative int revisionNumber) {
+    final var reference = getMostRecentPageReference(indexType, recordPageKey, indexNumber, revisionNumber);
+    return reference == null ? null : log.get(reference);
+  }
+
+  @Nullable
+  private PageReference getMostRecentPageReference(IndexType indexType, long recordPageKey,
+      @NonNegative int indexNumber, @NonNegative int revisionNumber) {
     if (indexType == IndexType.PATH_SUMMARY) {
       return mostRecentPathSummaryPageContainer.indexType == indexType
           && mostRecentPathSummaryPageContainer.indexNumber == indexNumber
           && mostRecentPathSummaryPageContainer.recordPageKey == recordPageKey
           && mostRecentPathSummaryPageContainer.revisionNumber == revisionNumber
-          ? mostRecentPathSummaryPageContainer.pageContainer
+          ? mostRecentPathSummaryPageContainer.reference
           : null;
     }
 
-    var pageContainer =
+    var reference =
         mostRecentPageContainer.indexType == indexType && mostRecentPageContainer.recordPageKey == recordPageKey
             && mostRecentPageContainer.indexNumber == indexNumber
-            && mostRecentPageContainer.revisionNumber == revisionNumber ? mostRecentPageContainer.pageContainer : null;
-    if (pageContainer == null) {
-      pageContainer = secondMostRecentPageContainer.indexType == indexType
+            && mostRecentPageContainer.revisionNumber == revisionNumber ? mostRecentPageContainer.reference : null;
+    if (reference == null) {
+      reference = secondMostRecentPageContainer.indexType == indexType
           && secondMostRecentPageContainer.recordPageKey == recordPageKey
           && secondMostRecentPageContainer.indexNumber == indexNumber
           && secondMostRecentPageContainer.revisionNumber == revisionNumber
-          ? secondMostRecentPageContainer.pageContainer
+          ? secondMostRecentPageContainer.reference
           : null;
     }
-    return pageContainer;
+    return reference;
   }
 
   /**
@@ -557,14 +631,20 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
       final IndexType indexType) {
     assert indexType != null;
 
-    PageContainer mostRecentPageContainer1 =
-        getMostRecentPageContainer(indexType, recordPageKey, indexNumber, newRevisionRootPage.getRevision());
+    // The container is pinned before it's retrieved, as its records are modified by the current
+    // operation, thus it must neither be evicted by a reload nor by appending another container.
+    final PageReference mostRecentPageReference =
+        getMostRecentPageReference(indexType, recordPageKey, indexNumber, newRevisionRootPage.getRevision());
 
-    if (mostRecentPageContainer1 != null) {
-      return mostRecentPageContainer1;
+    if (mostRecentPageReference != null) {
+      log.pin(mostRecentPageReference);
+      final PageContainer mostRecentPageContainer1 = log.get(mostRecentPageReference);
+      if (mostRecentPageContainer1 != null) {
+        return mostRecentPageContainer1;
+      }
     }
 
-    final Function<IndexLogKey, PageContainer> fetchPageContainer = (key) -> {
+    final Function<IndexLogKey, PageReference> fetchPageContainer = (key) -> {
       final PageReference pageReference = pageRtx.getPageReference(newRevisionRootPage, indexType, indexNumber);
 
       // Get the reference to the unordered key/value page storing the records.
@@ -580,7 +660,7 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
       var pageContainer = log.get(reference);
 
       if (pageContainer != null) {
-        return pageContainer;
+        return reference;
       }
 
       if (reference.getKey() == Constants.NULL_ID_LONG) {
@@ -600,28 +680,30 @@ final class NodePageTrx extends AbstractForwardingPageReadOnlyTrx implements Pag
         default -> throw new IllegalStateException("Page kind not known!");
       }
 
-      return pageContainer;
+      return reference;
     };
 
-    var currPageContainer = pageContainerCache.computeIfAbsent(new IndexLogKey(indexType,
-                                                                               recordPageKey,
-                                                                               indexNumber,
-                                                                               newRevisionRootPage.getRevision()),
-                                                               fetchPageContainer);
+    final var currPageReference = pageContainerCache.computeIfAbsent(new IndexLogKey(indexType,
+                                                                                     recordPageKey,
+                                                                                     indexNumber,
+                                                                                     newRevisionRootPage.getRevision()),
+                                                                     fetchPageContainer);
+    log.pin(currPageReference);
+    final var currPageContainer = log.get(currPageReference);
 
     if (indexType == IndexType.PATH_SUMMARY) {
       mostRecentPathSummaryPageContainer = new IndexLogKeyToPageContainer(indexType,
                                                                           recordPageKey,
                                                                           indexNumber,
                                                                           newRevisionRootPage.getRevision(),
-                                                                          currPageContainer);
+                                                                          currPageReference);
     } else {
       secondMostRecentPageContainer = mostRecentPageContainer;
       mostRecentPageContainer = new IndexLogKeyToPageContainer(indexType,
                                                                recordPageKey,
                                                                indexNumber,
                                                                newRevisionRootPage.getRevision(),
-                                                               currPageContainer);
+                                                               currPageReference);
     }
 
     return currPageContainer;
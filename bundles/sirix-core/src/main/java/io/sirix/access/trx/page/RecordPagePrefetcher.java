@@ -0,0 +1,255 @@
+package io.sirix.access.trx.page;
+
+import io.sirix.index.IndexType;
+import io.sirix.page.PageReference;
+import io.sirix.utils.LogWrapper;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.LoggerFactory;
+
+import java.lang.foreign.MemorySegment;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Prefetches the record pages of a read-only page transaction, once the transaction reads the record
+ * pages of an index in sequential order, for instance during a descendant scan of a document. The
+ * next record pages (with all their fragments) are read asynchronously, such that the scan doesn't
+ * stall on each cold record page. Only the I/O is done asynchronously: the read fragments are
+ * deserialized by the thread of the transaction, once it accesses the record page.
+ *
+ * <p>
+ * The read-ahead depth adapts to the observed hit rate: it's doubled, as long as the transaction
+ * uses the prefetched pages and halved, if it skips them. Not thread safe, the prefetcher is used by
+ * the single thread of its transaction.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+final class RecordPagePrefetcher {
+
+  /** {@link LogWrapper} reference. */
+  private static final LogWrapper LOGWRAPPER = new LogWrapper(LoggerFactory.getLogger(RecordPagePrefetcher.class));
+
+  /**
+   * The minimum number of record pages read ahead.
+   */
+  static final int MIN_DEPTH = 2;
+
+  /**
+   * The maximum number of record pages read ahead.
+   */
+  static final int MAX_DEPTH = 64;
+
+  /**
+   * The number of accesses of consecutive record pages, after which the record pages are read ahead.
+   */
+  static final int SEQUENTIAL_ACCESSES_THRESHOLD = 2;
+
+  /**
+   * Resolves the reference to a record page (the leaf of an indirect page tree).
+   */
+  @FunctionalInterface
+  interface LeafReferenceResolver {
+    /**
+     * Resolve the reference to a record page.
+     *
+     * @param recordPageKey the record page key
+     * @param index         the index number
+     * @param indexType     the index type
+     * @return the reference or {@code null}, if the record page doesn't exist
+     */
+    @Nullable
+    PageReference resolve(long recordPageKey, int index, IndexType indexType);
+  }
+
+  /**
+   * Reads record pages asynchronously and loads them on the thread of the transaction.
+   */
+  interface RecordPageLoader {
+    /**
+     * Read the fragments of a record page asynchronously, without deserializing them.
+     *
+     * @param reference the reference to the record page
+     * @return the future of the serialized fragments by their references or {@code null}, if the page
+     *     doesn't have to be read
+     */
+    @Nullable
+    CompletableFuture<Map<PageReference, MemorySegment>> readAsync(PageReference reference);
+
+    /**
+     * Deserialize the read fragments of a record page, on the thread of the transaction.
+     *
+     * @param pageFragments the serialized fragments by their references
+     */
+    void load(Map<PageReference, MemorySegment> pageFragments);
+  }
+
+  /**
+   * The record pages of one index, which are read in sequential order.
+   */
+  private record StreamKey(IndexType indexType, int index) {
+  }
+
+  /**
+   * The state of reading the record pages of one index.
+   */
+  private static final class Stream {
+    /** The pending prefetches, indexed by their record page key. */
+    final Long2ObjectOpenHashMap<CompletableFuture<Map<PageReference, MemorySegment>>> pending =
+        new Long2ObjectOpenHashMap<>();
+
+    /** The key of the most recently accessed record page. */
+    long lastRecordPageKey = -1;
+
+    /** The number of accesses of consecutive record pages. */
+    int sequentialAccesses;
+
+    /** The largest record page key, which has been read ahead. */
+    long prefetchedUpTo = -1;
+
+    /** The current read-ahead depth. */
+    int depth = MIN_DEPTH;
+
+    /** The number of prefetched pages, which have been used since the depth has been adapted. */
+    int hits;
+
+    /** The number of prefetched pages, which have been skipped since the depth has been adapted. */
+    int misses;
+  }
+
+  private final LeafReferenceResolver resolver;
+
+  private final RecordPageLoader loader;
+
+  private final Map<StreamKey, Stream> streams = new HashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param resolver resolves the references to record pages
+   * @param loader   reads record pages asynchronously and loads them
+   */
+  RecordPagePrefetcher(final LeafReferenceResolver resolver, final RecordPageLoader loader) {
+    this.resolver = requireNonNull(resolver);
+    this.loader = requireNonNull(loader);
+  }
+
+  /**
+   * Notify the prefetcher, that a record page is about to be read. If the page is being prefetched,
+   * the method waits for it to be read and loads it. If the record pages of the index are read
+   * sequentially, the next record pages are prefetched.
+   *
+   * @param indexType     the index type
+   * @param index         the index number
+   * @param recordPageKey the key of the record page
+   */
+  void onRecordPageAccess(final IndexType indexType, final int index, final long recordPageKey) {
+    final Stream stream = streams.computeIfAbsent(new StreamKey(indexType, index), unused -> new Stream());
+
+    final CompletableFuture<Map<PageReference, MemorySegment>> prefetch = stream.pending.remove(recordPageKey);
+    if (prefetch != null) {
+      stream.hits++;
+      final Map<PageReference, MemorySegment> pageFragments = await(prefetch);
+      if (pageFragments != null) {
+        loader.load(pageFragments);
+      }
+    }
+
+    if (recordPageKey == stream.lastRecordPageKey + 1) {
+      stream.sequentialAccesses++;
+    } else if (recordPageKey != stream.lastRecordPageKey) {
+      // The sequential access has been interrupted, the pending prefetches are most probably useless.
+      stream.sequentialAccesses = 0;
+      stream.misses += stream.pending.size();
+      stream.pending.clear();
+      stream.prefetchedUpTo = recordPageKey;
+    }
+    stream.lastRecordPageKey = recordPageKey;
+
+    adaptDepth(stream);
+
+    if (stream.sequentialAccesses >= SEQUENTIAL_ACCESSES_THRESHOLD) {
+      prefetch(indexType, index, recordPageKey, stream);
+    }
+  }
+
+  private static void adaptDepth(final Stream stream) {
+    final int prefetches = stream.hits + stream.misses;
+
+    if (prefetches < stream.depth) {
+      return;
+    }
+
+    if (stream.misses == 0) {
+      stream.depth = Math.min(stream.depth << 1, MAX_DEPTH);
+    } else if (stream.hits < stream.misses) {
+      stream.depth = Math.max(stream.depth >> 1, MIN_DEPTH);
+    }
+
+    stream.hits = 0;
+    stream.misses = 0;
+  }
+
+  private void prefetch(final IndexType indexType, final int index, final long recordPageKey, final Stream stream) {
+    final long lastRecordPageKeyToPrefetch = recordPageKey + stream.depth;
+
+    for (long key = Math.max(stream.prefetchedUpTo, recordPageKey) + 1; key <= lastRecordPageKeyToPrefetch; key++) {
+      final PageReference reference = resolver.resolve(key, index, indexType);
+
+      if (reference == null) {
+        // The end of the index has been reached.
+        stream.prefetchedUpTo = Long.MAX_VALUE - MAX_DEPTH;
+        return;
+      }
+
+      stream.prefetchedUpTo = key;
+
+      final CompletableFuture<Map<PageReference, MemorySegment>> prefetch = loader.readAsync(reference);
+      if (prefetch != null) {
+        stream.pending.put(key, prefetch);
+      }
+    }
+  }
+
+  /**
+   * Get the current read-ahead depth of an index.
+   *
+   * @param indexType the index type
+   * @param index     the index number
+   * @return the current read-ahead depth
+   */
+  int getDepth(final IndexType indexType, final int index) {
+    final Stream stream = streams.get(new StreamKey(indexType, index));
+    return stream == null ? MIN_DEPTH : stream.depth;
+  }
+
+  /**
+   * Wait for all pending prefetches, such that the storage can be closed. The read fragments are
+   * discarded.
+   */
+  void close() {
+    for (final Stream stream : streams.values()) {
+      stream.pending.values().forEach(RecordPagePrefetcher::await);
+      stream.pending.clear();
+    }
+    streams.clear();
+  }
+
+  @Nullable
+  private static Map<PageReference, MemorySegment> await(
+      final CompletableFuture<Map<PageReference, MemorySegment>> prefetch) {
+    try {
+      return prefetch.join();
+    } catch (final CompletionException | CancellationException e) {
+      // The page is read synchronously, once it's needed.
+      LOGWRAPPER.debug(e.getMessage(), e);
+      return null;
+    }
+  }
+}
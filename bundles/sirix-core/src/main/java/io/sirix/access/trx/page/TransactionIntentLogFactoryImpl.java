@@ -30,6 +30,8 @@ package io.sirix.access.trx.page;
 import io.sirix.access.ResourceConfiguration;
 import io.sirix.cache.TransactionIntentLog;
 
+import java.nio.file.Path;
+
 /**
  * @author Johannes Lichtenberger <a href="mailto:lichtenberger.johannes@gmail.com">mail</a>
  */
@@ -43,6 +45,14 @@ final class TransactionIntentLogFactoryImpl implements TransactionIntentLogFacto
 
   @Override
   public TransactionIntentLog createTrxIntentLog(final ResourceConfiguration resourceConfig) {
-    return new TransactionIntentLog(1 << 12);
+    final int maxInMemoryRecordPages = resourceConfig.getTrxIntentLogMaxInMemoryRecordPages();
+
+    if (maxInMemoryRecordPages == Integer.MAX_VALUE) {
+      return new TransactionIntentLog(1 << 12);
+    }
+
+    final Path logDirectory =
+        resourceConfig.resourcePath.resolve(ResourceConfiguration.ResourcePaths.TRANSACTION_INTENT_LOG.getPath());
+    return new TransactionIntentLog(1 << 12, maxInMemoryRecordPages, logDirectory);
   }
 }
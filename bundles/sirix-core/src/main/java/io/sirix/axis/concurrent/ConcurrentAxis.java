@@ -27,21 +27,25 @@ import io.sirix.api.NodeReadOnlyTrx;
 import io.sirix.axis.AbstractAxis;
 import io.sirix.utils.LogWrapper;
 import org.checkerframework.checker.index.qual.NonNegative;
-import io.sirix.settings.Fixed;
 import org.slf4j.LoggerFactory;
 
-import java.util.concurrent.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 /**
  * <p>
  * Realizes in combination with the <code>ConurrentAxisHelper</code> the concurrent evaluation of
  * pipeline steps. The given axis is uncoupled from the main thread by embedding it in a Runnable
- * that uses its one transaction and stores all the results to a queue. The ConcurrentAxis gets the
- * computed results from that queue one by one on every hasNext() call and sets the main-transaction
- * to it. As soon as the end of the computed result sequence is reached (marked by the
- * NULL_NODE_KEY), the ConcurrentAxis returns <code>false</code>.
+ * that uses its one transaction and stores all the results to a ring buffer. The ConcurrentAxis
+ * gets the computed results from that buffer batch by batch and sets the main-transaction to them
+ * one by one on every hasNext() call. As soon as the end of the computed result sequence is reached,
+ * the ConcurrentAxis returns <code>false</code>.
  * </p>
  * <p>
  * This framework is working according to the producer-consumer-principle, where the
@@ -49,36 +53,54 @@ import static java.util.Objects.requireNonNull;
  * callees is the consumer. This can be used by any class that implements the IAxis interface. Note:
  * Make sure that the used class is thread-safe.
  * </p>
+ * <p>
+ * The producers of all concurrent axes run on virtual threads of a shared executor, that is the
+ * number of carrier threads is bounded by the virtual thread scheduler instead of one platform
+ * thread per axis. The producer blocks as soon as the buffer of the configured capacity is full. If
+ * the consumer doesn't need any more results, it should {@link #close()} the axis, which stops the
+ * producer and the producers of nested concurrent axes.
+ * </p>
  */
-public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis {
+public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis
+    implements AutoCloseable {
 
   /** Logger. */
   private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(ConcurrentAxis.class));
 
+  /** Default capacity of the result buffer. */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  /** Maximum number of results handed over at once. */
+  private static final int MAX_BATCH_SIZE = 64;
+
+  /** Executor shared by the producers of all concurrent axes. */
+  private static final ExecutorService EXECUTOR =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sirix-concurrent-axis-", 0).factory());
+
   /** Axis that is running in an own thread and produces results for this axis. */
   private final Axis producer;
 
-  /**
-   * Queue that stores result keys already computed by the producer. End of the result sequence is
-   * marked by the NULL_NODE_KEY.
-   */
-  private final BlockingQueue<Long> results;
+  /** Capacity of the result buffer. */
+  private final int capacity;
+
+  /** Results taken from the buffer, but not yet returned. */
+  private final long[] batch;
+
+  /** Index of the next result in the batch. */
+  private int batchIndex;
 
-  /** Capacity of the mResults queue. */
-  private final int M_CAPACITY = 200;
+  /** Number of results in the batch. */
+  private int batchLength;
 
-  /** Has axis already been called? */
-  private boolean first;
+  /** Buffer that stores result keys already computed by the producer. */
+  private LongRingBuffer results;
 
-  /** Runnable in which the producer is running. */
-  private Runnable task;
+  /** The running producer or {@code null}, if it hasn't been started. */
+  private Future<?> task;
 
   /** Is axis already finished and has no results left? */
   private boolean finished;
 
-  /** Executor Service holding the execution plan for future tasks. */
-  public ExecutorService executorService;
-
   /**
    * Constructor. Initializes the internal state.
    *
@@ -86,84 +108,119 @@ public final class ConcurrentAxis<R extends NodeCursor & NodeReadOnlyTrx> extend
    * @param childAxis producer axis
    */
   public ConcurrentAxis(final R rtx, final Axis childAxis) {
+    this(rtx, childAxis, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructor. Initializes the internal state.
+   *
+   * @param rtx exclusive (immutable) trx to iterate with
+   * @param childAxis producer axis
+   * @param capacity the maximum number of results computed ahead by the producer
+   * @throws IllegalArgumentException if {@code capacity} isn't positive
+   */
+  public ConcurrentAxis(final R rtx, final Axis childAxis, final int capacity) {
     super(rtx);
     if (rtx == childAxis.getTrx()) {
       throw new IllegalArgumentException(
           "The filter must be bound to another transaction but on the same revision/node!");
     }
-    results = new ArrayBlockingQueue<>(M_CAPACITY);
-    first = true;
+    checkArgument(capacity > 0, "The capacity must be positive!");
     producer = requireNonNull(childAxis);
-    task = new ConcurrentAxisHelper(producer, results);
-    executorService = Executors.newSingleThreadExecutor();
+    this.capacity = capacity;
+    batch = new long[Math.min(capacity, MAX_BATCH_SIZE)];
     finished = false;
   }
 
   @Override
   public synchronized void reset(final @NonNegative long nodeKey) {
     super.reset(nodeKey);
-    first = true;
+
+    // The producer must not be reset while it's still running.
+    stopProducer();
     finished = false;
+    batchIndex = 0;
+    batchLength = 0;
 
-    if (executorService != null) {
-      executorService = Executors.newSingleThreadExecutor();
-    }
     if (producer != null) {
       producer.reset(nodeKey);
     }
-    if (results != null) {
-      results.clear();
-    }
-    if (task != null) {
-      task = new ConcurrentAxisHelper(producer, results);
-    }
   }
 
   @Override
   protected long nextKey() {
-    // Start producer on first call.
-    if (first) {
-      first = false;
-      executorService.submit(task);
-    }
-
     if (finished) {
       return done();
     }
 
-    long result = Fixed.NULL_NODE_KEY.getStandardProperty();
-
-    try {
-      // Get result from producer as soon as it is available.
-      result = results.take();
-    } catch (final InterruptedException e) {
-      LOGGER.warn(e.getMessage(), e);
+    // Start producer on first call.
+    if (task == null) {
+      results = new LongRingBuffer(capacity);
+      task = EXECUTOR.submit(new ConcurrentAxisHelper(producer, results, batch.length));
     }
 
-    // NULL_NODE_KEY marks end of the sequence computed by the producer.
-    if (result != Fixed.NULL_NODE_KEY.getStandardProperty()) {
-      return result;
+    if (batchIndex == batchLength) {
+      batchIndex = 0;
+      try {
+        // Get results from producer as soon as they are available.
+        batchLength = results.take(batch);
+      } catch (final InterruptedException e) {
+        LOGGER.warn(e.getMessage(), e);
+        Thread.currentThread().interrupt();
+        results.cancel();
+        batchLength = -1;
+      }
+
+      if (batchLength == -1) {
+        batchLength = 0;
+        finished = true;
+        return done();
+      }
     }
 
+    return batch[batchIndex++];
+  }
+
+  /**
+   * Stop the producer, as no more results are needed. Afterwards the axis has no results left,
+   * until it's reset.
+   */
+  public synchronized void cancel() {
+    if (results != null) {
+      results.cancel();
+    }
     finished = true;
-    return done();
+    batchIndex = 0;
+    batchLength = 0;
   }
 
   /**
-   * Signals that axis traversal is done, that is {@code hasNext()} must return false. Is callable
-   * from subclasses which implement {@link #nextKey()} to signal that the axis-traversal is done and
-   * {@link #hasNext()} must return false.
-   *
-   * @return null node key to indicate that the travesal is done
+   * Stop the producer, if the consumer stops iterating before the end. The producer closes its axis
+   * in turn, if it's a concurrent axis itself.
    */
   @Override
-  protected long done() {
-    executorService.shutdown();
+  public void close() {
+    cancel();
+  }
+
+  /**
+   * Cancel the producer, if it has been started, and wait until it stopped.
+   */
+  private void stopProducer() {
+    if (task == null) {
+      return;
+    }
+    results.cancel();
     try {
-        executorService.awaitTermination(5, TimeUnit.SECONDS);
-    } catch (InterruptedException e) {
+      task.get();
+    } catch (final InterruptedException e) {
+      LOGGER.warn(e.getMessage(), e);
+      Thread.currentThread().interrupt();
+    } catch (final ExecutionException | CancellationException e) {
+      LOGGER.warn(e.getMessage(), e);
     }
-    return Fixed.NULL_NODE_KEY.getStandardProperty();
+    task = null;
+    results = null;
   }
 
   /**
@@ -20,23 +20,28 @@
  */
 package io.sirix.axis.concurrent;
 
-import java.util.concurrent.BlockingQueue;
-
 import io.sirix.api.Axis;
+import io.sirix.exception.SirixThreadedException;
 import io.sirix.utils.LogWrapper;
 import org.checkerframework.checker.nullness.qual.NonNull;
-import io.sirix.settings.Fixed;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 /**
  * <p>
  * Is the helper for the ConcurrentAxis and realizes the concurrent evaluation of pipeline steps by
- * decoupling the given axis from the main thread and storing its results in a blocking queue so
+ * decoupling the given axis from the main thread and storing its results in a ring buffer so
  * establish a producer-consumer-relationship between the ConcurrentAxis and this one.
  * </p>
  * <p>
+ * The results are put in batches. A batch is put before it's full if the consumer is waiting, such
+ * that the first results aren't delayed. The helper stops as soon as the consumer cancels the
+ * buffer and closes its axis, if it's a concurrent axis itself, such that nested producers stop as
+ * well.
+ * </p>
+ * <p>
  * This axis should only be used and instantiated by the ConcurrentAxis. Find more information on
  * how to use this framework in the ConcurrentAxis documentation.
  * </p>
@@ -51,42 +56,75 @@ public class ConcurrentAxisHelper implements Runnable {
   private final Axis axis;
 
   /**
-   * Queue that stores result keys already computed by this axis. End of the result sequence is
-   * marked by the NULL_NODE_KEY. This is used for communication with the consumer.
+   * Buffer that stores result keys already computed by this axis. This is used for communication
+   * with the consumer.
    */
-  private BlockingQueue<Long> results;
+  private final LongRingBuffer results;
+
+  /** The maximum number of keys put at once. */
+  private final int batchSize;
 
   /**
    * Bind axis step to transaction. Make sure to create a new ReadTransaction instead of using the
    * parameter rtx. Because of concurrency every axis has to have it's own transaction.
    * 
    * @param axis Axis to bind with
-   * @param results queue which has results related to the axis
+   * @param results buffer which has results related to the axis
+   * @param batchSize the maximum number of keys put at once
    */
-  public ConcurrentAxisHelper(final Axis axis, @NonNull final BlockingQueue<Long> results) {
+  ConcurrentAxisHelper(final Axis axis, @NonNull final LongRingBuffer results, final int batchSize) {
+    checkArgument(batchSize > 0, "The batch size must be positive!");
     this.axis = requireNonNull(axis);
     this.results = requireNonNull(results);
+    this.batchSize = batchSize;
   }
 
   @Override
   public void run() {
-    // Compute all results of the given axis and store the results in the queue.
-    while (axis.hasNext()) {
-      final long nodeKey = axis.nextLong();
-      try {
-        // Store result in queue as soon as there is space left.
-        results.put(nodeKey);
-        // Wait until next thread arrives and exchange blocking queue.
-      } catch (final InterruptedException e) {
-        LOGWRAPPER.error(e.getMessage(), e);
-      }
-    }
+    final long[] batch = new long[batchSize];
+    int length = 0;
 
     try {
-      // Mark end of result sequence by the NULL_NODE_KEY.
-      results.put(Fixed.NULL_NODE_KEY.getStandardProperty());
+      // Compute all results of the given axis and store the results in the buffer.
+      while (!results.isCancelled() && axis.hasNext()) {
+        batch[length++] = axis.nextLong();
+        if (length == batchSize || results.isConsumerWaiting()) {
+          // Store results as soon as there is space left.
+          if (!results.put(batch, length)) {
+            return;
+          }
+          length = 0;
+        }
+      }
+
+      if (length > 0) {
+        results.put(batch, length);
+      }
     } catch (final InterruptedException e) {
-      LOGWRAPPER.error(e.getMessage(), e);
+      Thread.currentThread().interrupt();
+      results.fail(new SirixThreadedException(e));
+    } catch (final RuntimeException e) {
+      results.fail(e);
+    } finally {
+      // Mark end of result sequence.
+      results.close();
+
+      if (results.isCancelled()) {
+        closeAxis();
+      }
+    }
+  }
+
+  /**
+   * Close the axis, if it's a concurrent axis, which runs producers on its own.
+   */
+  private void closeAxis() {
+    if (axis instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      } catch (final Exception e) {
+        LOGWRAPPER.error(e.getMessage(), e);
+      }
     }
   }
 }
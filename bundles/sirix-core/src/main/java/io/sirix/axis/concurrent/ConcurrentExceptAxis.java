@@ -34,7 +34,8 @@ import io.sirix.settings.Fixed;
  * nodes that occur in the first, but not in the second operand. Document order is preserved.
  * </p>
  */
-public final class ConcurrentExceptAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis {
+public final class ConcurrentExceptAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis
+    implements AutoCloseable {
 
   /** First operand sequence. */
   private final ConcurrentAxis<R> op1;
@@ -142,4 +143,21 @@ public final class ConcurrentExceptAxis<R extends NodeCursor & NodeReadOnlyTrx>
 
     return done();
   }
+
+  @Override
+  protected long done() {
+    // The operand which has results left isn't needed anymore.
+    op1.cancel();
+    op2.cancel();
+    return super.done();
+  }
+
+  /**
+   * Stop the producers of both operands, if the consumer stops iterating before the end.
+   */
+  @Override
+  public void close() {
+    op1.close();
+    op2.close();
+  }
 }
@@ -34,7 +34,8 @@ import io.sirix.settings.Fixed;
  * operands. The result is in doc order and duplicate free.
  * </p>
  */
-public final class ConcurrentIntersectAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis {
+public final class ConcurrentIntersectAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis
+    implements AutoCloseable {
 
   /** First operand sequence. */
   private final ConcurrentAxis<R> op1;
@@ -135,4 +136,21 @@ public final class ConcurrentIntersectAxis<R extends NodeCursor & NodeReadOnlyTr
 
     return done();
   }
+
+  @Override
+  protected long done() {
+    // The operand which has results left isn't needed anymore.
+    op1.cancel();
+    op2.cancel();
+    return super.done();
+  }
+
+  /**
+   * Stop the producers of both operands, if the consumer stops iterating before the end.
+   */
+  @Override
+  public void close() {
+    op1.close();
+    op2.close();
+  }
 }
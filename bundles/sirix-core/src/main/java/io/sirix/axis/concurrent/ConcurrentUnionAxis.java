@@ -34,7 +34,8 @@ import io.sirix.service.xml.xpath.EXPathError;
  * union of two sequences may lead to a sequence containing duplicates. These duplicates are removed.
  * </p>
  */
-public final class ConcurrentUnionAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis {
+public final class ConcurrentUnionAxis<R extends NodeCursor & NodeReadOnlyTrx> extends AbstractAxis
+    implements AutoCloseable {
 
   /** First operand sequence. */
   private final ConcurrentAxis<R> op1;
@@ -136,4 +137,13 @@ public final class ConcurrentUnionAxis<R extends NodeCursor & NodeReadOnlyTrx> e
 
     return done();
   }
+
+  /**
+   * Stop the producers of both operands, if the consumer stops iterating before the end.
+   */
+  @Override
+  public void close() {
+    op1.close();
+    op2.close();
+  }
 }
@@ -0,0 +1,203 @@
+package io.sirix.axis.concurrent;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * <p>
+ * Bounded single-producer single-consumer ring buffer of primitive node keys, which is used by the
+ * {@link ConcurrentAxis} to hand over the results of its producer. Keys are put and taken in
+ * batches, such that producer and consumer only synchronize once per batch and no key is boxed.
+ * </p>
+ * <p>
+ * The producer blocks as long as the buffer is full (backpressure) and signals the end of its results
+ * by {@link #close()}. The consumer may {@link #cancel()} the buffer if it doesn't need any more
+ * results, which wakes up and stops the producer.
+ * </p>
+ * <p>
+ * A {@link ReentrantLock} is used instead of monitors, as the producers run on virtual threads, which
+ * otherwise would pin their carrier threads while waiting.
+ * </p>
+ */
+final class LongRingBuffer {
+
+  /** The buffered keys. */
+  private final long[] keys;
+
+  /** Guards the state of the buffer. */
+  private final ReentrantLock lock;
+
+  /** Signaled whenever keys have been put or the buffer has been closed or cancelled. */
+  private final Condition notEmpty;
+
+  /** Signaled whenever keys have been taken or the buffer has been cancelled. */
+  private final Condition notFull;
+
+  /** Index of the next key to take. */
+  private int head;
+
+  /** Number of buffered keys. */
+  private int size;
+
+  /** Determines if the producer has put all of its keys. */
+  private boolean closed;
+
+  /** The failure of the producer, if any. */
+  private RuntimeException failure;
+
+  /** Determines if the consumer doesn't need any more keys. */
+  private volatile boolean cancelled;
+
+  /** Determines if the consumer is waiting for keys. */
+  private volatile boolean consumerWaiting;
+
+  /**
+   * Constructor.
+   *
+   * @param capacity the maximum number of buffered keys
+   * @throws IllegalArgumentException if {@code capacity} isn't positive
+   */
+  LongRingBuffer(final int capacity) {
+    checkArgument(capacity > 0, "The capacity must be positive!");
+    keys = new long[capacity];
+    lock = new ReentrantLock();
+    notEmpty = lock.newCondition();
+    notFull = lock.newCondition();
+  }
+
+  /**
+   * Put a batch of keys, blocking as long as the buffer is full.
+   *
+   * @param batch  the keys
+   * @param length the number of keys in {@code batch} to put
+   * @return {@code true}, if all keys have been put, {@code false} if the buffer has been cancelled
+   * @throws InterruptedException if the producer has been interrupted while waiting
+   */
+  boolean put(final long[] batch, final int length) throws InterruptedException {
+    int offset = 0;
+    lock.lockInterruptibly();
+    try {
+      while (offset < length) {
+        while (size == keys.length && !cancelled) {
+          notFull.await();
+        }
+        if (cancelled) {
+          return false;
+        }
+        final int tail = (head + size) % keys.length;
+        final int count = Math.min(length - offset, Math.min(keys.length - size, keys.length - tail));
+        System.arraycopy(batch, offset, keys, tail, count);
+        size += count;
+        offset += count;
+        notEmpty.signal();
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Take the buffered keys, blocking as long as the buffer is empty and hasn't been closed.
+   *
+   * @param batch the array to copy the keys to
+   * @return the number of keys copied to {@code batch}, or {@code -1} if the producer has put all of
+   *     its keys or the buffer has been cancelled
+   * @throws InterruptedException if the consumer has been interrupted while waiting
+   * @throws RuntimeException if the producer failed
+   */
+  int take(final long[] batch) throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (size == 0 && !closed && !cancelled) {
+        consumerWaiting = true;
+        notEmpty.await();
+      }
+      consumerWaiting = false;
+      if (cancelled) {
+        return -1;
+      }
+      if (size == 0) {
+        if (failure != null) {
+          throw failure;
+        }
+        return -1;
+      }
+      final int count = Math.min(size, batch.length);
+      final int firstCount = Math.min(count, keys.length - head);
+      System.arraycopy(keys, head, batch, 0, firstCount);
+      System.arraycopy(keys, 0, batch, firstCount, count - firstCount);
+      head = (head + count) % keys.length;
+      size -= count;
+      notFull.signal();
+      return count;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Signal that the producer has put all of its keys.
+   */
+  void close() {
+    lock.lock();
+    try {
+      closed = true;
+      notEmpty.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Signal that the producer failed. The failure is rethrown to the consumer.
+   *
+   * @param e the failure
+   */
+  void fail(final RuntimeException e) {
+    lock.lock();
+    try {
+      failure = e;
+      closed = true;
+      notEmpty.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Signal that the consumer doesn't need any more keys. A blocked producer is woken up and all
+   * further puts are rejected.
+   */
+  void cancel() {
+    cancelled = true;
+    lock.lock();
+    try {
+      notFull.signal();
+      notEmpty.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Determines if the consumer doesn't need any more keys.
+   *
+   * @return {@code true}, if the buffer has been cancelled, {@code false} otherwise
+   */
+  boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * Determines if the consumer is waiting for keys, such that the producer should put its current
+   * batch even if it's not full.
+   *
+   * @return {@code true}, if the consumer is waiting, {@code false} otherwise
+   */
+  boolean isConsumerWaiting() {
+    return consumerWaiting;
+  }
+}
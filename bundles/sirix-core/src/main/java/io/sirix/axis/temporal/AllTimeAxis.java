@@ -12,7 +12,8 @@ import static java.util.Objects.requireNonNull;
 /**
  * Retrieve a node by node key in all revisions. In each revision a {@link XmlNodeReadOnlyTrx} is
  * opened which is moved to the node with the given node key if it exists. Otherwise the iterator
- * has no more elements (the {@link XmlNodeReadOnlyTrx} moved to the node by it's node key).
+ * has no more elements (the {@link XmlNodeReadOnlyTrx} moved to the node by it's node key). If the
+ * resource stores the history of its nodes, only the revisions in which the node exists are opened.
  *
  * @author Johannes Lichtenberger
  *
@@ -32,6 +33,9 @@ public final class AllTimeAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
   /** Determines if node has been found before and now has been deleted. */
   private boolean hasMoved;
 
+  /** The last revision to open. */
+  private final int lastRevision;
+
   /**
    * Constructor.
    *
@@ -40,13 +44,23 @@ public final class AllTimeAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
    */
   public AllTimeAxis(final ResourceSession<R, W> resourceSession, final R rtx) {
     this.resourceSession = requireNonNull(resourceSession);
-    revision = 1;
     nodeKey = rtx.getNodeKey();
+    final NodeHistory history = NodeHistory.of(resourceSession, nodeKey);
+    if (history == null) {
+      revision = 1;
+      lastRevision = resourceSession.getMostRecentRevisionNumber();
+    } else if (history.getFirstRevision() == -1) {
+      revision = 1;
+      lastRevision = 0;
+    } else {
+      revision = history.getFirstRevision();
+      lastRevision = history.getLastRevision();
+    }
   }
 
   @Override
   protected R computeNext() {
-    while (revision <= resourceSession.getMostRecentRevisionNumber()) {
+    while (revision <= lastRevision) {
       final R rtx = resourceSession.beginNodeReadOnlyTrx(revision);
       revision++;
       if (rtx.moveTo(nodeKey)) {
@@ -42,6 +42,10 @@ public final class FirstAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends N
   protected R computeNext() {
     if (first) {
       first = false;
+      final NodeHistory history = NodeHistory.of(resourceSession, nodeKey);
+      if (history != null && !history.existsIn(1)) {
+        return endOfData();
+      }
       final R rtx = resourceSession.beginNodeReadOnlyTrx(1);
       if (rtx.moveTo(nodeKey)) {
         return rtx;
@@ -31,6 +31,9 @@ public final class FutureAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
   /** Node key to lookup and retrieve. */
   private final long nodeKey;
 
+  /** The last revision in which the node exists. */
+  private final int lastRevision;
+
   /**
    * Constructor.
    *
@@ -54,12 +57,13 @@ public final class FutureAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends
     revision = requireNonNull(includeSelf) == IncludeSelf.YES
         ? rtx.getRevisionNumber()
         : rtx.getRevisionNumber() + 1;
+    final NodeHistory history = NodeHistory.of(resourceSession, nodeKey);
+    lastRevision = history == null ? resourceSession.getMostRecentRevisionNumber() : history.getLastRevision();
   }
 
   @Override
   protected R computeNext() {
-    // != a little bit faster?
-    if (revision <= resourceSession.getMostRecentRevisionNumber()) {
+    if (revision <= lastRevision) {
       final R rtx = resourceSession.beginNodeReadOnlyTrx(revision);
       revision++;
       if (rtx.moveTo(nodeKey)) {
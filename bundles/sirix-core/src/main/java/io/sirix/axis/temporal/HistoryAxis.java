@@ -0,0 +1,97 @@
+package io.sirix.axis.temporal;
+
+import io.sirix.api.NodeCursor;
+import io.sirix.api.NodeReadOnlyTrx;
+import io.sirix.api.NodeTrx;
+import io.sirix.api.ResourceSession;
+import io.sirix.axis.AbstractTemporalAxis;
+import io.sirix.index.IndexType;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Retrieve a node by node key in all revisions in which it has been inserted or changed (in ascending
+ * order). If the resource stores the history of its nodes, the revisions are read from the
+ * {@link IndexType#RECORD_TO_REVISIONS} index and only these revisions are opened. Otherwise the
+ * revisions are found by walking from the most recent revision backwards along the previous revision
+ * numbers of the node.
+ *
+ * @author Johannes Lichtenberger
+ *
+ */
+public final class HistoryAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends NodeTrx & NodeCursor>
+    extends AbstractTemporalAxis<R, W> {
+
+  /** Sirix {@link ResourceSession}. */
+  private final ResourceSession<R, W> resourceSession;
+
+  /** Node key to lookup and retrieve. */
+  private final long nodeKey;
+
+  /** The revisions in which the node has been changed, or {@code null} if they have to be found. */
+  private final int[] revisions;
+
+  /** The index of the next revision. */
+  private int index;
+
+  /** The transactions opened while walking the revisions backwards. */
+  private Deque<R> rtxs;
+
+  /**
+   * Constructor.
+   *
+   * @param resourceSession the resource manager
+   * @param rtx the read only transactional cursor
+   */
+  public HistoryAxis(final ResourceSession<R, W> resourceSession, final R rtx) {
+    this.resourceSession = requireNonNull(resourceSession);
+    nodeKey = rtx.getNodeKey();
+    final NodeHistory history = NodeHistory.of(resourceSession, nodeKey);
+    revisions = history == null ? null : history.getRevisions();
+  }
+
+  @Override
+  protected R computeNext() {
+    if (revisions != null) {
+      while (index < revisions.length) {
+        final R rtx = resourceSession.beginNodeReadOnlyTrx(revisions[index++]);
+        if (rtx.moveTo(nodeKey)) {
+          return rtx;
+        }
+        rtx.close();
+      }
+      return endOfData();
+    }
+
+    if (rtxs == null) {
+      rtxs = walkRevisions();
+    }
+
+    final R rtx = rtxs.pollFirst();
+    return rtx == null ? endOfData() : rtx;
+  }
+
+  private Deque<R> walkRevisions() {
+    final Deque<R> rtxs = new ArrayDeque<>();
+    int revision = resourceSession.getMostRecentRevisionNumber();
+    while (revision > 0) {
+      final R rtx = resourceSession.beginNodeReadOnlyTrx(revision);
+      if (rtx.moveTo(nodeKey)) {
+        rtxs.addFirst(rtx);
+        revision = rtx.getPreviousRevisionNumber();
+      } else {
+        rtx.close();
+        revision--;
+      }
+    }
+    return rtxs;
+  }
+
+  @Override
+  public ResourceSession<R, W> getResourceManager() {
+    return resourceSession;
+  }
+}
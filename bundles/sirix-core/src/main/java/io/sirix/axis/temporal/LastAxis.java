@@ -42,7 +42,13 @@ public final class LastAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
     if (first) {
       first = false;
 
-      final R rtx = resourceSession.beginNodeReadOnlyTrx(resourceSession.getMostRecentRevisionNumber());
+      final int mostRecentRevision = resourceSession.getMostRecentRevisionNumber();
+      final NodeHistory history = NodeHistory.of(resourceSession, nodeKey);
+      if (history != null && !history.existsIn(mostRecentRevision)) {
+        return endOfData();
+      }
+
+      final R rtx = resourceSession.beginNodeReadOnlyTrx(mostRecentRevision);
 
       if (rtx.moveTo(nodeKey)) {
         return rtx;
@@ -29,6 +29,9 @@ public final class NextAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
   /** Node key to lookup and retrieve. */
   private final long nodeKey;
 
+  /** The last revision in which the node exists. */
+  private final int lastRevision;
+
   /**
    * Constructor.
    *
@@ -36,15 +39,16 @@ public final class NextAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    */
   public NextAxis(final ResourceSession<R, W> resourceSession, final R rtx) {
     this.resourceSession = requireNonNull(resourceSession);
-    revision = 0;
     nodeKey = rtx.getNodeKey();
     revision = rtx.getRevisionNumber() + 1;
     first = true;
+    final NodeHistory history = NodeHistory.of(resourceSession, nodeKey);
+    lastRevision = history == null ? resourceSession.getMostRecentRevisionNumber() : history.getLastRevision();
   }
 
   @Override
   protected R computeNext() {
-    if (revision <= resourceSession.getMostRecentRevisionNumber() && first) {
+    if (revision <= lastRevision && first) {
       first = false;
 
       final R rtx = resourceSession.beginNodeReadOnlyTrx(revision);
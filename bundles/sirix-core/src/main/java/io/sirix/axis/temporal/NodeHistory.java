@@ -0,0 +1,116 @@
+package io.sirix.axis.temporal;
+
+import io.sirix.api.ResourceSession;
+import io.sirix.index.IndexType;
+import io.sirix.node.RevisionReferencesNode;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The revisions in which a node has been changed, read from the {@link IndexType#RECORD_TO_REVISIONS}
+ * index. The temporal axes use it to bound the revisions they have to open, such that no transaction
+ * is opened for a revision in which the node doesn't exist.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class NodeHistory {
+
+  /** The revisions in which the node has been inserted or changed, in ascending order. */
+  private final int[] revisions;
+
+  /** The last revision in which the node exists. */
+  private final int lastRevision;
+
+  /**
+   * Constructor.
+   *
+   * @param revisions    the revisions in which the node has been inserted or changed
+   * @param lastRevision the last revision in which the node exists
+   */
+  private NodeHistory(final int[] revisions, final int lastRevision) {
+    this.revisions = revisions;
+    this.lastRevision = lastRevision;
+  }
+
+  /**
+   * Read the history of a node.
+   *
+   * @param resourceSession the resource session
+   * @param nodeKey         the key of the node
+   * @return the history of the node or {@code null}, if the resource doesn't store the history of
+   *     its nodes or the node has never been stored
+   */
+  public static @Nullable NodeHistory of(final ResourceSession<?, ?> resourceSession, final long nodeKey) {
+    requireNonNull(resourceSession);
+    if (!resourceSession.getResourceConfig().storeNodeHistory()) {
+      return null;
+    }
+
+    final int mostRecentRevision = resourceSession.getMostRecentRevisionNumber();
+    final int[] revisions;
+    final boolean removed;
+
+    try (final var pageTrx = resourceSession.beginPageReadOnlyTrx(mostRecentRevision)) {
+      final RevisionReferencesNode node = pageTrx.getRecord(nodeKey, IndexType.RECORD_TO_REVISIONS, 0);
+      if (node == null) {
+        return null;
+      }
+      // A node might be recorded more than once per revision.
+      revisions = Arrays.stream(node.getRevisions()).sorted().distinct().toArray();
+      removed = pageTrx.getRecord(nodeKey, IndexType.DOCUMENT, -1) == null;
+    }
+
+    if (revisions.length == 0) {
+      return null;
+    }
+
+    if (removed) {
+      // Node keys are never reused, thus the last revision is the one in which the node has been removed.
+      final int removedInRevision = revisions[revisions.length - 1];
+      return new NodeHistory(Arrays.copyOf(revisions, revisions.length - 1), removedInRevision - 1);
+    }
+
+    return new NodeHistory(revisions, mostRecentRevision);
+  }
+
+  /**
+   * Get the revisions in which the node has been inserted or changed.
+   *
+   * @return the revisions in ascending order
+   */
+  public int[] getRevisions() {
+    return revisions.clone();
+  }
+
+  /**
+   * Get the first revision in which the node exists.
+   *
+   * @return the first revision or {@code -1}, if the node has been removed in the revision in which
+   *     it has been inserted
+   */
+  public int getFirstRevision() {
+    return revisions.length == 0 ? -1 : revisions[0];
+  }
+
+  /**
+   * Get the last revision in which the node exists.
+   *
+   * @return the last revision
+   */
+  public int getLastRevision() {
+    return lastRevision;
+  }
+
+  /**
+   * Determines if the node exists in a revision.
+   *
+   * @param revision the revision number
+   * @return {@code true}, if the node exists in the revision, {@code false} otherwise
+   */
+  public boolean existsIn(final int revision) {
+    return revisions.length > 0 && revision >= revisions[0] && revision <= lastRevision;
+  }
+}
@@ -31,6 +31,9 @@ public final class PastAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
   /** Node key to lookup and retrieve. */
   private final long nodeKey;
 
+  /** The first revision in which the node exists. */
+  private final int firstRevision;
+
   /**
    * Constructor.
    *
@@ -50,16 +53,17 @@ public final class PastAxis<R extends NodeReadOnlyTrx & NodeCursor, W extends No
    */
   public PastAxis(final ResourceSession<R, W> resourceSession, final R rtx, final IncludeSelf includeSelf) {
     this.resourceSession = requireNonNull(resourceSession);
-    revision = 0;
     nodeKey = rtx.getNodeKey();
     revision = requireNonNull(includeSelf) == IncludeSelf.YES
         ? rtx.getRevisionNumber()
         : rtx.getRevisionNumber() - 1;
+    final NodeHistory history = NodeHistory.of(resourceSession, nodeKey);
+    firstRevision = history == null ? 1 : Math.max(1, history.getFirstRevision());
   }
 
   @Override
   protected R computeNext() {
-    if (revision > 0) {
+    if (revision >= firstRevision) {
       final R rtx = resourceSession.beginNodeReadOnlyTrx(revision);
       revision--;
 
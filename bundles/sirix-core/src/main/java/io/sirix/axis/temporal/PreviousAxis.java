@@ -29,6 +29,9 @@ public final class PreviousAxis<R extends NodeReadOnlyTrx & NodeCursor, W extend
   /** Node key to lookup and retrieve. */
   private final long nodeKey;
 
+  /** The first revision in which the node exists. */
+  private final int firstRevision;
+
   /**
    * Constructor.
    *
@@ -39,11 +42,13 @@ public final class PreviousAxis<R extends NodeReadOnlyTrx & NodeCursor, W extend
     nodeKey = rtx.getNodeKey();
     revision = rtx.getRevisionNumber() - 1;
     first = true;
+    final NodeHistory history = NodeHistory.of(resourceSession, nodeKey);
+    firstRevision = history == null ? 1 : Math.max(1, history.getFirstRevision());
   }
 
   @Override
   protected R computeNext() {
-    if (revision > 0 && first) {
+    if (revision >= firstRevision && first) {
       first = false;
       final R rtx = resourceSession.beginNodeReadOnlyTrx(revision);
       if (rtx.moveTo(nodeKey)) {
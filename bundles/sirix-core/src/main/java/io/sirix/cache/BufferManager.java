@@ -3,6 +3,7 @@ package io.sirix.cache;
 import io.sirix.index.name.Names;
 import io.sirix.page.PageReference;
 import io.sirix.page.RevisionRootPage;
+import io.sirix.node.interfaces.DataRecord;
 import io.sirix.node.interfaces.Node;
 import io.sirix.page.interfaces.Page;
 
@@ -19,5 +20,7 @@ public interface BufferManager extends AutoCloseable {
 
   Cache<Integer, PathSummaryData> getPathSummaryCache();
 
+  Cache<RecordCacheKey, DataRecord> getRecordCache();
+
   void clearAllCaches();
 }
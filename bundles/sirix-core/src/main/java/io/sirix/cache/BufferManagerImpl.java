@@ -2,9 +2,12 @@ package io.sirix.cache;
 
 import io.sirix.page.PageReference;
 import io.sirix.page.RevisionRootPage;
+import io.sirix.node.interfaces.DataRecord;
 import io.sirix.node.interfaces.Node;
 import io.sirix.page.interfaces.Page;
 
+import java.util.Map;
+
 public final class BufferManagerImpl implements BufferManager {
   private final PageCache pageCache;
 
@@ -18,14 +21,67 @@ public final class BufferManagerImpl implements BufferManager {
 
   private final PathSummaryCache pathSummaryCache;
 
+  private final RecordCache recordCache;
+
+  /**
+   * The memory budget shared with the buffer managers of other resources, or {@code null}, if the
+   * caches are bounded by entry count.
+   */
+  private final MemoryBudget memoryBudget;
+
   public BufferManagerImpl(int maxPageCacheSize, int maxRecordPageCacheSize,
-      int maxRevisionRootPageCache, int maxRBTreeNodeCache, int maxNamesCacheSize, int maxPathSummaryCacheSize) {
+      int maxRevisionRootPageCache, int maxRBTreeNodeCache, int maxNamesCacheSize, int maxPathSummaryCacheSize,
+      int maxRecordCacheSize) {
     pageCache = new PageCache(maxPageCacheSize);
     recordPageCache = new RecordPageCache(maxRecordPageCacheSize);
     revisionRootPageCache = new RevisionRootPageCache(maxRevisionRootPageCache);
     redBlackTreeNodeCache = new RedBlackTreeNodeCache(maxRBTreeNodeCache);
     namesCache = new NamesCache(maxNamesCacheSize);
     pathSummaryCache = new PathSummaryCache(maxPathSummaryCacheSize);
+    recordCache = new RecordCache(maxRecordCacheSize);
+    memoryBudget = null;
+  }
+
+  /**
+   * Constructor, which bounds all caches by their estimated size in bytes. The caches share the
+   * global memory budget with the caches of all other resources, until this buffer manager is closed.
+   *
+   * @param memoryBudget the global memory budget
+   */
+  public BufferManagerImpl(final MemoryBudget memoryBudget) {
+    pageCache = new PageCache(memoryBudget);
+    recordPageCache = new RecordPageCache(memoryBudget);
+    revisionRootPageCache = new RevisionRootPageCache(memoryBudget);
+    redBlackTreeNodeCache = new RedBlackTreeNodeCache(memoryBudget);
+    namesCache = new NamesCache(memoryBudget);
+    pathSummaryCache = new PathSummaryCache(memoryBudget);
+    recordCache = new RecordCache(memoryBudget);
+    this.memoryBudget = memoryBudget;
+    memoryBudget.register(this);
+  }
+
+  void setMaximumWeights(final Map<MemoryBudget.CacheKind, Long> maximumWeights) {
+    pageCache.setMaximumWeight(maximumWeights.get(MemoryBudget.CacheKind.PAGES));
+    recordPageCache.setMaximumWeight(maximumWeights.get(MemoryBudget.CacheKind.RECORD_PAGES));
+    revisionRootPageCache.setMaximumWeight(maximumWeights.get(MemoryBudget.CacheKind.REVISION_ROOT_PAGES));
+    redBlackTreeNodeCache.setMaximumWeight(maximumWeights.get(MemoryBudget.CacheKind.INDEX_NODES));
+    namesCache.setMaximumWeight(maximumWeights.get(MemoryBudget.CacheKind.NAMES));
+    pathSummaryCache.setMaximumWeight(maximumWeights.get(MemoryBudget.CacheKind.PATH_SUMMARIES));
+    recordCache.setMaximumWeight(maximumWeights.get(MemoryBudget.CacheKind.RECORDS));
+  }
+
+  /**
+   * Get the estimated number of bytes held by all caches, if bounded by a memory budget.
+   *
+   * @return the estimated number of bytes, or {@code 0}, if the caches are bounded by entry count
+   */
+  public long getWeightedSize() {
+    if (memoryBudget == null) {
+      return 0;
+    }
+    return pageCache.getWeightedSize() + recordPageCache.getWeightedSize() + revisionRootPageCache.getWeightedSize()
+        + redBlackTreeNodeCache.getWeightedSize() + namesCache.getWeightedSize() + pathSummaryCache.getWeightedSize()
+        + recordCache.getWeightedSize();
   }
 
   @Override
@@ -58,8 +114,16 @@ public final class BufferManagerImpl implements BufferManager {
     return pathSummaryCache;
   }
 
+  @Override
+  public RecordCache getRecordCache() {
+    return recordCache;
+  }
+
   @Override
   public void close() {
+    if (memoryBudget != null) {
+      memoryBudget.unregister(this);
+    }
   }
 
   @Override
@@ -70,5 +134,6 @@ public final class BufferManagerImpl implements BufferManager {
     redBlackTreeNodeCache.clear();
     namesCache.clear();
     pathSummaryCache.clear();
+    recordCache.clear();
   }
 }
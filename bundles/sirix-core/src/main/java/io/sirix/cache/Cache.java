@@ -22,6 +22,7 @@
 package io.sirix.cache;
 
 import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.Map;
@@ -88,6 +89,15 @@ public interface Cache<K, V> {
    */
   void remove(K key);
 
+  /**
+   * Get the hit, miss and eviction statistics of the cache.
+   *
+   * @return the statistics, empty if the cache doesn't record statistics
+   */
+  default CacheStats statistics() {
+    return CacheStats.empty();
+  }
+
   /** Close a cache, might be a file handle for persistent caches. */
   void close();
 }
@@ -0,0 +1,160 @@
+package io.sirix.cache;
+
+import io.sirix.index.name.Names;
+import io.sirix.node.delegates.ValueNodeDelegate;
+import io.sirix.node.interfaces.DataRecord;
+import io.sirix.node.interfaces.Node;
+import io.sirix.node.json.AbstractNumberNode;
+import io.sirix.node.json.AbstractStringNode;
+import io.sirix.node.xml.AttributeNode;
+import io.sirix.node.xml.CommentNode;
+import io.sirix.node.xml.PINode;
+import io.sirix.node.xml.TextNode;
+import io.sirix.page.KeyValueLeafPage;
+import io.sirix.page.OverflowPage;
+import io.sirix.page.UberPage;
+import io.sirix.page.interfaces.Page;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Estimates the memory footprint of cache entries in bytes, such that caches can be bounded by a
+ * {@link MemoryBudget} instead of by entry count. Record pages are weighed by their (serialized)
+ * slots and all records, which might be materialized from them, pages with references by their
+ * number of references and all other entries with fixed estimates.
+ *
+ * <p>
+ * Caffeine weighs an entry only once it's put, whereas records of a page are materialized lazily,
+ * while the page is cached. Thus, the weight of a record page is an upper bound, which already
+ * includes the records, which aren't materialized yet.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class CacheWeights {
+
+  /**
+   * Estimated size of a page reference including its key, log key, hash and fragment list.
+   */
+  private static final int REFERENCE_SIZE = 64;
+
+  /**
+   * Estimated size of a page without references, for instance the uber page.
+   */
+  private static final int PAGE_SIZE = 256;
+
+  /**
+   * Estimated size of a red-black tree node of an index.
+   */
+  private static final int INDEX_NODE_SIZE = 160;
+
+  /**
+   * Estimated size of a deserialized record including its cache key.
+   */
+  private static final int RECORD_SIZE = 176;
+
+  /**
+   * Estimated size of the header of an array or a boxed number.
+   */
+  private static final int OBJECT_HEADER_SIZE = 16;
+
+  /**
+   * Estimated size of a name including its map entries.
+   */
+  private static final int NAME_SIZE = 96;
+
+  /**
+   * Estimated size of a path summary node including its mapping entries.
+   */
+  private static final int PATH_NODE_SIZE = 192;
+
+  private CacheWeights() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Weigh a page.
+   *
+   * @param page the page
+   * @return the estimated size in bytes
+   */
+  public static int weigh(final Page page) {
+    final long size = switch (page) {
+      case KeyValueLeafPage keyValueLeafPage -> keyValueLeafPage.estimateSize();
+      case OverflowPage overflowPage -> PAGE_SIZE + overflowPage.getData().length;
+      case UberPage ignored -> PAGE_SIZE;
+      default -> PAGE_SIZE + (long) page.getReferences().size() * REFERENCE_SIZE;
+    };
+    return toWeight(size);
+  }
+
+  /**
+   * Weigh a red-black tree node of an index.
+   *
+   * @param node the node
+   * @return the estimated size in bytes
+   */
+  public static int weigh(final Node node) {
+    return INDEX_NODE_SIZE;
+  }
+
+  /**
+   * Weigh a deserialized record. Records with values (strings, text, attribute values...) and
+   * numbers are weighed by the size of their values in addition to the fixed size of a record. A
+   * compressed value is weighed by its compressed size, as it's only decompressed on access.
+   *
+   * @param record the record
+   * @return the estimated size in bytes
+   */
+  public static int weigh(final DataRecord record) {
+    final long size = switch (record) {
+      case AbstractStringNode stringNode -> RECORD_SIZE + valueSize(stringNode.getValNodeDelegate());
+      case TextNode textNode -> RECORD_SIZE + valueSize(textNode.getValNodeDelegate());
+      case AttributeNode attributeNode -> RECORD_SIZE + valueSize(attributeNode.getValNodeDelegate());
+      case CommentNode commentNode -> RECORD_SIZE + valueSize(commentNode.getValNodeDelegate());
+      case PINode piNode -> RECORD_SIZE + valueSize(piNode.getValNodeDelegate());
+      case AbstractNumberNode numberNode -> RECORD_SIZE + valueSize(numberNode.getValue());
+      default -> RECORD_SIZE;
+    };
+    return toWeight(size);
+  }
+
+  private static long valueSize(final ValueNodeDelegate valueNodeDelegate) {
+    final byte[] value = valueNodeDelegate.getCompressed();
+    return OBJECT_HEADER_SIZE + (value == null ? 0 : value.length);
+  }
+
+  private static long valueSize(final Number number) {
+    return switch (number) {
+      case BigInteger bigInteger -> 2L * OBJECT_HEADER_SIZE + bigInteger.bitLength() / Byte.SIZE;
+      case BigDecimal bigDecimal -> 3L * OBJECT_HEADER_SIZE + bigDecimal.unscaledValue().bitLength() / Byte.SIZE;
+      default -> OBJECT_HEADER_SIZE + Long.BYTES;
+    };
+  }
+
+  /**
+   * Weigh the names of a name index.
+   *
+   * @param names the names
+   * @return the estimated size in bytes
+   */
+  public static int weigh(final Names names) {
+    return toWeight(PAGE_SIZE + (long) names.size() * NAME_SIZE);
+  }
+
+  /**
+   * Weigh the cached data of a path summary.
+   *
+   * @param pathSummaryData the path summary data
+   * @return the estimated size in bytes
+   */
+  public static int weigh(final PathSummaryData pathSummaryData) {
+    final var pathNodeMapping = pathSummaryData.pathNodeMapping();
+    return toWeight(PAGE_SIZE + (pathNodeMapping == null ? 0 : (long) pathNodeMapping.size() * PATH_NODE_SIZE));
+  }
+
+  private static int toWeight(final long size) {
+    return (int) Math.min(Integer.MAX_VALUE, size);
+  }
+}
@@ -0,0 +1,215 @@
+package io.sirix.cache;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A global memory budget in bytes for the caches of all resources. The budget is split into shares
+ * per kind of cache. The share of each kind is in turn split evenly between the buffer managers of
+ * all open resources and rebalanced whenever a buffer manager is registered or closed. Cache entries
+ * are weighed by their estimated size (see {@link CacheWeights}).
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class MemoryBudget {
+
+  /**
+   * The kinds of caches of a {@link BufferManager}.
+   */
+  public enum CacheKind {
+    /**
+     * Page fragments and indirect pages.
+     */
+    PAGES(0.25),
+
+    /**
+     * Combined record pages.
+     */
+    RECORD_PAGES(0.5),
+
+    /**
+     * Revision root pages.
+     */
+    REVISION_ROOT_PAGES(0.02),
+
+    /**
+     * Red-black tree nodes of indexes.
+     */
+    INDEX_NODES(0.12),
+
+    /**
+     * Names of name pages.
+     */
+    NAMES(0.03),
+
+    /**
+     * Path summary data.
+     */
+    PATH_SUMMARIES(0.03),
+
+    /**
+     * Single deserialized records of resources, which cache records.
+     */
+    RECORDS(0.05);
+
+    private final double defaultShare;
+
+    CacheKind(final double defaultShare) {
+      this.defaultShare = defaultShare;
+    }
+  }
+
+  /**
+   * The budget in bytes.
+   */
+  private final long maxBytes;
+
+  /**
+   * The share of the budget of each kind of cache.
+   */
+  private final Map<CacheKind, Double> shares;
+
+  /**
+   * The buffer managers sharing the budget.
+   */
+  private final Set<BufferManagerImpl> bufferManagers;
+
+  private MemoryBudget(final Builder builder) {
+    maxBytes = builder.maxBytes;
+    shares = new EnumMap<>(builder.shares);
+    bufferManagers = ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * Get a new builder instance.
+   *
+   * @param maxBytes the budget in bytes
+   * @return {@link Builder} instance
+   */
+  public static Builder newBuilder(final long maxBytes) {
+    return new Builder(maxBytes);
+  }
+
+  /**
+   * Get the budget in bytes.
+   *
+   * @return the budget in bytes
+   */
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  /**
+   * Get the share of the budget of a kind of cache.
+   *
+   * @param cacheKind the kind of cache
+   * @return the share between {@code 0} and {@code 1}
+   */
+  public double getShare(final CacheKind cacheKind) {
+    return shares.get(cacheKind);
+  }
+
+  /**
+   * Get the number of bytes currently available to a single cache of the given kind.
+   *
+   * @param cacheKind the kind of cache
+   * @return the number of bytes
+   */
+  public long getMaxBytesPerCache(final CacheKind cacheKind) {
+    return getMaxBytesPerCache(cacheKind, Math.max(1, bufferManagers.size()));
+  }
+
+  private long getMaxBytesPerCache(final CacheKind cacheKind, final int numberOfBufferManagers) {
+    return Math.max(1, (long) (maxBytes * shares.get(cacheKind)) / numberOfBufferManagers);
+  }
+
+  /**
+   * Get the estimated number of bytes currently held by all caches.
+   *
+   * @return the estimated number of bytes
+   */
+  public long getWeightedSize() {
+    return bufferManagers.stream().mapToLong(BufferManagerImpl::getWeightedSize).sum();
+  }
+
+  synchronized void register(final BufferManagerImpl bufferManager) {
+    bufferManagers.add(bufferManager);
+    rebalance();
+  }
+
+  synchronized void unregister(final BufferManagerImpl bufferManager) {
+    if (bufferManagers.remove(bufferManager)) {
+      rebalance();
+    }
+  }
+
+  private void rebalance() {
+    final int numberOfBufferManagers = Math.max(1, bufferManagers.size());
+    final Map<CacheKind, Long> maximumWeights = new EnumMap<>(CacheKind.class);
+    for (final CacheKind cacheKind : CacheKind.values()) {
+      maximumWeights.put(cacheKind, getMaxBytesPerCache(cacheKind, numberOfBufferManagers));
+    }
+    bufferManagers.forEach(bufferManager -> bufferManager.setMaximumWeights(maximumWeights));
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("maxBytes", maxBytes).add("shares", shares).toString();
+  }
+
+  /**
+   * Builder for a {@link MemoryBudget}.
+   */
+  public static final class Builder {
+
+    private final long maxBytes;
+
+    private final Map<CacheKind, Double> shares;
+
+    /**
+     * Constructor.
+     *
+     * @param maxBytes the budget in bytes
+     */
+    public Builder(final long maxBytes) {
+      checkArgument(maxBytes > 0, "maxBytes must be > 0!");
+      this.maxBytes = maxBytes;
+      this.shares = new EnumMap<>(CacheKind.class);
+      for (final CacheKind cacheKind : CacheKind.values()) {
+        shares.put(cacheKind, cacheKind.defaultShare);
+      }
+    }
+
+    /**
+     * Set the share of the budget of a kind of cache. The shares of all kinds must not add up to more
+     * than {@code 1}.
+     *
+     * @param cacheKind the kind of cache
+     * @param share     the share between {@code 0} (exclusive) and {@code 1} (inclusive)
+     * @return this builder instance
+     */
+    public Builder share(final CacheKind cacheKind, final double share) {
+      checkArgument(share > 0 && share <= 1, "share must be > 0 and <= 1!");
+      shares.put(requireNonNull(cacheKind), share);
+      return this;
+    }
+
+    /**
+     * Build a new {@link MemoryBudget}.
+     *
+     * @return a new {@link MemoryBudget} instance
+     */
+    public MemoryBudget build() {
+      final double sum = shares.values().stream().mapToDouble(Double::doubleValue).sum();
+      checkArgument(sum <= 1.0 + 1E-9, "The shares must not add up to more than 1!");
+      return new MemoryBudget(this);
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package io.sirix.cache;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.sirix.index.name.Names;
 
 import java.util.Map;
@@ -11,11 +12,29 @@ public final class NamesCache implements Cache<NamesCacheKey, Names> {
   private final com.github.benmanes.caffeine.cache.Cache<NamesCacheKey, Names> cache;
 
   public NamesCache(final int maxSize) {
-    cache = Caffeine.newBuilder()
-                    .maximumSize(maxSize)
-                    .expireAfterAccess(5, TimeUnit.MINUTES)
-                    .scheduler(scheduler)
-                    .build();
+    this(maxSize, false);
+  }
+
+  /**
+   * Constructor, which bounds the cache by the estimated size of its entries in bytes instead of by
+   * their number.
+   *
+   * @param memoryBudget the memory budget, which determines the initial maximum weight
+   */
+  public NamesCache(final MemoryBudget memoryBudget) {
+    this(memoryBudget.getMaxBytesPerCache(MemoryBudget.CacheKind.NAMES), true);
+  }
+
+  private NamesCache(final long maximum, final boolean isWeighedBySize) {
+    final Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+    if (isWeighedBySize) {
+      builder.maximumWeight(maximum).weigher((key, value) -> CacheWeights.weigh((Names) value));
+    } else {
+      builder.maximumSize(maximum);
+    }
+    cache = builder.expireAfterAccess(5, TimeUnit.MINUTES)
+                   .scheduler(scheduler)
+                   .build();
   }
 
   @Override
@@ -53,6 +72,19 @@ public final class NamesCache implements Cache<NamesCacheKey, Names> {
     cache.invalidate(key);
   }
 
+  @Override
+  public CacheStats statistics() {
+    return cache.stats();
+  }
+
+  void setMaximumWeight(final long maximumWeight) {
+    cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumWeight));
+  }
+
+  long getWeightedSize() {
+    return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+  }
+
   @Override
   public void close() {
   }
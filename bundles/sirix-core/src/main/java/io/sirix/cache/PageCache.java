@@ -3,6 +3,7 @@ package io.sirix.cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.sirix.page.PageReference;
 import io.sirix.page.interfaces.Page;
 
@@ -14,6 +15,26 @@ public final class PageCache implements Cache<PageReference, Page> {
   private final com.github.benmanes.caffeine.cache.Cache<PageReference, Page> pageCache;
 
   public PageCache(final int maxSize) {
+    this(maxSize, false);
+  }
+
+  /**
+   * Constructor, which bounds the cache by the estimated size of its entries in bytes instead of by
+   * their number.
+   *
+   * @param memoryBudget the memory budget, which determines the initial maximum weight
+   */
+  public PageCache(final MemoryBudget memoryBudget) {
+    this(memoryBudget.getMaxBytesPerCache(MemoryBudget.CacheKind.PAGES), true);
+  }
+
+  private PageCache(final long maximum, final boolean isWeighedBySize) {
+    final Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+    if (isWeighedBySize) {
+      builder.maximumWeight(maximum).weigher((key, value) -> CacheWeights.weigh((Page) value));
+    } else {
+      builder.maximumSize(maximum);
+    }
     RemovalListener<PageReference, Page> removalListener = (PageReference key, Page value, RemovalCause cause) -> {
       key.setPage(null);
       //      if (value instanceof KeyValueLeafPage keyValueLeafPage) {
@@ -21,12 +42,10 @@ public final class PageCache implements Cache<PageReference, Page> {
       //      }
     };
 
-    pageCache = Caffeine.newBuilder()
-                        .maximumSize(maxSize)
-                        .expireAfterAccess(5, TimeUnit.MINUTES)
-                        .scheduler(scheduler)
-                        .removalListener(removalListener)
-                        .build();
+    pageCache = builder.expireAfterAccess(5, TimeUnit.MINUTES)
+                       .scheduler(scheduler)
+                       .removalListener(removalListener)
+                       .build();
   }
 
   @Override
@@ -64,6 +83,19 @@ public final class PageCache implements Cache<PageReference, Page> {
     pageCache.invalidate(key);
   }
 
+  @Override
+  public CacheStats statistics() {
+    return pageCache.stats();
+  }
+
+  void setMaximumWeight(final long maximumWeight) {
+    pageCache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumWeight));
+  }
+
+  long getWeightedSize() {
+    return pageCache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+  }
+
   @Override
   public void close() {
   }
@@ -1,6 +1,7 @@
 package io.sirix.cache;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -10,10 +11,28 @@ public class PathSummaryCache implements Cache<Integer, PathSummaryData> {
   private final com.github.benmanes.caffeine.cache.Cache<Integer, PathSummaryData> cache;
 
   public PathSummaryCache(final int maxSize) {
-    cache = Caffeine.newBuilder()
-                    .maximumSize(maxSize)
-                    .expireAfterAccess(5, TimeUnit.MINUTES)
-                    .build();
+    this(maxSize, false);
+  }
+
+  /**
+   * Constructor, which bounds the cache by the estimated size of its entries in bytes instead of by
+   * their number.
+   *
+   * @param memoryBudget the memory budget, which determines the initial maximum weight
+   */
+  public PathSummaryCache(final MemoryBudget memoryBudget) {
+    this(memoryBudget.getMaxBytesPerCache(MemoryBudget.CacheKind.PATH_SUMMARIES), true);
+  }
+
+  private PathSummaryCache(final long maximum, final boolean isWeighedBySize) {
+    final Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+    if (isWeighedBySize) {
+      builder.maximumWeight(maximum).weigher((key, value) -> CacheWeights.weigh((PathSummaryData) value));
+    } else {
+      builder.maximumSize(maximum);
+    }
+    cache = builder.expireAfterAccess(5, TimeUnit.MINUTES)
+                   .build();
   }
 
   @Override
@@ -51,6 +70,19 @@ public class PathSummaryCache implements Cache<Integer, PathSummaryData> {
     cache.invalidate(key);
   }
 
+  @Override
+  public CacheStats statistics() {
+    return cache.stats();
+  }
+
+  void setMaximumWeight(final long maximumWeight) {
+    cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumWeight));
+  }
+
+  long getWeightedSize() {
+    return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+  }
+
   @Override
   public void close() {
   }
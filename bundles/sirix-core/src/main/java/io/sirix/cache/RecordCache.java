@@ -0,0 +1,96 @@
+package io.sirix.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.sirix.node.interfaces.DataRecord;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Map;
+
+/**
+ * Caches single deserialized records of committed revisions, such that read-only transactions of a
+ * resource share hot records (for instance document roots and frequently read object keys) without
+ * keeping their whole record pages in memory.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class RecordCache implements Cache<RecordCacheKey, DataRecord> {
+
+  private final com.github.benmanes.caffeine.cache.Cache<RecordCacheKey, DataRecord> cache;
+
+  public RecordCache(final int maxSize) {
+    this(maxSize, false);
+  }
+
+  /**
+   * Constructor, which bounds the cache by the estimated size of its entries in bytes instead of by
+   * their number.
+   *
+   * @param memoryBudget the memory budget, which determines the initial maximum weight
+   */
+  public RecordCache(final MemoryBudget memoryBudget) {
+    this(memoryBudget.getMaxBytesPerCache(MemoryBudget.CacheKind.RECORDS), true);
+  }
+
+  private RecordCache(final long maximum, final boolean isWeighedBySize) {
+    final Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+    if (isWeighedBySize) {
+      builder.maximumWeight(maximum).weigher((key, value) -> CacheWeights.weigh((DataRecord) value));
+    } else {
+      builder.maximumSize(maximum);
+    }
+    cache = builder.scheduler(scheduler).build();
+  }
+
+  @Override
+  public void clear() {
+    cache.invalidateAll();
+  }
+
+  @Override
+  public DataRecord get(RecordCacheKey key) {
+    return cache.getIfPresent(key);
+  }
+
+  @Override
+  public void put(RecordCacheKey key, @NonNull DataRecord value) {
+    cache.put(key, value);
+  }
+
+  @Override
+  public void putAll(Map<? extends RecordCacheKey, ? extends DataRecord> map) {
+    cache.putAll(map);
+  }
+
+  @Override
+  public void toSecondCache() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Map<RecordCacheKey, DataRecord> getAll(Iterable<? extends RecordCacheKey> keys) {
+    return cache.getAllPresent(keys);
+  }
+
+  @Override
+  public void remove(RecordCacheKey key) {
+    cache.invalidate(key);
+  }
+
+  @Override
+  public CacheStats statistics() {
+    return cache.stats();
+  }
+
+  void setMaximumWeight(final long maximumWeight) {
+    cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumWeight));
+  }
+
+  long getWeightedSize() {
+    return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+  }
+
+  @Override
+  public void close() {
+  }
+}
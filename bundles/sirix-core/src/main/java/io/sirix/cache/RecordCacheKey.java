@@ -0,0 +1,6 @@
+package io.sirix.cache;
+
+import io.sirix.index.IndexType;
+
+public record RecordCacheKey(int revisionNumber, IndexType indexType, int indexNumber, long recordKey) {
+}
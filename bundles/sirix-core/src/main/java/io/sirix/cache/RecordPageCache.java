@@ -3,6 +3,8 @@ package io.sirix.cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.sirix.page.KeyValueLeafPage;
 import io.sirix.page.PageReference;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import io.sirix.page.interfaces.Page;
@@ -15,20 +17,39 @@ public final class RecordPageCache implements Cache<PageReference, Page> {
   private final com.github.benmanes.caffeine.cache.Cache<PageReference, Page> pageCache;
 
   public RecordPageCache(final int maxSize) {
+    this(maxSize, false);
+  }
+
+  /**
+   * Constructor, which bounds the cache by the estimated size of its entries in bytes instead of by
+   * their number.
+   *
+   * @param memoryBudget the memory budget, which determines the initial maximum weight
+   */
+  public RecordPageCache(final MemoryBudget memoryBudget) {
+    this(memoryBudget.getMaxBytesPerCache(MemoryBudget.CacheKind.RECORD_PAGES), true);
+  }
+
+  private RecordPageCache(final long maximum, final boolean isWeighedBySize) {
+    final Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+    if (isWeighedBySize) {
+      builder.maximumWeight(maximum).weigher((key, value) -> CacheWeights.weigh((Page) value));
+    } else {
+      builder.maximumSize(maximum);
+    }
     final RemovalListener<PageReference, Page> removalListener =
         (PageReference key, Page value, RemovalCause cause) -> {
           key.setPage(null);
-          //      if (value instanceof KeyValueLeafPage keyValueLeafPage) {
-          //        keyValueLeafPage.clearPage();
-          //      }
+          // Replaced pages are released in put(...), as the same instance might be put again.
+          if (cause != RemovalCause.REPLACED && value instanceof KeyValueLeafPage keyValueLeafPage) {
+            keyValueLeafPage.release();
+          }
         };
 
-    pageCache = Caffeine.newBuilder()
-                        .maximumSize(maxSize)
-                        .expireAfterAccess(5, TimeUnit.MINUTES)
-                        .scheduler(scheduler)
-                        .removalListener(removalListener)
-                        .build();
+    pageCache = builder.expireAfterAccess(5, TimeUnit.MINUTES)
+                       .scheduler(scheduler)
+                       .removalListener(removalListener)
+                       .build();
   }
 
   @Override
@@ -43,12 +64,15 @@ public final class RecordPageCache implements Cache<PageReference, Page> {
 
   @Override
   public void put(PageReference key, @NonNull Page value) {
-    pageCache.put(key, value);
+    final Page previousValue = pageCache.asMap().put(key, value);
+    if (previousValue != value && previousValue instanceof KeyValueLeafPage keyValueLeafPage) {
+      keyValueLeafPage.release();
+    }
   }
 
   @Override
   public void putAll(Map<? extends PageReference, ? extends Page> map) {
-    pageCache.putAll(map);
+    map.forEach(this::put);
   }
 
   @Override
@@ -66,6 +90,19 @@ public final class RecordPageCache implements Cache<PageReference, Page> {
     pageCache.invalidate(key);
   }
 
+  @Override
+  public CacheStats statistics() {
+    return pageCache.stats();
+  }
+
+  void setMaximumWeight(final long maximumWeight) {
+    pageCache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumWeight));
+  }
+
+  long getWeightedSize() {
+    return pageCache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+  }
+
   @Override
   public void close() {
   }
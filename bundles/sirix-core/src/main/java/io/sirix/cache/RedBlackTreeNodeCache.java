@@ -3,6 +3,7 @@ package io.sirix.cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.node.interfaces.Node;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -14,6 +15,26 @@ public final class RedBlackTreeNodeCache implements Cache<RBIndexKey, Node> {
   private final com.github.benmanes.caffeine.cache.Cache<RBIndexKey, Node> cache;
 
   public RedBlackTreeNodeCache(final int maxSize) {
+    this(maxSize, false);
+  }
+
+  /**
+   * Constructor, which bounds the cache by the estimated size of its entries in bytes instead of by
+   * their number.
+   *
+   * @param memoryBudget the memory budget, which determines the initial maximum weight
+   */
+  public RedBlackTreeNodeCache(final MemoryBudget memoryBudget) {
+    this(memoryBudget.getMaxBytesPerCache(MemoryBudget.CacheKind.INDEX_NODES), true);
+  }
+
+  private RedBlackTreeNodeCache(final long maximum, final boolean isWeighedBySize) {
+    final Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+    if (isWeighedBySize) {
+      builder.maximumWeight(maximum).weigher((key, value) -> CacheWeights.weigh((Node) value));
+    } else {
+      builder.maximumSize(maximum);
+    }
     final RemovalListener<RBIndexKey, Node> removalListener =
         (RBIndexKey key, Node value, RemovalCause cause) -> {
           assert key != null;
@@ -32,7 +53,7 @@ public final class RedBlackTreeNodeCache implements Cache<RBIndexKey, Node> {
           }
         };
 
-    cache = Caffeine.newBuilder().maximumSize(maxSize).removalListener(removalListener).scheduler(scheduler).build();
+    cache = builder.removalListener(removalListener).scheduler(scheduler).build();
   }
 
   @Override
@@ -70,6 +91,19 @@ public final class RedBlackTreeNodeCache implements Cache<RBIndexKey, Node> {
     cache.invalidate(key);
   }
 
+  @Override
+  public CacheStats statistics() {
+    return cache.stats();
+  }
+
+  void setMaximumWeight(final long maximumWeight) {
+    cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumWeight));
+  }
+
+  long getWeightedSize() {
+    return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+  }
+
   @Override
   public void close() {
   }
@@ -28,6 +28,7 @@
 package io.sirix.cache;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.sirix.page.RevisionRootPage;
 
 import java.util.Map;
@@ -41,11 +42,29 @@ public final class RevisionRootPageCache implements Cache<Integer, RevisionRootP
   private final com.github.benmanes.caffeine.cache.Cache<Integer, RevisionRootPage> pageCache;
 
   public RevisionRootPageCache(final int maxSize) {
-    pageCache = Caffeine.newBuilder()
-                        .maximumSize(maxSize)
-                        .expireAfterAccess(5, TimeUnit.MINUTES)
-                        .scheduler(scheduler)
-                        .build();
+    this(maxSize, false);
+  }
+
+  /**
+   * Constructor, which bounds the cache by the estimated size of its entries in bytes instead of by
+   * their number.
+   *
+   * @param memoryBudget the memory budget, which determines the initial maximum weight
+   */
+  public RevisionRootPageCache(final MemoryBudget memoryBudget) {
+    this(memoryBudget.getMaxBytesPerCache(MemoryBudget.CacheKind.REVISION_ROOT_PAGES), true);
+  }
+
+  private RevisionRootPageCache(final long maximum, final boolean isWeighedBySize) {
+    final Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+    if (isWeighedBySize) {
+      builder.maximumWeight(maximum).weigher((key, value) -> CacheWeights.weigh((RevisionRootPage) value));
+    } else {
+      builder.maximumSize(maximum);
+    }
+    pageCache = builder.expireAfterAccess(5, TimeUnit.MINUTES)
+                       .scheduler(scheduler)
+                       .build();
   }
 
   @Override
@@ -83,6 +102,19 @@ public final class RevisionRootPageCache implements Cache<Integer, RevisionRootP
     pageCache.invalidate(key);
   }
 
+  @Override
+  public CacheStats statistics() {
+    return pageCache.stats();
+  }
+
+  void setMaximumWeight(final long maximumWeight) {
+    pageCache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maximumWeight));
+  }
+
+  long getWeightedSize() {
+    return pageCache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+  }
+
   @Override
   public void close() {
   }
@@ -1,20 +1,58 @@
 package io.sirix.cache;
 
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.index.IndexType;
+import io.sirix.node.Utils;
+import io.sirix.page.KeyValueLeafPage;
+import io.sirix.page.OverflowPage;
 import io.sirix.page.PageReference;
 import io.sirix.settings.Constants;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.openhft.chronicle.bytes.Bytes;
+import net.openhft.chronicle.bytes.BytesIn;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
 
 /**
  * The transaction intent log, used for caching everything the read/write-transaction changes.
+ * <p>
+ * If a spill directory is given, at most {@code maxInMemoryCapacity} containers of record pages
+ * ({@link KeyValueLeafPage}s) are kept on the heap. Cold containers are evicted in CLOCK order to a
+ * memory-mapped temporary file and transparently reloaded by {@link #get(PageReference)}. All other
+ * pages (indirect pages, revision root pages...) are always kept in memory, as they are part of the
+ * page tree, which is traversed during the commit.
+ * </p>
+ *
+ * <p>
+ * Containers, whose records are handed out for modification, are pinned until the writer finishes
+ * the current operation, as the records are modified after they have been put into the page. Thus,
+ * an operation, which modifies many pages, might temporarily keep more containers in memory.
+ * </p>
+ *
+ * <p>
+ * While a commit is in progress, eviction is suspended, as the record pages in memory are serialized
+ * by worker threads concurrently. Containers, which have been evicted before, are reloaded for the
+ * committing thread only and not kept in memory again.
+ * </p>
  *
  * @author Johannes Lichtenberger
  */
 public final class TransactionIntentLog implements AutoCloseable {
 
   /**
-   * The collection to hold the maps.
+   * The collection to hold the maps. Evicted entries are {@code null}.
    */
   private final List<PageContainer> list;
 
@@ -23,14 +61,110 @@ public final class TransactionIntentLog implements AutoCloseable {
    */
   private int logKey;
 
+  /**
+   * The maximum number of record page containers kept in memory.
+   */
+  private final int maxInMemoryCapacity;
+
+  /**
+   * The directory for the spill file, or {@code null} if spilling is disabled.
+   */
+  private final @Nullable Path spillDirectory;
+
+  /**
+   * Offsets of evicted containers in the spill file (by log key), {@code -1} if not evicted.
+   */
+  private final LongArrayList spillOffsets;
+
+  /**
+   * Lengths of evicted containers in the spill file (by log key).
+   */
+  private final LongArrayList spillLengths;
+
+  /**
+   * Log keys of evictable containers, which are currently in memory, in CLOCK order.
+   */
+  private final IntArrayFIFOQueue evictionQueue;
+
+  /**
+   * CLOCK reference bits (by log key).
+   */
+  private final BitSet referenced;
+
+  /**
+   * Pinned containers (by log key), which are not evicted.
+   */
+  private final BitSet pinned;
+
+  /**
+   * Log keys of the pinned containers.
+   */
+  private final IntArrayList pinnedLogKeys;
+
+  /**
+   * The number of containers, which are currently evicted.
+   */
+  private int numberOfEvictedContainers;
+
+  /**
+   * Determines if eviction is suspended, which is the case during a commit.
+   */
+  private boolean isEvictionSuspended;
+
+  /**
+   * The spill file, created on the first eviction.
+   */
+  private TransactionIntentLogSpillFile spillFile;
+
+  /**
+   * Transaction used to serialize the records of evicted pages.
+   */
+  private PageReadOnlyTrx pageReadOnlyTrx;
+
+  /**
+   * Reused buffer to serialize evicted containers.
+   */
+  private Bytes<ByteBuffer> spillBytes;
+
   /**
    * Creates a new transaction intent log.
    *
    * @param maxInMemoryCapacity the maximum size of the in-memory map
    */
   public TransactionIntentLog(final int maxInMemoryCapacity) {
+    this(maxInMemoryCapacity, Integer.MAX_VALUE, null);
+  }
+
+  /**
+   * Creates a new transaction intent log, which evicts record pages to disk.
+   *
+   * @param initialCapacity     the initial capacity of the log
+   * @param maxInMemoryCapacity the maximum number of record page containers kept in memory
+   * @param spillDirectory      the directory to create the spill file in, or {@code null} to never
+   *                            evict containers
+   */
+  public TransactionIntentLog(final int initialCapacity, final int maxInMemoryCapacity,
+      final @Nullable Path spillDirectory) {
+    checkArgument(maxInMemoryCapacity > 1, "The maximum in-memory capacity must be > 1.");
     logKey = 0;
-    list = new ArrayList<>(maxInMemoryCapacity);
+    list = new ArrayList<>(initialCapacity);
+    this.maxInMemoryCapacity = maxInMemoryCapacity;
+    this.spillDirectory = spillDirectory;
+    spillOffsets = new LongArrayList();
+    spillLengths = new LongArrayList();
+    evictionQueue = new IntArrayFIFOQueue();
+    referenced = new BitSet();
+    pinned = new BitSet();
+    pinnedLogKeys = new IntArrayList();
+  }
+
+  /**
+   * Set the transaction, which is used to serialize records of evicted record pages.
+   *
+   * @param pageReadOnlyTrx the page transaction owning this log
+   */
+  public void setPageReadOnlyTrx(final PageReadOnlyTrx pageReadOnlyTrx) {
+    this.pageReadOnlyTrx = requireNonNull(pageReadOnlyTrx);
   }
 
   /**
@@ -45,7 +179,14 @@ public final class TransactionIntentLog implements AutoCloseable {
     if ((logKey >= this.logKey) || logKey < 0) {
       return null;
     }
-    return list.get(logKey);
+    final PageContainer container = list.get(logKey);
+    if (container == null) {
+      return reload(logKey);
+    }
+    if (isSpillingEnabled()) {
+      referenced.set(logKey);
+    }
+    return container;
   }
 
   /**
@@ -61,7 +202,64 @@ public final class TransactionIntentLog implements AutoCloseable {
     key.setLogKey(logKey);
 
     list.add(value);
-    logKey++;
+
+    if (isSpillingEnabled()) {
+      spillOffsets.add(-1);
+      spillLengths.add(0);
+      if (isEvictable(value)) {
+        evictionQueue.enqueue(logKey);
+        referenced.set(logKey);
+        // The container is put into the log to be modified.
+        pin(logKey);
+      }
+      logKey++;
+      evictIfNecessary();
+    } else {
+      logKey++;
+    }
+  }
+
+  /**
+   * Pin a container, such that it isn't evicted until {@link #unpinAll()} is called.
+   *
+   * @param key the reference of the container
+   */
+  public void pin(final PageReference key) {
+    final int logKey = key.getLogKey();
+    if (isSpillingEnabled() && logKey >= 0 && logKey < this.logKey) {
+      pin(logKey);
+    }
+  }
+
+  private void pin(final int logKey) {
+    if (!pinned.get(logKey)) {
+      pinned.set(logKey);
+      pinnedLogKeys.add(logKey);
+    }
+  }
+
+  /**
+   * Unpin all containers, once the writer has finished an operation.
+   */
+  public void unpinAll() {
+    for (int i = 0, size = pinnedLogKeys.size(); i < size; i++) {
+      pinned.clear(pinnedLogKeys.getInt(i));
+    }
+    pinnedLogKeys.clear();
+  }
+
+  /**
+   * Suspend the eviction of containers, for instance while the record pages are committed.
+   */
+  public void suspendEviction() {
+    isEvictionSuspended = true;
+  }
+
+  /**
+   * Resume the eviction of containers.
+   */
+  public void resumeEviction() {
+    isEvictionSuspended = false;
   }
 
   /**
@@ -70,10 +268,21 @@ public final class TransactionIntentLog implements AutoCloseable {
   public void clear() {
     logKey = 0;
     list.clear();
+    spillOffsets.clear();
+    spillLengths.clear();
+    evictionQueue.clear();
+    referenced.clear();
+    pinned.clear();
+    pinnedLogKeys.clear();
+    numberOfEvictedContainers = 0;
+    if (spillFile != null) {
+      spillFile.reset();
+    }
   }
 
   /**
-   * Get a view of the underlying map.
+   * Get a view of the underlying map. Evicted containers are not part of the view, that is they are
+   * represented by {@code null} entries.
    *
    * @return an unmodifiable view of all entries in the cache
    */
@@ -81,9 +290,200 @@ public final class TransactionIntentLog implements AutoCloseable {
     return list;
   }
 
+  /**
+   * Get the number of record page containers, which are currently evicted to disk.
+   *
+   * @return the number of evicted containers
+   */
+  public int getNumberOfEvictedContainers() {
+    return numberOfEvictedContainers;
+  }
+
   @Override
   public void close() {
     logKey = 0;
     list.clear();
+    spillOffsets.clear();
+    spillLengths.clear();
+    evictionQueue.clear();
+    referenced.clear();
+    pinned.clear();
+    pinnedLogKeys.clear();
+    numberOfEvictedContainers = 0;
+    if (spillFile != null) {
+      spillFile.close();
+      spillFile = null;
+    }
+  }
+
+  private boolean isSpillingEnabled() {
+    return spillDirectory != null;
+  }
+
+  private static boolean isEvictable(final PageContainer container) {
+    return container.getComplete() instanceof KeyValueLeafPage
+        && container.getModified() instanceof KeyValueLeafPage;
+  }
+
+  private void evictIfNecessary() {
+    if (pageReadOnlyTrx == null || isEvictionSuspended) {
+      return;
+    }
+
+    // Pinned containers are skipped, thus every container is visited at most twice.
+    int remainingCandidates = 2 * evictionQueue.size();
+    while (evictionQueue.size() > maxInMemoryCapacity && remainingCandidates-- > 0) {
+      final int candidate = evictionQueue.dequeueInt();
+      if (pinned.get(candidate)) {
+        evictionQueue.enqueue(candidate);
+      } else if (referenced.get(candidate)) {
+        // Second chance.
+        referenced.clear(candidate);
+        evictionQueue.enqueue(candidate);
+      } else {
+        evict(candidate);
+      }
+    }
+  }
+
+  private void evict(final int logKey) {
+    if (spillFile == null) {
+      spillFile = new TransactionIntentLogSpillFile(requireNonNull(spillDirectory));
+      spillBytes = Bytes.elasticByteBuffer(Constants.NDP_NODE_COUNT << 6);
+    }
+
+    final PageContainer container = list.get(logKey);
+    final var complete = container.getCompleteAsUnorderedKeyValuePage();
+    final var modified = container.getModifiedAsUnorderedKeyValuePage();
+
+    // Records are serialized into the slots (and the DeweyIDs array).
+    complete.addReferences(pageReadOnlyTrx);
+    modified.addReferences(pageReadOnlyTrx);
+
+    spillBytes.clear();
+    spillBytes.writeBoolean(complete.getReferencesMap() == modified.getReferencesMap());
+    serializePage(complete);
+    serializePage(modified);
+
+    final byte[] data = spillBytes.toByteArray();
+    spillBytes.clear();
+
+    spillOffsets.set(logKey, spillFile.append(data));
+    spillLengths.set(logKey, data.length);
+    list.set(logKey, null);
+    numberOfEvictedContainers++;
+  }
+
+  private PageContainer reload(final int logKey) {
+    assert isSpillingEnabled() && spillOffsets.getLong(logKey) != -1;
+
+    final byte[] data = spillFile.read(spillOffsets.getLong(logKey), (int) spillLengths.getLong(logKey));
+    final BytesIn<?> source = Bytes.wrapForRead(data);
+    final boolean isReferencesMapShared = source.readBoolean();
+    final KeyValueLeafPage complete = deserializePage(source, null);
+    final KeyValueLeafPage modified =
+        deserializePage(source, isReferencesMapShared ? complete.getReferencesMap() : null);
+    final PageContainer container = PageContainer.getInstance(complete, modified);
+
+    if (isEvictionSuspended) {
+      return container;
+    }
+
+    list.set(logKey, container);
+    numberOfEvictedContainers--;
+    evictionQueue.enqueue(logKey);
+    referenced.set(logKey);
+    evictIfNecessary();
+
+    return container;
+  }
+
+  private void serializePage(final KeyValueLeafPage page) {
+    Utils.putVarLong(spillBytes, page.getPageKey());
+    spillBytes.writeInt(page.getRevision());
+    spillBytes.writeByte(page.getIndexType().getID());
+    serializeSlots(page.getSlots());
+    serializeSlots(page.getDeweyIds());
+
+    // In-memory overflow pages are reinserted as (oversized) slots, all others are persisted.
+    final Map<Long, PageReference> references = page.getReferencesMap();
+    spillBytes.writeInt(references.size());
+    for (final Map.Entry<Long, PageReference> entry : references.entrySet()) {
+      final PageReference reference = entry.getValue();
+      spillBytes.writeLong(entry.getKey());
+      spillBytes.writeLong(reference.getKey());
+      if (reference.getKey() == Constants.NULL_ID_LONG && reference.getPage() instanceof OverflowPage overflowPage) {
+        final byte[] overflowData = overflowPage.getData();
+        spillBytes.writeInt(overflowData.length);
+        spillBytes.write(overflowData);
+      } else {
+        spillBytes.writeInt(-1);
+      }
+    }
+  }
+
+  private void serializeSlots(final byte[][] slots) {
+    int count = 0;
+    for (final byte[] slot : slots) {
+      if (slot != null) {
+        count++;
+      }
+    }
+    spillBytes.writeInt(count);
+    for (int offset = 0; offset < slots.length; offset++) {
+      final byte[] slot = slots[offset];
+      if (slot != null) {
+        spillBytes.writeShort((short) offset);
+        spillBytes.writeInt(slot.length);
+        spillBytes.write(slot);
+      }
+    }
+  }
+
+  private KeyValueLeafPage deserializePage(final BytesIn<?> source,
+      final @Nullable Map<Long, PageReference> sharedReferences) {
+    final long recordPageKey = Utils.getVarLong(source);
+    final int revision = source.readInt();
+    final IndexType indexType = IndexType.getType(source.readByte());
+    final byte[][] slots = deserializeSlots(source);
+    final byte[][] deweyIds = deserializeSlots(source);
+
+    final int referencesSize = source.readInt();
+    final Map<Long, PageReference> references = new LinkedHashMap<>(referencesSize);
+    for (int i = 0; i < referencesSize; i++) {
+      final long recordKey = source.readLong();
+      final long persistentKey = source.readLong();
+      final int overflowDataLength = source.readInt();
+      if (overflowDataLength == -1) {
+        references.put(recordKey, new PageReference().setKey(persistentKey));
+      } else {
+        final byte[] overflowData = new byte[overflowDataLength];
+        source.read(overflowData);
+        slots[PageReadOnlyTrx.recordPageOffset(recordKey)] = overflowData;
+      }
+    }
+
+    final var resourceConfig = pageReadOnlyTrx.getResourceSession().getResourceConfig();
+    return new KeyValueLeafPage(recordPageKey,
+                                revision,
+                                indexType,
+                                resourceConfig,
+                                resourceConfig.areDeweyIDsStored,
+                                resourceConfig.recordPersister,
+                                slots,
+                                deweyIds,
+                                sharedReferences == null ? references : sharedReferences);
+  }
+
+  private static byte[][] deserializeSlots(final BytesIn<?> source) {
+    final byte[][] slots = new byte[Constants.NDP_NODE_COUNT][];
+    final int count = source.readInt();
+    for (int i = 0; i < count; i++) {
+      final int offset = source.readShort();
+      final byte[] slot = new byte[source.readInt()];
+      source.read(slot);
+      slots[offset] = slot;
+    }
+    return slots;
   }
 }
@@ -0,0 +1,158 @@
+package io.sirix.cache;
+
+import io.sirix.exception.SirixIOException;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only, memory-mapped temporary file, which stores page containers evicted from the
+ * {@link TransactionIntentLog}. The file is mapped in fixed-size chunks, which are added on demand,
+ * such that growing the file never requires remapping the already written parts.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class TransactionIntentLogSpillFile implements AutoCloseable {
+
+  static final ValueLayout.OfByte LAYOUT_BYTE = ValueLayout.JAVA_BYTE;
+
+  /**
+   * Size of a single mapped chunk (64 MiB).
+   */
+  static final long CHUNK_SIZE = 1L << 26;
+
+  /**
+   * The temporary file.
+   */
+  private final Path file;
+
+  /**
+   * The file channel used for mapping chunks.
+   */
+  private final FileChannel fileChannel;
+
+  /**
+   * The arena owning all mapped chunks.
+   */
+  private final Arena arena;
+
+  /**
+   * The mapped chunks.
+   */
+  private final List<MemorySegment> chunks;
+
+  /**
+   * The offset to append the next entry at.
+   */
+  private long size;
+
+  /**
+   * Constructor.
+   *
+   * @param directory the directory to create the temporary file in
+   * @throws SirixIOException if the file can't be created
+   */
+  TransactionIntentLogSpillFile(final Path directory) {
+    try {
+      Files.createDirectories(directory);
+      file = Files.createTempFile(directory, "sirix-intent-log", ".spill");
+      fileChannel = FileChannel.open(file,
+                                     StandardOpenOption.READ,
+                                     StandardOpenOption.WRITE,
+                                     StandardOpenOption.SPARSE,
+                                     StandardOpenOption.DELETE_ON_CLOSE);
+    } catch (final IOException e) {
+      throw new SirixIOException("Transaction intent log spill file couldn't be created!", e);
+    }
+    arena = Arena.openShared();
+    chunks = new ArrayList<>();
+  }
+
+  /**
+   * Append the data to the end of the file.
+   *
+   * @param data the data to append
+   * @return the offset of the appended data
+   */
+  long append(final byte[] data) {
+    final long offset = size;
+    ensureCapacity(offset + data.length);
+
+    int written = 0;
+    while (written < data.length) {
+      final long position = offset + written;
+      final MemorySegment chunk = chunks.get((int) (position / CHUNK_SIZE));
+      final long offsetInChunk = position % CHUNK_SIZE;
+      final int length = (int) Math.min(data.length - written, CHUNK_SIZE - offsetInChunk);
+      MemorySegment.copy(data, written, chunk, LAYOUT_BYTE, offsetInChunk, length);
+      written += length;
+    }
+
+    size += data.length;
+    return offset;
+  }
+
+  /**
+   * Read previously appended data.
+   *
+   * @param offset the offset returned by {@link #append(byte[])}
+   * @param length the length of the data
+   * @return the data
+   */
+  byte[] read(final long offset, final int length) {
+    assert offset + length <= size;
+    final byte[] data = new byte[length];
+
+    int read = 0;
+    while (read < length) {
+      final long position = offset + read;
+      final MemorySegment chunk = chunks.get((int) (position / CHUNK_SIZE));
+      final long offsetInChunk = position % CHUNK_SIZE;
+      final int chunkLength = (int) Math.min(length - read, CHUNK_SIZE - offsetInChunk);
+      MemorySegment.copy(chunk, LAYOUT_BYTE, offsetInChunk, data, read, chunkLength);
+      read += chunkLength;
+    }
+
+    return data;
+  }
+
+  /**
+   * Discard all entries. The mapped chunks are kept and reused.
+   */
+  void reset() {
+    size = 0;
+  }
+
+  private void ensureCapacity(final long capacity) {
+    try {
+      while ((long) chunks.size() * CHUNK_SIZE < capacity) {
+        chunks.add(fileChannel.map(FileChannel.MapMode.READ_WRITE,
+                                   chunks.size() * CHUNK_SIZE,
+                                   CHUNK_SIZE,
+                                   arena.scope()));
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException("Transaction intent log spill file couldn't be mapped!", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    chunks.clear();
+    arena.close();
+    try {
+      fileChannel.close();
+      Files.deleteIfExists(file);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+}
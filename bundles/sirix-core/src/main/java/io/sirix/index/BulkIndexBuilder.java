@@ -0,0 +1,28 @@
+package io.sirix.index;
+
+/**
+ * An index builder, which buffers the index entries while a revision is traversed and writes them
+ * to the index once the traversal has finished (see {@link IndexBulkLoader}).
+ *
+ * @author Johannes Lichtenberger
+ */
+public interface BulkIndexBuilder extends AutoCloseable {
+
+  /**
+   * Sorts the buffered index entries without writing to the index, such that several builders can
+   * be prepared concurrently.
+   */
+  void prepare();
+
+  /**
+   * Writes the buffered index entries to the index.
+   */
+  void finish();
+
+  /**
+   * Discards the buffered index entries, which haven't been written, and deletes their temporary
+   * files.
+   */
+  @Override
+  void close();
+}
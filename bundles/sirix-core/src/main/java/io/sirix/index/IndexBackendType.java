@@ -0,0 +1,27 @@
+package io.sirix.index;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The data structure used to store the entries of a secondary index.
+ *
+ * @author Johannes Lichtenberger
+ */
+public enum IndexBackendType {
+  /**
+   * Red-black tree, one record per key (the default).
+   */
+  RB_TREE,
+
+  /**
+   * Adaptive radix tree with prefix-compressed binary comparable keys.
+   */
+  ART;
+
+  public static Optional<IndexBackendType> ofString(String type) {
+    return Arrays.stream(IndexBackendType.values())
+                 .filter(backendType -> backendType.name().equalsIgnoreCase(type))
+                 .findFirst();
+  }
+}
@@ -7,10 +7,15 @@ import io.sirix.api.visitor.JsonNodeVisitor;
 import io.sirix.api.visitor.XmlNodeVisitor;
 import io.sirix.api.xml.XmlNodeReadOnlyTrx;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
- * Build an index by traversing the current revision.
+ * Build indexes by traversing the current revision once for all of them. Builders, which buffer the
+ * index entries ({@link BulkIndexBuilder}), sort them in parallel and write them one after the
+ * other once the traversal has finished.
  *
  * @author Johannes Lichtenberger
  *
@@ -27,13 +32,18 @@ public final class IndexBuilder {
     final long nodeKey = rtx.getNodeKey();
     rtx.moveToDocumentRoot();
 
-    var axis = new NonStructuralWrapperAxis(new DescendantAxis(rtx));
-    while (axis.hasNext()) {
-      axis.nextLong();
+    try {
+      var axis = new NonStructuralWrapperAxis(new DescendantAxis(rtx));
+      while (axis.hasNext()) {
+        axis.nextLong();
 
-      for (final XmlNodeVisitor builder : builders) {
-        rtx.acceptVisitor(builder);
+        for (final XmlNodeVisitor builder : builders) {
+          rtx.acceptVisitor(builder);
+        }
       }
+      finish(builders);
+    } finally {
+      close(builders);
     }
     rtx.moveTo(nodeKey);
   }
@@ -48,14 +58,64 @@ public final class IndexBuilder {
     final long nodeKey = rtx.getNodeKey();
     rtx.moveToDocumentRoot();
 
-    final var axis = new DescendantAxis(rtx);
-    while (axis.hasNext()) {
-      axis.nextLong();
-      for (final JsonNodeVisitor builder : builders) {
-        rtx.acceptVisitor(builder);
+    try {
+      final var axis = new DescendantAxis(rtx);
+      while (axis.hasNext()) {
+        axis.nextLong();
+        for (final JsonNodeVisitor builder : builders) {
+          rtx.acceptVisitor(builder);
+        }
       }
+      finish(builders);
+    } finally {
+      close(builders);
     }
     rtx.moveTo(nodeKey);
   }
 
+  /**
+   * Write the index entries, which are buffered by bulk loading builders.
+   *
+   * @param builders the index builders
+   */
+  private static void finish(final Set<?> builders) {
+    final List<BulkIndexBuilder> bulkIndexBuilders = getBulkIndexBuilders(builders);
+
+    // Sort the entries of several indexes in parallel, but write them one after the other, as the
+    // page transaction is single-threaded.
+    if (bulkIndexBuilders.size() > 1) {
+      final CompletableFuture<?>[] preparations =
+          bulkIndexBuilders.stream()
+                           .map(builder -> CompletableFuture.runAsync(builder::prepare))
+                           .toArray(CompletableFuture[]::new);
+      try {
+        CompletableFuture.allOf(preparations).join();
+      } catch (final CompletionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        }
+        throw e;
+      }
+    }
+
+    for (final BulkIndexBuilder builder : bulkIndexBuilders) {
+      builder.finish();
+    }
+  }
+
+  /**
+   * Delete the temporary files of bulk loading builders, also if the traversal or writing the index
+   * entries failed.
+   *
+   * @param builders the index builders
+   */
+  private static void close(final Set<?> builders) {
+    for (final BulkIndexBuilder builder : getBulkIndexBuilders(builders)) {
+      builder.close();
+    }
+  }
+
+  private static List<BulkIndexBuilder> getBulkIndexBuilders(final Set<?> builders) {
+    return builders.stream().filter(BulkIndexBuilder.class::isInstance).map(BulkIndexBuilder.class::cast).toList();
+  }
 }
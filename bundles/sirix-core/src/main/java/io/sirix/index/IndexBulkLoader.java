@@ -0,0 +1,445 @@
+package io.sirix.index;
+
+import com.google.common.collect.AbstractIterator;
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.atomic.Str;
+import io.brackit.query.jdm.Type;
+import io.sirix.exception.SirixIOException;
+import io.sirix.index.redblacktree.keyvalue.CASValue;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Collects the (key, node key) pairs of an index build, which are produced in document order, and
+ * loads them into the index in one pass once the traversal is finished. The pairs are sorted in
+ * memory and spilled as sorted runs to temporary files by another thread, if they exceed the memory
+ * limit. Loading merges the runs once, groups the node keys of equal keys and streams the sorted,
+ * unique entries to {@link IndexTreeWriter#bulkLoad(Iterator)}, which builds an empty red-black tree
+ * bottom-up instead of inserting and rebalancing key by key.
+ *
+ * @param <K> the key
+ * @author Johannes Lichtenberger
+ */
+public final class IndexBulkLoader<K extends Comparable<? super K>> implements AutoCloseable {
+
+  /**
+   * The default maximum number of pairs buffered in memory before a sorted run is spilled.
+   */
+  public static final int DEFAULT_MAX_BUFFERED_ENTRIES = 1 << 20;
+
+  /**
+   * Serializes the keys of spilled runs.
+   *
+   * @param <K> the key
+   */
+  public interface KeySerializer<K> {
+    void write(DataOutput output, K key) throws IOException;
+
+    K read(DataInput input) throws IOException;
+  }
+
+  /**
+   * A pair of a key and the node key of an indexed node.
+   */
+  private record Entry<K>(K key, long nodeKey) {
+  }
+
+  /**
+   * The writer of the index.
+   */
+  private final IndexTreeWriter<K, NodeReferences> indexWriter;
+
+  /**
+   * Serializes the keys of spilled runs.
+   */
+  private final KeySerializer<K> keySerializer;
+
+  /**
+   * The maximum number of pairs buffered in memory.
+   */
+  private final int maxBufferedEntries;
+
+  /**
+   * Orders the pairs by key and node key.
+   */
+  private final Comparator<Entry<K>> comparator;
+
+  /**
+   * The buffered pairs.
+   */
+  private List<Entry<K>> buffer;
+
+  /**
+   * The spilled, sorted runs.
+   */
+  private final List<Path> runs;
+
+  /**
+   * The open readers of the spilled runs.
+   */
+  private final List<DataInputStream> inputs;
+
+  /**
+   * The pending spill of a sorted run.
+   */
+  private CompletableFuture<Void> pendingSpill;
+
+  /**
+   * The sorted entries, if no runs have been spilled.
+   */
+  private List<Map.Entry<K, NodeReferences>> sortedEntries;
+
+  /**
+   * Determines if the pairs are already loaded.
+   */
+  private boolean isLoaded;
+
+  /**
+   * Constructor.
+   *
+   * @param indexWriter   the writer of the index
+   * @param keySerializer serializes the keys of spilled runs
+   */
+  public IndexBulkLoader(final IndexTreeWriter<K, NodeReferences> indexWriter, final KeySerializer<K> keySerializer) {
+    this(indexWriter, keySerializer, DEFAULT_MAX_BUFFERED_ENTRIES);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param indexWriter        the writer of the index
+   * @param keySerializer      serializes the keys of spilled runs
+   * @param maxBufferedEntries the maximum number of pairs buffered in memory
+   */
+  public IndexBulkLoader(final IndexTreeWriter<K, NodeReferences> indexWriter, final KeySerializer<K> keySerializer,
+      final @NonNegative int maxBufferedEntries) {
+    checkArgument(maxBufferedEntries > 0, "maxBufferedEntries must be > 0!");
+    this.indexWriter = requireNonNull(indexWriter);
+    this.keySerializer = requireNonNull(keySerializer);
+    this.maxBufferedEntries = maxBufferedEntries;
+    comparator = Comparator.<Entry<K>, K>comparing(Entry::key).thenComparingLong(Entry::nodeKey);
+    buffer = new ArrayList<>();
+    runs = new ArrayList<>();
+    inputs = new ArrayList<>();
+    pendingSpill = CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * Adds the node key of an indexed node. If the buffer is full, it's sorted and spilled by another
+   * thread, while the next pairs are buffered.
+   *
+   * @param key     the key
+   * @param nodeKey the node key of the indexed node
+   * @throws SirixIOException if spilling a sorted run fails
+   */
+  public void add(final K key, final @NonNegative long nodeKey) {
+    checkState(buffer != null, "Bulk loader is already sorted.");
+    buffer.add(new Entry<>(requireNonNull(key), nodeKey));
+    if (buffer.size() >= maxBufferedEntries) {
+      spillAsync();
+    }
+  }
+
+  /**
+   * Sorts the added pairs and groups them by key, if they fit into memory, otherwise spills the last
+   * sorted run, such that only the merge of the runs is left for loading. As the index isn't
+   * touched, the pairs of several bulk loaders can be sorted concurrently.
+   *
+   * @throws SirixIOException if reading or writing sorted runs fails
+   */
+  public void sort() {
+    checkState(buffer != null, "Bulk loader is already sorted.");
+    try {
+      if (runs.isEmpty()) {
+        buffer.sort(comparator);
+        sortedEntries = new ArrayList<>();
+        group(buffer.iterator()).forEachRemaining(sortedEntries::add);
+      } else {
+        if (!buffer.isEmpty()) {
+          spillAsync();
+        }
+        awaitSpill();
+      }
+      buffer = null;
+    } catch (final UncheckedIOException e) {
+      throw new SirixIOException(e.getCause());
+    }
+  }
+
+  /**
+   * Loads all added pairs into the index (and sorts them first, if they aren't sorted yet).
+   *
+   * @throws SirixIOException if reading or writing sorted runs fails
+   */
+  public void load() {
+    checkState(!isLoaded, "Bulk loader is already loaded.");
+    isLoaded = true;
+    try {
+      if (buffer != null) {
+        sort();
+      }
+      final Iterator<Map.Entry<K, NodeReferences>> entries =
+          sortedEntries != null ? sortedEntries.iterator() : group(merge());
+      indexWriter.bulkLoad(entries);
+      sortedEntries = null;
+    } catch (final UncheckedIOException e) {
+      throw new SirixIOException(e.getCause());
+    } finally {
+      close();
+    }
+  }
+
+  /**
+   * Closes and deletes the spilled runs.
+   */
+  @Override
+  public void close() {
+    try {
+      pendingSpill.join();
+    } catch (final CompletionException ignored) {
+    }
+    for (final DataInputStream input : inputs) {
+      try {
+        input.close();
+      } catch (final IOException ignored) {
+      }
+    }
+    inputs.clear();
+    for (final Path run : runs) {
+      try {
+        Files.deleteIfExists(run);
+      } catch (final IOException ignored) {
+      }
+    }
+    runs.clear();
+  }
+
+  /**
+   * Spills the buffered pairs as a sorted run by another thread. At most one spill is pending, so at
+   * most two buffers are held in memory.
+   */
+  private void spillAsync() {
+    awaitSpill();
+    final List<Entry<K>> entries = buffer;
+    buffer = new ArrayList<>(entries.size());
+    final Path run;
+    try {
+      run = Files.createTempFile("sirix-index-run", ".tmp");
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+    runs.add(run);
+    pendingSpill = CompletableFuture.runAsync(() -> spill(entries, run));
+  }
+
+  private void awaitSpill() {
+    try {
+      pendingSpill.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+        throw new SirixIOException(uncheckedIOException.getCause());
+      }
+      throw new SirixIOException(e.getCause());
+    }
+  }
+
+  private void spill(final List<Entry<K>> entries, final Path run) {
+    entries.sort(comparator);
+    try (final var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), 1 << 16))) {
+      for (final Entry<K> entry : entries) {
+        keySerializer.write(output, entry.key());
+        output.writeLong(entry.nodeKey());
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Merges the sorted runs.
+   */
+  private Iterator<Entry<K>> merge() {
+    final List<RunIterator> runIterators = new ArrayList<>(runs.size());
+    for (final Path run : runs) {
+      runIterators.add(new RunIterator(run));
+    }
+    final PriorityQueue<RunIterator> queue =
+        new PriorityQueue<>(runIterators.size(), Comparator.comparing(RunIterator::peek, comparator));
+    for (final RunIterator runIterator : runIterators) {
+      if (runIterator.hasNext()) {
+        queue.add(runIterator);
+      }
+    }
+    return new AbstractIterator<>() {
+      @Override
+      protected Entry<K> computeNext() {
+        final RunIterator runIterator = queue.poll();
+        if (runIterator == null) {
+          return endOfData();
+        }
+        final Entry<K> entry = runIterator.next();
+        if (runIterator.hasNext()) {
+          queue.add(runIterator);
+        }
+        return entry;
+      }
+    };
+  }
+
+  /**
+   * Groups the node keys of sorted pairs with equal keys.
+   */
+  private Iterator<Map.Entry<K, NodeReferences>> group(final Iterator<Entry<K>> sortedEntries) {
+    return new AbstractIterator<>() {
+      private Entry<K> next = sortedEntries.hasNext() ? sortedEntries.next() : null;
+
+      @Override
+      protected Map.Entry<K, NodeReferences> computeNext() {
+        if (next == null) {
+          return endOfData();
+        }
+        final K key = next.key();
+        final var nodeKeys = new Roaring64Bitmap();
+        while (next != null && next.key().compareTo(key) == 0) {
+          nodeKeys.addLong(next.nodeKey());
+          next = sortedEntries.hasNext() ? sortedEntries.next() : null;
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(key, new NodeReferences(nodeKeys));
+      }
+    };
+  }
+
+  /**
+   * Reads a sorted run.
+   */
+  private final class RunIterator extends AbstractIterator<Entry<K>> {
+    private final DataInputStream input;
+
+    private RunIterator(final Path run) {
+      try {
+        input = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), 1 << 16));
+        inputs.add(input);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    protected Entry<K> computeNext() {
+      try {
+        final K key;
+        try {
+          key = keySerializer.read(input);
+        } catch (final EOFException e) {
+          input.close();
+          return endOfData();
+        }
+        return new Entry<>(key, input.readLong());
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  /**
+   * Get a serializer for the keys of CAS indexes.
+   *
+   * @param type the type of the index
+   * @return the serializer
+   */
+  public static KeySerializer<CASValue> forCASValue(final Type type) {
+    requireNonNull(type);
+    return new KeySerializer<>() {
+      @Override
+      public void write(final DataOutput output, final CASValue key) throws IOException {
+        output.writeLong(key.getPathNodeKey());
+        writeString(output, key.getAtomicValue().stringValue());
+      }
+
+      @Override
+      public CASValue read(final DataInput input) throws IOException {
+        final long pathNodeKey = input.readLong();
+        return new CASValue(new Str(readString(input)), type, pathNodeKey);
+      }
+    };
+  }
+
+  /**
+   * Get a serializer for the keys of path indexes.
+   *
+   * @return the serializer
+   */
+  public static KeySerializer<Long> forPathNodeKey() {
+    return new KeySerializer<>() {
+      @Override
+      public void write(final DataOutput output, final Long key) throws IOException {
+        output.writeLong(key);
+      }
+
+      @Override
+      public Long read(final DataInput input) throws IOException {
+        return input.readLong();
+      }
+    };
+  }
+
+  /**
+   * Get a serializer for the keys of name indexes.
+   *
+   * @return the serializer
+   */
+  public static KeySerializer<QNm> forName() {
+    return new KeySerializer<>() {
+      @Override
+      public void write(final DataOutput output, final QNm key) throws IOException {
+        writeString(output, key.getNamespaceURI() == null ? "" : key.getNamespaceURI());
+        writeString(output, key.getPrefix() == null ? "" : key.getPrefix());
+        writeString(output, key.getLocalName());
+      }
+
+      @Override
+      public QNm read(final DataInput input) throws IOException {
+        return new QNm(readString(input), readString(input), readString(input));
+      }
+    };
+  }
+
+  private static void writeString(final DataOutput output, final String value) throws IOException {
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  private static String readString(final DataInput input) throws IOException {
+    final byte[] bytes = new byte[input.readInt()];
+    input.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
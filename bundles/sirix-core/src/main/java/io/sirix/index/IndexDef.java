@@ -36,6 +36,8 @@ public final class IndexDef implements Materializable {
 
   private static final QNm ID_ATTRIBUTE = new QNm("id");
 
+  private static final QNm BACKEND_ATTRIBUTE = new QNm("backend");
+
   public static final QNm INDEX_TAG = new QNm("index");
 
   private DbType dbType;
@@ -51,6 +53,9 @@ public final class IndexDef implements Materializable {
   // populated when index is built
   private int id;
 
+  // the data structure storing the index entries
+  private IndexBackendType backendType = IndexBackendType.RB_TREE;
+
   public enum DbType {
     XML,
 
@@ -124,6 +129,10 @@ public final class IndexDef implements Materializable {
       tmp.attribute(UNIQUE_ATTRIBUTE, new Una(Boolean.toString(unique)));
     }
 
+    if (backendType != IndexBackendType.RB_TREE) {
+      tmp.attribute(BACKEND_ATTRIBUTE, new Una(backendType.toString()));
+    }
+
     if (!paths.isEmpty()) {
       for (final Path<QNm> path : paths) {
         tmp.openElement(PATH_TAG);
@@ -201,6 +210,12 @@ public final class IndexDef implements Materializable {
       dbType = DbType.ofString(attribute.getValue().stringValue()).orElseThrow(() -> new DocumentException("Invalid db type"));
     }
 
+    attribute = root.getAttribute(BACKEND_ATTRIBUTE);
+    if (attribute != null) {
+      backendType = IndexBackendType.ofString(attribute.getValue().stringValue())
+                                    .orElseThrow(() -> new DocumentException("Invalid index backend type"));
+    }
+
     try (Stream<? extends Node<?>> children = root.getChildren()) {
       Node<?> child;
       while ((child = children.next()) != null) {
@@ -269,6 +284,15 @@ public final class IndexDef implements Materializable {
     return type;
   }
 
+  public IndexBackendType getBackendType() {
+    return backendType;
+  }
+
+  IndexDef setBackendType(final IndexBackendType backendType) {
+    this.backendType = requireNonNull(backendType);
+    return this;
+  }
+
   public Set<Path<QNm>> getPaths() {
     return Collections.unmodifiableSet(paths);
   }
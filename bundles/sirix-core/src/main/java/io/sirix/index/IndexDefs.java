@@ -36,6 +36,20 @@ public final class IndexDefs {
     return new IndexDef(type, paths, unique, indexDefNo, dbType);
   }
 
+  /**
+   * Create a CAS {@link IndexDef} instance, which stores its entries in the given backend.
+   *
+   * @param unique      determine if it's unique
+   * @param optType     an optional type
+   * @param paths       the paths to index
+   * @param backendType the data structure storing the index entries
+   * @return a new {@link IndexDef} instance
+   */
+  public static IndexDef createCASIdxDef(final boolean unique, final Type optType, final Set<Path<QNm>> paths,
+      final int indexDefNo, final IndexDef.DbType dbType, final IndexBackendType backendType) {
+    return createCASIdxDef(unique, optType, paths, indexDefNo, dbType).setBackendType(backendType);
+  }
+
   /**
    * Create a path {@link IndexDef}.
    *
@@ -47,6 +61,18 @@ public final class IndexDefs {
     return new IndexDef(paths, indexDefNo, dbType);
   }
 
+  /**
+   * Create a path {@link IndexDef}, which stores its entries in the given backend.
+   *
+   * @param paths       the paths to index
+   * @param backendType the data structure storing the index entries
+   * @return a new path {@link IndexDef} instance
+   */
+  public static IndexDef createPathIdxDef(final Set<Path<QNm>> paths, final int indexDefNo,
+      final IndexDef.DbType dbType, final IndexBackendType backendType) {
+    return createPathIdxDef(paths, indexDefNo, dbType).setBackendType(backendType);
+  }
+
   public static IndexDef createNameIdxDef(final int indexDefNo, final IndexDef.DbType dbType) {
     return switch (dbType) {
       case JSON -> new IndexDef(ImmutableSet.of(),
@@ -60,6 +86,11 @@ public final class IndexDefs {
     };
   }
 
+  public static IndexDef createNameIdxDef(final int indexDefNo, final IndexDef.DbType dbType,
+      final IndexBackendType backendType) {
+    return createNameIdxDef(indexDefNo, dbType).setBackendType(backendType);
+  }
+
   public static IndexDef createFilteredNameIdxDef(final Set<QNm> excluded, final int indexDefNo,
       final IndexDef.DbType dbType) {
     return switch (dbType) {
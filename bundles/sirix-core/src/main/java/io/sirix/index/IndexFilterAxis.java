@@ -2,6 +2,7 @@ package io.sirix.index;
 
 import java.util.Iterator;
 import java.util.Set;
+import java.util.function.Function;
 
 import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.index.redblacktree.RBTreeReader;
@@ -13,7 +14,7 @@ import static java.util.Objects.requireNonNull;
 public final class IndexFilterAxis<K extends Comparable<? super K>>
     extends AbstractIterator<NodeReferences> {
 
-  private final RBTreeReader<K, NodeReferences> treeReader;
+  private final Function<RBNodeKey<K>, NodeReferences> valueReader;
 
   private final Iterator<RBNodeKey<K>> iter;
 
@@ -22,11 +23,32 @@ public final class IndexFilterAxis<K extends Comparable<? super K>>
 
   public IndexFilterAxis(final RBTreeReader<K, NodeReferences> treeReader, final Iterator<RBNodeKey<K>> iter,
       final Set<? extends Filter> filter) {
-    this.treeReader = requireNonNull(treeReader);
+    this(valueReader(requireNonNull(treeReader)), iter, filter);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param valueReader reads the value of an index entry
+   * @param iter        iterator over the index entries
+   * @param filter      the filters, which an index entry must pass
+   */
+  public IndexFilterAxis(final Function<RBNodeKey<K>, NodeReferences> valueReader,
+      final Iterator<RBNodeKey<K>> iter, final Set<? extends Filter> filter) {
+    this.valueReader = requireNonNull(valueReader);
     this.iter = requireNonNull(iter);
     this.filter = requireNonNull(filter);
   }
 
+  private static <K extends Comparable<? super K>> Function<RBNodeKey<K>, NodeReferences> valueReader(
+      final RBTreeReader<K, NodeReferences> treeReader) {
+    return node -> {
+      treeReader.moveTo(node.getValueNodeKey());
+      assert treeReader.getCurrentNodeAsRBNodeValue() != null;
+      return treeReader.getCurrentNodeAsRBNodeValue().getValue();
+    };
+  }
+
   @Override
   protected NodeReferences computeNext() {
     while (iter.hasNext()) {
@@ -39,9 +61,7 @@ public final class IndexFilterAxis<K extends Comparable<? super K>>
         }
       }
       if (filterResult) {
-        treeReader.moveTo(node.getValueNodeKey());
-        assert treeReader.getCurrentNodeAsRBNodeValue() != null;
-        return treeReader.getCurrentNodeAsRBNodeValue().getValue();
+        return valueReader.apply(node);
       }
     }
     return endOfData();
@@ -0,0 +1,91 @@
+package io.sirix.index;
+
+import io.sirix.access.DatabaseType;
+import io.sirix.api.PageTrx;
+import io.sirix.index.art.ARTWriter;
+import io.sirix.index.art.BinaryComparable;
+import io.sirix.index.redblacktree.RBTreeReader;
+import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.redblacktree.interfaces.References;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Writes the entries of a secondary index, regardless of the data structure storing them.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ * @author Johannes Lichtenberger
+ */
+public interface IndexTreeWriter<K extends Comparable<? super K>, V extends References> extends AutoCloseable {
+
+  /**
+   * Get a new writer for the backend of the index definition.
+   *
+   * @param databaseType     the type of database
+   * @param pageTrx          {@link PageTrx} for persistent storage
+   * @param indexDef         the index definition
+   * @param binaryComparable transforms keys into binary comparable keys (only used by the ART backend)
+   * @return new writer instance
+   */
+  static <K extends Comparable<? super K>, V extends References> IndexTreeWriter<K, V> getInstance(
+      final DatabaseType databaseType, final PageTrx pageTrx, final IndexDef indexDef,
+      final BinaryComparable<K> binaryComparable) {
+    return switch (indexDef.getBackendType()) {
+      case RB_TREE -> RBTreeWriter.getInstance(databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+      case ART ->
+          ARTWriter.getInstance(databaseType, pageTrx, indexDef.getType(), indexDef.getID(), binaryComparable);
+    };
+  }
+
+  /**
+   * Finds the specified key in the index and returns its value.
+   *
+   * @param key  key to be found
+   * @param mode the search mode
+   * @return {@link Optional} reference (with the found value, or a reference which indicates that the
+   * value hasn't been found)
+   */
+  Optional<V> get(K key, SearchMode mode);
+
+  /**
+   * Creates a new index entry or replaces the value of an existing entry.
+   *
+   * @param key   token to be indexed
+   * @param value node key references
+   * @param move  determines if the cursor must be moved to the document root or not
+   * @return indexed node key references
+   */
+  V index(K key, V value, RBTreeReader.MoveCursor move);
+
+  /**
+   * Remove a node key from the value of the given key.
+   *
+   * @param key     the key for which to search the value
+   * @param nodeKey the nodeKey to remove from the value
+   * @return {@code true}, if the node key has been removed, {@code false} otherwise
+   */
+  boolean remove(K key, @NonNegative long nodeKey);
+
+  /**
+   * Adds the values of entries, which are sorted by their keys in ascending order and whose keys are
+   * unique, to the index. The default implementation indexes the entries one by one and merges the
+   * node keys of values, which are already indexed.
+   *
+   * @param entries the sorted entries
+   */
+  default void bulkLoad(Iterator<Map.Entry<K, V>> entries) {
+    while (entries.hasNext()) {
+      final Map.Entry<K, V> entry = entries.next();
+      final V value = entry.getValue();
+      get(entry.getKey(), SearchMode.EQUAL).ifPresent(indexed -> indexed.getNodeKeys().forEach(value::addNodeKey));
+      index(entry.getKey(), value, RBTreeReader.MoveCursor.NO_MOVE);
+    }
+  }
+
+  @Override
+  void close();
+}
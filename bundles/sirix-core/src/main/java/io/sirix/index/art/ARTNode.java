@@ -0,0 +1,326 @@
+package io.sirix.index.art;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import io.sirix.node.AbstractForwardingNode;
+import io.sirix.node.NodeKind;
+import io.sirix.node.delegates.NodeDelegate;
+import io.sirix.settings.Fixed;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An inner node of a persistent adaptive radix tree (see {@link ARTWriter}), stored as a record in
+ * the pages of its index. The node stores its compressed path (the prefix) and grows adaptively
+ * from 4 to 16, 48 and 256 children. Children are referenced by their node keys and are either
+ * inner nodes or the leaves of the tree. A leaf, whose key ends at this node (the key is a prefix of
+ * other keys) is referenced separately.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ARTNode extends AbstractForwardingNode {
+
+  /**
+   * The node types, by the maximum number of children.
+   */
+  public enum Type {
+    NODE_4(4),
+
+    NODE_16(16),
+
+    NODE_48(48),
+
+    NODE_256(256);
+
+    private final int capacity;
+
+    Type(final int capacity) {
+      this.capacity = capacity;
+    }
+
+    public int getCapacity() {
+      return capacity;
+    }
+  }
+
+  private static final long NULL_NODE_KEY = Fixed.NULL_NODE_KEY.getStandardProperty();
+
+  /**
+   * {@link NodeDelegate} reference.
+   */
+  private final NodeDelegate nodeDelegate;
+
+  /**
+   * The compressed path.
+   */
+  private byte[] prefix;
+
+  /**
+   * The node type.
+   */
+  private Type type;
+
+  /**
+   * The number of children.
+   */
+  private int size;
+
+  /**
+   * The partial keys of the children in ascending (unsigned) order, if the node type is
+   * {@link Type#NODE_4} or {@link Type#NODE_16}.
+   */
+  private byte[] partialKeys;
+
+  /**
+   * The position of the child plus one per partial key, if the node type is {@link Type#NODE_48}.
+   */
+  private byte[] childIndex;
+
+  /**
+   * The node keys of the children (indexed by the partial key, if the node type is
+   * {@link Type#NODE_256}).
+   */
+  private long[] children;
+
+  /**
+   * The node key of the leaf, whose key ends at this node.
+   */
+  private long valueLeafKey;
+
+  /**
+   * Constructor.
+   *
+   * @param prefix       the compressed path
+   * @param nodeDelegate the used node delegate
+   */
+  public ARTNode(final byte[] prefix, final NodeDelegate nodeDelegate) {
+    this.prefix = requireNonNull(prefix);
+    this.nodeDelegate = requireNonNull(nodeDelegate);
+    type = Type.NODE_4;
+    partialKeys = new byte[Type.NODE_4.capacity];
+    children = new long[Type.NODE_4.capacity];
+    valueLeafKey = NULL_NODE_KEY;
+  }
+
+  @Override
+  public NodeKind getKind() {
+    return NodeKind.ART_NODE;
+  }
+
+  @Override
+  protected @NotNull NodeDelegate delegate() {
+    return nodeDelegate;
+  }
+
+  public byte[] getPrefix() {
+    return prefix;
+  }
+
+  public void setPrefix(final byte[] prefix) {
+    this.prefix = requireNonNull(prefix);
+  }
+
+  public Type getType() {
+    return type;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean hasValueLeaf() {
+    return valueLeafKey != NULL_NODE_KEY;
+  }
+
+  public long getValueLeafKey() {
+    return valueLeafKey;
+  }
+
+  public void setValueLeafKey(final long valueLeafKey) {
+    this.valueLeafKey = valueLeafKey;
+  }
+
+  /**
+   * Get the node key of a child.
+   *
+   * @param partialKey the partial key (an unsigned byte)
+   * @return the node key of the child or {@code Fixed.NULL_NODE_KEY}, if no such child exists
+   */
+  public long getChild(final int partialKey) {
+    return switch (type) {
+      case NODE_4, NODE_16 -> {
+        final int position = search(partialKey);
+        yield position >= 0 ? children[position] : NULL_NODE_KEY;
+      }
+      case NODE_48 -> {
+        final int position = Byte.toUnsignedInt(childIndex[partialKey]);
+        yield position == 0 ? NULL_NODE_KEY : children[position - 1];
+      }
+      case NODE_256 -> children[partialKey];
+    };
+  }
+
+  /**
+   * Get the smallest partial key of a child, which is greater than or equal to the given one.
+   *
+   * @param fromPartialKey the partial key to start from (an unsigned byte)
+   * @return the partial key or {@code -1}, if no such child exists
+   */
+  public int nextPartialKey(final int fromPartialKey) {
+    switch (type) {
+      case NODE_4, NODE_16 -> {
+        for (int i = 0; i < size; i++) {
+          final int partialKey = Byte.toUnsignedInt(partialKeys[i]);
+          if (partialKey >= fromPartialKey) {
+            return partialKey;
+          }
+        }
+      }
+      case NODE_48 -> {
+        for (int partialKey = fromPartialKey; partialKey < 256; partialKey++) {
+          if (childIndex[partialKey] != 0) {
+            return partialKey;
+          }
+        }
+      }
+      case NODE_256 -> {
+        for (int partialKey = fromPartialKey; partialKey < 256; partialKey++) {
+          if (children[partialKey] != NULL_NODE_KEY) {
+            return partialKey;
+          }
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Add a child or replace the node key of an existing child. The node grows, if it is full.
+   *
+   * @param partialKey the partial key (an unsigned byte)
+   * @param childKey   the node key of the child
+   */
+  public void putChild(final int partialKey, final long childKey) {
+    checkArgument(partialKey >= 0 && partialKey < 256, "partialKey must be an unsigned byte!");
+    switch (type) {
+      case NODE_4, NODE_16 -> {
+        final int position = search(partialKey);
+        if (position >= 0) {
+          children[position] = childKey;
+          return;
+        }
+        if (size == type.capacity) {
+          grow();
+          putChild(partialKey, childKey);
+          return;
+        }
+        final int insertionPoint = -(position + 1);
+        System.arraycopy(partialKeys, insertionPoint, partialKeys, insertionPoint + 1, size - insertionPoint);
+        System.arraycopy(children, insertionPoint, children, insertionPoint + 1, size - insertionPoint);
+        partialKeys[insertionPoint] = (byte) partialKey;
+        children[insertionPoint] = childKey;
+        size++;
+      }
+      case NODE_48 -> {
+        final int position = Byte.toUnsignedInt(childIndex[partialKey]);
+        if (position != 0) {
+          children[position - 1] = childKey;
+          return;
+        }
+        if (size == type.capacity) {
+          grow();
+          putChild(partialKey, childKey);
+          return;
+        }
+        children[size] = childKey;
+        childIndex[partialKey] = (byte) (size + 1);
+        size++;
+      }
+      case NODE_256 -> {
+        if (children[partialKey] == NULL_NODE_KEY) {
+          size++;
+        }
+        children[partialKey] = childKey;
+      }
+    }
+  }
+
+  private int search(final int partialKey) {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final int midKey = Byte.toUnsignedInt(partialKeys[mid]);
+      if (midKey < partialKey) {
+        low = mid + 1;
+      } else if (midKey > partialKey) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  private void grow() {
+    switch (type) {
+      case NODE_4 -> {
+        partialKeys = Arrays.copyOf(partialKeys, Type.NODE_16.capacity);
+        children = Arrays.copyOf(children, Type.NODE_16.capacity);
+        type = Type.NODE_16;
+      }
+      case NODE_16 -> {
+        childIndex = new byte[256];
+        for (int i = 0; i < size; i++) {
+          childIndex[Byte.toUnsignedInt(partialKeys[i])] = (byte) (i + 1);
+        }
+        children = Arrays.copyOf(children, Type.NODE_48.capacity);
+        partialKeys = null;
+        type = Type.NODE_48;
+      }
+      case NODE_48 -> {
+        final long[] newChildren = new long[256];
+        Arrays.fill(newChildren, NULL_NODE_KEY);
+        for (int partialKey = 0; partialKey < 256; partialKey++) {
+          final int position = Byte.toUnsignedInt(childIndex[partialKey]);
+          if (position != 0) {
+            newChildren[partialKey] = children[position - 1];
+          }
+        }
+        children = newChildren;
+        childIndex = null;
+        type = Type.NODE_256;
+      }
+      case NODE_256 -> throw new IllegalStateException("A node with 256 children can't grow.");
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(nodeDelegate.getNodeKey());
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object obj) {
+    if (obj instanceof final ARTNode other) {
+      return nodeDelegate.getNodeKey() == other.nodeDelegate.getNodeKey();
+    }
+    return false;
+  }
+
+  @Override
+  public @NotNull String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("node delegate", nodeDelegate)
+                      .add("type", type)
+                      .add("prefix", Arrays.toString(prefix))
+                      .add("size", size)
+                      .add("valueLeafKey", valueLeafKey)
+                      .toString();
+  }
+}
@@ -0,0 +1,337 @@
+package io.sirix.index.art;
+
+import com.google.common.collect.AbstractIterator;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.index.IndexType;
+import io.sirix.index.redblacktree.RBNodeKey;
+import io.sirix.index.redblacktree.RBNodeValue;
+import io.sirix.index.redblacktree.interfaces.References;
+import io.sirix.node.interfaces.DataRecord;
+import io.sirix.node.interfaces.StructNode;
+import io.sirix.settings.Fixed;
+import org.checkerframework.checker.index.qual.NonNegative;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reader of a persistent adaptive radix tree (see {@link ARTWriter}). Lookups and range scans
+ * descend from the root by the binary comparable keys. The tree is versioned by the pages of the
+ * index, so a reader sees the tree of the revision of its {@link PageReadOnlyTrx}.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ * @author Johannes Lichtenberger
+ */
+@SuppressWarnings("unchecked")
+public final class ARTReader<K extends Comparable<? super K>, V extends References> {
+
+  /**
+   * {@link PageReadOnlyTrx} for persistent storage.
+   */
+  final PageReadOnlyTrx pageReadOnlyTrx;
+
+  /**
+   * The index type.
+   */
+  final IndexType indexType;
+
+  /**
+   * The index number.
+   */
+  final int index;
+
+  /**
+   * Transforms keys into binary comparable keys.
+   */
+  final BinaryComparable<K> binaryComparable;
+
+  /**
+   * Determines if the reader is closed or not.
+   */
+  private boolean isClosed;
+
+  /**
+   * Private constructor.
+   *
+   * @param pageReadOnlyTrx  {@link PageReadOnlyTrx} for persistent storage
+   * @param indexType        the index type
+   * @param index            the index number
+   * @param binaryComparable transforms keys into binary comparable keys
+   */
+  private ARTReader(final PageReadOnlyTrx pageReadOnlyTrx, final IndexType indexType, final @NonNegative int index,
+      final BinaryComparable<K> binaryComparable) {
+    this.pageReadOnlyTrx = requireNonNull(pageReadOnlyTrx);
+    this.indexType = requireNonNull(indexType);
+    this.index = index;
+    this.binaryComparable = requireNonNull(binaryComparable);
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param pageReadOnlyTrx  {@link PageReadOnlyTrx} for persistent storage
+   * @param indexType        the index type
+   * @param index            the index number
+   * @param binaryComparable transforms keys into binary comparable keys
+   * @return new reader instance
+   */
+  public static <K extends Comparable<? super K>, V extends References> ARTReader<K, V> getInstance(
+      final PageReadOnlyTrx pageReadOnlyTrx, final IndexType indexType, final @NonNegative int index,
+      final BinaryComparable<K> binaryComparable) {
+    return new ARTReader<>(pageReadOnlyTrx, indexType, index, binaryComparable);
+  }
+
+  /**
+   * Finds the specified key in the index and returns its value.
+   *
+   * @param key key to be found
+   * @return {@link Optional} reference (with the found value, or a reference which indicates that the
+   * value hasn't been found)
+   */
+  public Optional<V> get(final K key) {
+    return getEntry(key).map(this::getValue);
+  }
+
+  /**
+   * Finds the index entry (the leaf) of the specified key.
+   *
+   * @param key key to be found
+   * @return {@link Optional} reference to the leaf
+   */
+  public Optional<RBNodeKey<K>> getEntry(final K key) {
+    assertNotClosed();
+    final byte[] keyBytes = binaryComparable.get(requireNonNull(key));
+    long nodeKey = getRootKey();
+    int depth = 0;
+    while (nodeKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+      final DataRecord record = getRecord(nodeKey);
+      if (record instanceof RBNodeKey<?> leaf) {
+        return Arrays.equals(keyBytes, toBytes((RBNodeKey<K>) leaf))
+            ? Optional.of((RBNodeKey<K>) leaf)
+            : Optional.empty();
+      }
+      final ARTNode node = (ARTNode) record;
+      final byte[] prefix = node.getPrefix();
+      if (keyBytes.length - depth < prefix.length
+          || !Arrays.equals(prefix, 0, prefix.length, keyBytes, depth, depth + prefix.length)) {
+        return Optional.empty();
+      }
+      depth += prefix.length;
+      if (depth == keyBytes.length) {
+        return node.hasValueLeaf()
+            ? Optional.of(this.<RBNodeKey<K>>getRecord(node.getValueLeafKey()))
+            : Optional.empty();
+      }
+      nodeKey = node.getChild(Byte.toUnsignedInt(keyBytes[depth]));
+      depth++;
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Get the value of an index entry.
+   *
+   * @param entry the index entry (a leaf)
+   * @return the value
+   */
+  public V getValue(final RBNodeKey<K> entry) {
+    assertNotClosed();
+    final RBNodeValue<V> value = getRecord(entry.getValueNodeKey());
+    return value.getValue();
+  }
+
+  /**
+   * Get an iterator over all index entries in ascending order of their binary comparable keys.
+   *
+   * @return the iterator
+   */
+  public Iterator<RBNodeKey<K>> iterator() {
+    return iterator(null, null);
+  }
+
+  /**
+   * Get an iterator over the index entries in a range of binary comparable keys in ascending order.
+   * Subtrees outside the range are skipped.
+   *
+   * @param lowerBound the inclusive lower bound or {@code null} for no lower bound
+   * @param upperBound the inclusive upper bound, which is compared with the equally long prefixes of
+   *                   the keys, such that all keys starting with the bound are included, or
+   *                   {@code null} for no upper bound
+   * @return the iterator
+   */
+  public Iterator<RBNodeKey<K>> iterator(final byte[] lowerBound, final byte[] upperBound) {
+    assertNotClosed();
+    return new ARTNodeIterator(lowerBound, upperBound);
+  }
+
+  /**
+   * Returns the number of index entries.
+   *
+   * @return number of index entries
+   */
+  public long size() {
+    assertNotClosed();
+    final StructNode documentNode = getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty());
+    return documentNode.getDescendantCount();
+  }
+
+  long getRootKey() {
+    final StructNode documentNode = getRecord(Fixed.DOCUMENT_NODE_KEY.getStandardProperty());
+    if (documentNode == null) {
+      throw new IllegalStateException("Node couldn't be fetched from persistent storage!");
+    }
+    return documentNode.getFirstChildKey();
+  }
+
+  <R extends DataRecord> R getRecord(final long nodeKey) {
+    return pageReadOnlyTrx.getRecord(nodeKey, indexType, index);
+  }
+
+  byte[] toBytes(final RBNodeKey<K> leaf) {
+    return binaryComparable.get(leaf.getKey());
+  }
+
+  public void close() {
+    isClosed = true;
+  }
+
+  private void assertNotClosed() {
+    if (isClosed) {
+      throw new IllegalStateException("Tree reader is already closed.");
+    }
+  }
+
+  private static boolean isBelowLowerBound(final byte[] prefix, final int prefixLength, final byte[] lowerBound) {
+    if (lowerBound == null) {
+      return false;
+    }
+    final int length = Math.min(prefixLength, lowerBound.length);
+    return Arrays.compareUnsigned(prefix, 0, length, lowerBound, 0, length) < 0;
+  }
+
+  private static boolean isAboveUpperBound(final byte[] prefix, final int prefixLength, final byte[] upperBound) {
+    if (upperBound == null) {
+      return false;
+    }
+    final int length = Math.min(prefixLength, upperBound.length);
+    return Arrays.compareUnsigned(prefix, 0, length, upperBound, 0, length) > 0;
+  }
+
+  /**
+   * A node on the path from the root to the current position of the iterator.
+   */
+  private static final class Frame {
+    private final ARTNode node;
+
+    private final byte[] path;
+
+    private int nextPartialKey;
+
+    private boolean isValueLeafVisited;
+
+    private Frame(final ARTNode node, final byte[] path) {
+      this.node = node;
+      this.path = path;
+    }
+  }
+
+  /**
+   * Iterator, which traverses the tree in-order (depth-first by ascending partial keys).
+   */
+  private final class ARTNodeIterator extends AbstractIterator<RBNodeKey<K>> {
+
+    private final byte[] lowerBound;
+
+    private final byte[] upperBound;
+
+    private final Deque<Frame> stack;
+
+    private boolean first;
+
+    private ARTNodeIterator(final byte[] lowerBound, final byte[] upperBound) {
+      this.lowerBound = lowerBound;
+      this.upperBound = upperBound;
+      stack = new ArrayDeque<>();
+      first = true;
+    }
+
+    @Override
+    protected RBNodeKey<K> computeNext() {
+      if (first) {
+        first = false;
+        final long rootKey = getRootKey();
+        if (rootKey == Fixed.NULL_NODE_KEY.getStandardProperty()) {
+          return endOfData();
+        }
+        final RBNodeKey<K> leaf = visit(rootKey, new byte[0]);
+        if (leaf != null) {
+          return leaf;
+        }
+      }
+
+      while (!stack.isEmpty()) {
+        final Frame frame = stack.peek();
+        if (!frame.isValueLeafVisited) {
+          frame.isValueLeafVisited = true;
+          if (frame.node.hasValueLeaf() && isInRange(frame.path)) {
+            return getRecord(frame.node.getValueLeafKey());
+          }
+          continue;
+        }
+        final int partialKey = frame.node.nextPartialKey(frame.nextPartialKey);
+        if (partialKey == -1) {
+          stack.pop();
+          continue;
+        }
+        frame.nextPartialKey = partialKey + 1;
+        final byte[] path = Arrays.copyOf(frame.path, frame.path.length + 1);
+        path[frame.path.length] = (byte) partialKey;
+        if (isBelowLowerBound(path, path.length, lowerBound)) {
+          continue;
+        }
+        if (isAboveUpperBound(path, path.length, upperBound)) {
+          // All subsequent keys are greater.
+          stack.clear();
+          break;
+        }
+        final RBNodeKey<K> leaf = visit(frame.node.getChild(partialKey), path);
+        if (leaf != null) {
+          return leaf;
+        }
+      }
+      return endOfData();
+    }
+
+    /**
+     * Visit a child, which is either pushed onto the stack, if it is an inner node, or returned, if
+     * it is a leaf in range.
+     */
+    private RBNodeKey<K> visit(final long nodeKey, final byte[] path) {
+      final DataRecord record = getRecord(nodeKey);
+      if (record instanceof RBNodeKey<?> leaf) {
+        final RBNodeKey<K> entry = (RBNodeKey<K>) leaf;
+        return isInRange(toBytes(entry)) ? entry : null;
+      }
+      final ARTNode node = (ARTNode) record;
+      final byte[] prefix = node.getPrefix();
+      final byte[] nodePath = Arrays.copyOf(path, path.length + prefix.length);
+      System.arraycopy(prefix, 0, nodePath, path.length, prefix.length);
+      if (!isBelowLowerBound(nodePath, nodePath.length, lowerBound)
+          && !isAboveUpperBound(nodePath, nodePath.length, upperBound)) {
+        stack.push(new Frame(node, nodePath));
+      }
+      return null;
+    }
+
+    private boolean isInRange(final byte[] key) {
+      return (lowerBound == null || Arrays.compareUnsigned(key, lowerBound) >= 0)
+          && !isAboveUpperBound(key, key.length, upperBound);
+    }
+  }
+}
@@ -0,0 +1,352 @@
+package io.sirix.index.art;
+
+import io.sirix.access.DatabaseType;
+import io.sirix.api.PageTrx;
+import io.sirix.cache.PageContainer;
+import io.sirix.exception.SirixIOException;
+import io.sirix.index.IndexTreeWriter;
+import io.sirix.index.IndexType;
+import io.sirix.index.SearchMode;
+import io.sirix.index.redblacktree.RBNodeKey;
+import io.sirix.index.redblacktree.RBNodeValue;
+import io.sirix.index.redblacktree.RBTreeReader;
+import io.sirix.index.redblacktree.interfaces.References;
+import io.sirix.node.SirixDeweyID;
+import io.sirix.node.delegates.NodeDelegate;
+import io.sirix.node.interfaces.DataRecord;
+import io.sirix.node.interfaces.StructNode;
+import io.sirix.page.CASPage;
+import io.sirix.page.NamePage;
+import io.sirix.page.PathPage;
+import io.sirix.page.RevisionRootPage;
+import io.sirix.settings.Fixed;
+import io.sirix.utils.LogWrapper;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writer of a persistent adaptive radix tree, an alternative to the red-black tree of secondary
+ * indexes (see {@link io.sirix.index.IndexBackendType}). Keys are transformed into binary comparable
+ * keys, inner nodes ({@link ARTNode}) store compressed paths and up to 256 children, and the leaves
+ * are the index entries ({@link RBNodeKey}s referencing their {@link RBNodeValue}s). All nodes are
+ * records in the pages of the index, so the tree is versioned just like the red-black tree, but an
+ * insert only modifies the records on a single root-to-leaf path of low height and never rebalances.
+ * The records don't link to their parents, as the tree is only traversed top-down.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ * @author Johannes Lichtenberger
+ */
+@SuppressWarnings("unchecked")
+public final class ARTWriter<K extends Comparable<? super K>, V extends References> implements IndexTreeWriter<K, V> {
+
+  /**
+   * Logger.
+   */
+  private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(ARTWriter.class));
+
+  private static final long NULL_NODE_KEY = Fixed.NULL_NODE_KEY.getStandardProperty();
+
+  private static final long DOCUMENT_NODE_KEY = Fixed.DOCUMENT_NODE_KEY.getStandardProperty();
+
+  /**
+   * {@link ARTReader} instance.
+   */
+  private final ARTReader<K, V> artReader;
+
+  /**
+   * {@link PageTrx} instance.
+   */
+  private final PageTrx pageTrx;
+
+  /**
+   * Private constructor.
+   *
+   * @param databaseType     the type of database
+   * @param pageTrx          {@link PageTrx} for persistent storage
+   * @param type             type of index
+   * @param index            the index number
+   * @param binaryComparable transforms keys into binary comparable keys
+   */
+  private ARTWriter(final DatabaseType databaseType, final PageTrx pageTrx, final IndexType type,
+      final @NonNegative int index, final BinaryComparable<K> binaryComparable) {
+    try {
+      final RevisionRootPage revisionRootPage = pageTrx.getActualRevisionRootPage();
+      switch (type) {
+        case PATH -> {
+          // Create path index tree if needed.
+          final PathPage pathPage = pageTrx.getPathPage(revisionRootPage);
+          pageTrx.appendLogRecord(revisionRootPage.getPathPageReference(),
+                                  PageContainer.getInstance(pathPage, pathPage));
+          pathPage.createPathIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+        }
+        case CAS -> {
+          // Create CAS index tree if needed.
+          final CASPage casPage = pageTrx.getCASPage(revisionRootPage);
+          pageTrx.appendLogRecord(revisionRootPage.getCASPageReference(), PageContainer.getInstance(casPage, casPage));
+          casPage.createCASIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+        }
+        case NAME -> {
+          // Create name index tree if needed.
+          final NamePage namePage = pageTrx.getNamePage(revisionRootPage);
+          pageTrx.appendLogRecord(revisionRootPage.getNamePageReference(),
+                                  PageContainer.getInstance(namePage, namePage));
+          namePage.createNameIndexTree(databaseType, pageTrx, index, pageTrx.getLog());
+        }
+        default -> throw new IllegalArgumentException("Index type " + type + " is not supported.");
+      }
+    } catch (final SirixIOException e) {
+      LOGGER.error(e.getMessage(), e);
+    }
+    artReader = ARTReader.getInstance(pageTrx, type, index, binaryComparable);
+    this.pageTrx = pageTrx;
+  }
+
+  /**
+   * Get a new instance.
+   *
+   * @param databaseType     the type of database
+   * @param pageTrx          {@link PageTrx} for persistent storage
+   * @param type             type of index
+   * @param index            the index number
+   * @param binaryComparable transforms keys into binary comparable keys
+   * @return new tree instance
+   */
+  public static <K extends Comparable<? super K>, V extends References> ARTWriter<K, V> getInstance(
+      final DatabaseType databaseType, final PageTrx pageTrx, final IndexType type, final @NonNegative int index,
+      final BinaryComparable<K> binaryComparable) {
+    return new ARTWriter<>(databaseType, pageTrx, type, index, binaryComparable);
+  }
+
+  /**
+   * Finds the specified key in the index and returns its value.
+   *
+   * @param key  key to be found
+   * @param mode the search mode, which must be {@link SearchMode#EQUAL}
+   * @return {@link Optional} reference (with the found value, or a reference which indicates that the
+   * value hasn't been found)
+   */
+  @Override
+  public Optional<V> get(final K key, final SearchMode mode) {
+    checkArgument(mode == SearchMode.EQUAL, "Only lookups of equal keys are supported.");
+    return artReader.get(requireNonNull(key));
+  }
+
+  /**
+   * Checks if the specified token is already indexed; if yes, replaces its value. Otherwise, creates
+   * a new index entry.
+   *
+   * @param key   token to be indexed
+   * @param value node key references
+   * @param move  ignored, as the tree has no cursor
+   * @return indexed node key references
+   * @throws SirixIOException if an I/O error occurs
+   */
+  @Override
+  public V index(final K key, final V value, final RBTreeReader.MoveCursor move) {
+    final byte[] keyBytes = artReader.binaryComparable.get(requireNonNull(key));
+    long nodeKey = artReader.getRootKey();
+
+    if (nodeKey == NULL_NODE_KEY) {
+      // Index is empty... the first leaf is the root.
+      final long leafKey = createLeaf(key, value);
+      final StructNode document = prepareRecordForModification(DOCUMENT_NODE_KEY);
+      document.setFirstChildKey(leafKey);
+      document.incrementChildCount();
+      document.incrementDescendantCount();
+      return value;
+    }
+
+    long parentKey = DOCUMENT_NODE_KEY;
+    int parentPartialKey = -1;
+    int depth = 0;
+    while (true) {
+      final DataRecord record = artReader.getRecord(nodeKey);
+
+      if (record instanceof RBNodeKey<?> leaf) {
+        final byte[] leafKeyBytes = artReader.toBytes((RBNodeKey<K>) leaf);
+        if (Arrays.equals(leafKeyBytes, keyBytes)) {
+          setValue((RBNodeKey<K>) leaf, value);
+          return value;
+        }
+        // Replace the leaf with an inner node, which stores the common prefix of both keys.
+        final int commonPrefixLength =
+            Arrays.mismatch(leafKeyBytes, depth, leafKeyBytes.length, keyBytes, depth, keyBytes.length);
+        final long newLeafKey = createLeaf(key, value);
+        final ARTNode node =
+            new ARTNode(Arrays.copyOfRange(keyBytes, depth, depth + commonPrefixLength), newNodeDelegate());
+        addChild(node, leafKeyBytes, depth + commonPrefixLength, nodeKey);
+        addChild(node, keyBytes, depth + commonPrefixLength, newLeafKey);
+        final long newNodeKey = createRecord(node);
+        replaceChild(parentKey, parentPartialKey, newNodeKey);
+        incrementDescendantCount();
+        return value;
+      }
+
+      final ARTNode node = (ARTNode) record;
+      final byte[] prefix = node.getPrefix();
+      final int mismatch = Arrays.mismatch(prefix,
+                                           0,
+                                           prefix.length,
+                                           keyBytes,
+                                           depth,
+                                           Math.min(keyBytes.length, depth + prefix.length));
+
+      if (mismatch != -1) {
+        // Split the compressed path: the new inner node stores the common prefix.
+        final long newLeafKey = createLeaf(key, value);
+        final ARTNode modifiedNode = prepareRecordForModification(node.getNodeKey());
+        modifiedNode.setPrefix(Arrays.copyOfRange(prefix, mismatch + 1, prefix.length));
+        final ARTNode newNode = new ARTNode(Arrays.copyOf(prefix, mismatch), newNodeDelegate());
+        newNode.putChild(Byte.toUnsignedInt(prefix[mismatch]), node.getNodeKey());
+        addChild(newNode, keyBytes, depth + mismatch, newLeafKey);
+        final long newNodeKey = createRecord(newNode);
+        replaceChild(parentKey, parentPartialKey, newNodeKey);
+        incrementDescendantCount();
+        return value;
+      }
+
+      depth += prefix.length;
+
+      if (depth == keyBytes.length) {
+        // The key ends at this node.
+        if (node.hasValueLeaf()) {
+          setValue(artReader.getRecord(node.getValueLeafKey()), value);
+        } else {
+          final long newLeafKey = createLeaf(key, value);
+          final ARTNode modifiedNode = prepareRecordForModification(node.getNodeKey());
+          modifiedNode.setValueLeafKey(newLeafKey);
+          incrementDescendantCount();
+        }
+        return value;
+      }
+
+      final int partialKey = Byte.toUnsignedInt(keyBytes[depth]);
+      final long childKey = node.getChild(partialKey);
+
+      if (childKey == NULL_NODE_KEY) {
+        final long newLeafKey = createLeaf(key, value);
+        final ARTNode modifiedNode = prepareRecordForModification(node.getNodeKey());
+        modifiedNode.putChild(partialKey, newLeafKey);
+        incrementDescendantCount();
+        return value;
+      }
+
+      parentKey = node.getNodeKey();
+      parentPartialKey = partialKey;
+      nodeKey = childKey;
+      depth++;
+    }
+  }
+
+  /**
+   * Remove a node key from the value of the given key. The index entry itself is kept, even if no
+   * node keys are stored anymore (as in the red-black tree).
+   *
+   * @param key     the key for which to search the value
+   * @param nodeKey the nodeKey to remove from the value
+   * @return {@code true}, if the node key has been removed, {@code false} otherwise
+   * @throws SirixIOException if an I/O error occured
+   */
+  @Override
+  public boolean remove(final K key, final @NonNegative long nodeKey) {
+    checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
+    final Optional<RBNodeKey<K>> entry = artReader.getEntry(requireNonNull(key));
+    if (entry.isEmpty() || !artReader.getValue(entry.get()).contains(nodeKey)) {
+      return false;
+    }
+    final RBNodeValue<V> value = prepareRecordForModification(entry.get().getValueNodeKey());
+    return value.getValue().removeNodeKey(nodeKey);
+  }
+
+  /**
+   * Get the {@link ARTReader} used to navigate.
+   *
+   * @return {@link ARTReader} reference
+   */
+  public ARTReader<K, V> getReader() {
+    return artReader;
+  }
+
+  @Override
+  public void close() {
+    artReader.close();
+  }
+
+  private static void addChild(final ARTNode node, final byte[] keyBytes, final int depth, final long childKey) {
+    if (depth == keyBytes.length) {
+      node.setValueLeafKey(childKey);
+    } else {
+      node.putChild(Byte.toUnsignedInt(keyBytes[depth]), childKey);
+    }
+  }
+
+  private void replaceChild(final long parentKey, final int partialKey, final long childKey) {
+    if (parentKey == DOCUMENT_NODE_KEY) {
+      final StructNode document = prepareRecordForModification(DOCUMENT_NODE_KEY);
+      document.setFirstChildKey(childKey);
+    } else {
+      final ARTNode parent = prepareRecordForModification(parentKey);
+      parent.putChild(partialKey, childKey);
+    }
+  }
+
+  private void setValue(final RBNodeKey<K> leaf, final V value) {
+    final RBNodeValue<V> valueNode = prepareRecordForModification(leaf.getValueNodeKey());
+    valueNode.setValue(value);
+  }
+
+  private void incrementDescendantCount() {
+    final StructNode document = prepareRecordForModification(DOCUMENT_NODE_KEY);
+    document.incrementDescendantCount();
+  }
+
+  private long createLeaf(final K key, final V value) {
+    final long nodeKey = getNewNodeKey();
+    pageTrx.createRecord(new RBNodeKey<>(key,
+                                         nodeKey + 1,
+                                         new NodeDelegate(nodeKey, NULL_NODE_KEY, null, 0, 0, (SirixDeweyID) null)),
+                         artReader.indexType,
+                         artReader.index);
+    pageTrx.createRecord(new RBNodeValue<>(value,
+                                           new NodeDelegate(nodeKey + 1, nodeKey, null, 0, 0, (SirixDeweyID) null)),
+                         artReader.indexType,
+                         artReader.index);
+    return nodeKey;
+  }
+
+  private NodeDelegate newNodeDelegate() {
+    return new NodeDelegate(getNewNodeKey(), NULL_NODE_KEY, null, 0, 0, (SirixDeweyID) null);
+  }
+
+  private long createRecord(final ARTNode node) {
+    return pageTrx.createRecord(node, artReader.indexType, artReader.index).getNodeKey();
+  }
+
+  private <R extends DataRecord> R prepareRecordForModification(final long nodeKey) {
+    return pageTrx.prepareRecordForModification(nodeKey, artReader.indexType, artReader.index);
+  }
+
+  /**
+   * Get the new maximum node key.
+   *
+   * @return maximum node key
+   * @throws SirixIOException If any I/O operation fails
+   */
+  private long getNewNodeKey() {
+    final RevisionRootPage root = pageTrx.getActualRevisionRootPage();
+    // $CASES-OMITTED$
+    return switch (artReader.indexType) {
+      case PATH -> pageTrx.getPathPage(root).getMaxNodeKey(artReader.index) + 1;
+      case CAS -> pageTrx.getCASPage(root).getMaxNodeKey(artReader.index) + 1;
+      case NAME -> pageTrx.getNamePage(root).getMaxNodeKey(artReader.index) + 1;
+      default -> throw new IllegalStateException();
+    };
+  }
+}
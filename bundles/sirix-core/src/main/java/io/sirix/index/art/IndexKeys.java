@@ -0,0 +1,148 @@
+package io.sirix.index.art;
+
+import io.brackit.query.atomic.Atomic;
+import io.brackit.query.atomic.Numeric;
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.jdm.Type;
+import io.sirix.index.AtomicUtil;
+import io.sirix.index.redblacktree.keyvalue.CASValue;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * {@link BinaryComparable} implementations for the keys of the secondary indexes, that is
+ * {@link CASValue}s of CAS indexes, path class records (PCRs) of path indexes and {@link QNm}s of
+ * name indexes.
+ *
+ * <p>A CAS key starts with the PCR (8 bytes), followed by an order-preserving encoding of the
+ * atomic value:</p>
+ * <ul>
+ * <li>strings are encoded code unit by code unit like UTF-8 (CESU-8), which preserves the
+ * UTF-16 order of {@link String#compareTo(String)},</li>
+ * <li>booleans are encoded in one byte,</li>
+ * <li>numeric values are encoded as sortable doubles; if the conversion to a double is lossy for
+ * the type, the exact value follows as a suffix, which makes the key unique but is not
+ * order-preserving itself.</li>
+ * </ul>
+ * All other types are encoded by their string value, which is unique but not order-preserving.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class IndexKeys {
+
+  private static final BinaryComparable<CASValue> CAS_VALUE = IndexKeys::toBytes;
+
+  private static final BinaryComparable<Long> PATH_NODE_KEY = BinaryComparables.forLong();
+
+  private static final BinaryComparable<QNm> NAME = IndexKeys::toBytes;
+
+  private IndexKeys() {
+    throw new AssertionError();
+  }
+
+  public static BinaryComparable<CASValue> forCASValue() {
+    return CAS_VALUE;
+  }
+
+  public static BinaryComparable<Long> forPathNodeKey() {
+    return PATH_NODE_KEY;
+  }
+
+  public static BinaryComparable<QNm> forName() {
+    return NAME;
+  }
+
+  /**
+   * Determines if the binary keys of atomic values of the given type have the same order as the
+   * values themselves, such that range scans can be bounded by binary keys.
+   *
+   * @param type the type of the atomic values
+   * @return {@code true}, if the binary keys are order-preserving, {@code false} otherwise
+   */
+  public static boolean isOrderPreserving(final Type type) {
+    return type.instanceOf(Type.STR) || type.instanceOf(Type.BOOL) || type.isNumeric();
+  }
+
+  /**
+   * Get the binary prefix shared by all CAS keys of a path class record.
+   *
+   * @param pathNodeKey the path class record
+   * @return the binary prefix
+   */
+  public static byte[] toPrefix(final long pathNodeKey) {
+    return PATH_NODE_KEY.get(pathNodeKey);
+  }
+
+  /**
+   * Get the order-preserving binary prefix of a CAS key, which is suitable as a bound of a range scan
+   * (without the exact suffix of lossy numeric values).
+   *
+   * @param pathNodeKey the path class record
+   * @param value       the atomic value, cast to the type of the index
+   * @param type        the type of the index
+   * @return the binary prefix
+   */
+  public static byte[] toBound(final long pathNodeKey, final Atomic value, final Type type) {
+    final var out = new ByteArrayOutputStream();
+    out.writeBytes(toPrefix(pathNodeKey));
+    writeOrderPreservingValue(out, value, type);
+    return out.toByteArray();
+  }
+
+  private static byte[] toBytes(final CASValue casValue) {
+    final Type type = casValue.getType();
+    final Atomic value = AtomicUtil.toType(casValue.getAtomicValue(), type);
+    final var out = new ByteArrayOutputStream();
+    out.writeBytes(toPrefix(casValue.getPathNodeKey()));
+    writeOrderPreservingValue(out, value, type);
+    if (type.isNumeric() && !(type.instanceOf(Type.DBL) || type.instanceOf(Type.FLO) || type.instanceOf(Type.INT))) {
+      out.writeBytes(AtomicUtil.toBytes(value));
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] toBytes(final QNm name) {
+    final var out = new ByteArrayOutputStream();
+    final String namespaceURI = name.getNamespaceURI();
+    writeString(out, namespaceURI == null ? "" : namespaceURI);
+    out.write(0);
+    writeString(out, name.getLocalName());
+    return out.toByteArray();
+  }
+
+  private static void writeOrderPreservingValue(final ByteArrayOutputStream out, final Atomic value,
+      final Type type) {
+    if (type.isNumeric()) {
+      double doubleValue = ((Numeric) value).doubleValue();
+      if (doubleValue == 0.0) {
+        // Normalize -0.0.
+        doubleValue = 0.0;
+      }
+      long bits = Double.doubleToLongBits(doubleValue);
+      bits ^= (bits >> 63) | Long.MIN_VALUE;
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        out.write((int) (bits >>> shift));
+      }
+    } else if (type.instanceOf(Type.BOOL)) {
+      out.write(value.booleanValue() ? 1 : 0);
+    } else {
+      writeString(out, value.stringValue());
+    }
+  }
+
+  private static void writeString(final ByteArrayOutputStream out, final String value) {
+    for (int i = 0, length = value.length(); i < length; i++) {
+      final char c = value.charAt(i);
+      if (c < 0x80) {
+        out.write(c);
+      } else if (c < 0x800) {
+        out.write(0xC0 | (c >> 6));
+        out.write(0x80 | (c & 0x3F));
+      } else {
+        out.write(0xE0 | (c >> 12));
+        out.write(0x80 | ((c >> 6) & 0x3F));
+        out.write(0x80 | (c & 0x3F));
+      }
+    }
+  }
+}
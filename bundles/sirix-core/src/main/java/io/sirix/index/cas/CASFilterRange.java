@@ -56,6 +56,26 @@ public final class CASFilterRange implements Filter {
     this.incMax = incMax;
   }
 
+  public Set<Long> getPCRs() {
+    return pathFilter.getPCRs();
+  }
+
+  public Atomic getMin() {
+    return min;
+  }
+
+  public Atomic getMax() {
+    return max;
+  }
+
+  public boolean includesMin() {
+    return incMin;
+  }
+
+  public boolean includesMax() {
+    return incMax;
+  }
+
   @Override
   public <K extends Comparable<? super K>> boolean filter(final RBNodeKey<K> node) {
     final K key = node.getKey();
@@ -5,10 +5,16 @@ import io.sirix.api.NodeCursor;
 import io.sirix.api.NodeReadOnlyTrx;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.api.PageTrx;
+import io.sirix.exception.SirixRuntimeException;
+import io.sirix.index.AtomicUtil;
 import io.sirix.index.ChangeListener;
+import io.sirix.index.Filter;
+import io.sirix.index.IndexBackendType;
 import io.sirix.index.IndexDef;
 import io.sirix.index.IndexFilterAxis;
 import io.sirix.index.SearchMode;
+import io.sirix.index.art.ARTReader;
+import io.sirix.index.art.IndexKeys;
 import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.index.redblacktree.RBNodeValue;
 import io.sirix.index.redblacktree.RBTreeReader;
@@ -16,6 +22,7 @@ import io.sirix.index.redblacktree.keyvalue.CASValue;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.settings.Fixed;
 import io.brackit.query.atomic.Atomic;
+import io.brackit.query.jdm.Type;
 import io.sirix.index.path.summary.PathSummaryReader;
 
 import java.util.*;
@@ -27,6 +34,10 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
   L createListener(PageTrx pageWriteTrx, PathSummaryReader pathSummaryReader, IndexDef indexDef);
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilterRange filter) {
+    if (indexDef.getBackendType() == IndexBackendType.ART) {
+      return openARTIndex(pageRtx, indexDef, filter);
+    }
+
     final RBTreeReader<CASValue, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
@@ -39,6 +50,10 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
   }
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilter filter) {
+    if (indexDef.getBackendType() == IndexBackendType.ART) {
+      return openARTIndex(pageRtx, indexDef, filter);
+    }
+
     final RBTreeReader<CASValue, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
@@ -107,6 +122,86 @@ public interface CASIndex<B, L extends ChangeListener, R extends NodeReadOnlyTrx
     }
   }
 
+  private Iterator<NodeReferences> openARTIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilterRange filter) {
+    final ARTReader<CASValue, NodeReferences> reader =
+        ARTReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID(), IndexKeys.forCASValue());
+
+    final Set<Long> pcrs = filter.getPCRs();
+
+    if (pcrs.isEmpty()) {
+      return new IndexFilterAxis<>(reader::getValue, reader.iterator(), Set.of(filter));
+    }
+
+    // Scan the range of each PCR, as the keys are ordered by PCR first.
+    final Type type = indexDef.getContentType();
+    final Iterator<Iterator<RBNodeKey<CASValue>>> ranges =
+        Iterators.transform(new TreeSet<>(pcrs).iterator(),
+                            pcr -> reader.iterator(toBound(pcr, filter.getMin(), type),
+                                                   toBound(pcr, filter.getMax(), type)));
+
+    return new IndexFilterAxis<>(reader::getValue, Iterators.concat(ranges), Set.of(filter));
+  }
+
+  private Iterator<NodeReferences> openARTIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, CASFilter filter) {
+    final ARTReader<CASValue, NodeReferences> reader =
+        ARTReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID(), IndexKeys.forCASValue());
+
+    final Set<Long> pcrs = filter == null ? Set.of() : filter.getPCRs();
+    final Set<Filter> filters = filter == null ? Set.of() : Set.of(filter);
+
+    if (pcrs.isEmpty()) {
+      return new IndexFilterAxis<>(reader::getValue, reader.iterator(), filters);
+    }
+
+    final Atomic atomic = filter.getKey();
+    final SearchMode mode = filter.getMode();
+    final Type type = indexDef.getContentType();
+    final Iterator<Iterator<RBNodeKey<CASValue>>> entries =
+        Iterators.transform(new TreeSet<>(pcrs).iterator(), pcr -> getARTEntries(reader, pcr, atomic, mode, type));
+
+    return new IndexFilterAxis<>(reader::getValue, Iterators.concat(entries), filters);
+  }
+
+  private static Iterator<RBNodeKey<CASValue>> getARTEntries(ARTReader<CASValue, NodeReferences> reader, long pcr,
+      Atomic atomic, SearchMode mode, Type type) {
+    if (atomic != null && mode == SearchMode.EQUAL) {
+      // Compare for equality by PCR and atomic value.
+      try {
+        return reader.getEntry(new CASValue(atomic, type, pcr))
+                     .<Iterator<RBNodeKey<CASValue>>>map(Iterators::singletonIterator)
+                     .orElse(Collections.emptyIterator());
+      } catch (final SirixRuntimeException e) {
+        // Not castable to the type of the index.
+        return Collections.emptyIterator();
+      }
+    }
+
+    // Compare for search criteria by PCR and atomic value.
+    final boolean isLowerBound = mode == SearchMode.GREATER || mode == SearchMode.GREATER_OR_EQUAL;
+    final boolean isUpperBound = mode == SearchMode.LOWER || mode == SearchMode.LOWER_OR_EQUAL;
+    return reader.iterator(toBound(pcr, isLowerBound ? atomic : null, type),
+                           toBound(pcr, isUpperBound ? atomic : null, type));
+  }
+
+  /**
+   * Get the binary bound of a range scan within the keys of a PCR.
+   *
+   * @param pcr   the path class record
+   * @param value the bounding value or {@code null}, if the range is only bounded by the PCR
+   * @param type  the type of the index
+   * @return the bound
+   */
+  private static byte[] toBound(long pcr, Atomic value, Type type) {
+    if (value == null || !IndexKeys.isOrderPreserving(type)) {
+      return IndexKeys.toPrefix(pcr);
+    }
+    try {
+      return IndexKeys.toBound(pcr, AtomicUtil.toType(value, type), type);
+    } catch (final SirixRuntimeException e) {
+      return IndexKeys.toPrefix(pcr);
+    }
+  }
+
   private Function<RBNodeKey<CASValue>, Iterator<NodeReferences>> findFirstNodeWithMatchingPCRAndAtomicValue(
       CASFilter filter, RBTreeReader<CASValue, NodeReferences> reader, SearchMode mode, CASValue value) {
     return node -> {
@@ -4,10 +4,10 @@ import io.sirix.api.visitor.VisitResult;
 import io.sirix.api.visitor.VisitResultType;
 import io.sirix.exception.SirixIOException;
 import io.sirix.exception.SirixRuntimeException;
+import io.sirix.index.IndexTreeWriter;
 import io.sirix.index.AtomicUtil;
-import io.sirix.index.SearchMode;
-import io.sirix.index.redblacktree.RBTreeReader;
-import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.BulkIndexBuilder;
+import io.sirix.index.IndexBulkLoader;
 import io.sirix.index.redblacktree.keyvalue.CASValue;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.node.immutable.json.ImmutableBooleanNode;
@@ -25,13 +25,12 @@ import io.brackit.query.util.path.PathException;
 import io.sirix.index.path.summary.PathSummaryReader;
 import org.slf4j.LoggerFactory;
 
-import java.util.Optional;
 import java.util.Set;
 
-public final class CASIndexBuilder {
+public final class CASIndexBuilder implements BulkIndexBuilder {
   private static final LogWrapper LOGGER = new LogWrapper(LoggerFactory.getLogger(CASIndexBuilder.class));
 
-  private final RBTreeWriter<CASValue, NodeReferences> indexWriter;
+  private final IndexBulkLoader<CASValue> bulkLoader;
 
   private final PathSummaryReader pathSummaryReader;
 
@@ -39,11 +38,11 @@ public final class CASIndexBuilder {
 
   private final Type type;
 
-  public CASIndexBuilder(final RBTreeWriter<CASValue, NodeReferences> indexWriter,
+  public CASIndexBuilder(final IndexTreeWriter<CASValue, NodeReferences> indexWriter,
       final PathSummaryReader pathSummaryReader, final Set<Path<QNm>> paths, final Type type) {
     this.pathSummaryReader = pathSummaryReader;
     this.paths = paths;
-    this.indexWriter = indexWriter;
+    this.bulkLoader = new IndexBulkLoader<>(indexWriter, IndexBulkLoader.forCASValue(type));
     this.type = type;
   }
 
@@ -70,13 +69,7 @@ public final class CASIndexBuilder {
         }
 
         if (isOfType) {
-          final CASValue value = new CASValue(strValue, type, pathNodeKey);
-          final Optional<NodeReferences> textReferences = indexWriter.get(value, SearchMode.EQUAL);
-          if (textReferences.isPresent()) {
-            setNodeReferences(node, textReferences.get(), value);
-          } else {
-            setNodeReferences(node, new NodeReferences(), value);
-          }
+          bulkLoader.add(new CASValue(strValue, type, pathNodeKey), node.getNodeKey());
         }
       }
     } catch (final PathException | SirixIOException e) {
@@ -85,8 +78,18 @@ public final class CASIndexBuilder {
     return VisitResultType.CONTINUE;
   }
 
-  private void setNodeReferences(final ImmutableNode node, final NodeReferences references, final CASValue value)
-      throws SirixIOException {
-    indexWriter.index(value, references.addNodeKey(node.getNodeKey()), RBTreeReader.MoveCursor.NO_MOVE);
+  @Override
+  public void prepare() {
+    bulkLoader.sort();
+  }
+
+  @Override
+  public void finish() {
+    bulkLoader.load();
+  }
+
+  @Override
+  public void close() {
+    bulkLoader.close();
   }
 }
@@ -3,10 +3,10 @@ package io.sirix.index.cas;
 import io.sirix.access.trx.node.IndexController;
 import io.sirix.exception.SirixIOException;
 import io.sirix.exception.SirixRuntimeException;
+import io.sirix.index.IndexTreeWriter;
 import io.sirix.index.AtomicUtil;
 import io.sirix.index.SearchMode;
 import io.sirix.index.redblacktree.RBTreeReader;
-import io.sirix.index.redblacktree.RBTreeWriter;
 import io.sirix.index.redblacktree.keyvalue.CASValue;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.node.interfaces.immutable.ImmutableNode;
@@ -21,13 +21,13 @@ import java.util.Set;
 
 public final class CASIndexListener {
 
-  private final RBTreeWriter<CASValue, NodeReferences> indexWriter;
+  private final IndexTreeWriter<CASValue, NodeReferences> indexWriter;
   private final PathSummaryReader pathSummaryReader;
   private final Set<Path<QNm>> paths;
   private final Type type;
 
   public CASIndexListener(final PathSummaryReader pathSummaryReader,
-      final RBTreeWriter<CASValue, NodeReferences> indexWriter, final Set<Path<QNm>> paths, final Type type) {
+      final IndexTreeWriter<CASValue, NodeReferences> indexWriter, final Set<Path<QNm>> paths, final Type type) {
     this.pathSummaryReader = pathSummaryReader;
     this.indexWriter = indexWriter;
     this.paths = paths;
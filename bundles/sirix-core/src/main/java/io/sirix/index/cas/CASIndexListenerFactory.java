@@ -5,7 +5,8 @@ import static java.util.Objects.requireNonNull;
 import io.sirix.access.DatabaseType;
 import io.sirix.api.PageTrx;
 import io.sirix.index.IndexDef;
-import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.IndexTreeWriter;
+import io.sirix.index.art.IndexKeys;
 import io.sirix.index.redblacktree.keyvalue.CASValue;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.index.path.summary.PathSummaryReader;
@@ -22,11 +23,11 @@ public final class CASIndexListenerFactory {
       final PathSummaryReader pathSummaryReader, final IndexDef indexDef) {
     final var pathSummary = requireNonNull(pathSummaryReader);
     final var avlTreeWriter =
-        RBTreeWriter.<CASValue, NodeReferences>getInstance(
+        IndexTreeWriter.<CASValue, NodeReferences>getInstance(
                 this.databaseType,
                 pageTrx,
-                indexDef.getType(),
-                indexDef.getID()
+                indexDef,
+                IndexKeys.forCASValue()
         );
     final var type = requireNonNull(indexDef.getContentType());
     final var paths = requireNonNull(indexDef.getPaths());
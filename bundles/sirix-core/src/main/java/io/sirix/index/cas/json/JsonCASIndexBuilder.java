@@ -1,5 +1,6 @@
 package io.sirix.index.cas.json;
 
+import io.sirix.index.BulkIndexBuilder;
 import io.sirix.access.trx.node.json.AbstractJsonNodeVisitor;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
 import io.sirix.api.visitor.VisitResult;
@@ -12,7 +13,7 @@ import io.sirix.node.interfaces.immutable.ImmutableNode;
  *
  * @author Johannes Lichtenberger
  */
-final class JsonCASIndexBuilder extends AbstractJsonNodeVisitor {
+final class JsonCASIndexBuilder extends AbstractJsonNodeVisitor implements BulkIndexBuilder {
 
   private final CASIndexBuilder indexBuilderDelegate;
 
@@ -81,4 +82,18 @@ final class JsonCASIndexBuilder extends AbstractJsonNodeVisitor {
     return pcr;
   }
 
+  @Override
+  public void prepare() {
+    indexBuilderDelegate.prepare();
+  }
+
+  @Override
+  public void finish() {
+    indexBuilderDelegate.finish();
+  }
+
+  @Override
+  public void close() {
+    indexBuilderDelegate.close();
+  }
 }
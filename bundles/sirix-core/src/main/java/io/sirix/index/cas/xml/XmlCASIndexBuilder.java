@@ -1,5 +1,6 @@
 package io.sirix.index.cas.xml;
 
+import io.sirix.index.BulkIndexBuilder;
 import io.sirix.api.visitor.VisitResult;
 import io.sirix.api.xml.XmlNodeReadOnlyTrx;
 import io.sirix.access.trx.node.xml.AbstractXmlNodeVisitor;
@@ -13,7 +14,7 @@ import io.sirix.node.immutable.xml.ImmutableText;
  * @author Johannes Lichtenberger
  *
  */
-final class XmlCASIndexBuilder extends AbstractXmlNodeVisitor {
+final class XmlCASIndexBuilder extends AbstractXmlNodeVisitor implements BulkIndexBuilder {
 
   private final CASIndexBuilder mIndexBuilderDelegate;
 
@@ -43,4 +44,18 @@ final class XmlCASIndexBuilder extends AbstractXmlNodeVisitor {
     return mIndexBuilderDelegate.process(node, PCR);
   }
 
+  @Override
+  public void prepare() {
+    mIndexBuilderDelegate.prepare();
+  }
+
+  @Override
+  public void finish() {
+    mIndexBuilderDelegate.finish();
+  }
+
+  @Override
+  public void close() {
+    mIndexBuilderDelegate.close();
+  }
 }
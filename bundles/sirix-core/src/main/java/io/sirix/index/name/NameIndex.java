@@ -5,6 +5,8 @@ import com.google.common.collect.Iterators;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.api.PageTrx;
 import io.sirix.index.*;
+import io.sirix.index.art.ARTReader;
+import io.sirix.index.art.IndexKeys;
 import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.index.redblacktree.RBTreeReader;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
@@ -21,6 +23,17 @@ public interface NameIndex<B, L extends ChangeListener> {
   L createListener(PageTrx pageTrx, IndexDef indexDef);
 
   default Iterator<NodeReferences> openIndex(PageReadOnlyTrx pageRtx, IndexDef indexDef, NameFilter filter) {
+    if (indexDef.getBackendType() == IndexBackendType.ART) {
+      final ARTReader<QNm, NodeReferences> reader =
+          ARTReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID(), IndexKeys.forName());
+
+      if (filter.getIncludes().size() == 1 && filter.getExcludes().isEmpty()) {
+        final Optional<NodeReferences> optionalNodeReferences = reader.get(filter.getIncludes().iterator().next());
+        return Iterators.forArray(optionalNodeReferences.orElse(new NodeReferences()));
+      }
+      return new IndexFilterAxis<>(reader::getValue, reader.iterator(), ImmutableSet.of(filter));
+    }
+
     final RBTreeReader<QNm, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
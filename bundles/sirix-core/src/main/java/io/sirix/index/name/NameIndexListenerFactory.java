@@ -5,8 +5,9 @@ import static java.util.Objects.requireNonNull;
 import io.sirix.access.DatabaseType;
 import io.sirix.api.PageTrx;
 import io.sirix.index.IndexDef;
+import io.sirix.index.IndexTreeWriter;
 import io.sirix.index.IndexType;
-import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.art.IndexKeys;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.brackit.query.atomic.QNm;
 
@@ -23,11 +24,11 @@ public final class NameIndexListenerFactory {
     final var includes = requireNonNull(indexDefinition.getIncluded());
     final var excludes = requireNonNull(indexDefinition.getExcluded());
     assert indexDefinition.getType() == IndexType.NAME;
-    final var avlTreeWriter = RBTreeWriter.<QNm, NodeReferences>getInstance(
+    final var avlTreeWriter = IndexTreeWriter.<QNm, NodeReferences>getInstance(
             this.databaseType,
             pageWriteTrx,
-            indexDefinition.getType(),
-            indexDefinition.getID()
+            indexDefinition,
+            IndexKeys.forName()
     );
 
     return new NameIndexListener(includes, excludes, avlTreeWriter);
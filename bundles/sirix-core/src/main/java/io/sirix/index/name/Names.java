@@ -234,6 +234,15 @@ public final class Names {
     return new String(name, Constants.DEFAULT_ENCODING);
   }
 
+  /**
+   * Get the number of distinct names.
+   *
+   * @return the number of distinct names
+   */
+  public int size() {
+    return nameMap.size();
+  }
+
   /**
    * Get the number of nodes with the same name.
    *
@@ -1,12 +1,13 @@
 package io.sirix.index.name.json;
 
+import io.sirix.index.BulkIndexBuilder;
 import io.sirix.api.visitor.VisitResult;
 import io.sirix.node.immutable.json.ImmutableObjectKeyNode;
 import io.brackit.query.atomic.QNm;
 import io.sirix.access.trx.node.json.AbstractJsonNodeVisitor;
 import io.sirix.index.name.NameIndexBuilder;
 
-final class JsonNameIndexBuilder extends AbstractJsonNodeVisitor {
+final class JsonNameIndexBuilder extends AbstractJsonNodeVisitor implements BulkIndexBuilder {
   private final NameIndexBuilder builder;
 
   public JsonNameIndexBuilder(final NameIndexBuilder builder) {
@@ -19,4 +20,19 @@ final class JsonNameIndexBuilder extends AbstractJsonNodeVisitor {
 
     return builder.build(name, node);
   }
+
+  @Override
+  public void prepare() {
+    builder.prepare();
+  }
+
+  @Override
+  public void finish() {
+    builder.finish();
+  }
+
+  @Override
+  public void close() {
+    builder.close();
+  }
 }
@@ -1,12 +1,13 @@
 package io.sirix.index.name.xml;
 
+import io.sirix.index.BulkIndexBuilder;
 import io.sirix.api.visitor.VisitResult;
 import io.sirix.node.immutable.xml.ImmutableElement;
 import io.brackit.query.atomic.QNm;
 import io.sirix.access.trx.node.xml.AbstractXmlNodeVisitor;
 import io.sirix.index.name.NameIndexBuilder;
 
-final class XmlNameIndexBuilder extends AbstractXmlNodeVisitor {
+final class XmlNameIndexBuilder extends AbstractXmlNodeVisitor implements BulkIndexBuilder {
   private final NameIndexBuilder builder;
 
   XmlNameIndexBuilder(final NameIndexBuilder builder) {
@@ -19,4 +20,19 @@ final class XmlNameIndexBuilder extends AbstractXmlNodeVisitor {
 
     return builder.build(name, node);
   }
+
+  @Override
+  public void prepare() {
+    builder.prepare();
+  }
+
+  @Override
+  public void finish() {
+    builder.finish();
+  }
+
+  @Override
+  public void close() {
+    builder.close();
+  }
 }
@@ -3,6 +3,8 @@ package io.sirix.index.path;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterators;
 import io.sirix.index.*;
+import io.sirix.index.art.ARTReader;
+import io.sirix.index.art.IndexKeys;
 import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.api.PageTrx;
@@ -22,6 +24,18 @@ public interface PathIndex<B, L extends ChangeListener> {
 
   default Iterator<NodeReferences> openIndex(final PageReadOnlyTrx pageRtx, final IndexDef indexDef,
       final PathFilter filter) {
+    if (indexDef.getBackendType() == IndexBackendType.ART) {
+      final ARTReader<Long, NodeReferences> reader =
+          ARTReader.getInstance(pageRtx, indexDef.getType(), indexDef.getID(), IndexKeys.forPathNodeKey());
+
+      if (filter != null && filter.getPCRs().size() == 1) {
+        final Optional<NodeReferences> optionalNodeReferences = reader.get(filter.getPCRs().iterator().next());
+        return Iterators.forArray(optionalNodeReferences.orElse(new NodeReferences()));
+      }
+      final Set<Filter> setFilter = filter == null ? ImmutableSet.of() : ImmutableSet.of(filter);
+      return new IndexFilterAxis<>(reader::getValue, reader.iterator(), setFilter);
+    }
+
     final RBTreeReader<Long, NodeReferences> reader =
         RBTreeReader.getInstance(pageRtx.getResourceSession().getIndexCache(),
                                  pageRtx,
@@ -4,10 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import io.sirix.access.DatabaseType;
 import io.sirix.index.IndexDef;
+import io.sirix.index.IndexTreeWriter;
 import io.sirix.index.IndexType;
+import io.sirix.index.art.IndexKeys;
 import io.sirix.api.PageTrx;
 import io.sirix.index.path.summary.PathSummaryReader;
-import io.sirix.index.redblacktree.RBTreeWriter;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 
 
@@ -24,8 +25,8 @@ public final class PathIndexBuilderFactory {
     final var pathSummary = requireNonNull(pathSummaryReader);
     final var paths = requireNonNull(indexDef.getPaths());
     assert indexDef.getType() == IndexType.PATH;
-    final var rbTreeWriter = RBTreeWriter.<Long, NodeReferences>getInstance(
-            this.databaseType, pageTrx, indexDef.getType(), indexDef.getID());
+    final var rbTreeWriter = IndexTreeWriter.<Long, NodeReferences>getInstance(
+            this.databaseType, pageTrx, indexDef, IndexKeys.forPathNodeKey());
 
     return new PathIndexBuilder(rbTreeWriter, pathSummary, paths);
   }
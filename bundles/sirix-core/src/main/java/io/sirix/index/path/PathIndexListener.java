@@ -1,6 +1,7 @@
 package io.sirix.index.path;
 
 import io.sirix.access.trx.node.IndexController;
+import io.sirix.index.IndexTreeWriter;
 import io.sirix.index.SearchMode;
 import io.brackit.query.atomic.QNm;
 import io.brackit.query.util.path.Path;
@@ -8,7 +9,6 @@ import io.brackit.query.util.path.PathException;
 import io.sirix.exception.SirixIOException;
 import io.sirix.index.path.summary.PathSummaryReader;
 import io.sirix.index.redblacktree.RBTreeReader.MoveCursor;
-import io.sirix.index.redblacktree.RBTreeWriter;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 import io.sirix.node.interfaces.immutable.ImmutableNode;
 
@@ -17,12 +17,12 @@ import java.util.Set;
 
 public final class PathIndexListener {
 
-  private final RBTreeWriter<Long, NodeReferences> indexWriter;
+  private final IndexTreeWriter<Long, NodeReferences> indexWriter;
   private final PathSummaryReader pathSummaryReader;
   private final Set<Path<QNm>> paths;
 
   public PathIndexListener(final Set<Path<QNm>> paths, final PathSummaryReader pathSummaryReader,
-      final RBTreeWriter<Long, NodeReferences> indexWriter) {
+      final IndexTreeWriter<Long, NodeReferences> indexWriter) {
     this.indexWriter = indexWriter;
     this.pathSummaryReader = pathSummaryReader;
     this.paths = paths;
@@ -4,9 +4,10 @@ import static java.util.Objects.requireNonNull;
 
 import io.sirix.access.DatabaseType;
 import io.sirix.index.IndexDef;
+import io.sirix.index.IndexTreeWriter;
+import io.sirix.index.art.IndexKeys;
 import io.sirix.api.PageTrx;
 import io.sirix.index.path.summary.PathSummaryReader;
-import io.sirix.index.redblacktree.RBTreeWriter;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
 
 public final class PathIndexListenerFactory {
@@ -21,10 +22,10 @@ public final class PathIndexListenerFactory {
       final IndexDef indexDef) {
     final var pathSummary = requireNonNull(pathSummaryReader);
     final var paths = requireNonNull(indexDef.getPaths());
-    final var avlTreeWriter = RBTreeWriter.<Long, NodeReferences>getInstance(this.databaseType,
-                                                                             pageTrx,
-                                                                             indexDef.getType(),
-                                                                             indexDef.getID());
+    final var avlTreeWriter = IndexTreeWriter.<Long, NodeReferences>getInstance(this.databaseType,
+                                                                                pageTrx,
+                                                                                indexDef,
+                                                                                IndexKeys.forPathNodeKey());
 
     return new PathIndexListener(paths, pathSummary, avlTreeWriter);
   }
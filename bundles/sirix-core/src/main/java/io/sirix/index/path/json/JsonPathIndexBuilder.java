@@ -1,12 +1,13 @@
 package io.sirix.index.path.json;
 
+import io.sirix.index.BulkIndexBuilder;
 import io.sirix.access.trx.node.json.AbstractJsonNodeVisitor;
 import io.sirix.api.visitor.VisitResult;
 import io.sirix.index.path.PathIndexBuilder;
 import io.sirix.node.immutable.json.ImmutableArrayNode;
 import io.sirix.node.immutable.json.ImmutableObjectKeyNode;
 
-public final class JsonPathIndexBuilder extends AbstractJsonNodeVisitor {
+public final class JsonPathIndexBuilder extends AbstractJsonNodeVisitor implements BulkIndexBuilder {
 
   private final PathIndexBuilder pathIndexBuilder;
 
@@ -23,4 +24,19 @@ public final class JsonPathIndexBuilder extends AbstractJsonNodeVisitor {
   public VisitResult visit(ImmutableArrayNode node) {
     return pathIndexBuilder.process(node, node.getPathNodeKey());
   }
+
+  @Override
+  public void prepare() {
+    pathIndexBuilder.prepare();
+  }
+
+  @Override
+  public void finish() {
+    pathIndexBuilder.finish();
+  }
+
+  @Override
+  public void close() {
+    pathIndexBuilder.close();
+  }
 }
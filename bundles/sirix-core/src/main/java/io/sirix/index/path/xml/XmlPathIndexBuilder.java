@@ -1,12 +1,13 @@
 package io.sirix.index.path.xml;
 
+import io.sirix.index.BulkIndexBuilder;
 import io.sirix.access.trx.node.xml.AbstractXmlNodeVisitor;
 import io.sirix.api.visitor.VisitResult;
 import io.sirix.index.path.PathIndexBuilder;
 import io.sirix.node.immutable.xml.ImmutableAttributeNode;
 import io.sirix.node.immutable.xml.ImmutableElement;
 
-public final class XmlPathIndexBuilder extends AbstractXmlNodeVisitor {
+public final class XmlPathIndexBuilder extends AbstractXmlNodeVisitor implements BulkIndexBuilder {
 
   private final PathIndexBuilder mPathIndexBuilder;
 
@@ -24,4 +25,18 @@ public final class XmlPathIndexBuilder extends AbstractXmlNodeVisitor {
     return mPathIndexBuilder.process(node, node.getPathNodeKey());
   }
 
+  @Override
+  public void prepare() {
+    mPathIndexBuilder.prepare();
+  }
+
+  @Override
+  public void finish() {
+    mPathIndexBuilder.finish();
+  }
+
+  @Override
+  public void close() {
+    mPathIndexBuilder.close();
+  }
 }
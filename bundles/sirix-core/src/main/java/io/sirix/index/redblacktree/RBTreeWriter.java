@@ -34,6 +34,7 @@ import io.sirix.api.NodeCursor;
 import io.sirix.api.PageTrx;
 import io.sirix.cache.PageContainer;
 import io.sirix.exception.SirixIOException;
+import io.sirix.index.IndexTreeWriter;
 import io.sirix.index.IndexType;
 import io.sirix.index.SearchMode;
 import io.sirix.index.redblacktree.interfaces.References;
@@ -47,9 +48,12 @@ import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.LoggerFactory;
 
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -61,7 +65,7 @@ import static java.util.Objects.requireNonNull;
  */
 @SuppressWarnings("ConstantValue")
 public final class RBTreeWriter<K extends Comparable<? super K>, V extends References>
-    extends AbstractForwardingNodeCursor {
+    extends AbstractForwardingNodeCursor implements IndexTreeWriter<K, V> {
   /**
    * Logger.
    */
@@ -146,6 +150,7 @@ public final class RBTreeWriter<K extends Comparable<? super K>, V extends Refer
    * @return indexed node key references
    * @throws SirixIOException if an I/O error occurs
    */
+  @Override
   public V index(final K key, final V value, final RBTreeReader.MoveCursor move) {
     if (move == RBTreeReader.MoveCursor.TO_DOCUMENT_ROOT) {
       moveToDocumentRoot();
@@ -237,6 +242,105 @@ public final class RBTreeWriter<K extends Comparable<? super K>, V extends Refer
     }
   }
 
+  /**
+   * Adds the sorted entries to the index. If the index is empty, the tree is built bottom-up: the
+   * entries are streamed once and stored in-order, and afterwards linked to a balanced tree, where
+   * only the nodes of the deepest (incomplete) level are red, such that neither lookups nor rotations
+   * are needed. Otherwise, the entries are indexed one by one.
+   *
+   * @param entries the sorted entries with unique keys
+   * @throws SirixIOException if an I/O error occurs
+   */
+  @Override
+  public void bulkLoad(final Iterator<Map.Entry<K, V>> entries) {
+    moveToDocumentRoot();
+    if (!entries.hasNext()) {
+      return;
+    }
+    if (((StructNode) getNode()).hasFirstChild()) {
+      IndexTreeWriter.super.bulkLoad(entries);
+      return;
+    }
+
+    // Each entry occupies two consecutive node keys (the key and the value node), which are
+    // assigned in-order. The shape of the tree only depends on the number of entries, thus the nodes
+    // are linked once all entries have been stored.
+    final long firstNodeKey = getNewNodeKey(pageTrx.getActualRevisionRootPage());
+    long size = 0;
+    while (entries.hasNext()) {
+      final Map.Entry<K, V> entry = entries.next();
+      final long nodeKey = firstNodeKey + 2 * size;
+      final var nodeDelegate =
+          new NodeDelegate(nodeKey, Fixed.NULL_NODE_KEY.getStandardProperty(), null, 0, 0, (SirixDeweyID) null);
+      final long createdNodeKey =
+          pageTrx.createRecord(new RBNodeKey<>(entry.getKey(), nodeKey + 1, nodeDelegate),
+                               rbTreeReader.indexType,
+                               rbTreeReader.index).getNodeKey();
+      checkState(createdNodeKey == nodeKey, "Unexpected node key %s instead of %s.", createdNodeKey, nodeKey);
+      pageTrx.createRecord(new RBNodeValue<>(entry.getValue(),
+                                             new NodeDelegate(nodeKey + 1, nodeKey, null, 0, 0, (SirixDeweyID) null)),
+                           rbTreeReader.indexType,
+                           rbTreeReader.index);
+      size++;
+    }
+
+    final long rootKey = link(0,
+                              size - 1,
+                              0,
+                              computeRedLevel(size),
+                              Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
+                              firstNodeKey);
+
+    final StructNode document = pageTrx.prepareRecordForModification(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(),
+                                                                     rbTreeReader.indexType,
+                                                                     rbTreeReader.index);
+    document.setFirstChildKey(rootKey);
+    document.incrementChildCount();
+    document.setDescendantCount(document.getDescendantCount() + size);
+    moveToDocumentRoot();
+  }
+
+  /**
+   * Links the stored nodes in the range of in-order positions from {@code low} to {@code high} to a
+   * balanced subtree.
+   *
+   * @return the node key of the root of the subtree
+   */
+  private long link(final long low, final long high, final int level, final int redLevel, final long parentKey,
+      final long firstNodeKey) {
+    final long middle = (low + high) >>> 1;
+    final long nodeKey = firstNodeKey + 2 * middle;
+
+    final long leftChildKey = low < middle
+        ? link(low, middle - 1, level + 1, redLevel, nodeKey, firstNodeKey)
+        : Fixed.NULL_NODE_KEY.getStandardProperty();
+    final long rightChildKey = middle < high
+        ? link(middle + 1, high, level + 1, redLevel, nodeKey, firstNodeKey)
+        : Fixed.NULL_NODE_KEY.getStandardProperty();
+
+    final RBNodeKey<K> node = pageTrx.prepareRecordForModification(nodeKey, rbTreeReader.indexType, rbTreeReader.index);
+    node.setParentKey(parentKey);
+    node.setLeftChildKey(leftChildKey);
+    node.setRightChildKey(rightChildKey);
+    node.setChanged(level == redLevel);
+    return nodeKey;
+  }
+
+  /**
+   * Computes the level of the red nodes of a balanced tree with the given number of nodes, that is
+   * the deepest level, if it isn't complete (as in {@link java.util.TreeMap}).
+   *
+   * @param size the number of nodes
+   * @return the level of the red nodes
+   */
+  private static int computeRedLevel(final long size) {
+    int level = 0;
+    for (long m = size - 1; m >= 0; m = m / 2 - 1) {
+      level++;
+    }
+    return level;
+  }
+
   /**
    * Get the new maximum node key.
    *
@@ -262,6 +366,7 @@ public final class RBTreeWriter<K extends Comparable<? super K>, V extends Refer
    * @param nodeKey the nodeKey to remove from the value
    * @throws SirixIOException if an I/O error occured
    */
+  @Override
   public boolean remove(final K key, final @NonNegative long nodeKey) {
     checkArgument(nodeKey >= 0, "nodeKey must be >= 0!");
     final Optional<V> searchedValue = rbTreeReader.get(requireNonNull(key), SearchMode.EQUAL);
@@ -544,6 +649,7 @@ public final class RBTreeWriter<K extends Comparable<? super K>, V extends Refer
    * @return {@link Optional} reference (with the found value, or a reference which indicates that the
    * value hasn't been found)
    */
+  @Override
   public Optional<V> get(final K key, final SearchMode mode) {
     return rbTreeReader.get(requireNonNull(key), requireNonNull(mode));
   }
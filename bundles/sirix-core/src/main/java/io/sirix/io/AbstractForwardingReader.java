@@ -8,6 +8,7 @@ import io.sirix.page.interfaces.Page;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -31,6 +32,12 @@ public abstract class AbstractForwardingReader extends ForwardingObject implemen
     return delegate().readAsync(reference, pageReadTrx);
   }
 
+  @Override
+  public CompletableFuture<List<Page>> readAllAsync(List<PageReference> references,
+      @Nullable PageReadOnlyTrx pageReadTrx) {
+    return delegate().readAllAsync(references, pageReadTrx);
+  }
+
   @Override
   public PageReference readUberPageReference() {
     return delegate().readUberPageReference();
@@ -1,6 +1,7 @@
 package io.sirix.io;
 
 import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.exception.SirixIOException;
 import io.sirix.io.bytepipe.ByteHandler;
 import io.sirix.page.PagePersister;
 import io.sirix.page.PageReference;
@@ -9,8 +10,11 @@ import io.sirix.page.UberPage;
 import io.sirix.page.interfaces.Page;
 import net.openhft.chronicle.bytes.Bytes;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class AbstractReader implements Reader {
   protected final ByteHandler byteHandler;
@@ -32,9 +36,44 @@ public abstract class AbstractReader implements Reader {
   }
 
   public Page deserialize(PageReadOnlyTrx pageReadTrx, byte[] page) throws IOException {
+    return deserialize(pageReadTrx, MemorySegment.ofArray(page));
+  }
+
+  /**
+   * Deserialize a page, which is read directly from a memory segment (for instance a slice of a
+   * memory mapped file or of a buffer of the storage).
+   *
+   * @param pageReadTrx the page read-only trx
+   * @param page        the serialized page
+   * @return the deserialized page
+   * @throws IOException if deserializing the page fails
+   */
+  public Page deserialize(PageReadOnlyTrx pageReadTrx, MemorySegment page) throws IOException {
     // perform byte operations
-    final var inputStream = byteHandler.deserialize(new ByteArrayInputStream(page));
-    return pagePersister.deserializePage(pageReadTrx, Bytes.wrapForRead(inputStream.readAllBytes()), type);
+    final MemorySegment deserializedPage = byteHandler.deserialize(page, ByteHandler.heapAllocator());
+    final var source = Bytes.wrapForRead(deserializedPage.asByteBuffer().order(ByteOrder.nativeOrder()));
+    return pagePersister.deserializePage(pageReadTrx, source, type);
+  }
+
+  /**
+   * Read a page without deserializing it.
+   *
+   * @param reference the reference of the page to read
+   * @return the serialized page, as it is stored in the data file
+   * @throws SirixIOException if an I/O error occurs
+   */
+  protected abstract MemorySegment readSerialized(PageReference reference);
+
+  /**
+   * Read several pages asynchronously without deserializing them. Only the I/O is done by other
+   * threads, the pages are deserialized with {@link #deserialize(PageReadOnlyTrx, MemorySegment)} by
+   * the thread of the transaction, which isn't thread safe.
+   *
+   * @param references the references of the pages to read
+   * @return the serialized pages in the order of the references
+   */
+  public CompletableFuture<List<MemorySegment>> readSerializedAsync(final List<PageReference> references) {
+    return CompletableFuture.supplyAsync(() -> references.stream().map(this::readSerialized).toList(), POOL);
   }
 
   @Override
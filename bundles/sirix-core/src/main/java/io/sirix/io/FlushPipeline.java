@@ -0,0 +1,104 @@
+package io.sirix.io;
+
+import io.sirix.exception.SirixIOException;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Appends the buffers of a {@link Writer} to its data file in the background, such that the
+ * committing thread doesn't block on I/O. The writes of one pipeline are executed one after the
+ * other in submission order, whereas the pipelines of different writers share a single executor
+ * of virtual threads, which doesn't keep the JVM alive.
+ *
+ * <p>
+ * Once a write fails, the subsequent writes of the pipeline are skipped and the failure is thrown
+ * by the next call to {@link #await()}.
+ * </p>
+ *
+ * <p>
+ * Instances are not thread-safe and are owned by the single thread, which commits.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class FlushPipeline implements AutoCloseable {
+
+  /**
+   * The executor, which is shared by the pipelines of all writers.
+   */
+  private static final ExecutorService FLUSH_EXECUTOR =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sirix-flush-", 0).factory());
+
+  /**
+   * A write, which is executed by the pipeline.
+   */
+  @FunctionalInterface
+  public interface FlushTask {
+    /**
+     * Write the buffer.
+     *
+     * @throws IOException if the write fails
+     */
+    void write() throws IOException;
+  }
+
+  /**
+   * Completes once all submitted writes are done.
+   */
+  private CompletableFuture<Void> pendingFlushes = CompletableFuture.completedFuture(null);
+
+  /**
+   * Submits a write, which is executed after all previously submitted writes.
+   *
+   * @param flushTask the write
+   */
+  public void submit(final FlushTask flushTask) {
+    pendingFlushes = pendingFlushes.thenRunAsync(() -> {
+      try {
+        flushTask.write();
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }, FLUSH_EXECUTOR);
+  }
+
+  /**
+   * Determines if writes are still executed.
+   *
+   * @return {@code true}, if there are pending writes, {@code false} otherwise
+   */
+  public boolean hasPendingFlushes() {
+    return !pendingFlushes.isDone();
+  }
+
+  /**
+   * Waits until all submitted writes are done.
+   *
+   * @throws SirixIOException if a write failed, after which the pipeline accepts new writes again
+   */
+  public void await() {
+    try {
+      pendingFlushes.join();
+    } catch (final CompletionException e) {
+      pendingFlushes = CompletableFuture.completedFuture(null);
+      if (e.getCause() instanceof SirixIOException sirixIOException) {
+        throw sirixIOException;
+      }
+      throw new SirixIOException(e.getCause());
+    }
+  }
+
+  /**
+   * Waits until all submitted writes are done.
+   *
+   * @throws SirixIOException if a write failed
+   */
+  @Override
+  public void close() {
+    await();
+  }
+}
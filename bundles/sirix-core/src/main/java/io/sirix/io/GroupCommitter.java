@@ -0,0 +1,388 @@
+package io.sirix.io;
+
+import io.sirix.access.DatabaseConfiguration;
+import io.sirix.exception.SirixIOException;
+import io.sirix.utils.LogWrapper;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Coalesces the durable flushes of concurrent commits of all resources of a database. Instead of
+ * forcing its data file on its own, each committing writer enqueues a flush request and blocks. The
+ * first request of a batch schedules a flush after the batching window.
+ *
+ * <p>
+ * The flush groups the files of the batch by their storage device. If several files of a batch are
+ * stored on the same device, the device is flushed by a single {@code syncfs(2)} call (Linux only),
+ * otherwise each distinct file is forced once. Afterwards all waiters of the batch are released
+ * together. A commit still only returns once its data file is durable: if {@code syncfs(2)} isn't
+ * available or fails, the files of the device are forced one by one.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class GroupCommitter implements AutoCloseable {
+
+  /** {@link LogWrapper} reference. */
+  private static final LogWrapper LOGWRAPPER = new LogWrapper(LoggerFactory.getLogger(GroupCommitter.class));
+
+  /**
+   * Group committers by database path.
+   */
+  private static final ConcurrentMap<Path, GroupCommitter> INSTANCES = new ConcurrentHashMap<>();
+
+  /**
+   * {@code open(2)}, or {@code null} if {@code syncfs(2)} isn't available on this platform.
+   */
+  private static final @Nullable MethodHandle OPEN = lookup("open", ValueLayout.ADDRESS, ValueLayout.JAVA_INT);
+
+  /**
+   * {@code syncfs(2)}, or {@code null} if it isn't available on this platform.
+   */
+  private static final @Nullable MethodHandle SYNCFS = lookup("syncfs", ValueLayout.JAVA_INT);
+
+  /**
+   * {@code close(2)}, or {@code null} if {@code syncfs(2)} isn't available on this platform.
+   */
+  private static final @Nullable MethodHandle CLOSE = lookup("close", ValueLayout.JAVA_INT);
+
+  /**
+   * {@code O_RDONLY}, which is also used to open directories.
+   */
+  private static final int O_RDONLY = 0;
+
+  /**
+   * The batching window in microseconds.
+   */
+  private final long batchingWindowMicros;
+
+  /**
+   * Thread, which executes the flushes.
+   */
+  private final ScheduledExecutorService flusher;
+
+  /**
+   * Pending flush requests of the current batch.
+   */
+  private List<FlushRequest> pendingRequests;
+
+  /**
+   * Determines if the current batch is already scheduled to be flushed.
+   */
+  private boolean isFlushScheduled;
+
+  /**
+   * Number of batches flushed.
+   */
+  private long numberOfBatches;
+
+  /**
+   * Number of flush requests.
+   */
+  private long numberOfRequests;
+
+  /**
+   * Number of devices flushed as a whole.
+   */
+  private long numberOfDeviceFlushes;
+
+  /**
+   * Number of files forced on their own.
+   */
+  private long numberOfFileForces;
+
+  private record FlushRequest(Participant participant, CompletableFuture<Void> future) {
+  }
+
+  /**
+   * A file, which is flushed by the group committer.
+   */
+  public final class Participant {
+
+    private final Path file;
+
+    private final FileChannel channel;
+
+    /**
+     * The storage device of the file, or {@code null}, if unknown.
+     */
+    private final @Nullable FileStore fileStore;
+
+    private Participant(final Path file, final FileChannel channel) {
+      this.file = requireNonNull(file);
+      this.channel = requireNonNull(channel);
+      FileStore store;
+      try {
+        store = Files.getFileStore(file);
+      } catch (final IOException e) {
+        LOGWRAPPER.debug(e.getMessage(), e);
+        store = null;
+      }
+      this.fileStore = store;
+    }
+
+    /**
+     * Force the file as part of the next batch and block until it is durable.
+     *
+     * @throws SirixIOException if the file couldn't be forced
+     */
+    public void force() {
+      GroupCommitter.this.force(this);
+    }
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param batchingWindowMicros the batching window in microseconds
+   */
+  public GroupCommitter(final long batchingWindowMicros) {
+    checkArgument(batchingWindowMicros > 0, "The batching window must be > 0.");
+    this.batchingWindowMicros = batchingWindowMicros;
+    this.pendingRequests = new ArrayList<>();
+    this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final var thread = new Thread(runnable, "sirix-group-commit");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Get the group committer of a database, if group commit is enabled.
+   *
+   * @param databaseConfig the database configuration (might be {@code null})
+   * @return the group committer of the database or {@code null}, if group commit is disabled
+   */
+  public static GroupCommitter getInstance(final DatabaseConfiguration databaseConfig) {
+    if (databaseConfig == null || !databaseConfig.isGroupCommitEnabled()) {
+      return null;
+    }
+    return INSTANCES.computeIfAbsent(databaseConfig.getDatabaseFile(),
+                                     unused -> new GroupCommitter(databaseConfig.getGroupCommitWindowMicros()));
+  }
+
+  /**
+   * Close and remove the group committer of a database, if present.
+   *
+   * @param databaseFile the path of the database
+   */
+  public static void closeInstance(final Path databaseFile) {
+    final GroupCommitter groupCommitter = INSTANCES.remove(databaseFile);
+    if (groupCommitter != null) {
+      groupCommitter.close();
+    }
+  }
+
+  /**
+   * Register a file, which is flushed by this group committer.
+   *
+   * @param file    the path of the file
+   * @param channel the channel of the file
+   * @return the participant, which forces the file
+   */
+  public Participant register(final Path file, final FileChannel channel) {
+    return new Participant(file, channel);
+  }
+
+  private void force(final Participant participant) {
+    final var request = new FlushRequest(participant, new CompletableFuture<>());
+
+    synchronized (this) {
+      pendingRequests.add(request);
+      numberOfRequests++;
+      if (!isFlushScheduled) {
+        isFlushScheduled = true;
+        flusher.schedule(this::flush, batchingWindowMicros, TimeUnit.MICROSECONDS);
+      }
+    }
+
+    try {
+      request.future().join();
+    } catch (final CompletionException e) {
+      throw e.getCause() instanceof SirixIOException sirixIOException
+          ? sirixIOException
+          : new SirixIOException(e.getCause());
+    }
+  }
+
+  private void flush() {
+    final List<FlushRequest> batch;
+
+    synchronized (this) {
+      batch = pendingRequests;
+      pendingRequests = new ArrayList<>();
+      isFlushScheduled = false;
+      numberOfBatches++;
+    }
+
+    // The distinct files of the batch by their storage devices (files of an unknown device on their own).
+    final Map<Object, Set<Participant>> participantsByDevice = new LinkedHashMap<>();
+    for (final FlushRequest request : batch) {
+      final Participant participant = request.participant();
+      final Object device = participant.fileStore == null ? participant : participant.fileStore;
+      participantsByDevice.computeIfAbsent(device, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                          .add(participant);
+    }
+
+    final Map<Participant, IOException> failures = new IdentityHashMap<>();
+
+    for (final Set<Participant> participants : participantsByDevice.values()) {
+      if (participants.size() > 1 && syncfs(participants.iterator().next().file)) {
+        synchronized (this) {
+          numberOfDeviceFlushes++;
+        }
+        continue;
+      }
+
+      for (final Participant participant : participants) {
+        try {
+          participant.channel.force(false);
+        } catch (final IOException e) {
+          failures.put(participant, e);
+        }
+        synchronized (this) {
+          numberOfFileForces++;
+        }
+      }
+    }
+
+    // Release all waiters of the batch together.
+    for (final FlushRequest request : batch) {
+      final IOException failure = failures.get(request.participant());
+      if (failure == null) {
+        request.future().complete(null);
+      } else {
+        request.future().completeExceptionally(new SirixIOException(failure));
+      }
+    }
+  }
+
+  /**
+   * Flush the file system, which contains the given file, by {@code syncfs(2)}.
+   *
+   * @param file a file of the file system
+   * @return {@code true}, if the file system has been flushed, {@code false}, if {@code syncfs(2)}
+   *         isn't available or failed
+   */
+  private static boolean syncfs(final Path file) {
+    if (!isSyncfsAvailable()) {
+      return false;
+    }
+
+    try (final Arena arena = Arena.openConfined()) {
+      final int fd = (int) OPEN.invokeExact(arena.allocateUtf8String(file.getParent().toString()), O_RDONLY);
+      if (fd < 0) {
+        return false;
+      }
+      try {
+        // Since Linux 5.8 write back errors of any file of the file system are reported.
+        return (int) SYNCFS.invokeExact(fd) == 0;
+      } finally {
+        final int unused = (int) CLOSE.invokeExact(fd);
+      }
+    } catch (final Throwable e) {
+      LOGWRAPPER.debug(e.getMessage(), e);
+      return false;
+    }
+  }
+
+  /**
+   * Determines if storage devices can be flushed as a whole by {@code syncfs(2)}.
+   *
+   * @return {@code true}, if {@code syncfs(2)} is available, {@code false} otherwise
+   */
+  static boolean isSyncfsAvailable() {
+    return OPEN != null && SYNCFS != null && CLOSE != null;
+  }
+
+  private static @Nullable MethodHandle lookup(final String name, final ValueLayout... argumentLayouts) {
+    try {
+      final Linker linker = Linker.nativeLinker();
+      return linker.defaultLookup()
+                   .find(name)
+                   .map(function -> linker.downcallHandle(function,
+                                                          FunctionDescriptor.of(ValueLayout.JAVA_INT,
+                                                                                argumentLayouts)))
+                   .orElse(null);
+    } catch (final UnsupportedOperationException | IllegalCallerException e) {
+      LOGWRAPPER.debug(e.getMessage(), e);
+      return null;
+    }
+  }
+
+  /**
+   * Get the number of flushed batches.
+   *
+   * @return the number of flushed batches
+   */
+  public synchronized long getNumberOfBatches() {
+    return numberOfBatches;
+  }
+
+  /**
+   * Get the number of flush requests.
+   *
+   * @return the number of flush requests
+   */
+  public synchronized long getNumberOfRequests() {
+    return numberOfRequests;
+  }
+
+  /**
+   * Get the number of storage devices, which have been flushed as a whole by {@code syncfs(2)}.
+   *
+   * @return the number of device flushes
+   */
+  public synchronized long getNumberOfDeviceFlushes() {
+    return numberOfDeviceFlushes;
+  }
+
+  /**
+   * Get the number of files, which have been forced on their own.
+   *
+   * @return the number of file forces
+   */
+  public synchronized long getNumberOfFileForces() {
+    return numberOfFileForces;
+  }
+
+  @Override
+  public void close() {
+    // Flush the current batch, such that no waiter is left behind.
+    flusher.execute(this::flush);
+    flusher.shutdown();
+    try {
+      flusher.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
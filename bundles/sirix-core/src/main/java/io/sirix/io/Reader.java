@@ -39,6 +39,7 @@ import io.sirix.page.interfaces.Page;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -77,6 +78,22 @@ public interface Reader extends AutoCloseable {
     return CompletableFuture.supplyAsync(() -> read(key, pageReadTrx), POOL);
   }
 
+  /**
+   * Read several pages at once, for instance all fragments of a record page. Implementations might
+   * submit the reads as one batch and merge the reads of adjacent pages.
+   *
+   * @param references the references of the pages to read
+   * @param pageReadTrx {@link PageReadOnlyTrx} reference
+   * @return the pages in the order of the references
+   */
+  default CompletableFuture<List<Page>> readAllAsync(List<PageReference> references,
+      @Nullable PageReadOnlyTrx pageReadTrx) {
+    final List<CompletableFuture<? extends Page>> futures =
+        references.stream().<CompletableFuture<? extends Page>>map(reference -> readAsync(reference, pageReadTrx)).toList();
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                            .thenApply(unused -> futures.stream().<Page>map(CompletableFuture::join).toList());
+  }
+
   /**
    * Getting a reference for the given pointer.
    *
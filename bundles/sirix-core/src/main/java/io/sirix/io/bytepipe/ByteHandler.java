@@ -1,7 +1,14 @@
 package io.sirix.io.bytepipe;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.lang.foreign.ValueLayout;
 
 /**
  * Interface for the decorator, representing any byte representation to be serialized or to
@@ -28,10 +35,58 @@ public interface ByteHandler {
    */
   InputStream deserialize(InputStream toDeserialize);
 
+  /**
+   * Method to serialize a byte-chunk from one memory segment into another one, in the same format
+   * as {@link #serialize(OutputStream)}. The default implementation falls back to the stream-based
+   * method; handlers override it to avoid the intermediate copies.
+   *
+   * @param toSerialize the bytes to be serialized
+   * @param allocator   allocates the resulting memory segment
+   * @return result of the serialization, which might be a slice of an allocated segment
+   */
+  default MemorySegment serialize(MemorySegment toSerialize, SegmentAllocator allocator) {
+    final var output = new ByteArrayOutputStream(Math.toIntExact(toSerialize.byteSize()));
+    try (final OutputStream serializer = serialize(output)) {
+      serializer.write(toSerialize.toArray(ValueLayout.JAVA_BYTE));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    final byte[] serialized = output.toByteArray();
+    return allocator.allocate(serialized.length).copyFrom(MemorySegment.ofArray(serialized));
+  }
+
+  /**
+   * Method to deserialize a byte-chunk from one memory segment into another one. The default
+   * implementation falls back to the stream-based method; handlers override it to avoid the
+   * intermediate copies.
+   *
+   * @param toDeserialize the bytes to deserialize
+   * @param allocator     allocates the resulting memory segment
+   * @return result of the deserialization, which might be a slice of an allocated segment
+   */
+  default MemorySegment deserialize(MemorySegment toDeserialize, SegmentAllocator allocator) {
+    final var input = new ByteArrayInputStream(toDeserialize.toArray(ValueLayout.JAVA_BYTE));
+    try (final InputStream deserializer = deserialize(input)) {
+      final byte[] deserialized = deserializer.readAllBytes();
+      return allocator.allocate(deserialized.length).copyFrom(MemorySegment.ofArray(deserialized));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   /**
    * Method to retrieve a new instance.
    *
    * @return new instance
    */
   ByteHandler getInstance();
+
+  /**
+   * Get an allocator of memory segments, which are backed by on-heap byte arrays.
+   *
+   * @return the allocator
+   */
+  static SegmentAllocator heapAllocator() {
+    return (byteSize, byteAlignment) -> MemorySegment.ofArray(new byte[Math.toIntExact(byteSize)]);
+  }
 }
@@ -2,6 +2,8 @@ package io.sirix.io.bytepipe;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -61,6 +63,25 @@ public final class ByteHandlerPipeline implements ByteHandler {
     return pipeData;
   }
 
+  @Override
+  public MemorySegment serialize(final MemorySegment toSerialize, final SegmentAllocator allocator) {
+    // Same order as the stream-based pipeline: the last handler is applied first.
+    MemorySegment pipeData = toSerialize;
+    for (int i = byteHandlers.size() - 1; i >= 0; i--) {
+      pipeData = byteHandlers.get(i).serialize(pipeData, allocator);
+    }
+    return pipeData;
+  }
+
+  @Override
+  public MemorySegment deserialize(final MemorySegment toDeserialize, final SegmentAllocator allocator) {
+    MemorySegment pipeData = toDeserialize;
+    for (final ByteHandler part : byteHandlers) {
+      pipeData = part.deserialize(pipeData, allocator);
+    }
+    return pipeData;
+  }
+
   /**
    * Get byte handler components.
    *
@@ -1,18 +1,56 @@
 package io.sirix.io.bytepipe;
 
+import io.sirix.exception.SirixIOException;
 import net.jpountz.lz4.LZ4BlockInputStream;
 import net.jpountz.lz4.LZ4BlockOutputStream;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import net.jpountz.xxhash.XXHash32;
+import net.jpountz.xxhash.XXHashFactory;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 
 /**
- * LZ4 compression/decompression.
+ * LZ4 compression/decompression. Memory segments are compressed with the LZ4 block API into the
+ * same block format, which is written by {@link LZ4BlockOutputStream} and read by
+ * {@link LZ4BlockInputStream}, such that both can be used interchangeably.
  *
  * @author Johannes Lichtenberger, University of Konstanz
  */
 public final class LZ4Compressor implements ByteHandler {
 
+  private static final byte[] MAGIC = "LZ4Block".getBytes(StandardCharsets.US_ASCII);
+
+  private static final int HEADER_LENGTH = MAGIC.length + 1 + 4 + 4 + 4;
+
+  private static final int COMPRESSION_METHOD_RAW = 0x10;
+
+  private static final int COMPRESSION_METHOD_LZ4 = 0x20;
+
+  /**
+   * The default block size of the {@link LZ4BlockOutputStream}.
+   */
+  private static final int BLOCK_SIZE = 1 << 16;
+
+  private static final int COMPRESSION_LEVEL = 32 - Integer.numberOfLeadingZeros(BLOCK_SIZE - 1) - 10;
+
+  /**
+   * The seed of the block checksums of the {@link LZ4BlockOutputStream}.
+   */
+  private static final int CHECKSUM_SEED = 0x9747b28c;
+
+  private static final net.jpountz.lz4.LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+
+  private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+  private static final XXHash32 CHECKSUM = XXHashFactory.fastestInstance().hash32();
+
   @Override
   public OutputStream serialize(final OutputStream toSerialize) {
     return new LZ4BlockOutputStream(toSerialize);
@@ -23,6 +61,127 @@ public final class LZ4Compressor implements ByteHandler {
     return new LZ4BlockInputStream(toDeserialize);
   }
 
+  @Override
+  public MemorySegment serialize(final MemorySegment toSerialize, final SegmentAllocator allocator) {
+    final ByteBuffer source = toSerialize.asByteBuffer();
+    final int length = source.capacity();
+
+    int maxLength = HEADER_LENGTH;
+    for (int offset = 0; offset < length; offset += BLOCK_SIZE) {
+      maxLength += HEADER_LENGTH + COMPRESSOR.maxCompressedLength(Math.min(BLOCK_SIZE, length - offset));
+    }
+
+    final MemorySegment serialized = allocator.allocate(maxLength);
+    final ByteBuffer target = serialized.asByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    int targetOffset = 0;
+
+    for (int offset = 0; offset < length; offset += BLOCK_SIZE) {
+      final int blockLength = Math.min(BLOCK_SIZE, length - offset);
+      final int checksum = checksum(source, offset, blockLength);
+      final int compressedOffset = targetOffset + HEADER_LENGTH;
+      int compressedLength =
+          COMPRESSOR.compress(source, offset, blockLength, target, compressedOffset, maxLength - compressedOffset);
+      final int compressionMethod;
+      if (compressedLength >= blockLength) {
+        compressionMethod = COMPRESSION_METHOD_RAW;
+        compressedLength = blockLength;
+        target.put(compressedOffset, source, offset, blockLength);
+      } else {
+        compressionMethod = COMPRESSION_METHOD_LZ4;
+      }
+      writeHeader(target, targetOffset, compressionMethod, compressedLength, blockLength, checksum);
+      targetOffset = compressedOffset + compressedLength;
+    }
+
+    // The empty last block, which marks the end of the stream.
+    writeHeader(target, targetOffset, COMPRESSION_METHOD_RAW, 0, 0, 0);
+
+    return serialized.asSlice(0, targetOffset + HEADER_LENGTH);
+  }
+
+  @Override
+  public MemorySegment deserialize(final MemorySegment toDeserialize, final SegmentAllocator allocator) {
+    final ByteBuffer source = toDeserialize.asByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+
+    // First pass over the block headers to determine the length of the decompressed data.
+    int length = 0;
+    for (int offset = 0; !isLastBlock(source, offset); offset += HEADER_LENGTH + compressedLength(source, offset)) {
+      length += originalLength(source, offset);
+    }
+
+    final MemorySegment deserialized = allocator.allocate(length);
+    final ByteBuffer target = deserialized.asByteBuffer();
+    int targetOffset = 0;
+
+    for (int offset = 0; !isLastBlock(source, offset); offset += HEADER_LENGTH + compressedLength(source, offset)) {
+      final int compressedLength = compressedLength(source, offset);
+      final int originalLength = originalLength(source, offset);
+      final int compressedOffset = offset + HEADER_LENGTH;
+
+      switch (source.get(offset + MAGIC.length) & 0xF0) {
+        case COMPRESSION_METHOD_RAW -> {
+          if (compressedLength != originalLength) {
+            throw new SirixIOException("LZ4 block is corrupted.");
+          }
+          target.put(targetOffset, source, compressedOffset, originalLength);
+        }
+        case COMPRESSION_METHOD_LZ4 -> {
+          if (DECOMPRESSOR.decompress(source, compressedOffset, target, targetOffset, originalLength)
+              != compressedLength) {
+            throw new SirixIOException("LZ4 block is corrupted.");
+          }
+        }
+        default -> throw new SirixIOException("LZ4 block is corrupted.");
+      }
+
+      if (checksum(target, targetOffset, originalLength) != source.getInt(offset + MAGIC.length + 9)) {
+        throw new SirixIOException("LZ4 block is corrupted.");
+      }
+      targetOffset += originalLength;
+    }
+
+    return deserialized;
+  }
+
+  private static int checksum(final ByteBuffer buffer, final int offset, final int length) {
+    // The block streams only store the lower 28 bits.
+    return CHECKSUM.hash(buffer, offset, length, CHECKSUM_SEED) & 0xFFFFFFF;
+  }
+
+  private static void writeHeader(final ByteBuffer target, final int offset, final int compressionMethod,
+      final int compressedLength, final int originalLength, final int checksum) {
+    target.put(offset, MAGIC);
+    target.put(offset + MAGIC.length, (byte) (compressionMethod | COMPRESSION_LEVEL));
+    target.putInt(offset + MAGIC.length + 1, compressedLength);
+    target.putInt(offset + MAGIC.length + 5, originalLength);
+    target.putInt(offset + MAGIC.length + 9, checksum);
+  }
+
+  private static boolean isLastBlock(final ByteBuffer source, final int offset) {
+    if (offset + HEADER_LENGTH > source.capacity()) {
+      throw new SirixIOException("LZ4 block is corrupted.");
+    }
+    for (int i = 0; i < MAGIC.length; i++) {
+      if (source.get(offset + i) != MAGIC[i]) {
+        throw new SirixIOException("LZ4 block is corrupted.");
+      }
+    }
+    final int compressedLength = compressedLength(source, offset);
+    final int originalLength = originalLength(source, offset);
+    if (compressedLength < 0 || originalLength < 0 || offset + HEADER_LENGTH + compressedLength > source.capacity()) {
+      throw new SirixIOException("LZ4 block is corrupted.");
+    }
+    return compressedLength == 0 && originalLength == 0;
+  }
+
+  private static int compressedLength(final ByteBuffer source, final int offset) {
+    return source.getInt(offset + MAGIC.length + 1);
+  }
+
+  private static int originalLength(final ByteBuffer source, final int offset) {
+    return source.getInt(offset + MAGIC.length + 5);
+  }
+
   @Override
   public ByteHandler getInstance() {
     return new LZ4Compressor();
@@ -1,5 +1,7 @@
 package io.sirix.io.bytepipe;
 
+import io.sirix.exception.SirixIOException;
+import org.xerial.snappy.Snappy;
 import org.xerial.snappy.SnappyInputStream;
 import org.xerial.snappy.SnappyOutputStream;
 
@@ -7,15 +9,33 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.nio.ByteBuffer;
 
 /**
- * Snappy compression/decompression.
+ * Snappy compression/decompression. Memory segments are compressed with the Snappy block API into
+ * the same chunked format, which is written by {@link SnappyOutputStream} and read by
+ * {@link SnappyInputStream}, such that both can be used interchangeably.
  *
  * @author Johannes Lichtenberger, University of Konstanz
  *
  */
 public final class SnappyCompressor implements ByteHandler {
 
+  private static final byte[] MAGIC_HEADER = { (byte) 0x82, 'S', 'N', 'A', 'P', 'P', 'Y', 0 };
+
+  private static final int HEADER_LENGTH = MAGIC_HEADER.length + 4 + 4;
+
+  private static final int VERSION = 1;
+
+  private static final int MINIMUM_COMPATIBLE_VERSION = 1;
+
+  /**
+   * The default block size of the {@link SnappyOutputStream}.
+   */
+  private static final int BLOCK_SIZE = 32 * 1024;
+
   @Override
   public OutputStream serialize(final OutputStream toSerialize) {
     return new SnappyOutputStream(toSerialize);
@@ -30,6 +50,132 @@ public final class SnappyCompressor implements ByteHandler {
     }
   }
 
+  @Override
+  public MemorySegment serialize(final MemorySegment toSerialize, final SegmentAllocator allocator) {
+    final int length = Math.toIntExact(toSerialize.byteSize());
+
+    int maxLength = HEADER_LENGTH;
+    for (int offset = 0; offset < length; offset += BLOCK_SIZE) {
+      maxLength += Integer.BYTES + Snappy.maxCompressedLength(Math.min(BLOCK_SIZE, length - offset));
+    }
+
+    final MemorySegment serialized = allocator.allocate(maxLength);
+    final ByteBuffer target = serialized.asByteBuffer();
+    final ByteBuffer source = ofSameKind(toSerialize.asByteBuffer(), target);
+
+    target.put(0, MAGIC_HEADER);
+    target.putInt(MAGIC_HEADER.length, VERSION);
+    target.putInt(MAGIC_HEADER.length + 4, MINIMUM_COMPATIBLE_VERSION);
+    int targetOffset = HEADER_LENGTH;
+
+    try {
+      for (int offset = 0; offset < length; offset += BLOCK_SIZE) {
+        final int blockLength = Math.min(BLOCK_SIZE, length - offset);
+        final int compressedOffset = targetOffset + Integer.BYTES;
+        final int compressedLength;
+        if (target.isDirect()) {
+          compressedLength = Snappy.compress(source.slice(offset, blockLength),
+                                             target.slice(compressedOffset, maxLength - compressedOffset));
+        } else {
+          compressedLength = Snappy.compress(source.array(),
+                                             source.arrayOffset() + offset,
+                                             blockLength,
+                                             target.array(),
+                                             target.arrayOffset() + compressedOffset);
+        }
+        target.putInt(targetOffset, compressedLength);
+        targetOffset = compressedOffset + compressedLength;
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return serialized.asSlice(0, targetOffset);
+  }
+
+  @Override
+  public MemorySegment deserialize(final MemorySegment toDeserialize, final SegmentAllocator allocator) {
+    ByteBuffer source = toDeserialize.asByteBuffer();
+    final int length = source.capacity();
+
+    if (!hasHeader(source)) {
+      // Not written by a stream or this handler.
+      return ByteHandler.super.deserialize(toDeserialize, allocator);
+    }
+
+    try {
+      // First pass over the chunks to determine the length of the decompressed data.
+      int uncompressedLength = 0;
+      for (int offset = HEADER_LENGTH; offset < length; offset += Integer.BYTES + chunkLength(source, offset)) {
+        final int chunkOffset = offset + Integer.BYTES;
+        final int chunkLength = chunkLength(source, offset);
+        uncompressedLength += source.isDirect()
+            ? Snappy.uncompressedLength(source.slice(chunkOffset, chunkLength))
+            : Snappy.uncompressedLength(source.array(), source.arrayOffset() + chunkOffset, chunkLength);
+      }
+
+      final MemorySegment deserialized = allocator.allocate(uncompressedLength);
+      final ByteBuffer target = deserialized.asByteBuffer();
+      source = ofSameKind(source, target);
+      int targetOffset = 0;
+
+      for (int offset = HEADER_LENGTH; offset < length; offset += Integer.BYTES + chunkLength(source, offset)) {
+        final int chunkOffset = offset + Integer.BYTES;
+        final int chunkLength = chunkLength(source, offset);
+        if (target.isDirect()) {
+          targetOffset += Snappy.uncompress(source.slice(chunkOffset, chunkLength),
+                                            target.slice(targetOffset, uncompressedLength - targetOffset));
+        } else {
+          targetOffset += Snappy.uncompress(source.array(),
+                                            source.arrayOffset() + chunkOffset,
+                                            chunkLength,
+                                            target.array(),
+                                            target.arrayOffset() + targetOffset);
+        }
+      }
+
+      return deserialized;
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private static boolean hasHeader(final ByteBuffer source) {
+    if (source.capacity() < HEADER_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < MAGIC_HEADER.length; i++) {
+      if (source.get(i) != MAGIC_HEADER[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int chunkLength(final ByteBuffer source, final int offset) {
+    final int chunkLength = source.getInt(offset);
+    if (chunkLength < 0 || offset + Integer.BYTES + chunkLength > source.capacity()) {
+      throw new SirixIOException("Snappy chunk is corrupted.");
+    }
+    return chunkLength;
+  }
+
+  /**
+   * The Snappy block API either needs two direct buffers or two array-backed buffers.
+   *
+   * @param buffer the buffer to check
+   * @param other  the buffer the first one is used together with
+   * @return the buffer itself or a copy of the same kind as the other buffer
+   */
+  private static ByteBuffer ofSameKind(final ByteBuffer buffer, final ByteBuffer other) {
+    if (buffer.isDirect() == other.isDirect() && (buffer.isDirect() || buffer.hasArray())) {
+      return buffer;
+    }
+    final ByteBuffer copy =
+        other.isDirect() ? ByteBuffer.allocateDirect(buffer.capacity()) : ByteBuffer.allocate(buffer.capacity());
+    return copy.put(0, buffer, 0, buffer.capacity());
+  }
+
   @Override
   public ByteHandler getInstance() {
     return new SnappyCompressor();
@@ -36,6 +36,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.IOException;
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
@@ -85,6 +86,16 @@ public final class FileChannelReader extends AbstractReader {
 
   public Page read(final @NonNull PageReference reference,
       final @Nullable PageReadOnlyTrx pageReadTrx) {
+    try {
+      // Perform byte operations.
+      return deserialize(pageReadTrx, readSerialized(reference));
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  protected MemorySegment readSerialized(final PageReference reference) {
     try {
       // Read page from file.
       ByteBuffer buffer = ByteBuffer.allocateDirect(IOStorage.OTHER_BEACON).order(ByteOrder.nativeOrder());
@@ -99,10 +110,7 @@ public final class FileChannelReader extends AbstractReader {
 
       dataFileChannel.read(buffer, position + 4);
       buffer.flip();
-      final byte[] page = buffer.array();
-
-      // Perform byte operations.
-      return deserialize(pageReadTrx, page);
+      return MemorySegment.ofArray(buffer.array());
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -130,11 +138,8 @@ public final class FileChannelReader extends AbstractReader {
       buffer = ByteBuffer.allocateDirect(dataLength).order(ByteOrder.nativeOrder());
       dataFileChannel.read(buffer, dataFileOffset + 4);
       buffer.flip();
-      final byte[] page = new byte[dataLength];
-      buffer.get(page);
-
       // Perform byte operations.
-      return (RevisionRootPage) deserialize(pageReadTrx, page);
+      return (RevisionRootPage) deserialize(pageReadTrx, MemorySegment.ofBuffer(buffer));
     } catch (IOException e) {
       throw new SirixIOException(e);
     }
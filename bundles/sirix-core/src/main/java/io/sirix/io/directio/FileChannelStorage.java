@@ -6,6 +6,7 @@ import io.sirix.access.ResourceConfiguration;
 import io.sirix.page.PagePersister;
 import io.sirix.page.SerializationType;
 import io.sirix.exception.SirixIOException;
+import io.sirix.io.GroupCommitter;
 import io.sirix.io.IOStorage;
 import io.sirix.io.Reader;
 import io.sirix.io.RevisionFileData;
@@ -60,6 +61,11 @@ public final class FileChannelStorage implements IOStorage {
    */
   private final AsyncCache<Integer, RevisionFileData> cache;
 
+  /**
+   * The group committer of the database or {@code null}, if group commit is disabled.
+   */
+  private final GroupCommitter groupCommitter;
+
   /**
    * Constructor.
    *
@@ -71,6 +77,7 @@ public final class FileChannelStorage implements IOStorage {
     file = resourceConfig.resourcePath;
     byteHandlerPipeline = resourceConfig.byteHandlePipeline;
     this.cache = cache;
+    groupCommitter = GroupCommitter.getInstance(resourceConfig.getDatabaseConfig());
   }
 
   @Override
@@ -164,7 +171,10 @@ public final class FileChannelStorage implements IOStorage {
                                    serializationType,
                                    pagePersister,
                                    cache,
-                                   reader);
+                                   reader,
+                                   groupCommitter == null
+                                       ? null
+                                       : groupCommitter.register(dataFilePath, dataFileChannel));
     } catch (final IOException | InterruptedException e) {
       throw new SirixIOException(e);
     } finally {
@@ -25,14 +25,16 @@ import com.github.benmanes.caffeine.cache.AsyncCache;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.exception.SirixIOException;
 import io.sirix.io.*;
+import io.sirix.io.bytepipe.ByteHandler;
 import io.sirix.page.*;
 import io.sirix.page.interfaces.Page;
 import net.openhft.chronicle.bytes.Bytes;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
@@ -77,10 +79,26 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
 
   private final AsyncCache<Integer, RevisionFileData> cache;
 
+  /**
+   * Coalesces durable flushes with concurrent commits of other resources (might be {@code null}).
+   */
+  private final @Nullable GroupCommitter.Participant groupCommitter;
+
   private boolean isFirstUberPage;
 
   private final Bytes<ByteBuffer> byteBufferBytes = Bytes.elasticByteBuffer(1_000);
 
+  /**
+   * Appends flushed buffers to the data file in offset order, such that the committing thread
+   * doesn't block on I/O.
+   */
+  private final FlushPipeline flushPipeline = new FlushPipeline();
+
+  /**
+   * The size of the data file including all pending flushes, or {@code -1} if not yet known.
+   */
+  private long dataFileSize = -1;
+
   /**
    * Constructor.
    *
@@ -90,20 +108,26 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
    * @param pagePersister              transforms in-memory pages into byte-arrays and back
    * @param cache                      the revision file data cache
    * @param reader                     the reader delegate
+   * @param groupCommitter             the data file registered at the group committer of the database, or
+   *                                   {@code null}, if each commit is flushed on its own
    */
   public FileChannelWriter(final FileChannel dataFileChannel, final FileChannel revisionsOffsetFileChannel,
       final SerializationType serializationType, final PagePersister pagePersister,
-      final AsyncCache<Integer, RevisionFileData> cache, final FileChannelReader reader) {
+      final AsyncCache<Integer, RevisionFileData> cache, final FileChannelReader reader,
+      final @Nullable GroupCommitter.Participant groupCommitter) {
     this.dataFileChannel = dataFileChannel;
     this.serializationType = requireNonNull(serializationType);
     this.revisionsFileChannel = revisionsOffsetFileChannel;
     this.pagePersister = requireNonNull(pagePersister);
     this.cache = requireNonNull(cache);
     this.reader = requireNonNull(reader);
+    this.groupCommitter = groupCommitter;
   }
 
   @Override
   public Writer truncateTo(final PageReadOnlyTrx pageReadOnlyTrx,final int revision) {
+    awaitPendingFlushes();
+
     try {
       final var dataFileRevisionRootPageOffset =
           cache.get(revision, (unused) -> getRevisionFileData(revision)).get(5, TimeUnit.SECONDS).offset();
@@ -117,6 +141,7 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       final int dataLength = buffer.getInt();
 
       dataFileChannel.truncate(dataFileRevisionRootPageOffset + IOStorage.OTHER_BEACON + dataLength);
+      dataFileSize = -1;
     } catch (InterruptedException | ExecutionException | TimeoutException | IOException e) {
       throw new IllegalStateException(e);
     }
@@ -136,7 +161,7 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
   }
 
   private long getOffset(Bytes<ByteBuffer> bufferedBytes) throws IOException {
-    final long fileSize = dataFileChannel.size();
+    final long fileSize = getDataFileSize();
     long offset;
 
     if (fileSize == 0) {
@@ -164,13 +189,9 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
 
       final byte[] serializedPage;
 
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream(byteArray.length)) {
-        try (final DataOutputStream dataOutput = new DataOutputStream(reader.getByteHandler().serialize(output))) {
-          dataOutput.write(byteArray);
-          dataOutput.flush();
-        }
-        serializedPage = output.toByteArray();
-      }
+      serializedPage = reader.getByteHandler()
+                             .serialize(MemorySegment.ofArray(byteArray), ByteHandler.heapAllocator())
+                             .toArray(ValueLayout.JAVA_BYTE);
 
       byteBufferBytes.clear();
 
@@ -255,6 +276,7 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
   @Override
   public void close() {
     try {
+      flushPipeline.close();
       if (dataFileChannel != null) {
         dataFileChannel.force(true);
       }
@@ -277,6 +299,9 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
         flushBuffer(bufferedBytes);
       }
 
+      // All pages must have been written before the uber page is written.
+      awaitPendingFlushes();
+
       isFirstUberPage = true;
       writePageReference(pageReadOnlyTrx, pageReference, bufferedBytes, 0);
       isFirstUberPage = false;
@@ -285,8 +310,13 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
       @SuppressWarnings("DataFlowIssue") final var buffer = bufferedBytes.underlyingObject().rewind();
       buffer.limit((int) bufferedBytes.readLimit());
       dataFileChannel.write(buffer, 0L);
-      dataFileChannel.force(false);
+      if (groupCommitter == null) {
+        dataFileChannel.force(false);
+      } else {
+        groupCommitter.force();
+      }
       bufferedBytes.clear();
+      dataFileSize = -1;
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -295,7 +325,7 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
   }
 
   private void flushBuffer(Bytes<ByteBuffer> bufferedBytes) throws IOException {
-    final long fileSize = dataFileChannel.size();
+    final long fileSize = getDataFileSize();
     long offset;
 
     if (fileSize == 0) {
@@ -307,8 +337,38 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
 
     @SuppressWarnings("DataFlowIssue") final var buffer = bufferedBytes.underlyingObject().rewind();
     buffer.limit((int) bufferedBytes.readLimit());
-    dataFileChannel.write(buffer, offset);
+
+    // Copy into a block aligned buffer, as the buffered bytes are reused by the committing thread.
+    final int length = buffer.remaining();
+    final ByteBuffer bufferToWrite = DirectIOUtils.allocate(length);
+    bufferToWrite.put(buffer).flip();
     bufferedBytes.clear();
+
+    dataFileSize = offset + length;
+    final long currOffset = offset;
+    flushPipeline.submit(() -> {
+      long position = currOffset;
+      while (bufferToWrite.hasRemaining()) {
+        position += dataFileChannel.write(bufferToWrite, position);
+      }
+    });
+  }
+
+  private long getDataFileSize() throws IOException {
+    if (dataFileSize == -1) {
+      dataFileSize = dataFileChannel.size();
+    }
+    return dataFileSize;
+  }
+
+  private void awaitPendingFlushes() {
+    try {
+      flushPipeline.await();
+    } catch (final SirixIOException e) {
+      // The file size is unknown after a failed write.
+      dataFileSize = -1;
+      throw e;
+    }
   }
 
   @Override
@@ -318,8 +378,11 @@ public final class FileChannelWriter extends AbstractForwardingReader implements
 
   @Override
   public Writer truncate() {
+    awaitPendingFlushes();
+
     try {
       dataFileChannel.truncate(0);
+      dataFileSize = -1;
 
       if (revisionsFileChannel != null) {
         revisionsFileChannel.truncate(0);
@@ -5,6 +5,7 @@ import io.sirix.access.ResourceConfiguration;
 import io.sirix.page.PagePersister;
 import io.sirix.page.SerializationType;
 import io.sirix.exception.SirixIOException;
+import io.sirix.io.GroupCommitter;
 import io.sirix.io.IOStorage;
 import io.sirix.io.Reader;
 import io.sirix.io.RevisionFileData;
@@ -59,6 +60,11 @@ public final class FileChannelStorage implements IOStorage {
    */
   private final AsyncCache<Integer, RevisionFileData> cache;
 
+  /**
+   * The group committer of the database or {@code null}, if group commit is disabled.
+   */
+  private final GroupCommitter groupCommitter;
+
   /**
    * Constructor.
    *
@@ -70,6 +76,7 @@ public final class FileChannelStorage implements IOStorage {
     file = resourceConfig.resourcePath;
     byteHandlerPipeline = resourceConfig.byteHandlePipeline;
     this.cache = cache;
+    groupCommitter = GroupCommitter.getInstance(resourceConfig.getDatabaseConfig());
   }
 
   @Override
@@ -157,7 +164,10 @@ public final class FileChannelStorage implements IOStorage {
                                    serializationType,
                                    pagePersister,
                                    cache,
-                                   reader);
+                                   reader,
+                                   groupCommitter == null
+                                       ? null
+                                       : groupCommitter.register(dataFilePath, dataFileChannel));
     } catch (final IOException | InterruptedException e) {
       throw new SirixIOException(e);
     } finally {
@@ -0,0 +1,159 @@
+package io.sirix.io.iouring;
+
+import io.sirix.exception.SirixIOException;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Plans and executes the reads of page fragments: fragments, which are stored close to each other,
+ * are merged into a single read, and reads, which return fewer bytes than requested, are resubmitted
+ * for the remaining bytes.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class FragmentReads {
+
+  /**
+   * Reads bytes from a position of a file.
+   */
+  @FunctionalInterface
+  interface PositionalReader {
+    /**
+     * Read bytes into the buffer, starting at its position, from the file.
+     *
+     * @param buffer   the buffer to read into
+     * @param position the position in the file
+     * @return the number of bytes read, which might be less than the remaining bytes of the buffer,
+     *     or {@code -1} at the end of the file
+     */
+    CompletableFuture<Integer> read(ByteBuffer buffer, long position);
+  }
+
+  /**
+   * A fragment to read.
+   *
+   * @param index  the index of the fragment in the requested list
+   * @param offset the offset of the fragment (including the length prefix) in the data file
+   * @param length the length of the serialized fragment
+   */
+  record FragmentRead(int index, long offset, int length) {
+  }
+
+  /**
+   * A single read of one or more fragments, which might be separated by gaps.
+   */
+  static final class MergedRead {
+    private final long from;
+
+    private long to;
+
+    private final List<FragmentRead> fragmentReads = new ArrayList<>(2);
+
+    private MergedRead(final long from) {
+      this.from = from;
+      this.to = from;
+    }
+
+    private void add(final FragmentRead fragmentRead) {
+      fragmentReads.add(fragmentRead);
+      to = Math.max(to, fragmentRead.offset() + Integer.BYTES + fragmentRead.length());
+    }
+
+    /**
+     * Get the offset of the first byte to read.
+     *
+     * @return the offset in the data file
+     */
+    long from() {
+      return from;
+    }
+
+    /**
+     * Get the offset after the last byte to read.
+     *
+     * @return the offset in the data file
+     */
+    long to() {
+      return to;
+    }
+
+    /**
+     * Get the fragments, which are read.
+     *
+     * @return the fragments in offset order
+     */
+    List<FragmentRead> fragmentReads() {
+      return fragmentReads;
+    }
+  }
+
+  private FragmentReads() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Merge the reads of fragments, which overlap, are adjacent or are separated by at most
+   * {@code maxGap} bytes, for instance the padding due to the alignment of fragments. Reading a few
+   * unneeded bytes is cheaper than an additional read.
+   *
+   * @param fragmentReads the fragments to read
+   * @param maxGap        the maximum number of bytes between two fragments, which are merged
+   * @return the merged reads in offset order
+   */
+  static List<MergedRead> merge(final List<FragmentRead> fragmentReads, final int maxGap) {
+    checkArgument(maxGap >= 0, "The maximum gap must be >= 0.");
+
+    final List<FragmentRead> sortedFragmentReads = new ArrayList<>(fragmentReads);
+    sortedFragmentReads.sort(Comparator.comparingLong(FragmentRead::offset));
+
+    final List<MergedRead> mergedReads = new ArrayList<>();
+    MergedRead mergedRead = null;
+    for (final FragmentRead fragmentRead : sortedFragmentReads) {
+      if (mergedRead == null || fragmentRead.offset() - mergedRead.to > maxGap) {
+        mergedRead = new MergedRead(fragmentRead.offset());
+        mergedReads.add(mergedRead);
+      }
+      mergedRead.add(fragmentRead);
+    }
+    return mergedReads;
+  }
+
+  /**
+   * Read until the buffer (from index {@code 0} up to its limit) is full. Short reads are resubmitted
+   * for the remaining bytes.
+   *
+   * @param reader   the reader
+   * @param buffer   the buffer to fill
+   * @param position the position in the file
+   * @return a future, which completes once the buffer is full, or exceptionally with a
+   *     {@link SirixIOException}, if the end of the file has been reached before
+   */
+  static CompletableFuture<Void> readFully(final PositionalReader reader, final ByteBuffer buffer,
+      final long position) {
+    return readFully(reader, buffer, position, 0);
+  }
+
+  private static CompletableFuture<Void> readFully(final PositionalReader reader, final ByteBuffer buffer,
+      final long position, final int bytesRead) {
+    final int length = buffer.limit();
+
+    return reader.read(buffer.slice(bytesRead, length - bytesRead), position + bytesRead)
+                 .thenCompose(numberOfBytes -> {
+                   if (numberOfBytes <= 0) {
+                     return CompletableFuture.failedFuture(new SirixIOException(
+                         "Unexpected end of file: read " + bytesRead + " of " + length + " bytes at offset "
+                             + position + "."));
+                   }
+                   if (bytesRead + numberOfBytes < length) {
+                     return readFully(reader, buffer, position, bytesRead + numberOfBytes);
+                   }
+                   return CompletableFuture.completedFuture(null);
+                 });
+  }
+}
@@ -38,15 +38,24 @@ import io.sirix.io.AbstractReader;
 import io.sirix.io.IOStorage;
 import io.sirix.io.Reader;
 import io.sirix.io.RevisionFileData;
+import io.sirix.io.iouring.FragmentReads.FragmentRead;
+import io.sirix.io.iouring.FragmentReads.MergedRead;
 import io.sirix.page.interfaces.Page;
 
 import java.io.IOException;
+import java.lang.foreign.MemorySegment;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
  * File Reader. Used for {@link PageReadOnlyTrx} to provide read only access on a RandomAccessFile.
  *
@@ -56,6 +65,12 @@ import java.util.concurrent.ExecutionException;
  */
 public final class IOUringReader extends AbstractReader {
 
+  /**
+   * The default maximum number of bytes between two page fragments, which are read with a single
+   * read (a page of the operating system).
+   */
+  public static final int DEFAULT_MAX_MERGE_GAP = 4096;
+
   /**
    * The hash function used to hash pages/page fragments.
    */
@@ -73,6 +88,11 @@ public final class IOUringReader extends AbstractReader {
 
   private final Cache<Integer, RevisionFileData> cache;
 
+  /**
+   * The maximum number of bytes between two page fragments, which are read with a single read.
+   */
+  private final int maxMergeGap;
+
   /**
    * Constructor.
    *
@@ -83,10 +103,27 @@ public final class IOUringReader extends AbstractReader {
   public IOUringReader(final AsyncFile dataFile, final AsyncFile revisionsOffsetFile, final ByteHandler handler,
       final SerializationType type, final PagePersister pagePersistenter,
       final Cache<Integer, RevisionFileData> cache) {
+    this(dataFile, revisionsOffsetFile, handler, type, pagePersistenter, cache, DEFAULT_MAX_MERGE_GAP);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param dataFile            the data file
+   * @param revisionsOffsetFile the file, which holds pointers to the revision root pages
+   * @param handler             {@link ByteHandler} instance
+   * @param maxMergeGap         the maximum number of bytes between two page fragments, which are read
+   *                            with a single read
+   */
+  public IOUringReader(final AsyncFile dataFile, final AsyncFile revisionsOffsetFile, final ByteHandler handler,
+      final SerializationType type, final PagePersister pagePersistenter,
+      final Cache<Integer, RevisionFileData> cache, final int maxMergeGap) {
     super(handler, pagePersistenter, type);
+    checkArgument(maxMergeGap >= 0, "The maximum merge gap must be >= 0.");
     this.dataFile = dataFile;
     this.revisionsOffsetFile = revisionsOffsetFile;
     this.cache = cache;
+    this.maxMergeGap = maxMergeGap;
   }
 
   public Page read(final @NonNull PageReference reference, final @Nullable PageReadOnlyTrx pageReadTrx) {
@@ -103,6 +140,104 @@ public final class IOUringReader extends AbstractReader {
       return CompletableFuture.supplyAsync(() -> readPageFragment(reference, pageReadTrx), POOL);
   }
 
+  @Override
+  public CompletableFuture<List<Page>> readAllAsync(final @NonNull List<PageReference> references,
+      final @Nullable PageReadOnlyTrx pageReadTrx) {
+    return CompletableFuture.supplyAsync(() -> readPageFragments(references, pageReadTrx), POOL);
+  }
+
+  @Override
+  public CompletableFuture<List<MemorySegment>> readSerializedAsync(final List<PageReference> references) {
+    return CompletableFuture.supplyAsync(() -> readSerializedPageFragments(references), POOL);
+  }
+
+  @Override
+  protected MemorySegment readSerialized(final PageReference reference) {
+    return readSerializedPageFragments(List.of(reference)).get(0);
+  }
+
+  private List<Page> readPageFragments(final List<PageReference> references,
+      final @Nullable PageReadOnlyTrx pageReadTrx) {
+    final List<MemorySegment> serializedPages = readSerializedPageFragments(references);
+    final List<Page> pages = new ArrayList<>(serializedPages.size());
+    try {
+      for (final MemorySegment serializedPage : serializedPages) {
+        pages.add(deserialize(pageReadTrx, serializedPage));
+      }
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+    return pages;
+  }
+
+  /**
+   * Read page fragments in two batches: first the length prefixes of all fragments, then the
+   * fragments themselves, whereas fragments, which are at most {@link #maxMergeGap} bytes apart (for
+   * instance due to their alignment), are merged into a single read. All reads of a batch are
+   * submitted at once, such that they end up in the same submission of the ring. Short reads are
+   * resubmitted for the remaining bytes.
+   */
+  private List<MemorySegment> readSerializedPageFragments(final List<PageReference> references) {
+    final int numberOfFragments = references.size();
+
+    // Read the length prefixes.
+    final ByteBuffer lengths =
+        ByteBuffer.allocateDirect(numberOfFragments * Integer.BYTES).order(ByteOrder.nativeOrder());
+    final CompletableFuture<?>[] lengthReads = new CompletableFuture[numberOfFragments];
+    for (int i = 0; i < numberOfFragments; i++) {
+      lengthReads[i] =
+          readFully(lengths.slice(i * Integer.BYTES, Integer.BYTES), references.get(i).getKey());
+    }
+    join(lengthReads);
+
+    final List<FragmentRead> fragmentReads = new ArrayList<>(numberOfFragments);
+    for (int i = 0; i < numberOfFragments; i++) {
+      fragmentReads.add(new FragmentRead(i, references.get(i).getKey(), lengths.getInt(i * Integer.BYTES)));
+    }
+
+    // Merge fragments, which are close to each other, and read them.
+    final List<MergedRead> mergedReads = FragmentReads.merge(fragmentReads, maxMergeGap);
+
+    final ByteBuffer[] buffers = new ByteBuffer[mergedReads.size()];
+    final CompletableFuture<?>[] dataReads = new CompletableFuture[mergedReads.size()];
+    for (int i = 0; i < mergedReads.size(); i++) {
+      final MergedRead read = mergedReads.get(i);
+      buffers[i] =
+          ByteBuffer.allocateDirect(Math.toIntExact(read.to() - read.from())).order(ByteOrder.nativeOrder());
+      dataReads[i] = readFully(buffers[i], read.from());
+    }
+    join(dataReads);
+
+    final MemorySegment[] pages = new MemorySegment[numberOfFragments];
+    for (int i = 0; i < mergedReads.size(); i++) {
+      final MergedRead read = mergedReads.get(i);
+      for (final FragmentRead fragmentRead : read.fragmentReads()) {
+        pages[fragmentRead.index()] = MemorySegment.ofBuffer(buffers[i])
+                                                   .asSlice(fragmentRead.offset() - read.from() + Integer.BYTES,
+                                                            fragmentRead.length());
+      }
+    }
+    return Arrays.asList(pages);
+  }
+
+  private CompletableFuture<Void> readFully(final ByteBuffer buffer, final long position) {
+    return FragmentReads.readFully(dataFile::read, buffer, position);
+  }
+
+  private CompletableFuture<Void> readFully(final AsyncFile file, final ByteBuffer buffer, final long position) {
+    return FragmentReads.readFully(file::read, buffer, position);
+  }
+
+  private static void join(final CompletableFuture<?>... reads) {
+    try {
+      CompletableFuture.allOf(reads).join();
+    } catch (final CompletionException e) {
+      throw e.getCause() instanceof SirixIOException sirixIOException
+          ? sirixIOException
+          : new SirixIOException(e.getCause());
+    }
+  }
+
   @NotNull
   private Page readPageFragment(@NotNull PageReference reference, @Nullable PageReadOnlyTrx pageReadTrx) {
     try {
@@ -110,20 +245,15 @@ public final class IOUringReader extends AbstractReader {
       ByteBuffer buffer = ByteBuffer.allocateDirect(IOStorage.OTHER_BEACON).order(ByteOrder.nativeOrder());
 
       final long position = reference.getKey();
-      dataFile.read(buffer, position).join();
+      join(readFully(buffer.limit(Integer.BYTES), position));
 
-      buffer.flip();
       final int dataLength = buffer.getInt();
 
       buffer = ByteBuffer.allocateDirect(dataLength).order(ByteOrder.nativeOrder());
 
-      dataFile.read(buffer, position + Integer.BYTES).join();
-      buffer.flip();
-      final byte[] page = new byte[dataLength];
-      buffer.get(page);
-
+      join(readFully(buffer, position + Integer.BYTES));
       // Perform byte operations.
-      return deserialize(pageReadTrx, page);
+      return deserialize(pageReadTrx, MemorySegment.ofBuffer(buffer));
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -135,18 +265,13 @@ public final class IOUringReader extends AbstractReader {
       final var dataFileOffset = cache.get(revision, (unused) -> getRevisionFileData(revision)).offset();
 
       ByteBuffer buffer = ByteBuffer.allocateDirect(Integer.BYTES).order(ByteOrder.nativeOrder());
-      dataFile.read(buffer, dataFileOffset).join();
-      buffer.flip();
+      join(readFully(buffer, dataFileOffset));
       final int dataLength = buffer.getInt();
 
       buffer = ByteBuffer.allocateDirect(dataLength).order(ByteOrder.nativeOrder());
-      dataFile.read(buffer, dataFileOffset + Integer.BYTES).join();
-      buffer.flip();
-      final byte[] page = new byte[dataLength];
-      buffer.get(page);
-
+      join(readFully(buffer, dataFileOffset + Integer.BYTES));
       // Perform byte operations.
-      return (RevisionRootPage) deserialize(pageReadTrx, page);
+      return (RevisionRootPage) deserialize(pageReadTrx, MemorySegment.ofBuffer(buffer));
     } catch (IOException e) {
       throw new SirixIOException(e);
     }
@@ -161,8 +286,7 @@ public final class IOUringReader extends AbstractReader {
   public RevisionFileData getRevisionFileData(int revision) {
     final long fileOffset = (long) revision * Long.BYTES * 2 + IOStorage.FIRST_BEACON;
     final ByteBuffer buffer = ByteBuffer.allocateDirect(16).order(ByteOrder.nativeOrder());
-    revisionsOffsetFile.read(buffer, fileOffset).join();
-    buffer.flip();
+    join(readFully(revisionsOffsetFile, buffer, fileOffset));
     final var offset = buffer.getLong();
     buffer.position(Long.BYTES);
     final var timestamp = buffer.getLong();
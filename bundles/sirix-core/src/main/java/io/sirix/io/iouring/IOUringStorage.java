@@ -86,7 +86,8 @@ public final class IOUringStorage implements IOStorage {
                                new ByteHandlerPipeline(byteHandlerPipeline),
                                SerializationType.DATA,
                                new PagePersister(),
-                               cache.synchronous());
+                               cache.synchronous(),
+                               IOUringReader.DEFAULT_MAX_MERGE_GAP);
     } catch (final IOException | InterruptedException e) {
       throw new SirixIOException(e);
     } finally {
@@ -141,7 +142,8 @@ public final class IOUringStorage implements IOStorage {
                                            byteHandlePipeline,
                                            serializationType,
                                            pagePersister,
-                                           cache.synchronous());
+                                           cache.synchronous(),
+                                           IOUringReader.DEFAULT_MAX_MERGE_GAP);
 
       return new IOUringWriter(dataFile,
                                revisionsOffsetFile,
@@ -26,16 +26,17 @@ import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.api.PageTrx;
 import io.sirix.exception.SirixIOException;
 import io.sirix.io.*;
+import io.sirix.io.bytepipe.ByteHandler;
 import io.sirix.page.*;
 import io.sirix.page.interfaces.Page;
 import net.openhft.chronicle.bytes.Bytes;
 import one.jasyncfio.AsyncFile;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.file.Path;
@@ -80,6 +81,17 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
 
   private final Bytes<ByteBuffer> byteBufferBytes = Bytes.elasticByteBuffer(1_000);
 
+  /**
+   * Appends the pages to the data file in offset order, such that the committing thread doesn't
+   * wait for each write to complete.
+   */
+  private final FlushPipeline flushPipeline = new FlushPipeline();
+
+  /**
+   * The size of the data file including all pending writes, or {@code -1} if not yet known.
+   */
+  private long dataFileSize = -1;
+
   /**
    * Constructor.
    *
@@ -105,6 +117,8 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
 
   @Override
   public Writer truncateTo(final PageReadOnlyTrx pageReadOnlyTrx, final int revision) {
+    awaitPendingFlushes();
+
     try {
       final var dataFileRevisionRootPageOffset =
           cache.get(revision, (unused) -> getRevisionFileData(revision)).get(5, TimeUnit.SECONDS).offset();
@@ -120,6 +134,7 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
       new RandomAccessFile(dataFilePath.toFile(), "rw").getChannel()
                                                        .truncate(dataFileRevisionRootPageOffset + IOStorage.OTHER_BEACON
                                                                      + dataLength);
+      dataFileSize = -1;
     } catch (InterruptedException | ExecutionException | TimeoutException | IOException e) {
       throw new IllegalStateException(e);
     }
@@ -139,7 +154,7 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
   }
 
   private long getOffset(Bytes<ByteBuffer> bufferedBytes) throws IOException {
-    final long fileSize = dataFile.size().join();
+    final long fileSize = getDataFileSize();
     long offset;
 
     if (fileSize == 0) {
@@ -178,13 +193,9 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
 
       final byte[] serializedPage;
 
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream(byteArray.length)) {
-        try (final DataOutputStream dataOutput = new DataOutputStream(reader.getByteHandler().serialize(output))) {
-          dataOutput.write(byteArray);
-          dataOutput.flush();
-        }
-        serializedPage = output.toByteArray();
-      }
+      serializedPage = reader.getByteHandler()
+                             .serialize(MemorySegment.ofArray(byteArray), ByteHandler.heapAllocator())
+                             .toArray(ValueLayout.JAVA_BYTE);
 
       byteBufferBytes.clear();
 
@@ -223,7 +234,9 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
 
       pageBuffer.flip();
 
-      dataFile.write(pageBuffer, offset).join();
+      final long pageOffset = offset;
+      dataFileSize = Math.max(getDataFileSize(), offset + pageBuffer.limit());
+      flushPipeline.submit(() -> dataFile.write(pageBuffer, pageOffset).join());
 
       // Remember page coordinates.
       pageReference.setKey(offset);
@@ -276,6 +289,7 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
 
   @Override
   public void close() {
+    flushPipeline.close();
     if (dataFile != null) {
       dataFile.dataSync().join();
     }
@@ -290,16 +304,37 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
   @Override
   public Writer writeUberPageReference(final PageReadOnlyTrx pageReadOnlyTrx, final PageReference pageReference,
       Bytes<ByteBuffer> bufferedBytes) {
+    // All pages must have been written before the uber page is written.
+    awaitPendingFlushes();
+
     isFirstUberPage = true;
     writePageReference(pageReadOnlyTrx, pageReference, bufferedBytes, 0);
     isFirstUberPage = false;
     writePageReference(pageReadOnlyTrx, pageReference, bufferedBytes, IOStorage.FIRST_BEACON >> 1);
 
+    awaitPendingFlushes();
     dataFile.dataSync().join();
 
     return this;
   }
 
+  private long getDataFileSize() throws IOException {
+    if (dataFileSize == -1) {
+      dataFileSize = dataFile.size().join();
+    }
+    return dataFileSize;
+  }
+
+  private void awaitPendingFlushes() {
+    try {
+      flushPipeline.await();
+    } catch (final SirixIOException e) {
+      // The file size is unknown after a failed write.
+      dataFileSize = -1;
+      throw e;
+    }
+  }
+
   private void flushBuffer(final PageTrx pageTrx, final ByteBuffer buffer) throws IOException {
     final long fileSize = dataFile.size().join();
     long offset;
@@ -321,8 +356,11 @@ public final class IOUringWriter extends AbstractForwardingReader implements Wri
 
   @Override
   public Writer truncate() {
+    awaitPendingFlushes();
+
     try {
       new RandomAccessFile(dataFilePath.toFile(), "rw").getChannel().truncate(0);
+      dataFileSize = -1;
 
       if (revisionsFile != null) {
         new RandomAccessFile(revisionsOffsetFilePath.toFile(), "rw").getChannel().truncate(0);
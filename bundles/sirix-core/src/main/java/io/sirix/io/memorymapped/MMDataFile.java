@@ -0,0 +1,304 @@
+package io.sirix.io.memorymapped;
+
+import io.sirix.exception.SirixIOException;
+import io.sirix.utils.LogWrapper;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The memory mapped data file of a resource, which is shared by the readers and the writer of a
+ * {@link MMStorage}.
+ *
+ * <p>
+ * The file is mapped in fixed-size chunks, which are mapped on demand, such that growing the file
+ * never requires remapping the already mapped parts and readers always see the pages appended by
+ * the writer. Slices of the file, which don't span two chunks, are returned without copying. As
+ * mapping a chunk extends the file to the end of the chunk, the size of the written data is tracked
+ * separately.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+final class MMDataFile implements AutoCloseable {
+
+  /** {@link LogWrapper} reference. */
+  private static final LogWrapper LOGWRAPPER = new LogWrapper(LoggerFactory.getLogger(MMDataFile.class));
+
+  static final ValueLayout.OfInt LAYOUT_INT = ValueLayout.JAVA_INT_UNALIGNED;
+
+  /**
+   * Default size of a single mapped chunk (64 MiB).
+   */
+  static final long DEFAULT_CHUNK_SIZE = 1L << 26;
+
+  /**
+   * The {@code advice} argument of {@code madvise(2)} to read a range ahead, which is the same on
+   * Linux and macOS.
+   */
+  private static final int MADV_WILLNEED = 3;
+
+  /**
+   * Alignment of advised ranges, a multiple of the page size of the operating system.
+   */
+  private static final long ADVICE_ALIGNMENT = 1L << 16;
+
+  /**
+   * {@code madvise(2)}, or {@code null} if it isn't available on this platform.
+   */
+  private static final @Nullable MethodHandle MADVISE = lookupMadvise();
+
+  /**
+   * The file channel used for mapping chunks.
+   */
+  private final FileChannel fileChannel;
+
+  /**
+   * The arena owning all mapped chunks.
+   */
+  private final Arena arena;
+
+  /**
+   * Size of a single mapped chunk, a power of two.
+   */
+  private final long chunkSize;
+
+  /**
+   * The mapped chunks, indexed by their position in the file ({@code null}, if not mapped yet).
+   */
+  private volatile MemorySegment[] chunks;
+
+  /**
+   * The size of the written data.
+   */
+  private volatile long size;
+
+  /**
+   * Constructor.
+   *
+   * @param fileChannel the file channel of the data file
+   * @param chunkSize   the size of a single mapped chunk, a power of two and a multiple of the page size
+   *                    of the operating system
+   * @param size        the size of the written data
+   */
+  MMDataFile(final FileChannel fileChannel, final long chunkSize, final long size) {
+    checkArgument(chunkSize >= 4096 && Long.bitCount(chunkSize) == 1,
+                  "The chunk size must be a power of two and at least 4096 bytes!");
+    this.fileChannel = requireNonNull(fileChannel);
+    this.chunkSize = chunkSize;
+    this.size = size;
+    chunks = new MemorySegment[0];
+    arena = Arena.openShared();
+  }
+
+  /**
+   * Get the size of the written data, which is the offset to append the next page at.
+   *
+   * @return the size of the written data
+   */
+  long size() {
+    return size;
+  }
+
+  /**
+   * Set the size of the written data, after pages have been appended or the file has been truncated.
+   *
+   * @param size the size of the written data
+   */
+  void setSize(final long size) {
+    this.size = size;
+  }
+
+  /**
+   * Get a slice of the file. The slice is a view of the mapped file, if it doesn't span two chunks,
+   * otherwise a copy.
+   *
+   * @param offset the offset of the slice
+   * @param length the length of the slice
+   * @return the slice
+   */
+  MemorySegment slice(final long offset, final long length) {
+    final long offsetInChunk = offset & (chunkSize - 1);
+
+    if (offsetInChunk + length <= chunkSize) {
+      return chunk(offset).asSlice(offsetInChunk, length);
+    }
+
+    final MemorySegment copy = MemorySegment.ofArray(new byte[Math.toIntExact(length)]);
+    long read = 0;
+    while (read < length) {
+      final long position = offset + read;
+      final long positionInChunk = position & (chunkSize - 1);
+      final long chunkLength = Math.min(length - read, chunkSize - positionInChunk);
+      MemorySegment.copy(chunk(position), positionInChunk, copy, read, chunkLength);
+      read += chunkLength;
+    }
+    return copy;
+  }
+
+  /**
+   * Read an int.
+   *
+   * @param offset the offset of the int
+   * @return the int
+   */
+  int readInt(final long offset) {
+    return slice(offset, Integer.BYTES).get(LAYOUT_INT, 0);
+  }
+
+  /**
+   * Write data, mapping further chunks if the file has to grow. The size of the written data isn't
+   * adapted.
+   *
+   * @param offset the offset to write the data at
+   * @param data   the data
+   */
+  void write(final long offset, final MemorySegment data) {
+    final long length = data.byteSize();
+
+    long written = 0;
+    while (written < length) {
+      final long position = offset + written;
+      final long positionInChunk = position & (chunkSize - 1);
+      final long chunkLength = Math.min(length - written, chunkSize - positionInChunk);
+      MemorySegment.copy(data, written, chunk(position), positionInChunk, chunkLength);
+      written += chunkLength;
+    }
+  }
+
+  /**
+   * Write an int.
+   *
+   * @param offset the offset to write the int at
+   * @param value  the int
+   */
+  void writeInt(final long offset, final int value) {
+    final MemorySegment data = MemorySegment.ofArray(new byte[Integer.BYTES]);
+    data.set(LAYOUT_INT, 0, value);
+    write(offset, data);
+  }
+
+  /**
+   * Write the modified pages of the mapped chunks in the given range to the storage device.
+   *
+   * @param from the start of the range (inclusive)
+   * @param to   the end of the range (exclusive)
+   */
+  void force(final long from, final long to) {
+    if (from >= to) {
+      return;
+    }
+
+    final MemorySegment[] currentChunks = chunks;
+    final int lastIndex = (int) Math.min((to - 1) / chunkSize, currentChunks.length - 1);
+    for (int index = (int) (from / chunkSize); index <= lastIndex; index++) {
+      final MemorySegment chunk = currentChunks[index];
+      if (chunk != null) {
+        chunk.force();
+      }
+    }
+  }
+
+  /**
+   * Advise the kernel that a range of the file is going to be read soon, such that it reads the
+   * range ahead asynchronously. Only ranges, which are about to be read, are advised: the access
+   * pattern of the mapping itself isn't changed, as the data file is shared by point reads and scans
+   * of all transactions, and advising subranges with a different read-ahead policy would split the
+   * mapping into many small mappings.
+   *
+   * @param offset the offset of the range
+   * @param length the length of the range
+   */
+  void willNeed(final long offset, final long length) {
+    long position = offset & -ADVICE_ALIGNMENT;
+    final long end = Math.min(offset + length, size);
+
+    while (position < end) {
+      final long positionInChunk = position & (chunkSize - 1);
+      final long chunkLength = Math.min(end - position, chunkSize - positionInChunk);
+      madvise(chunk(position).asSlice(positionInChunk, chunkLength), MADV_WILLNEED);
+      position += chunkLength;
+    }
+  }
+
+  private MemorySegment chunk(final long position) {
+    final int index = (int) (position / chunkSize);
+    final MemorySegment[] currentChunks = chunks;
+
+    if (index < currentChunks.length && currentChunks[index] != null) {
+      return currentChunks[index];
+    }
+
+    return map(index);
+  }
+
+  private synchronized MemorySegment map(final int index) {
+    final MemorySegment[] currentChunks = chunks;
+
+    if (index < currentChunks.length && currentChunks[index] != null) {
+      return currentChunks[index];
+    }
+
+    final MemorySegment[] newChunks = Arrays.copyOf(currentChunks, Math.max(currentChunks.length, index + 1));
+    try {
+      newChunks[index] = fileChannel.map(FileChannel.MapMode.READ_WRITE, index * chunkSize, chunkSize, arena.scope());
+    } catch (final IOException e) {
+      throw new SirixIOException("Data file couldn't be mapped!", e);
+    }
+    chunks = newChunks;
+    return newChunks[index];
+  }
+
+  /**
+   * Unmap all chunks. The file channel isn't closed.
+   */
+  @Override
+  public synchronized void close() {
+    chunks = new MemorySegment[0];
+    arena.close();
+  }
+
+  private static void madvise(final MemorySegment range, final int advice) {
+    if (MADVISE == null) {
+      return;
+    }
+
+    try {
+      final int result = (int) MADVISE.invokeExact(range, range.byteSize(), advice);
+      if (result != 0) {
+        LOGWRAPPER.debug("madvise failed with advice " + advice);
+      }
+    } catch (final Throwable e) {
+      LOGWRAPPER.debug(e.getMessage(), e);
+    }
+  }
+
+  private static @Nullable MethodHandle lookupMadvise() {
+    try {
+      final Linker linker = Linker.nativeLinker();
+      return linker.defaultLookup()
+                   .find("madvise")
+                   .map(madvise -> linker.downcallHandle(madvise,
+                                                         FunctionDescriptor.of(ValueLayout.JAVA_INT,
+                                                                               ValueLayout.ADDRESS,
+                                                                               ValueLayout.JAVA_LONG,
+                                                                               ValueLayout.JAVA_INT)))
+                   .orElse(null);
+    } catch (final UnsupportedOperationException | IllegalCallerException e) {
+      LOGWRAPPER.debug(e.getMessage(), e);
+      return null;
+    }
+  }
+}
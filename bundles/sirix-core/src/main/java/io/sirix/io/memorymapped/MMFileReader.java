@@ -37,76 +37,93 @@ import io.sirix.io.AbstractReader;
 import io.sirix.io.IOStorage;
 
 import java.io.IOException;
-import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
-import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static java.util.Objects.requireNonNull;
 
 /**
- * Reader, to read from a memory-mapped file.
+ * Reader, to read from a memory-mapped file. Pages are deserialized straight from the mapped file,
+ * without copying them into a buffer first.
  *
  * @author Johannes Lichtenberger
  */
 public final class MMFileReader extends AbstractReader {
 
-  static final ValueLayout.OfByte LAYOUT_BYTE = ValueLayout.JAVA_BYTE;
-  static final ValueLayout.OfInt LAYOUT_INT = ValueLayout.JAVA_INT;
-  static final ValueLayout.OfLong LAYOUT_LONG = ValueLayout.JAVA_LONG;
+  private final MMDataFile dataFile;
 
-  private final MemorySegment dataFileSegment;
-
-  private final MemorySegment revisionsOffsetFileSegment;
+  private final FileChannel revisionsOffsetFileChannel;
 
   private final Cache<Integer, RevisionFileData> cache;
 
-  private final Arena arena;
-
   /**
    * Constructor.
    *
-   * @param byteHandler {@link ByteHandler} instance
+   * @param dataFile                   the memory mapped data file
+   * @param revisionsOffsetFileChannel the file, which holds pointers to the revision root pages
+   * @param byteHandler                {@link ByteHandler} instance
+   * @param type                       the serialization type
+   * @param pagePersister              transforms in-memory pages into byte-arrays and back
+   * @param cache                      the revision file data cache
    */
-  public MMFileReader(final MemorySegment dataFileSegment, final MemorySegment revisionFileSegment,
-      final ByteHandler byteHandler, final SerializationType type, final PagePersister pagePersistenter,
-      final Cache<Integer, RevisionFileData> cache, final Arena arena) {
-    super(byteHandler, pagePersistenter, type);
-    this.dataFileSegment = requireNonNull(dataFileSegment);
-    this.revisionsOffsetFileSegment = requireNonNull(revisionFileSegment);
+  MMFileReader(final MMDataFile dataFile, final FileChannel revisionsOffsetFileChannel,
+      final ByteHandler byteHandler, final SerializationType type, final PagePersister pagePersister,
+      final Cache<Integer, RevisionFileData> cache) {
+    super(byteHandler, pagePersister, type);
+    this.dataFile = requireNonNull(dataFile);
+    this.revisionsOffsetFileChannel = requireNonNull(revisionsOffsetFileChannel);
     this.cache = requireNonNull(cache);
-    this.arena = requireNonNull(arena);
   }
 
   @Override
   public Page read(final @NonNull PageReference reference, final @Nullable PageReadOnlyTrx pageReadTrx) {
     try {
-      final long offset = reference.getKey() + LAYOUT_INT.byteSize();
-      final int dataLength = dataFileSegment.get(LAYOUT_INT, reference.getKey());
-
-      final byte[] page = new byte[dataLength];
-
-      MemorySegment.copy(dataFileSegment, LAYOUT_BYTE, offset, page, 0, dataLength);
-
-      return deserialize(pageReadTrx, page);
+      return deserialize(pageReadTrx, readSerialized(reference));
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
   }
 
+  @Override
+  protected MemorySegment readSerialized(final PageReference reference) {
+    final long offset = reference.getKey();
+    final int dataLength = dataFile.readInt(offset);
+
+    return dataFile.slice(offset + IOStorage.OTHER_BEACON, dataLength);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>
+   * The serialized pages are slices of the mapped file, which are only read once they are
+   * deserialized. Thus the kernel is advised to read the pages ahead in the meantime.
+   * </p>
+   */
+  @Override
+  public CompletableFuture<List<MemorySegment>> readSerializedAsync(final List<PageReference> references) {
+    return CompletableFuture.supplyAsync(() -> references.stream().map(reference -> {
+      final MemorySegment serializedPage = readSerialized(reference);
+      dataFile.willNeed(reference.getKey(), IOStorage.OTHER_BEACON + serializedPage.byteSize());
+      return serializedPage;
+    }).toList(), POOL);
+  }
+
   @Override
   public RevisionRootPage readRevisionRootPage(final int revision, final PageReadOnlyTrx pageReadTrx) {
     try {
       //noinspection DataFlowIssue
       final var dataFileOffset = cache.get(revision, (unused) -> getRevisionFileData(revision)).offset();
 
-      final int dataLength = dataFileSegment.get(LAYOUT_INT, dataFileOffset);
-
-      final byte[] page = new byte[dataLength];
+      final int dataLength = dataFile.readInt(dataFileOffset);
 
-      MemorySegment.copy(dataFileSegment, LAYOUT_BYTE, dataFileOffset + LAYOUT_INT.byteSize(), page, 0, dataLength);
-
-      return (RevisionRootPage) deserialize(pageReadTrx, page);
+      return (RevisionRootPage) deserialize(pageReadTrx,
+                                            dataFile.slice(dataFileOffset + IOStorage.OTHER_BEACON, dataLength));
     } catch (final IOException e) {
       throw new SirixIOException(e);
     }
@@ -120,15 +137,25 @@ public final class MMFileReader extends AbstractReader {
 
   @Override
   public RevisionFileData getRevisionFileData(int revision) {
-    final var fileOffset = IOStorage.FIRST_BEACON + (revision * LAYOUT_LONG.byteSize() * 2);
-    final var revisionOffset = revisionsOffsetFileSegment.get(LAYOUT_LONG, fileOffset);
-    final var timestamp =
-        Instant.ofEpochMilli(revisionsOffsetFileSegment.get(LAYOUT_LONG, fileOffset + LAYOUT_LONG.byteSize()));
-    return new RevisionFileData(revisionOffset, timestamp);
+    try {
+      final var fileOffset = IOStorage.FIRST_BEACON + (revision * Long.BYTES * 2L);
+      final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES * 2).order(ByteOrder.nativeOrder());
+      while (buffer.hasRemaining()) {
+        if (revisionsOffsetFileChannel.read(buffer, fileOffset + buffer.position()) == -1) {
+          throw new SirixIOException("Revision " + revision + " not found!");
+        }
+      }
+      buffer.flip();
+      final var revisionOffset = buffer.getLong();
+      final var timestamp = Instant.ofEpochMilli(buffer.getLong());
+      return new RevisionFileData(revisionOffset, timestamp);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
   }
 
   @Override
   public void close() {
-    arena.close();
+    // The data file is unmapped once the storage is closed.
   }
 }
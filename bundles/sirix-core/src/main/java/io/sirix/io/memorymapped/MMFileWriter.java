@@ -0,0 +1,294 @@
+package io.sirix.io.memorymapped;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.exception.SirixIOException;
+import io.sirix.io.AbstractForwardingReader;
+import io.sirix.io.GroupCommitter;
+import io.sirix.io.IOStorage;
+import io.sirix.io.Reader;
+import io.sirix.io.RevisionFileData;
+import io.sirix.io.Writer;
+import io.sirix.io.bytepipe.ByteHandler;
+import io.sirix.page.KeyValueLeafPage;
+import io.sirix.page.PagePersister;
+import io.sirix.page.PageReference;
+import io.sirix.page.RevisionRootPage;
+import io.sirix.page.SerializationType;
+import io.sirix.page.interfaces.Page;
+import net.openhft.chronicle.bytes.Bytes;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Writer, which appends the pages straight to the memory mapped data file, such that they are
+ * immediately visible to all readers of the storage.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class MMFileWriter extends AbstractForwardingReader implements Writer {
+
+  /**
+   * The memory mapped data file.
+   */
+  private final MMDataFile dataFile;
+
+  /**
+   * {@link MMFileReader} reference for this writer.
+   */
+  private final MMFileReader reader;
+
+  private final SerializationType serializationType;
+
+  private final FileChannel revisionsFileChannel;
+
+  private final PagePersister pagePersister;
+
+  private final AsyncCache<Integer, RevisionFileData> cache;
+
+  /**
+   * Coalesces durable flushes with concurrent commits of other resources (might be {@code null}).
+   */
+  private final @Nullable GroupCommitter.Participant groupCommitter;
+
+  private final Bytes<ByteBuffer> byteBufferBytes = Bytes.elasticByteBuffer(1_000);
+
+  /**
+   * The start of the range written since the last flush.
+   */
+  private long dirtyFrom = Long.MAX_VALUE;
+
+  /**
+   * The end of the range written since the last flush.
+   */
+  private long dirtyTo;
+
+  /**
+   * Constructor.
+   *
+   * @param dataFile             the memory mapped data file
+   * @param revisionsFileChannel the channel to the file, which holds pointers to the revision root pages
+   * @param serializationType    the serialization type (for the transaction log or the data file)
+   * @param pagePersister        transforms in-memory pages into byte-arrays and back
+   * @param cache                the revision file data cache
+   * @param reader               the reader delegate
+   * @param groupCommitter       the data file registered at the group committer of the database, or
+   *                             {@code null}, if each commit is flushed on its own
+   */
+  MMFileWriter(final MMDataFile dataFile, final FileChannel revisionsFileChannel,
+      final SerializationType serializationType, final PagePersister pagePersister,
+      final AsyncCache<Integer, RevisionFileData> cache, final MMFileReader reader,
+      final @Nullable GroupCommitter.Participant groupCommitter) {
+    this.dataFile = requireNonNull(dataFile);
+    this.revisionsFileChannel = requireNonNull(revisionsFileChannel);
+    this.serializationType = requireNonNull(serializationType);
+    this.pagePersister = requireNonNull(pagePersister);
+    this.cache = requireNonNull(cache);
+    this.reader = requireNonNull(reader);
+    this.groupCommitter = groupCommitter;
+  }
+
+  @Override
+  public Writer truncateTo(final PageReadOnlyTrx pageReadOnlyTrx, final int revision) {
+    try {
+      final var dataFileRevisionRootPageOffset =
+          cache.get(revision, (unused) -> getRevisionFileData(revision)).get(5, TimeUnit.SECONDS).offset();
+      final int dataLength = dataFile.readInt(dataFileRevisionRootPageOffset);
+
+      dataFile.setSize(dataFileRevisionRootPageOffset + IOStorage.OTHER_BEACON + dataLength);
+    } catch (InterruptedException | ExecutionException | TimeoutException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return this;
+  }
+
+  @Override
+  public MMFileWriter write(final PageReadOnlyTrx pageReadOnlyTrx, final PageReference pageReference,
+      final Bytes<ByteBuffer> bufferedBytes) {
+    // The pages are written to the mapped file right away, thus the buffered bytes aren't used.
+    final Page page = pageReference.getPage();
+    assert page != null;
+
+    final byte[] serializedPage = serializePage(pageReadOnlyTrx, page);
+
+    long offset = Math.max(dataFile.size(), IOStorage.FIRST_BEACON);
+
+    if (serializationType == SerializationType.DATA && page instanceof RevisionRootPage) {
+      offset = align(offset, REVISION_ROOT_PAGE_BYTE_ALIGN);
+    } else {
+      offset = align(offset, PAGE_FRAGMENT_BYTE_ALIGN);
+    }
+
+    final long end = writeSerializedPage(offset, serializedPage);
+    dataFile.setSize(end);
+
+    // Remember page coordinates.
+    pageReference.setKey(offset);
+
+    if (page instanceof KeyValueLeafPage keyValueLeafPage) {
+      pageReference.setHash(keyValueLeafPage.getHashCode());
+    } else {
+      pageReference.setHash(Reader.hashFunction.hashBytes(serializedPage).asBytes());
+    }
+
+    if (serializationType == SerializationType.DATA && page instanceof RevisionRootPage revisionRootPage) {
+      writeRevisionFileData(revisionRootPage, offset);
+    }
+
+    return this;
+  }
+
+  @Override
+  public Writer writeUberPageReference(final PageReadOnlyTrx pageReadOnlyTrx, final PageReference pageReference,
+      final Bytes<ByteBuffer> bufferedBytes) {
+    final Page page = pageReference.getPage();
+    assert page != null;
+
+    final byte[] serializedPage = serializePage(pageReadOnlyTrx, page);
+
+    if (serializedPage.length + IOStorage.OTHER_BEACON > UBER_PAGE_BYTE_ALIGN) {
+      throw new SirixIOException("The uber page exceeds " + UBER_PAGE_BYTE_ALIGN + " bytes!");
+    }
+
+    // Both copies of the uber page must be written after all other pages.
+    writeSerializedPage(0, serializedPage);
+    writeSerializedPage(IOStorage.FIRST_BEACON >> 1, serializedPage);
+    dataFile.setSize(Math.max(dataFile.size(), IOStorage.FIRST_BEACON));
+    pageReference.setKey(0);
+    pageReference.setHash(Reader.hashFunction.hashBytes(serializedPage).asBytes());
+
+    if (serializationType == SerializationType.DATA) {
+      try {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(UBER_PAGE_BYTE_ALIGN).order(ByteOrder.nativeOrder());
+        buffer.put(serializedPage);
+        buffer.position(0);
+        revisionsFileChannel.write(buffer, 0);
+        buffer.position(0);
+        revisionsFileChannel.write(buffer, UBER_PAGE_BYTE_ALIGN);
+      } catch (final IOException e) {
+        throw new SirixIOException(e);
+      }
+    }
+
+    flush();
+
+    return this;
+  }
+
+  private byte[] serializePage(final PageReadOnlyTrx pageReadOnlyTrx, final Page page) {
+    try {
+      pagePersister.serializePage(pageReadOnlyTrx, byteBufferBytes, page, serializationType);
+      final var byteArray = byteBufferBytes.toByteArray();
+
+      if (page instanceof KeyValueLeafPage) {
+        return byteArray;
+      }
+
+      return reader.getByteHandler()
+                   .serialize(MemorySegment.ofArray(byteArray), ByteHandler.heapAllocator())
+                   .toArray(ValueLayout.JAVA_BYTE);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    } finally {
+      byteBufferBytes.clear();
+    }
+  }
+
+  /**
+   * Write the length of a serialized page followed by the page.
+   *
+   * @param offset         the offset to write the page at
+   * @param serializedPage the serialized page
+   * @return the end of the written page
+   */
+  private long writeSerializedPage(final long offset, final byte[] serializedPage) {
+    dataFile.writeInt(offset, serializedPage.length);
+    dataFile.write(offset + IOStorage.OTHER_BEACON, MemorySegment.ofArray(serializedPage));
+
+    final long end = offset + IOStorage.OTHER_BEACON + serializedPage.length;
+    dirtyFrom = Math.min(dirtyFrom, offset);
+    dirtyTo = Math.max(dirtyTo, end);
+    return end;
+  }
+
+  private void writeRevisionFileData(final RevisionRootPage revisionRootPage, final long offset) {
+    try {
+      final ByteBuffer buffer = ByteBuffer.allocateDirect(16).order(ByteOrder.nativeOrder());
+      buffer.putLong(offset);
+      buffer.putLong(revisionRootPage.getRevisionTimestamp());
+      buffer.flip();
+      final long revisionsFileOffset;
+      if (revisionRootPage.getRevision() == 0) {
+        revisionsFileOffset = revisionsFileChannel.size() + IOStorage.FIRST_BEACON;
+      } else {
+        revisionsFileOffset = revisionsFileChannel.size();
+      }
+      revisionsFileChannel.write(buffer, revisionsFileOffset);
+      cache.put(revisionRootPage.getRevision(),
+                CompletableFuture.completedFuture(new RevisionFileData(offset,
+                                                                       Instant.ofEpochMilli(revisionRootPage.getRevisionTimestamp()))));
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  private static long align(final long offset, final int alignment) {
+    return (offset + alignment - 1) & -alignment;
+  }
+
+  /**
+   * Write the pages modified since the last flush to the storage device.
+   */
+  private void flush() {
+    if (groupCommitter == null) {
+      dataFile.force(dirtyFrom, dirtyTo);
+    } else {
+      // On Linux, fsync(2) and syncfs(2) also write back the pages modified through shared mappings.
+      groupCommitter.force();
+    }
+    dirtyFrom = Long.MAX_VALUE;
+    dirtyTo = 0;
+  }
+
+  @Override
+  public void close() {
+    try {
+      flush();
+      revisionsFileChannel.force(true);
+      reader.close();
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+  }
+
+  @Override
+  protected Reader delegate() {
+    return reader;
+  }
+
+  @Override
+  public Writer truncate() {
+    try {
+      dataFile.setSize(0);
+      revisionsFileChannel.truncate(0);
+    } catch (final IOException e) {
+      throw new SirixIOException(e);
+    }
+
+    return this;
+  }
+}
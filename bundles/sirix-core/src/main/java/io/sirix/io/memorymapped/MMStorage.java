@@ -23,7 +23,6 @@ package io.sirix.io.memorymapped;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import io.sirix.access.ResourceConfiguration;
-import io.sirix.io.filechannel.FileChannelWriter;
 import io.sirix.page.PagePersister;
 import io.sirix.page.SerializationType;
 import io.sirix.exception.SirixIOException;
@@ -31,13 +30,14 @@ import io.sirix.io.Reader;
 import io.sirix.io.RevisionFileData;
 import io.sirix.io.bytepipe.ByteHandler;
 import io.sirix.io.bytepipe.ByteHandlerPipeline;
+import io.sirix.io.GroupCommitter;
 import io.sirix.io.IOStorage;
 import io.sirix.io.Writer;
-import io.sirix.io.filechannel.FileChannelReader;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.lang.foreign.Arena;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -46,7 +46,9 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Storage, to provide offheap memory mapped access.
+ * Storage, to provide offheap memory mapped access. The data file is mapped once in fixed-size
+ * chunks, which are shared by the readers and the writer, such that pages are read straight from
+ * the page cache of the operating system.
  *
  * @author Johannes Lichtenberger
  */
@@ -79,14 +81,34 @@ public final class MMStorage implements IOStorage {
    */
   private final AsyncCache<Integer, RevisionFileData> cache;
 
+  /**
+   * The group committer of the database or {@code null}, if group commit is disabled.
+   */
+  private final GroupCommitter groupCommitter;
+
   private final Path revisionsFilePath;
 
   private final Path dataFilePath;
 
+  /**
+   * The size of a single mapped chunk of the data file.
+   */
+  private final long chunkSize;
+
   private FileChannel dataFileChannel;
 
   private FileChannel revisionsOffsetFileChannel;
 
+  /**
+   * The memory mapped data file, or {@code null}, if not mapped yet.
+   */
+  private MMDataFile dataFile;
+
+  /**
+   * Determines if a writer has been created, which might have appended pages to the data file.
+   */
+  private boolean isWritten;
+
   /**
    * Constructor.
    *
@@ -94,12 +116,27 @@ public final class MMStorage implements IOStorage {
    * @param cache          the revision file data cache
    */
   public MMStorage(final ResourceConfiguration resourceConfig, final AsyncCache<Integer, RevisionFileData> cache) {
+    this(resourceConfig, cache, MMDataFile.DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param resourceConfig the resource configuration
+   * @param cache          the revision file data cache
+   * @param chunkSize      the size of a single mapped chunk of the data file, a power of two and a
+   *                       multiple of the page size of the operating system
+   */
+  public MMStorage(final ResourceConfiguration resourceConfig, final AsyncCache<Integer, RevisionFileData> cache,
+      final long chunkSize) {
     assert resourceConfig != null : "resourceConfig must not be null!";
     file = resourceConfig.resourcePath;
     revisionsFilePath = file.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()).resolve(REVISIONS_FILENAME);
     dataFilePath = file.resolve(ResourceConfiguration.ResourcePaths.DATA.getPath()).resolve(FILENAME);
     byteHandlerPipeline = resourceConfig.byteHandlePipeline;
     this.cache = cache;
+    this.chunkSize = chunkSize;
+    groupCommitter = GroupCommitter.getInstance(resourceConfig.getDatabaseConfig());
   }
 
   @Override
@@ -111,32 +148,14 @@ public final class MMStorage implements IOStorage {
         throw new IllegalStateException("Couldn't acquire semaphore.");
       }
 
-      final Path dataFilePath = createDirectoriesAndFile();
-      final Path revisionsOffsetFilePath = getRevisionFilePath();
-
-      createRevisionsOffsetFileIfItDoesNotExist(revisionsOffsetFilePath);
-
-      final var arena = Arena.openShared();
-      final var dataFileSegmentFileSize = Files.size(dataFilePath);
-
-      final var revisionsOffsetSegmentFileSize = Files.size(revisionsOffsetFilePath);
-
-      try (final var dataFileChannel = FileChannel.open(dataFilePath);
-           final var revisionsOffsetFileChannel = FileChannel.open(revisionsOffsetFilePath)) {
-        final var dataFileSegment =
-            dataFileChannel.map(FileChannel.MapMode.READ_ONLY, 0, dataFileSegmentFileSize, arena.scope());
-        final var revisionsOffsetFileSegment = revisionsOffsetFileChannel.map(FileChannel.MapMode.READ_ONLY,
-                                                                              0,
-                                                                              revisionsOffsetSegmentFileSize,
-                                                                              arena.scope());
-        return new MMFileReader(dataFileSegment,
-                                revisionsOffsetFileSegment,
-                                new ByteHandlerPipeline(byteHandlerPipeline),
-                                SerializationType.DATA,
-                                new PagePersister(),
-                                cache.synchronous(),
-                                arena);
-      }
+      mapDataFileIfNotMapped();
+
+      return new MMFileReader(dataFile,
+                              revisionsOffsetFileChannel,
+                              new ByteHandlerPipeline(byteHandlerPipeline),
+                              SerializationType.DATA,
+                              new PagePersister(),
+                              cache.synchronous());
     } catch (final IOException | InterruptedException e) {
       throw new SirixIOException(e);
     } finally {
@@ -170,29 +189,25 @@ public final class MMStorage implements IOStorage {
         throw new IllegalStateException("Couldn't acquire semaphore.");
       }
 
-      final Path dataFilePath = createDirectoriesAndFile();
-      final Path revisionsOffsetFilePath = getRevisionFilePath();
+      mapDataFileIfNotMapped();
+      isWritten = true;
 
-      createRevisionsOffsetFileIfItDoesNotExist(revisionsOffsetFilePath);
-      createDataFileChannelIfNotInitialized(dataFilePath);
-      createRevisionsOffsetFileChannelIfNotInitialized(revisionsOffsetFilePath);
-
-      final var byteHandlePipeline = new ByteHandlerPipeline(byteHandlerPipeline);
       final var serializationType = SerializationType.DATA;
       final var pagePersister = new PagePersister();
-      final var reader = new FileChannelReader(dataFileChannel,
-                                               revisionsOffsetFileChannel,
-                                               byteHandlePipeline,
-                                               serializationType,
-                                               pagePersister,
-                                               cache.synchronous());
-
-      return new FileChannelWriter(dataFileChannel,
-                                   revisionsOffsetFileChannel,
-                                   serializationType,
-                                   pagePersister,
-                                   cache,
-                                   reader);
+      final var reader = new MMFileReader(dataFile,
+                                          revisionsOffsetFileChannel,
+                                          new ByteHandlerPipeline(byteHandlerPipeline),
+                                          serializationType,
+                                          pagePersister,
+                                          cache.synchronous());
+
+      return new MMFileWriter(dataFile,
+                              revisionsOffsetFileChannel,
+                              serializationType,
+                              pagePersister,
+                              cache,
+                              reader,
+                              groupCommitter == null ? null : groupCommitter.register(dataFilePath, dataFileChannel));
     } catch (final IOException | InterruptedException e) {
       throw new SirixIOException(e);
     } finally {
@@ -200,25 +215,75 @@ public final class MMStorage implements IOStorage {
     }
   }
 
-  private void createDataFileChannelIfNotInitialized(Path dataFilePath) throws IOException {
-    if (dataFileChannel == null) {
-      dataFileChannel = FileChannel.open(dataFilePath,
-                                         StandardOpenOption.READ,
-                                         StandardOpenOption.WRITE,
-                                         StandardOpenOption.SPARSE);
+  private synchronized void mapDataFileIfNotMapped() throws IOException {
+    if (dataFile != null) {
+      return;
     }
+
+    final Path dataFilePath = createDirectoriesAndFile();
+    final Path revisionsOffsetFilePath = getRevisionFilePath();
+
+    createRevisionsOffsetFileIfItDoesNotExist(revisionsOffsetFilePath);
+
+    dataFileChannel =
+        FileChannel.open(dataFilePath, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.SPARSE);
+    revisionsOffsetFileChannel =
+        FileChannel.open(revisionsOffsetFilePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    dataFile = new MMDataFile(dataFileChannel, chunkSize, getSizeOfWrittenData());
   }
 
-  private void createRevisionsOffsetFileChannelIfNotInitialized(Path revisionsOffsetFilePath) throws IOException {
-    if (revisionsOffsetFileChannel == null) {
-      revisionsOffsetFileChannel =
-          FileChannel.open(revisionsOffsetFilePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+  /**
+   * Get the size of the data written to the data file, which ends with the revision root page of the
+   * most recent revision. Mapping the file extends it to the end of the last mapped chunk and the
+   * file might not have been truncated to the written data, if the storage hasn't been closed.
+   *
+   * @return the size of the written data
+   * @throws IOException if an I/O error occurs
+   */
+  private long getSizeOfWrittenData() throws IOException {
+    final long revisionsOffsetFileSize = revisionsOffsetFileChannel.size();
+    final int numberOfRevisions = (int) ((revisionsOffsetFileSize - IOStorage.FIRST_BEACON) / (Long.BYTES * 2));
+
+    if (revisionsOffsetFileSize < IOStorage.FIRST_BEACON || numberOfRevisions == 0) {
+      // At most the uber page has been written.
+      return Math.min(dataFileChannel.size(), IOStorage.FIRST_BEACON);
+    }
+
+    final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.nativeOrder());
+    readFully(revisionsOffsetFileChannel,
+              buffer,
+              IOStorage.FIRST_BEACON + (numberOfRevisions - 1) * Long.BYTES * 2L);
+    final long revisionRootPageOffset = buffer.flip().getLong();
+
+    buffer.clear().limit(Integer.BYTES);
+    readFully(dataFileChannel, buffer, revisionRootPageOffset);
+    final int dataLength = buffer.flip().getInt();
+
+    return revisionRootPageOffset + IOStorage.OTHER_BEACON + dataLength;
+  }
+
+  private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) == -1) {
+        throw new SirixIOException("Unexpected end of file: " + position);
+      }
     }
   }
 
   @Override
-  public void close() {
+  public synchronized void close() {
     try {
+      if (dataFile != null) {
+        final long size = dataFile.size();
+        dataFile.close();
+        dataFile = null;
+
+        // Remove the unused rest of the last mapped chunk.
+        if (isWritten) {
+          dataFileChannel.truncate(size);
+        }
+      }
       if (revisionsOffsetFileChannel != null) {
         revisionsOffsetFileChannel.close();
       }
@@ -52,6 +52,7 @@ import org.roaringbitmap.longlong.Roaring64Bitmap;
 import io.sirix.access.ResourceConfiguration;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.index.AtomicUtil;
+import io.sirix.index.art.ARTNode;
 import io.sirix.index.path.summary.PathNode;
 import io.sirix.index.redblacktree.RBNodeKey;
 import io.sirix.index.redblacktree.RBNodeValue;
@@ -770,6 +771,57 @@ public enum NodeKind implements DeweyIdSerializer {
     }
   },
 
+  /**
+   * Node kind is an inner node of an adaptive radix tree.
+   */
+  ART_NODE((byte) 56, ARTNode.class) {
+    @Override
+    public @NotNull DataRecord deserialize(final BytesIn<?> source, final @NonNegative long recordID,
+        final byte[] deweyID, final PageReadOnlyTrx pageReadTrx) {
+      final byte[] prefix = new byte[source.readInt()];
+      source.read(prefix);
+      // Node delegate.
+      final NodeDelegate nodeDel = deserializeNodeDelegateWithoutIDs(source, recordID, pageReadTrx);
+      final var node = new ARTNode(prefix, nodeDel);
+      node.setValueLeafKey(getVarLong(source));
+      final int size = source.readInt();
+      for (int i = 0; i < size; i++) {
+        final int partialKey = Byte.toUnsignedInt(source.readByte());
+        node.putChild(partialKey, getVarLong(source));
+      }
+      return node;
+    }
+
+    @Override
+    public void serialize(final BytesOut<ByteBuffer> sink, final DataRecord record, final PageReadOnlyTrx pageReadTrx) {
+      final ARTNode node = (ARTNode) record;
+      final byte[] prefix = node.getPrefix();
+      sink.writeInt(prefix.length);
+      sink.write(prefix);
+      serializeDelegate(node.getNodeDelegate(), sink);
+      putVarLong(sink, node.getValueLeafKey());
+      sink.writeInt(node.size());
+      // Children in ascending order of their partial keys.
+      int partialKey = node.nextPartialKey(0);
+      while (partialKey != -1) {
+        sink.writeByte((byte) partialKey);
+        putVarLong(sink, node.getChild(partialKey));
+        partialKey = node.nextPartialKey(partialKey + 1);
+      }
+    }
+
+    @Override
+    public byte[] deserializeDeweyID(BytesIn<?> source, byte[] previousDeweyID, ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void serializeDeweyID(BytesOut<?> sink, byte[] deweyID, byte[] nextDeweyID,
+        ResourceConfiguration resourceConfig) {
+      throw new UnsupportedOperationException();
+    }
+  },
+
   /**
    * Node includes a deweyID &lt;=&gt; nodeKey mapping.
    */
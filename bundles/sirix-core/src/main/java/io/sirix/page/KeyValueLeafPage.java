@@ -44,6 +44,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <p>
@@ -56,6 +58,16 @@ import java.util.concurrent.ConcurrentHashMap;
 @SuppressWarnings("unchecked")
 public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
 
+  /**
+   * Estimated size of a deserialized record in bytes.
+   */
+  private static final int ESTIMATED_RECORD_SIZE = 128;
+
+  /**
+   * Estimated size of a page reference to an overflow page in bytes.
+   */
+  private static final int ESTIMATED_REFERENCE_SIZE = 64;
+
   /**
    * The current revision.
    */
@@ -87,14 +99,37 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
   private final DataRecord[] records;
 
   /**
-   * Slots which have to be serialized.
+   * Slots which have to be serialized ({@code null} while the slots are stored off-heap).
+   */
+  private byte[][] slots;
+
+  /**
+   * DeweyIDs ({@code null} while the DeweyIDs are stored off-heap).
+   */
+  private byte[][] deweyIds;
+
+  /**
+   * Serialized slots and DeweyIDs, if they have been moved off-heap, {@code null} otherwise.
+   */
+  private volatile OffHeapSlots offHeapSlots;
+
+  /**
+   * Off-heap slots, which have been replaced by slots on the heap, but might still be read by
+   * transactions, which pinned the page before. They are freed once the page isn't referenced anymore.
    */
-  private final byte[][] slots;
+  private OffHeapSlots retiredOffHeapSlots;
 
   /**
-   * DeweyIDs.
+   * The number of references to this page: the one of the record page cache (or the transaction,
+   * which created the page), which is dropped once the page is evicted, and one for each transaction,
+   * which has pinned the page. The off-heap memory is freed, once no reference is left.
    */
-  private final byte[][] deweyIds;
+  private final AtomicInteger pinCount = new AtomicInteger(1);
+
+  /**
+   * Determines if the page has been evicted from the record page cache.
+   */
+  private final AtomicBoolean isEvicted = new AtomicBoolean();
 
   /**
    * The index type.
@@ -128,8 +163,16 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
     this.references = pageToClone.references;
     this.recordPageKey = pageToClone.recordPageKey;
     this.records = Arrays.copyOf(pageToClone.records, pageToClone.records.length);
-    this.slots = Arrays.copyOf(pageToClone.slots, pageToClone.slots.length);
-    this.deweyIds = Arrays.copyOf(pageToClone.deweyIds, pageToClone.deweyIds.length);
+    // The page to clone might be shared, thus its slots must not be moved to the heap.
+    final var offHeapSlotsToClone = pageToClone.offHeapSlots;
+    if (offHeapSlotsToClone != null) {
+      this.slots = new byte[Constants.NDP_NODE_COUNT][];
+      this.deweyIds = new byte[Constants.NDP_NODE_COUNT][];
+      offHeapSlotsToClone.copyTo(slots, deweyIds);
+    } else {
+      this.slots = Arrays.copyOf(pageToClone.slots, pageToClone.slots.length);
+      this.deweyIds = Arrays.copyOf(pageToClone.deweyIds, pageToClone.deweyIds.length);
+    }
     this.indexType = pageToClone.indexType;
     this.recordPersister = pageToClone.recordPersister;
     this.resourceConfig = pageToClone.resourceConfig;
@@ -175,7 +218,7 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
    * @param deweyIds          DeweyIDs.
    * @param references        References to overflow pages.
    */
-  KeyValueLeafPage(final long recordPageKey, final int revision, final IndexType indexType,
+  public KeyValueLeafPage(final long recordPageKey, final int revision, final IndexType indexType,
       final ResourceConfiguration resourceConfig, final boolean areDeweyIDsStored,
       final RecordSerializer recordPersister, final byte[][] slots, final byte[][] deweyIds,
       final Map<Long, PageReference> references) {
@@ -204,9 +247,131 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
 
   @Override
   public byte[] getSlot(int slotNumber) {
+    final var currentOffHeapSlots = offHeapSlots;
+    if (currentOffHeapSlots != null) {
+      return currentOffHeapSlots.getSlot(slotNumber);
+    }
     return slots[slotNumber];
   }
 
+  /**
+   * Move the serialized slots and DeweyIDs into one contiguous off-heap memory segment, such that a
+   * cached page doesn't hold a heap array per slot. Records are still materialized lazily from the
+   * off-heap slots. Modifying the page moves the slots back to the heap.
+   */
+  public synchronized void moveSlotsOffHeap() {
+    if (offHeapSlots == null && retiredOffHeapSlots == null) {
+      offHeapSlots = OffHeapSlots.of(slots, deweyIds);
+      slots = null;
+      deweyIds = null;
+    }
+  }
+
+  private synchronized void moveSlotsOnHeap() {
+    final var currentOffHeapSlots = offHeapSlots;
+    if (currentOffHeapSlots != null) {
+      final var slotsOnHeap = new byte[Constants.NDP_NODE_COUNT][];
+      final var deweyIdsOnHeap = new byte[Constants.NDP_NODE_COUNT][];
+      currentOffHeapSlots.copyTo(slotsOnHeap, deweyIdsOnHeap);
+      slots = slotsOnHeap;
+      deweyIds = deweyIdsOnHeap;
+      offHeapSlots = null;
+      retireOffHeapSlots(currentOffHeapSlots);
+    }
+  }
+
+  /**
+   * Free replaced off-heap slots, once no transaction is able to read them anymore.
+   */
+  private synchronized void retireOffHeapSlots(final OffHeapSlots replacedOffHeapSlots) {
+    if (pinCount.get() == 0) {
+      replacedOffHeapSlots.release();
+    } else {
+      retiredOffHeapSlots = replacedOffHeapSlots;
+    }
+  }
+
+  /**
+   * Determines if the slots are stored off-heap.
+   *
+   * @return {@code true}, if the slots are stored off-heap, {@code false} otherwise
+   */
+  public boolean areSlotsStoredOffHeap() {
+    return offHeapSlots != null;
+  }
+
+  /**
+   * Get the size of the off-heap memory held by this page.
+   *
+   * @return the size in bytes, {@code 0} if the slots are stored on the heap
+   */
+  public long getOffHeapSize() {
+    final var currentOffHeapSlots = offHeapSlots;
+    return currentOffHeapSlots == null ? 0 : currentOffHeapSlots.byteSize();
+  }
+
+  /**
+   * Pin the page, such that its off-heap memory isn't freed while the page is read, even if it's
+   * evicted from the cache in the meantime. Each successful call must be followed by a call to
+   * {@link #unpin()}, once the page isn't read anymore.
+   *
+   * @return {@code true}, if the page has been pinned, {@code false}, if it has already been released
+   *     and must be reloaded
+   */
+  public boolean pin() {
+    int count;
+    do {
+      count = pinCount.get();
+      if (count == 0) {
+        return false;
+      }
+    } while (!pinCount.compareAndSet(count, count + 1));
+    return true;
+  }
+
+  /**
+   * Unpin the page. The off-heap memory is freed, if the page has been evicted and no other
+   * transaction has pinned it.
+   */
+  public void unpin() {
+    final int count = pinCount.decrementAndGet();
+    assert count >= 0 : "The page has been unpinned more often than pinned.";
+    if (count == 0) {
+      freeOffHeapMemory();
+    }
+  }
+
+  /**
+   * Drop the reference of the cache, once the page is evicted. The off-heap memory is freed, once all
+   * transactions, which have pinned the page, have unpinned it. Afterwards the page can't be pinned
+   * anymore.
+   */
+  public void release() {
+    if (isEvicted.compareAndSet(false, true)) {
+      unpin();
+    }
+  }
+
+  /**
+   * Determines if the page has been released, that is it has been evicted and isn't pinned anymore.
+   *
+   * @return {@code true}, if the page has been released and must not be used anymore
+   */
+  public boolean isReleased() {
+    return pinCount.get() == 0;
+  }
+
+  private synchronized void freeOffHeapMemory() {
+    final var currentOffHeapSlots = offHeapSlots;
+    if (currentOffHeapSlots != null) {
+      currentOffHeapSlots.release();
+    }
+    if (retiredOffHeapSlots != null) {
+      retiredOffHeapSlots.release();
+      retiredOffHeapSlots = null;
+    }
+  }
+
   @Override
   public void setRecord(@NonNull final DataRecord record) {
     addedReferences = false;
@@ -235,10 +400,12 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
   }
 
   public byte[][] getSlots() {
+    moveSlotsOnHeap();
     return slots;
   }
 
   public byte[][] getDeweyIds() {
+    moveSlotsOnHeap();
     return deweyIds;
   }
 
@@ -272,26 +439,34 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
 
   @Override
   public byte[][] slots() {
+    moveSlotsOnHeap();
     return slots;
   }
 
   @Override
   public synchronized void setSlot(byte[] recordData, int offset) {
+    moveSlotsOnHeap();
     slots[offset] = recordData;
   }
 
   @Override
   public byte[] getDeweyId(int offset) {
+    final var currentOffHeapSlots = offHeapSlots;
+    if (currentOffHeapSlots != null) {
+      return currentOffHeapSlots.getDeweyId(offset);
+    }
     return deweyIds[offset];
   }
 
   @Override
   public void setDeweyId(byte[] deweyId, int offset) {
+    moveSlotsOnHeap();
     deweyIds[offset] = deweyId;
   }
 
   @Override
   public byte[][] deweyIds() {
+    moveSlotsOnHeap();
     return deweyIds;
   }
 
@@ -347,6 +522,8 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
   // Add references to OverflowPages.
   public void addReferences(final PageReadOnlyTrx pageReadOnlyTrx) {
     if (!addedReferences) {
+      moveSlotsOnHeap();
+
       if (areDeweyIDsStored && recordPersister instanceof DeweyIdSerializer) {
         processEntries(pageReadOnlyTrx, records);
         for (int i = 0; i < records.length; i++) {
@@ -409,6 +586,16 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
 
   @Override
   public int size() {
+    final var currentOffHeapSlots = offHeapSlots;
+    if (currentOffHeapSlots != null) {
+      int count = 0;
+      for (int i = 0; i < records.length; i++) {
+        if (records[i] != null || currentOffHeapSlots.hasSlot(i)) {
+          ++count;
+        }
+      }
+      return count + references.size();
+    }
     return getNumberOfNonNullEntries(records, slots) + references.size();
   }
 
@@ -440,12 +627,57 @@ public final class KeyValueLeafPage implements KeyValuePage<DataRecord> {
     }
     hashCode = null;
     Arrays.fill(records, null);
-    Arrays.fill(slots, null);
-    Arrays.fill(deweyIds, null);
+    final var currentOffHeapSlots = offHeapSlots;
+    if (currentOffHeapSlots != null) {
+      slots = new byte[Constants.NDP_NODE_COUNT][];
+      deweyIds = new byte[Constants.NDP_NODE_COUNT][];
+      offHeapSlots = null;
+      retireOffHeapSlots(currentOffHeapSlots);
+    } else {
+      Arrays.fill(slots, null);
+      Arrays.fill(deweyIds, null);
+    }
     references.clear();
     return this;
   }
 
+  /**
+   * Estimate the memory held by this page (on- and off-heap) in bytes, once all its records are
+   * materialized. Records are materialized lazily after the page has been cached, thus each record,
+   * which is either materialized or stored in a slot or an overflow page, is accounted for with a
+   * fixed size. Slots and DeweyIDs are accounted for with their serialized size.
+   *
+   * @return the estimated size in bytes
+   */
+  public long estimateSize() {
+    // Object headers and the arrays of references to records, slots and DeweyIDs.
+    long size = 64 + 3L * (16 + (long) Integer.BYTES * Constants.NDP_NODE_COUNT);
+    final var currentOffHeapSlots = offHeapSlots;
+    final byte[][] currentSlots = slots;
+    for (int i = 0; i < records.length; i++) {
+      final boolean hasSlot = currentOffHeapSlots != null ? currentOffHeapSlots.hasSlot(i) : currentSlots[i] != null;
+      if (records[i] != null || hasSlot) {
+        size += ESTIMATED_RECORD_SIZE;
+      }
+    }
+    if (currentOffHeapSlots != null) {
+      size += currentOffHeapSlots.byteSize();
+    } else {
+      size += estimateSize(currentSlots) + estimateSize(deweyIds);
+    }
+    return size + (long) references.size() * (ESTIMATED_REFERENCE_SIZE + ESTIMATED_RECORD_SIZE);
+  }
+
+  private static long estimateSize(final byte[][] entries) {
+    long size = 0;
+    for (final byte[] entry : entries) {
+      if (entry != null) {
+        size += 16 + entry.length;
+      }
+    }
+    return size;
+  }
+
   public static int getNumberOfNonNullEntries(DataRecord[] entries, byte[][] slots) {
     int count = 0;
     for (int i = 0; i < entries.length; i++) {
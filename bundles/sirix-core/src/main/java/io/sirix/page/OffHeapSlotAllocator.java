@@ -0,0 +1,123 @@
+package io.sirix.page;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentScope;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Allocates the off-heap memory of {@link OffHeapSlots} and recycles it, once the slots are
+ * released. The memory is allocated in the global scope and never freed: closing a shared arena per
+ * page would require a handshake with all threads on each eviction of a page from the cache.
+ * Instead, released blocks are kept in free lists per size class and reused for the next pages of
+ * the same size class. Thus the off-heap memory is bounded by the maximum size of the cached pages.
+ *
+ * <p>
+ * The size classes are multiples of a quarter of the largest power of two, which isn't larger than
+ * the requested size (at least 4 KiB), such that at most a fifth of a block is wasted.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+final class OffHeapSlotAllocator {
+
+  /**
+   * The allocator of all off-heap slots.
+   */
+  static final OffHeapSlotAllocator INSTANCE = new OffHeapSlotAllocator();
+
+  /**
+   * The smallest size class.
+   */
+  private static final long MIN_BLOCK_SIZE = 1L << 12;
+
+  /**
+   * The released blocks by their sizes.
+   */
+  private final ConcurrentMap<Long, Queue<MemorySegment>> freeBlocks;
+
+  /**
+   * The number of bytes allocated in total.
+   */
+  private final AtomicLong allocatedBytes;
+
+  /**
+   * The number of bytes of released blocks, which are available for reuse.
+   */
+  private final AtomicLong freeBytes;
+
+  OffHeapSlotAllocator() {
+    freeBlocks = new ConcurrentHashMap<>();
+    allocatedBytes = new AtomicLong();
+    freeBytes = new AtomicLong();
+  }
+
+  /**
+   * Allocate a block, which holds at least the given number of bytes. The content of a reused block
+   * isn't cleared.
+   *
+   * @param size the number of bytes
+   * @return the block, whose size is the size class of the requested size
+   */
+  MemorySegment allocate(final long size) {
+    checkArgument(size >= 0, "size must be >= 0!");
+    final long blockSize = blockSize(size);
+    final Queue<MemorySegment> blocks = freeBlocks.get(blockSize);
+    if (blocks != null) {
+      final MemorySegment block = blocks.poll();
+      if (block != null) {
+        freeBytes.addAndGet(-blockSize);
+        return block;
+      }
+    }
+    allocatedBytes.addAndGet(blockSize);
+    return MemorySegment.allocateNative(blockSize, Long.BYTES, SegmentScope.global());
+  }
+
+  /**
+   * Release a block for reuse. The block must not be accessed afterwards.
+   *
+   * @param block a block returned by {@link #allocate(long)}
+   */
+  void release(final MemorySegment block) {
+    freeBlocks.computeIfAbsent(block.byteSize(), unused -> new ConcurrentLinkedQueue<>()).add(block);
+    freeBytes.addAndGet(block.byteSize());
+  }
+
+  /**
+   * Get the number of bytes allocated in total.
+   *
+   * @return the number of bytes
+   */
+  long getAllocatedBytes() {
+    return allocatedBytes.get();
+  }
+
+  /**
+   * Get the number of bytes of released blocks, which are available for reuse.
+   *
+   * @return the number of bytes
+   */
+  long getFreeBytes() {
+    return freeBytes.get();
+  }
+
+  /**
+   * Get the size class of a requested size.
+   *
+   * @param size the requested size
+   * @return the size of the block
+   */
+  static long blockSize(final long size) {
+    if (size <= MIN_BLOCK_SIZE) {
+      return MIN_BLOCK_SIZE;
+    }
+    final long step = Long.highestOneBit(size) >>> 2;
+    return (size + step - 1) & -step;
+  }
+}
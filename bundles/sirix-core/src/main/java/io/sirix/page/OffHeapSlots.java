@@ -0,0 +1,208 @@
+package io.sirix.page;
+
+import io.sirix.settings.Constants;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Serialized slots and DeweyIDs of a {@link KeyValueLeafPage} stored in one contiguous off-heap
+ * {@link MemorySegment}. The segment starts with an offset table, which holds the offset and the
+ * length of each slot (and each DeweyID, if stored), followed by the data itself. A length of
+ * {@code -1} denotes an empty slot.
+ *
+ * <p>
+ * The memory is a block of the {@link OffHeapSlotAllocator}, which is handed back for reuse by
+ * {@link #release()}. The owning {@link KeyValueLeafPage} calls it once it's neither cached nor
+ * pinned by a transaction anymore, so no reader sees the block being reused. Instances are
+ * immutable otherwise and thus safe to read from multiple threads.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+final class OffHeapSlots {
+
+  private static final ValueLayout.OfInt LAYOUT_INT = ValueLayout.JAVA_INT;
+
+  private static final ValueLayout.OfByte LAYOUT_BYTE = ValueLayout.JAVA_BYTE;
+
+  /**
+   * Size of an offset table entry (offset and length).
+   */
+  private static final int ENTRY_SIZE = 2 * Integer.BYTES;
+
+  private static final int EMPTY = -1;
+
+  /**
+   * The block of the allocator, which holds the segment.
+   */
+  private final MemorySegment block;
+
+  /**
+   * The segment holding the offset table(s) and the data.
+   */
+  private final MemorySegment segment;
+
+  /**
+   * Determines if the segment holds an offset table for DeweyIDs.
+   */
+  private final boolean hasDeweyIds;
+
+  private volatile boolean isReleased;
+
+  private OffHeapSlots(final MemorySegment block, final MemorySegment segment, final boolean hasDeweyIds) {
+    this.block = block;
+    this.segment = segment;
+    this.hasDeweyIds = hasDeweyIds;
+  }
+
+  /**
+   * Copy the slots and DeweyIDs into a new off-heap segment.
+   *
+   * @param slots    the serialized slots
+   * @param deweyIds the DeweyIDs
+   * @return the off-heap slots
+   */
+  static OffHeapSlots of(final byte[][] slots, final byte[][] deweyIds) {
+    final boolean hasDeweyIds = hasNonEmptyEntry(deweyIds);
+    final long tableSize = (long) (hasDeweyIds ? 2 : 1) * Constants.NDP_NODE_COUNT * ENTRY_SIZE;
+    final long size = tableSize + dataSize(slots) + (hasDeweyIds ? dataSize(deweyIds) : 0);
+
+    final MemorySegment block = OffHeapSlotAllocator.INSTANCE.allocate(size);
+    final MemorySegment segment = block.asSlice(0, size);
+
+    long dataOffset = tableSize;
+    for (int i = 0; i < Constants.NDP_NODE_COUNT; i++) {
+      dataOffset = write(segment, (long) i * ENTRY_SIZE, dataOffset, slots[i]);
+    }
+    if (hasDeweyIds) {
+      for (int i = 0; i < Constants.NDP_NODE_COUNT; i++) {
+        dataOffset = write(segment, (long) (Constants.NDP_NODE_COUNT + i) * ENTRY_SIZE, dataOffset, deweyIds[i]);
+      }
+    }
+    assert dataOffset == size;
+
+    return new OffHeapSlots(block, segment, hasDeweyIds);
+  }
+
+  private static boolean hasNonEmptyEntry(final byte[][] entries) {
+    for (final byte[] entry : entries) {
+      if (entry != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static long dataSize(final byte[][] entries) {
+    long size = 0;
+    for (final byte[] entry : entries) {
+      if (entry != null) {
+        size += entry.length;
+      }
+    }
+    return size;
+  }
+
+  private static long write(final MemorySegment segment, final long entryOffset, final long dataOffset,
+      final byte[] data) {
+    if (data == null) {
+      segment.set(LAYOUT_INT, entryOffset, 0);
+      segment.set(LAYOUT_INT, entryOffset + Integer.BYTES, EMPTY);
+      return dataOffset;
+    }
+    segment.set(LAYOUT_INT, entryOffset, (int) dataOffset);
+    segment.set(LAYOUT_INT, entryOffset + Integer.BYTES, data.length);
+    MemorySegment.copy(data, 0, segment, LAYOUT_BYTE, dataOffset, data.length);
+    return dataOffset + data.length;
+  }
+
+  private byte[] read(final long entryOffset) {
+    checkState(!isReleased, "The off-heap slots have already been released.");
+    final int length = segment.get(LAYOUT_INT, entryOffset + Integer.BYTES);
+    if (length == EMPTY) {
+      return null;
+    }
+    final int offset = segment.get(LAYOUT_INT, entryOffset);
+    final byte[] data = new byte[length];
+    MemorySegment.copy(segment, LAYOUT_BYTE, offset, data, 0, length);
+    return data;
+  }
+
+  /**
+   * Get a copy of a slot.
+   *
+   * @param offset the slot offset
+   * @return the slot or {@code null}, if the slot is empty
+   */
+  byte[] getSlot(final int offset) {
+    return read((long) offset * ENTRY_SIZE);
+  }
+
+  /**
+   * Determines if a slot is non-empty without copying it.
+   *
+   * @param offset the slot offset
+   * @return {@code true}, if the slot is non-empty, {@code false} otherwise
+   */
+  boolean hasSlot(final int offset) {
+    checkState(!isReleased, "The off-heap slots have already been released.");
+    return segment.get(LAYOUT_INT, (long) offset * ENTRY_SIZE + Integer.BYTES) != EMPTY;
+  }
+
+  /**
+   * Get a copy of a DeweyID.
+   *
+   * @param offset the slot offset
+   * @return the DeweyID or {@code null}, if no DeweyID is stored
+   */
+  byte[] getDeweyId(final int offset) {
+    if (!hasDeweyIds) {
+      return null;
+    }
+    return read((long) (Constants.NDP_NODE_COUNT + offset) * ENTRY_SIZE);
+  }
+
+  /**
+   * Copy all slots and DeweyIDs back to the heap.
+   *
+   * @param slots    the slots to fill
+   * @param deweyIds the DeweyIDs to fill
+   */
+  void copyTo(final byte[][] slots, final byte[][] deweyIds) {
+    for (int i = 0; i < Constants.NDP_NODE_COUNT; i++) {
+      slots[i] = getSlot(i);
+      deweyIds[i] = getDeweyId(i);
+    }
+  }
+
+  /**
+   * Get the size of the off-heap memory in bytes, including the unused tail of the block.
+   *
+   * @return the size in bytes
+   */
+  long byteSize() {
+    return block.byteSize();
+  }
+
+  /**
+   * Determines if the memory has already been released.
+   *
+   * @return {@code true}, if the memory has been released, {@code false} otherwise
+   */
+  boolean isReleased() {
+    return isReleased;
+  }
+
+  /**
+   * Hand the off-heap memory back to the allocator for reuse. Subsequent reads fail.
+   */
+  synchronized void release() {
+    if (!isReleased) {
+      isReleased = true;
+      OffHeapSlotAllocator.INSTANCE.release(block);
+    }
+  }
+}
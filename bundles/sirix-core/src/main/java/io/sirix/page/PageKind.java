@@ -45,15 +45,14 @@ import io.sirix.BinaryEncodingVersion;
 import io.sirix.access.ResourceConfiguration;
 import io.sirix.api.PageReadOnlyTrx;
 import io.sirix.index.IndexType;
+import io.sirix.io.bytepipe.ByteHandler;
 import io.sirix.page.delegates.FullReferencesPage;
 import io.sirix.page.delegates.ReferencesPage4;
 import io.sirix.page.interfaces.Page;
 import io.sirix.settings.Constants;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
-import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.*;
@@ -252,24 +251,13 @@ public enum PageKind {
         sink.writeLong(entry.getValue().getKey());
       }
 
-      keyValueLeafPage.setHashCode(pageReadOnlyTrx.getReader().hashFunction.hashBytes(sink.bytesForRead().toByteArray())
-                                                                           .asBytes());
-
       final var byteArray = sink.bytesForRead().toByteArray();
 
-      final byte[] serializedPage;
+      keyValueLeafPage.setHashCode(pageReadOnlyTrx.getReader().hashFunction.hashBytes(byteArray).asBytes());
 
-      try (final ByteArrayOutputStream output = new ByteArrayOutputStream(byteArray.length)) {
-        try (final DataOutputStream dataOutput = new DataOutputStream(pageReadOnlyTrx.getResourceSession()
-                                                                                     .getResourceConfig().byteHandlePipeline.serialize(
-                output))) {
-          dataOutput.write(byteArray);
-          dataOutput.flush();
-        }
-        serializedPage = output.toByteArray();
-      } catch (IOException e) {
-        throw new UncheckedIOException(e);
-      }
+      final ByteHandler byteHandler = pageReadOnlyTrx.getResourceSession().getResourceConfig().byteHandlePipeline;
+      final byte[] serializedPage = byteHandler.serialize(MemorySegment.ofArray(byteArray), ByteHandler.heapAllocator())
+                                               .toArray(ValueLayout.JAVA_BYTE);
 
       keyValueLeafPage.setBytes(Bytes.wrapForRead(serializedPage));
     }
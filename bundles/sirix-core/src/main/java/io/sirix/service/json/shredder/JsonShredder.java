@@ -290,6 +290,11 @@ public final class JsonShredder implements Callable<Long> {
   }
 
   private Number readNumber() throws IOException {
+    if (reader instanceof ParallelJsonReader parallelJsonReader) {
+      // Already parsed by its parser thread.
+      return parallelJsonReader.nextNumber();
+    }
+
     final var stringValue = reader.nextString();
 
     return JsonNumber.stringToNumber(stringValue);
@@ -632,12 +637,14 @@ public final class JsonShredder implements Callable<Long> {
 
     try (final var db = Databases.openJsonDatabase(targetDatabasePath)) {
       db.createResource(ResourceConfiguration.newBuilder("shredded").build());
-      try (final var resMgr = db.beginResourceSession("shredded"); final var wtx = resMgr.beginNodeTrx()) {
-        final var path = Paths.get(args[0]);
-        final var jsonReader = createFileReader(path);
+      try (final var resMgr = db.beginResourceSession("shredded");
+           final var wtx = resMgr.beginNodeTrx();
+           final var jsonReader = ParallelJsonReader.create(createFileReader(Paths.get(args[0])))) {
         final var shredder =
             new JsonShredder.Builder(wtx, jsonReader, InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
         shredder.call();
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
       }
     }
 
@@ -663,6 +670,20 @@ public final class JsonShredder implements Callable<Long> {
     }
   }
 
+  /**
+   * Create a new {@link JsonReader} instance on a character stream, which is parsed incrementally.
+   *
+   * @param reader the character stream
+   * @return an {@link JsonReader} instance
+   */
+  public static JsonReader createReader(final Reader reader) {
+    requireNonNull(reader);
+
+    final var jsonReader = new JsonReader(reader);
+    jsonReader.setLenient(true);
+    return jsonReader;
+  }
+
   /**
    * Create a new {@link JsonReader} instance on a String.
    *
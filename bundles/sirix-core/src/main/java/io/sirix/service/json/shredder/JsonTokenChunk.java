@@ -0,0 +1,143 @@
+package io.sirix.service.json.shredder;
+
+import com.google.gson.stream.JsonToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A chunk of consecutive JSON tokens, which is filled by the parser of a {@link ParallelJsonReader}
+ * and afterwards replayed to the write transaction.
+ *
+ * @author Johannes Lichtenberger
+ */
+final class JsonTokenChunk {
+
+  /** All token types, indexed by their ordinal. */
+  private static final JsonToken[] TOKENS = JsonToken.values();
+
+  /** The ordinals of the tokens. */
+  private final byte[] tokens;
+
+  /** The names, strings and raw numbers of the tokens, or {@code null}. */
+  private final String[] values;
+
+  /** The boolean values of the tokens. */
+  private final boolean[] booleans;
+
+  /** The parsed numbers. */
+  private final Number[] numbers;
+
+  /** The failure of the parser, or {@code null}. */
+  private final @Nullable Exception failure;
+
+  /** Determines if this is the last chunk of the document. */
+  private boolean last;
+
+  /** The number of tokens. */
+  private int size;
+
+  /**
+   * Constructor.
+   *
+   * @param capacity the maximum number of tokens
+   */
+  JsonTokenChunk(final int capacity) {
+    tokens = new byte[capacity];
+    values = new String[capacity];
+    booleans = new boolean[capacity];
+    numbers = new Number[capacity];
+    failure = null;
+  }
+
+  /**
+   * Constructor of a chunk, which signals a failure of the parser.
+   *
+   * @param failure the failure
+   */
+  JsonTokenChunk(final Exception failure) {
+    tokens = new byte[0];
+    values = new String[0];
+    booleans = new boolean[0];
+    numbers = new Number[0];
+    this.failure = failure;
+  }
+
+  /**
+   * Add a token without a value.
+   *
+   * @param token the token
+   */
+  void add(final JsonToken token) {
+    tokens[size++] = (byte) token.ordinal();
+  }
+
+  /**
+   * Add a name or string token.
+   *
+   * @param token the token
+   * @param value the name or string
+   */
+  void add(final JsonToken token, final String value) {
+    values[size] = value;
+    add(token);
+  }
+
+  /**
+   * Add a number token.
+   *
+   * @param value  the raw number
+   * @param number the parsed number
+   */
+  void add(final String value, final Number number) {
+    numbers[size] = number;
+    add(JsonToken.NUMBER, value);
+  }
+
+  /**
+   * Add a boolean token.
+   *
+   * @param value the boolean value
+   */
+  void add(final boolean value) {
+    booleans[size] = value;
+    add(JsonToken.BOOLEAN);
+  }
+
+  /**
+   * Mark this chunk as the last chunk of the document.
+   */
+  void markLast() {
+    last = true;
+  }
+
+  JsonToken token(final int index) {
+    return TOKENS[tokens[index]];
+  }
+
+  String value(final int index) {
+    return values[index];
+  }
+
+  boolean booleanValue(final int index) {
+    return booleans[index];
+  }
+
+  Number number(final int index) {
+    return numbers[index];
+  }
+
+  @Nullable Exception failure() {
+    return failure;
+  }
+
+  boolean isFull() {
+    return size == tokens.length;
+  }
+
+  boolean isLast() {
+    return last;
+  }
+
+  int size() {
+    return size;
+  }
+}
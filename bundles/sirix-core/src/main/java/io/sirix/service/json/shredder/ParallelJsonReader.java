@@ -0,0 +1,391 @@
+package io.sirix.service.json.shredder;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.sirix.service.json.JsonNumber;
+import io.sirix.utils.LogWrapper;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * <p>
+ * A {@link JsonReader}, which parses a JSON document in a two-stage pipeline, such that tokenizing
+ * the document overlaps with creating its nodes:
+ * </p>
+ * <ol>
+ * <li>A parser thread reads the tokens of the document from the underlying reader into chunks of
+ * consecutive tokens (usually spanning many elements of a large array) and parses the numbers.</li>
+ * <li>The reader replays the chunks in document order to its single consumer, usually the
+ * {@link JsonShredder} of a write transaction, which thus creates the nodes, their hashes and the
+ * name keys in document order.</li>
+ * </ol>
+ * <p>
+ * All other work of creating a node depends on the state of the write transaction and thus stays on
+ * its thread.
+ * </p>
+ * <p>
+ * The number of chunks parsed ahead is bounded, such that the parser blocks if the write
+ * transaction falls behind. The parser is stopped, once the reader is closed or the consumer
+ * encounters a failed chunk. As the {@link JsonShredder}, the reader reads a single top-level value.
+ * It can be used instead of any other reader, for instance:
+ * </p>
+ *
+ * <pre>
+ * try (final var reader = ParallelJsonReader.create(JsonShredder.createFileReader(path))) {
+ *   wtx.insertSubtreeAsFirstChild(reader);
+ * }
+ * </pre>
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class ParallelJsonReader extends JsonReader {
+
+  /** {@link LogWrapper} reference. */
+  private static final LogWrapper LOGWRAPPER = new LogWrapper(LoggerFactory.getLogger(ParallelJsonReader.class));
+
+  /** The default number of tokens of a chunk. */
+  public static final int DEFAULT_CHUNK_SIZE = 16_384;
+
+  /** The default maximum number of chunks parsed ahead. */
+  public static final int DEFAULT_MAX_PENDING_CHUNKS = 16;
+
+  /** The reader passed to the super class, which must never be used. */
+  private static final Reader UNREADABLE_READER = new Reader() {
+    @Override
+    public int read(final char[] buffer, final int offset, final int count) {
+      throw new AssertionError();
+    }
+
+    @Override
+    public void close() {
+      throw new AssertionError();
+    }
+  };
+
+  /** The underlying reader, which is read by the parser thread. */
+  private final JsonReader reader;
+
+  /** The number of tokens of a chunk. */
+  private final int chunkSize;
+
+  /** The chunks in document order, which have been parsed ahead. */
+  private final BlockingQueue<JsonTokenChunk> chunks;
+
+  /** The parser thread. */
+  private Thread parser;
+
+  /** The current chunk. */
+  private JsonTokenChunk chunk;
+
+  /** The index of the next token in the current chunk. */
+  private int index;
+
+  /** Determines if the reader has been closed. */
+  private volatile boolean closed;
+
+  /**
+   * Private constructor.
+   *
+   * @param reader           the underlying reader
+   * @param chunkSize        the number of tokens of a chunk
+   * @param maxPendingChunks the maximum number of chunks parsed ahead
+   */
+  private ParallelJsonReader(final JsonReader reader, final int chunkSize, final int maxPendingChunks) {
+    super(UNREADABLE_READER);
+    this.reader = requireNonNull(reader);
+    checkArgument(chunkSize > 0, "The chunk size must be positive!");
+    checkArgument(maxPendingChunks > 0, "The maximum number of pending chunks must be positive!");
+    this.chunkSize = chunkSize;
+    chunks = new ArrayBlockingQueue<>(maxPendingChunks);
+    chunk = new JsonTokenChunk(0);
+    setLenient(reader.isLenient());
+  }
+
+  /**
+   * Create a reader, which parses the JSON of the given reader in parallel.
+   *
+   * @param reader the underlying reader
+   * @return the reader
+   */
+  public static ParallelJsonReader create(final JsonReader reader) {
+    // A platform thread, as reading through a synchronized reader would pin the carrier of a
+    // virtual thread, which doesn't keep the JVM alive.
+    return create(reader,
+                  DEFAULT_CHUNK_SIZE,
+                  DEFAULT_MAX_PENDING_CHUNKS,
+                  Thread.ofPlatform().daemon().name("sirix-json-parser").factory());
+  }
+
+  /**
+   * Create a reader, which parses the JSON of the given reader in parallel.
+   *
+   * @param reader           the underlying reader
+   * @param chunkSize        the number of tokens of a chunk
+   * @param maxPendingChunks the maximum number of chunks parsed ahead
+   * @param parserFactory    creates the parser thread
+   * @return the reader
+   */
+  public static ParallelJsonReader create(final JsonReader reader, final int chunkSize, final int maxPendingChunks,
+      final ThreadFactory parserFactory) {
+    final var parallelJsonReader = new ParallelJsonReader(reader, chunkSize, maxPendingChunks);
+    parallelJsonReader.parser = parserFactory.newThread(parallelJsonReader::parse);
+    parallelJsonReader.parser.start();
+    return parallelJsonReader;
+  }
+
+  /**
+   * Parse the top-level value of the underlying reader into chunks. Runs in the parser thread.
+   */
+  private void parse() {
+    var currentChunk = new JsonTokenChunk(chunkSize);
+    try {
+      int level = 0;
+      do {
+        final JsonToken token = reader.peek();
+        switch (token) {
+          case BEGIN_ARRAY -> {
+            reader.beginArray();
+            level++;
+            currentChunk.add(token);
+          }
+          case END_ARRAY -> {
+            reader.endArray();
+            level--;
+            currentChunk.add(token);
+          }
+          case BEGIN_OBJECT -> {
+            reader.beginObject();
+            level++;
+            currentChunk.add(token);
+          }
+          case END_OBJECT -> {
+            reader.endObject();
+            level--;
+            currentChunk.add(token);
+          }
+          case NAME -> currentChunk.add(token, reader.nextName());
+          case STRING -> currentChunk.add(token, reader.nextString());
+          case NUMBER -> {
+            final String value = reader.nextString();
+            currentChunk.add(value, JsonNumber.stringToNumber(value));
+          }
+          case BOOLEAN -> currentChunk.add(reader.nextBoolean());
+          case NULL -> {
+            reader.nextNull();
+            currentChunk.add(token);
+          }
+          case END_DOCUMENT -> level = 0;
+          default -> throw new AssertionError();
+        }
+
+        if (currentChunk.isFull() && level > 0) {
+          if (!enqueue(currentChunk)) {
+            return;
+          }
+          currentChunk = new JsonTokenChunk(chunkSize);
+        }
+      } while (level > 0);
+
+      currentChunk.markLast();
+      enqueue(currentChunk);
+    } catch (final IOException | RuntimeException e) {
+      if (closed || Thread.currentThread().isInterrupted()) {
+        LOGWRAPPER.debug(e.getMessage(), e);
+      } else {
+        enqueue(new JsonTokenChunk(e));
+      }
+    }
+  }
+
+  /**
+   * Enqueue a chunk, blocking as long as the maximum number of chunks has been parsed ahead.
+   *
+   * @param chunk the chunk
+   * @return {@code false}, if the parser has been stopped, {@code true} otherwise
+   */
+  private boolean enqueue(final JsonTokenChunk chunk) {
+    try {
+      chunks.put(chunk);
+      return !closed;
+    } catch (final InterruptedException e) {
+      // The parser has been stopped.
+      return false;
+    }
+  }
+
+  /**
+   * Stop the parser thread and discard the chunks parsed ahead.
+   */
+  private void stopParser() {
+    parser.interrupt();
+    chunks.clear();
+  }
+
+  /**
+   * Get the chunk of the next token, waiting for the next chunk if the current one has been
+   * replayed.
+   *
+   * @return the chunk
+   * @throws IOException if the underlying reader failed
+   */
+  private JsonTokenChunk chunk() throws IOException {
+    if (closed) {
+      throw new IllegalStateException("JsonReader is closed");
+    }
+    while (index == chunk.size() && !chunk.isLast()) {
+      final JsonTokenChunk nextChunk;
+      try {
+        nextChunk = chunks.take();
+      } catch (final InterruptedException e) {
+        stopParser();
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException(e.getMessage());
+      }
+      final Exception failure = nextChunk.failure();
+      if (failure != null) {
+        stopParser();
+        if (failure instanceof IOException ioException) {
+          throw ioException;
+        }
+        throw (RuntimeException) failure;
+      }
+      chunk = nextChunk;
+      index = 0;
+    }
+    return chunk;
+  }
+
+  private void expect(final JsonToken expected) throws IOException {
+    final JsonToken token = peek();
+    if (token != expected) {
+      throw new IllegalStateException("Expected " + expected + " but was " + token);
+    }
+  }
+
+  @Override
+  public JsonToken peek() throws IOException {
+    final JsonTokenChunk currentChunk = chunk();
+    return index == currentChunk.size() ? JsonToken.END_DOCUMENT : currentChunk.token(index);
+  }
+
+  @Override
+  public boolean hasNext() throws IOException {
+    final JsonToken token = peek();
+    return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+  }
+
+  @Override
+  public void beginArray() throws IOException {
+    expect(JsonToken.BEGIN_ARRAY);
+    index++;
+  }
+
+  @Override
+  public void endArray() throws IOException {
+    expect(JsonToken.END_ARRAY);
+    index++;
+  }
+
+  @Override
+  public void beginObject() throws IOException {
+    expect(JsonToken.BEGIN_OBJECT);
+    index++;
+  }
+
+  @Override
+  public void endObject() throws IOException {
+    expect(JsonToken.END_OBJECT);
+    index++;
+  }
+
+  @Override
+  public String nextName() throws IOException {
+    expect(JsonToken.NAME);
+    return chunk.value(index++);
+  }
+
+  @Override
+  public String nextString() throws IOException {
+    final JsonToken token = peek();
+    if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+      throw new IllegalStateException("Expected a string but was " + token);
+    }
+    return chunk.value(index++);
+  }
+
+  /**
+   * Returns the {@link JsonToken#NUMBER} value of the next token, as parsed by the parser thread.
+   *
+   * @return the number
+   * @throws IOException if the underlying reader failed
+   */
+  public Number nextNumber() throws IOException {
+    expect(JsonToken.NUMBER);
+    return chunk.number(index++);
+  }
+
+  @Override
+  public boolean nextBoolean() throws IOException {
+    expect(JsonToken.BOOLEAN);
+    return chunk.booleanValue(index++);
+  }
+
+  @Override
+  public void nextNull() throws IOException {
+    expect(JsonToken.NULL);
+    index++;
+  }
+
+  @Override
+  public double nextDouble() throws IOException {
+    return Double.parseDouble(nextString());
+  }
+
+  @Override
+  public long nextLong() throws IOException {
+    return Long.parseLong(nextString());
+  }
+
+  @Override
+  public int nextInt() throws IOException {
+    return Integer.parseInt(nextString());
+  }
+
+  @Override
+  public void skipValue() throws IOException {
+    int level = 0;
+    do {
+      switch (peek()) {
+        case BEGIN_ARRAY, BEGIN_OBJECT -> level++;
+        case END_ARRAY, END_OBJECT -> level--;
+        case END_DOCUMENT -> {
+          return;
+        }
+        default -> {
+        }
+      }
+      index++;
+    } while (level > 0);
+  }
+
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    stopParser();
+    reader.close();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName();
+  }
+}
@@ -3,6 +3,8 @@ package io.sirix.access.node.json;
 import io.sirix.access.ResourceConfiguration;
 import io.sirix.access.trx.node.HashType;
 import io.sirix.api.json.JsonNodeTrx;
+import io.sirix.axis.DescendantAxis;
+import io.sirix.axis.IncludeSelf;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -21,6 +23,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 public final class JsonNodeTrxInsertTest {
@@ -351,4 +355,84 @@ public final class JsonNodeTrxInsertTest {
       assertEquals("bar", wtx.getValue());
     }
   }
+
+  @Test
+  public void testInsertSubtreeWithIntermediateCommitsIsHashed() {
+    final var json = """
+        {"foo":["bar",null,2.33],"bar":{"hello":"world","helloo":true},"baz":"hello","tada":[{"foo":"bar"},{"baz":false},"boo",{},[]]}
+        """.strip();
+    final var resource = "oneShot";
+    final var autoCommittedResource = "autoCommitted";
+
+    try (final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile())) {
+      database.createResource(ResourceConfiguration.newBuilder(resource).hashKind(HashType.POSTORDER).build());
+      database.createResource(ResourceConfiguration.newBuilder(autoCommittedResource)
+                                                   .hashKind(HashType.POSTORDER)
+                                                   .build());
+
+      try (final var manager = database.beginResourceSession(resource);
+           final var wtx = manager.beginNodeTrx();
+           final var autoCommittedManager = database.beginResourceSession(autoCommittedResource);
+           final var autoCommittingWtx = autoCommittedManager.beginNodeTrx(5)) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(json));
+        autoCommittingWtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(json));
+
+        assertTrue(autoCommittedManager.getMostRecentRevisionNumber() > 2);
+
+        assertTrue(autoCommittingWtx.moveToDocumentRoot() && autoCommittingWtx.moveToFirstChild());
+        assertNotEquals(0L, autoCommittingWtx.getHash());
+
+        wtx.moveToDocumentRoot();
+        autoCommittingWtx.moveToDocumentRoot();
+
+        // The root, its ancestors and all other nodes have the same hashes as after a one-shot insert.
+        final var axis = new DescendantAxis(wtx, IncludeSelf.YES);
+        final var autoCommittedAxis = new DescendantAxis(autoCommittingWtx, IncludeSelf.YES);
+        while (axis.hasNext()) {
+          axis.nextLong();
+          assertTrue(autoCommittedAxis.hasNext());
+          autoCommittedAxis.nextLong();
+          assertEquals(wtx.getNodeKey(), autoCommittingWtx.getNodeKey());
+          assertEquals(wtx.getHash(), autoCommittingWtx.getHash());
+          assertEquals(wtx.getDescendantCount(), autoCommittingWtx.getDescendantCount());
+        }
+        assertFalse(autoCommittedAxis.hasNext());
+      }
+    }
+  }
+
+  @Test
+  public void testCommitMoreRecordPagesThanTheIntentLogKeepsInMemory() {
+    final int numberOfValues = 20_000;
+    final var json = new StringBuilder("[");
+    for (int i = 0; i < numberOfValues; i++) {
+      json.append(i == 0 ? "" : ",").append(i);
+    }
+    json.append(']');
+    final var resource = "spilled";
+
+    try (final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile())) {
+      database.createResource(ResourceConfiguration.newBuilder(resource).trxIntentLogMaxInMemoryRecordPages(2).build());
+
+      try (final var manager = database.beginResourceSession(resource)) {
+        try (final var wtx = manager.beginNodeTrx()) {
+          wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(json.toString()), JsonNodeTrx.Commit.NO);
+          assertTrue(wtx.getPageWtx().getLog().getNumberOfEvictedContainers() > 0);
+
+          // The record pages in memory are serialized by worker threads during the commit.
+          wtx.commit();
+        }
+
+        try (final var rtx = manager.beginNodeReadOnlyTrx()) {
+          assertTrue(rtx.moveToFirstChild());
+          assertEquals(numberOfValues, rtx.getChildCount());
+          assertTrue(rtx.moveToFirstChild());
+          for (int i = 0; i < numberOfValues; i++) {
+            assertEquals(i, rtx.getNumberValue().intValue());
+            assertEquals(i < numberOfValues - 1, rtx.moveToRightSibling());
+          }
+        }
+      }
+    }
+  }
 }
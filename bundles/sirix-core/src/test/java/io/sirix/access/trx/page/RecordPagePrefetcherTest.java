@@ -0,0 +1,116 @@
+package io.sirix.access.trx.page;
+
+import io.sirix.index.IndexType;
+import io.sirix.page.PageReference;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.Test;
+
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+
+/** Test {@link RecordPagePrefetcher}. */
+public final class RecordPagePrefetcherTest {
+
+  @Test
+  public void testSequentialAccessIsReadAheadWithGrowingDepth() {
+    final var loadedRecordPageKeys = new LongArrayList();
+    final var prefetcher = createPrefetcher(Long.MAX_VALUE, loadedRecordPageKeys);
+
+    for (long recordPageKey = 0; recordPageKey < 4; recordPageKey++) {
+      prefetcher.onRecordPageAccess(IndexType.DOCUMENT, 0, recordPageKey);
+    }
+
+    assertEquals(LongArrayList.of(2, 3, 4, 5, 6, 7), loadedRecordPageKeys);
+    assertEquals(2 * RecordPagePrefetcher.MIN_DEPTH, prefetcher.getDepth(IndexType.DOCUMENT, 0));
+  }
+
+  @Test
+  public void testRandomAccessShrinksDepth() {
+    final var loadedRecordPageKeys = new LongArrayList();
+    final var prefetcher = createPrefetcher(Long.MAX_VALUE, loadedRecordPageKeys);
+
+    for (long recordPageKey = 0; recordPageKey < 4; recordPageKey++) {
+      prefetcher.onRecordPageAccess(IndexType.DOCUMENT, 0, recordPageKey);
+    }
+    loadedRecordPageKeys.clear();
+
+    prefetcher.onRecordPageAccess(IndexType.DOCUMENT, 0, 100);
+    prefetcher.onRecordPageAccess(IndexType.DOCUMENT, 0, 50);
+
+    assertEquals(0, loadedRecordPageKeys.size());
+    assertEquals(RecordPagePrefetcher.MIN_DEPTH, prefetcher.getDepth(IndexType.DOCUMENT, 0));
+  }
+
+  @Test
+  public void testIndexesAreReadAheadIndependently() {
+    final var loadedRecordPageKeys = new LongArrayList();
+    final var prefetcher = createPrefetcher(Long.MAX_VALUE, loadedRecordPageKeys);
+
+    prefetcher.onRecordPageAccess(IndexType.DOCUMENT, 0, 0);
+    prefetcher.onRecordPageAccess(IndexType.CAS, 0, 10);
+    prefetcher.onRecordPageAccess(IndexType.DOCUMENT, 0, 1);
+
+    assertEquals(LongArrayList.of(2, 3), loadedRecordPageKeys);
+  }
+
+  @Test
+  public void testReadAheadStopsAtEndOfIndex() {
+    final var loadedRecordPageKeys = new LongArrayList();
+    final var prefetcher = createPrefetcher(5, loadedRecordPageKeys);
+
+    for (long recordPageKey = 0; recordPageKey <= 5; recordPageKey++) {
+      prefetcher.onRecordPageAccess(IndexType.DOCUMENT, 0, recordPageKey);
+    }
+    prefetcher.close();
+
+    assertEquals(LongArrayList.of(2, 3, 4, 5), loadedRecordPageKeys);
+  }
+
+  @Test
+  public void testPrefetchedPagesAreLoadedByTheAccessingThread() {
+    final var loadedRecordPageKeys = new LongArrayList();
+    final List<Thread> loadingThreads = new ArrayList<>();
+    final var prefetcher = createPrefetcher(Long.MAX_VALUE, new LongArrayList(), loadedRecordPageKeys, loadingThreads);
+
+    for (long recordPageKey = 0; recordPageKey < 4; recordPageKey++) {
+      prefetcher.onRecordPageAccess(IndexType.DOCUMENT, 0, recordPageKey);
+    }
+    prefetcher.close();
+
+    // The pages 2 and 3 have been accessed after they have been read, the other read pages are
+    // discarded.
+    assertEquals(LongArrayList.of(2, 3), loadedRecordPageKeys);
+    assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), loadingThreads);
+  }
+
+  private static RecordPagePrefetcher createPrefetcher(final long maxRecordPageKey,
+      final LongArrayList readRecordPageKeys) {
+    return createPrefetcher(maxRecordPageKey, readRecordPageKeys, new LongArrayList(), new ArrayList<>());
+  }
+
+  private static RecordPagePrefetcher createPrefetcher(final long maxRecordPageKey,
+      final LongArrayList readRecordPageKeys, final LongArrayList loadedRecordPageKeys,
+      final List<Thread> loadingThreads) {
+    return new RecordPagePrefetcher((recordPageKey, index, indexType) -> recordPageKey > maxRecordPageKey
+        ? null
+        : new PageReference().setKey(recordPageKey), new RecordPagePrefetcher.RecordPageLoader() {
+      @Override
+      public @Nullable CompletableFuture<Map<PageReference, MemorySegment>> readAsync(final PageReference reference) {
+        readRecordPageKeys.add(reference.getKey());
+        return CompletableFuture.supplyAsync(() -> Map.of(reference, MemorySegment.ofArray(new byte[0])));
+      }
+
+      @Override
+      public void load(final Map<PageReference, MemorySegment> pageFragments) {
+        pageFragments.keySet().forEach(reference -> loadedRecordPageKeys.add(reference.getKey()));
+        loadingThreads.add(Thread.currentThread());
+      }
+    });
+  }
+}
@@ -34,6 +34,7 @@ import io.sirix.XmlTestHelper;
 import io.sirix.XmlTestHelper.PATHS;
 import io.sirix.axis.filter.FilterAxis;
 import io.sirix.axis.filter.xml.XmlNameFilter;
+import io.sirix.exception.SirixThreadedException;
 import io.sirix.service.xml.shredder.XmlShredder;
 import io.sirix.service.xml.xpath.XPathAxis;
 
@@ -211,6 +212,47 @@ public final class ConcurrentAxisTest {
     assertFalse(axis.hasNext());
   }
 
+  /**
+   * Test that an interrupted producer fails the result sequence instead of truncating it.
+   */
+  @Test(expected = SirixThreadedException.class)
+  public void testInterruptedProducerFails() throws InterruptedException {
+    final var rtx = holder.getResourceManager().beginNodeReadOnlyTrx();
+    final var results = new LongRingBuffer(1);
+    final var helper = new ConcurrentAxisHelper(new DescendantAxis(rtx, IncludeSelf.YES), results, 1);
+
+    final var producer = new Thread(() -> {
+      Thread.currentThread().interrupt();
+      helper.run();
+    });
+    producer.start();
+    producer.join();
+
+    results.take(new long[1]);
+  }
+
+  /**
+   * Test that cancelling a producer closes the concurrent axis it consumes, such that the nested
+   * producer stops as well.
+   */
+  @Test
+  public void testCancelStopsNestedProducer() throws InterruptedException {
+    final var nestedRtx = holder.getResourceManager().beginNodeReadOnlyTrx();
+    final var rtx = holder.getResourceManager().beginNodeReadOnlyTrx();
+    final var nestedAxis = new ConcurrentAxis<>(nestedRtx, new DescendantAxis(rtx, IncludeSelf.YES), 1);
+    final var results = new LongRingBuffer(1);
+
+    final var producer = new Thread(new ConcurrentAxisHelper(nestedAxis, results, 1));
+    producer.start();
+
+    assertEquals(1, results.take(new long[1]));
+    results.cancel();
+    producer.join();
+
+    assertTrue(nestedAxis.isFinished());
+    assertFalse(nestedAxis.hasNext());
+  }
+
   /*
    * ########################################################################## ###############
    */
@@ -0,0 +1,94 @@
+package io.sirix.axis.concurrent;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/** Test {@link LongRingBuffer}. */
+public final class LongRingBufferTest {
+
+  @Test
+  public void testPutAndTakeWrapAround() throws InterruptedException {
+    final var buffer = new LongRingBuffer(4);
+    final long[] batch = new long[3];
+
+    assertTrue(buffer.put(new long[] { 1, 2, 3 }, 3));
+    assertEquals(2, buffer.take(new long[2]));
+    assertTrue(buffer.put(new long[] { 4, 5, 6 }, 3));
+    assertEquals(3, buffer.take(batch));
+    assertArrayEquals(new long[] { 3, 4, 5 }, batch);
+    assertEquals(1, buffer.take(batch));
+    assertEquals(6, batch[0]);
+
+    buffer.close();
+    assertEquals(-1, buffer.take(batch));
+  }
+
+  @Test
+  public void testBackpressure() throws InterruptedException, ExecutionException {
+    final var buffer = new LongRingBuffer(8);
+    final int numberOfKeys = 10_000;
+
+    final var producer = CompletableFuture.runAsync(() -> {
+      final long[] keys = new long[5];
+      try {
+        for (int key = 0; key < numberOfKeys; key += keys.length) {
+          for (int i = 0; i < keys.length; i++) {
+            keys[i] = key + i;
+          }
+          buffer.put(keys, keys.length);
+        }
+      } catch (final InterruptedException e) {
+        throw new IllegalStateException(e);
+      } finally {
+        buffer.close();
+      }
+    });
+
+    final long[] batch = new long[3];
+    long expectedKey = 0;
+    for (int length = buffer.take(batch); length != -1; length = buffer.take(batch)) {
+      for (int i = 0; i < length; i++) {
+        assertEquals(expectedKey++, batch[i]);
+      }
+    }
+    producer.get();
+    assertEquals(numberOfKeys, expectedKey);
+  }
+
+  @Test
+  public void testCancelStopsBlockedProducer() throws InterruptedException, ExecutionException {
+    final var buffer = new LongRingBuffer(2);
+
+    final var producer = CompletableFuture.supplyAsync(() -> {
+      try {
+        return buffer.put(new long[] { 1, 2, 3, 4 }, 4);
+      } catch (final InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+
+    assertEquals(1, buffer.take(new long[1]));
+    buffer.cancel();
+    assertFalse(producer.get());
+    assertTrue(buffer.isCancelled());
+    assertEquals(-1, buffer.take(new long[1]));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFailureIsRethrownAfterBufferedKeys() throws InterruptedException {
+    final var buffer = new LongRingBuffer(4);
+    buffer.put(new long[] { 1 }, 1);
+    buffer.fail(new IllegalStateException());
+
+    final long[] batch = new long[4];
+    assertEquals(1, buffer.take(batch));
+    buffer.take(batch);
+  }
+}
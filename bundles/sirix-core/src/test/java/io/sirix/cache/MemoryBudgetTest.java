@@ -0,0 +1,86 @@
+package io.sirix.cache;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.access.trx.node.InternalResourceSession;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.index.IndexType;
+import io.sirix.node.interfaces.DataRecord;
+import io.sirix.page.KeyValueLeafPage;
+import io.sirix.page.PageReference;
+import io.sirix.page.UberPage;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MemoryBudgetTest {
+
+  @Test
+  public void testBudgetIsSharedBetweenBufferManagers() throws Exception {
+    final var memoryBudget = MemoryBudget.newBuilder(1L << 20).share(MemoryBudget.CacheKind.RECORD_PAGES, 0.5).build();
+
+    final var first = new BufferManagerImpl(memoryBudget);
+    assertEquals(1L << 19, memoryBudget.getMaxBytesPerCache(MemoryBudget.CacheKind.RECORD_PAGES));
+
+    final var second = new BufferManagerImpl(memoryBudget);
+    assertEquals(1L << 18, memoryBudget.getMaxBytesPerCache(MemoryBudget.CacheKind.RECORD_PAGES));
+
+    second.close();
+    assertEquals(1L << 19, memoryBudget.getMaxBytesPerCache(MemoryBudget.CacheKind.RECORD_PAGES));
+
+    first.close();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSharesMustNotExceedBudget() {
+    MemoryBudget.newBuilder(1L << 20).share(MemoryBudget.CacheKind.PAGES, 0.9).build();
+  }
+
+  @Test
+  public void testStatistics() throws Exception {
+    final var memoryBudget = MemoryBudget.newBuilder(1L << 20).build();
+    final var bufferManager = new BufferManagerImpl(memoryBudget);
+
+    final var reference = new PageReference().setKey(1);
+    final var pageCache = bufferManager.getPageCache();
+    assertNull(pageCache.get(reference));
+    pageCache.put(reference, new UberPage());
+    assertNotNull(pageCache.get(reference));
+
+    assertEquals(1, pageCache.statistics().hitCount());
+    assertEquals(1, pageCache.statistics().missCount());
+
+    bufferManager.close();
+  }
+
+  @Test
+  public void testRecordPageWeightIncludesRecordsMaterializedLater() {
+    final var resourceSession = mock(InternalResourceSession.class);
+    when(resourceSession.getResourceConfig()).thenReturn(new ResourceConfiguration.Builder("foobar").build());
+    final var pageReadOnlyTrx = mock(PageReadOnlyTrx.class);
+    doReturn(resourceSession).when(pageReadOnlyTrx).getResourceSession();
+
+    final var emptyPage = new KeyValueLeafPage(0, IndexType.DOCUMENT, pageReadOnlyTrx);
+    final var page = new KeyValueLeafPage(0, IndexType.DOCUMENT, pageReadOnlyTrx);
+    page.setSlot(new byte[] { 1, 2, 3 }, 0);
+    page.setSlot(new byte[] { 4, 5, 6 }, 1);
+    page.moveSlotsOffHeap();
+
+    final int weightWhenCached = CacheWeights.weigh(page);
+    assertTrue(weightWhenCached > CacheWeights.weigh(emptyPage));
+
+    // Materialize a record of the cached page.
+    final var record = mock(DataRecord.class);
+    when(record.getNodeKey()).thenReturn(1L);
+    page.setRecord(record);
+
+    assertEquals(weightWhenCached, CacheWeights.weigh(page));
+
+    page.release();
+  }
+}
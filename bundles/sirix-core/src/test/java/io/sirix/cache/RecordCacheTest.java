@@ -0,0 +1,120 @@
+package io.sirix.cache;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.JsonTestHelper.PATHS;
+import io.sirix.access.DatabaseConfiguration;
+import io.sirix.access.Databases;
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.index.IndexType;
+import io.sirix.node.interfaces.DataRecord;
+import io.sirix.service.json.shredder.JsonShredder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/** Test {@link RecordCache}. */
+public final class RecordCacheTest {
+
+  private static final String RESOURCE = "cachedRecords";
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @Test
+  public void testRecordsAreSharedBetweenReadOnlyTrxs() {
+    final var databasePath = PATHS.PATH1.getFile();
+    Databases.createJsonDatabase(new DatabaseConfiguration(databasePath));
+
+    try (final var database = Databases.openJsonDatabase(databasePath)) {
+      database.createResource(ResourceConfiguration.newBuilder(RESOURCE).cacheRecords(true).build());
+
+      try (final var manager = database.beginResourceSession(RESOURCE)) {
+        try (final var wtx = manager.beginNodeTrx()) {
+          wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[1,{\"a\":true},\"b\"]"));
+        }
+
+        try (final var firstRtx = manager.beginNodeReadOnlyTrx(1);
+             final var secondRtx = manager.beginNodeReadOnlyTrx(1)) {
+          final var recordCache = firstRtx.getPageTrx().getBufferManager().getRecordCache();
+
+          firstRtx.moveTo(2);
+          secondRtx.moveTo(2);
+
+          assertNotNull(recordCache.get(new RecordCacheKey(1, IndexType.DOCUMENT, -1, 2)));
+          assertSame(firstRtx.getPageTrx().getRecord(2, IndexType.DOCUMENT, -1),
+                     secondRtx.getPageTrx().getRecord(2, IndexType.DOCUMENT, -1));
+          assertNull(recordCache.get(new RecordCacheKey(1, IndexType.DOCUMENT, -1, 100)));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testRecordsAreNotCachedIfDisabled() {
+    final var databasePath = PATHS.PATH1.getFile();
+    Databases.createJsonDatabase(new DatabaseConfiguration(databasePath));
+
+    try (final var database = Databases.openJsonDatabase(databasePath)) {
+      database.createResource(ResourceConfiguration.newBuilder(RESOURCE).cacheRecords(false).build());
+
+      try (final var manager = database.beginResourceSession(RESOURCE)) {
+        try (final var wtx = manager.beginNodeTrx()) {
+          wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[1,{\"a\":true},\"b\"]"));
+        }
+
+        try (final var firstRtx = manager.beginNodeReadOnlyTrx(1);
+             final var secondRtx = manager.beginNodeReadOnlyTrx(1)) {
+          final var recordCache = firstRtx.getPageTrx().getBufferManager().getRecordCache();
+
+          firstRtx.moveTo(2);
+          secondRtx.moveTo(2);
+
+          assertNull(recordCache.get(new RecordCacheKey(1, IndexType.DOCUMENT, -1, 2)));
+          assertNotSame(firstRtx.getPageTrx().getRecord(2, IndexType.DOCUMENT, -1),
+                        secondRtx.getPageTrx().getRecord(2, IndexType.DOCUMENT, -1));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testRecordsAreWeighedByTheirValues() {
+    final var databasePath = PATHS.PATH1.getFile();
+    Databases.createJsonDatabase(new DatabaseConfiguration(databasePath));
+
+    try (final var database = Databases.openJsonDatabase(databasePath)) {
+      database.createResource(ResourceConfiguration.newBuilder(RESOURCE).cacheRecords(true).build());
+
+      try (final var manager = database.beginResourceSession(RESOURCE)) {
+        final String longString = "b".repeat(100_000);
+        try (final var wtx = manager.beginNodeTrx()) {
+          wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[true,\"b\",\"" + longString + "\"]"));
+        }
+
+        try (final var rtx = manager.beginNodeReadOnlyTrx(1)) {
+          final var pageTrx = rtx.getPageTrx();
+          final int booleanWeight = CacheWeights.weigh(pageTrx.<DataRecord>getRecord(2, IndexType.DOCUMENT, -1));
+          final int shortStringWeight = CacheWeights.weigh(pageTrx.<DataRecord>getRecord(3, IndexType.DOCUMENT, -1));
+          final int longStringWeight = CacheWeights.weigh(pageTrx.<DataRecord>getRecord(4, IndexType.DOCUMENT, -1));
+
+          assertTrue(shortStringWeight > booleanWeight);
+          // Even if the long string is compressed, it's still much larger than the short string.
+          assertTrue(longStringWeight - shortStringWeight > 10_000);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package io.sirix.cache;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.access.trx.node.InternalResourceSession;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.index.IndexType;
+import io.sirix.page.KeyValueLeafPage;
+import io.sirix.page.PageReference;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class TransactionIntentLogTest {
+
+  private Path spillDirectory;
+
+  private PageReadOnlyTrx pageReadOnlyTrx;
+
+  @Before
+  public void setUp() throws IOException {
+    spillDirectory = Files.createTempDirectory("sirix-intent-log-test");
+    final var resourceSession = mock(InternalResourceSession.class);
+    when(resourceSession.getResourceConfig()).thenReturn(new ResourceConfiguration.Builder("foobar").build());
+    pageReadOnlyTrx = mock(PageReadOnlyTrx.class);
+    doReturn(resourceSession).when(pageReadOnlyTrx).getResourceSession();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    try (final Stream<Path> paths = Files.walk(spillDirectory)) {
+      for (final Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  @Test
+  public void testEvictedContainersAreReloaded() {
+    try (final var log = new TransactionIntentLog(16, 4, spillDirectory)) {
+      log.setPageReadOnlyTrx(pageReadOnlyTrx);
+
+      final List<PageReference> references = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        final var complete = new KeyValueLeafPage(i, IndexType.DOCUMENT, pageReadOnlyTrx);
+        complete.setSlot(new byte[] { (byte) i, 1, 2 }, 0);
+        final var modified = new KeyValueLeafPage(complete);
+        modified.setSlot(new byte[] { (byte) i, 3 }, 5);
+        final var reference = new PageReference();
+        log.put(reference, PageContainer.getInstance(complete, modified));
+        references.add(reference);
+        log.unpinAll();
+      }
+
+      assertTrue(log.getNumberOfEvictedContainers() > 0);
+
+      for (int i = 0; i < 32; i++) {
+        final PageContainer container = log.get(references.get(i));
+        assertNotNull(container);
+        assertEquals(i, container.getCompleteAsUnorderedKeyValuePage().getPageKey());
+        assertArrayEquals(new byte[] { (byte) i, 1, 2 }, container.getCompleteAsUnorderedKeyValuePage().getSlot(0));
+        assertArrayEquals(new byte[] { (byte) i, 3 }, container.getModifiedAsUnorderedKeyValuePage().getSlot(5));
+        assertNull(container.getModifiedAsUnorderedKeyValuePage().getSlot(1));
+      }
+    }
+  }
+
+  @Test
+  public void testPinnedContainersAreNotEvicted() {
+    try (final var log = new TransactionIntentLog(16, 2, spillDirectory)) {
+      log.setPageReadOnlyTrx(pageReadOnlyTrx);
+
+      final List<PageContainer> containers = new ArrayList<>();
+      final List<PageReference> references = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        final var page = new KeyValueLeafPage(i, IndexType.DOCUMENT, pageReadOnlyTrx);
+        final var container = PageContainer.getInstance(page, new KeyValueLeafPage(page));
+        final var reference = new PageReference();
+        log.put(reference, container);
+        containers.add(container);
+        references.add(reference);
+      }
+
+      // All containers are modified by the current operation.
+      assertEquals(0, log.getNumberOfEvictedContainers());
+      for (int i = 0; i < 8; i++) {
+        containers.get(i).getModifiedAsUnorderedKeyValuePage().setSlot(new byte[] { (byte) i }, 0);
+      }
+
+      log.unpinAll();
+      log.pin(references.get(7));
+
+      final var page = new KeyValueLeafPage(8, IndexType.DOCUMENT, pageReadOnlyTrx);
+      log.put(new PageReference(), PageContainer.getInstance(page, new KeyValueLeafPage(page)));
+
+      assertEquals(7, log.getNumberOfEvictedContainers());
+      assertSame(containers.get(7), log.get(references.get(7)));
+
+      // The modifications have been evicted, too.
+      for (int i = 0; i < 8; i++) {
+        assertArrayEquals(new byte[] { (byte) i },
+                          log.get(references.get(i)).getModifiedAsUnorderedKeyValuePage().getSlot(0));
+      }
+    }
+  }
+
+  @Test
+  public void testNoEvictionWhileSuspended() {
+    try (final var log = new TransactionIntentLog(16, 2, spillDirectory)) {
+      log.setPageReadOnlyTrx(pageReadOnlyTrx);
+
+      final List<PageReference> references = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        final var page = new KeyValueLeafPage(i, IndexType.DOCUMENT, pageReadOnlyTrx);
+        page.setSlot(new byte[] { (byte) i }, 0);
+        final var reference = new PageReference();
+        log.put(reference, PageContainer.getInstance(page, new KeyValueLeafPage(page)));
+        references.add(reference);
+        log.unpinAll();
+      }
+
+      final int numberOfEvictedContainers = log.getNumberOfEvictedContainers();
+      assertTrue(numberOfEvictedContainers > 0);
+
+      log.suspendEviction();
+
+      // Evicted containers are reloaded, but neither kept in memory nor do they evict others.
+      for (int i = 0; i < 8; i++) {
+        final PageContainer container = log.get(references.get(i));
+        assertArrayEquals(new byte[] { (byte) i }, container.getCompleteAsUnorderedKeyValuePage().getSlot(0));
+      }
+      assertEquals(numberOfEvictedContainers, log.getNumberOfEvictedContainers());
+
+      final var page = new KeyValueLeafPage(8, IndexType.DOCUMENT, pageReadOnlyTrx);
+      log.put(new PageReference(), PageContainer.getInstance(page, new KeyValueLeafPage(page)));
+      assertEquals(numberOfEvictedContainers, log.getNumberOfEvictedContainers());
+
+      log.resumeEviction();
+
+      log.unpinAll();
+
+      final var otherPage = new KeyValueLeafPage(9, IndexType.DOCUMENT, pageReadOnlyTrx);
+      log.put(new PageReference(), PageContainer.getInstance(otherPage, new KeyValueLeafPage(otherPage)));
+      assertTrue(log.getNumberOfEvictedContainers() > numberOfEvictedContainers);
+    }
+  }
+
+  @Test
+  public void testClear() {
+    try (final var log = new TransactionIntentLog(16, 2, spillDirectory)) {
+      log.setPageReadOnlyTrx(pageReadOnlyTrx);
+
+      final var reference = new PageReference();
+      for (int i = 0; i < 8; i++) {
+        final var page = new KeyValueLeafPage(i, IndexType.DOCUMENT, pageReadOnlyTrx);
+        log.put(i == 0 ? reference : new PageReference(), PageContainer.getInstance(page, new KeyValueLeafPage(page)));
+        log.unpinAll();
+      }
+
+      log.clear();
+
+      assertEquals(0, log.getNumberOfEvictedContainers());
+      assertNull(log.get(reference));
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package io.sirix.index;
+
+import io.sirix.index.redblacktree.RBTreeReader;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import org.junit.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public final class IndexBulkLoaderTest {
+
+  @Test
+  public void testLoadInMemory() {
+    testLoad(IndexBulkLoader.DEFAULT_MAX_BUFFERED_ENTRIES);
+  }
+
+  @Test
+  public void testLoadWithSpilledRuns() {
+    testLoad(7, false);
+  }
+
+  @Test
+  public void testSortAndLoadWithSpilledRuns() {
+    testLoad(7, true);
+  }
+
+  @Test
+  public void testSpilledRunsAreReadOnce() {
+    final IndexBulkLoader.KeySerializer<Long> pathNodeKeySerializer = IndexBulkLoader.forPathNodeKey();
+    final var numberOfReadKeys = new AtomicInteger();
+    final var keySerializer = new IndexBulkLoader.KeySerializer<Long>() {
+      @Override
+      public void write(final DataOutput output, final Long key) throws IOException {
+        pathNodeKeySerializer.write(output, key);
+      }
+
+      @Override
+      public Long read(final DataInput input) throws IOException {
+        final Long key = pathNodeKeySerializer.read(input);
+        numberOfReadKeys.incrementAndGet();
+        return key;
+      }
+    };
+
+    final var indexWriter = new CollectingIndexTreeWriter();
+    final var bulkLoader = new IndexBulkLoader<>(indexWriter, keySerializer, 7);
+    for (long nodeKey = 0; nodeKey < 100; nodeKey++) {
+      bulkLoader.add(9 - nodeKey % 10, nodeKey);
+    }
+    bulkLoader.sort();
+    assertEquals(0, numberOfReadKeys.get());
+    bulkLoader.load();
+
+    assertEquals(10, indexWriter.entries.size());
+    assertEquals(100, numberOfReadKeys.get());
+  }
+
+  private static void testLoad(final int maxBufferedEntries) {
+    testLoad(maxBufferedEntries, false);
+  }
+
+  private static void testLoad(final int maxBufferedEntries, final boolean sortFirst) {
+    final var indexWriter = new CollectingIndexTreeWriter();
+    final var bulkLoader = new IndexBulkLoader<>(indexWriter, IndexBulkLoader.forPathNodeKey(), maxBufferedEntries);
+
+    // Node keys in document order, keys in descending order.
+    for (long nodeKey = 0; nodeKey < 100; nodeKey++) {
+      bulkLoader.add(9 - nodeKey % 10, nodeKey);
+    }
+    if (sortFirst) {
+      bulkLoader.sort();
+    }
+    bulkLoader.load();
+
+    assertEquals(10, indexWriter.entries.size());
+    for (int i = 0; i < 10; i++) {
+      final Map.Entry<Long, NodeReferences> entry = indexWriter.entries.get(i);
+      assertEquals(i, entry.getKey().longValue());
+      final long[] expectedNodeKeys = new long[10];
+      for (int j = 0; j < 10; j++) {
+        expectedNodeKeys[j] = 9 - i + j * 10;
+      }
+      assertArrayEquals(expectedNodeKeys, entry.getValue().getNodeKeys().toArray());
+    }
+  }
+
+  private static final class CollectingIndexTreeWriter implements IndexTreeWriter<Long, NodeReferences> {
+    private final List<Map.Entry<Long, NodeReferences>> entries = new ArrayList<>();
+
+    @Override
+    public void bulkLoad(final Iterator<Map.Entry<Long, NodeReferences>> entries) {
+      entries.forEachRemaining(this.entries::add);
+    }
+
+    @Override
+    public Optional<NodeReferences> get(final Long key, final SearchMode mode) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public NodeReferences index(final Long key, final NodeReferences value, final RBTreeReader.MoveCursor move) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(final Long key, final long nodeKey) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
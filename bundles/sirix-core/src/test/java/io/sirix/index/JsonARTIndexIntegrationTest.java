@@ -0,0 +1,340 @@
+package io.sirix.index;
+
+import io.brackit.query.atomic.Atomic;
+import io.brackit.query.atomic.Dbl;
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.atomic.Str;
+import io.brackit.query.jdm.Type;
+import io.brackit.query.util.path.PathParser;
+import io.sirix.JsonTestHelper;
+import io.sirix.access.trx.node.json.JsonIndexController;
+import io.sirix.api.json.JsonNodeTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.index.art.ARTReader;
+import io.sirix.index.art.IndexKeys;
+import io.sirix.index.path.json.JsonPCRCollector;
+import io.sirix.index.redblacktree.RBTreeReader;
+import io.sirix.index.redblacktree.keyvalue.CASValue;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import io.sirix.service.InsertPosition;
+import io.sirix.service.json.shredder.JsonShredder;
+import io.sirix.settings.Fixed;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static io.brackit.query.util.path.Path.parse;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Checks that secondary indexes, which are stored in the adaptive radix tree, return the same
+ * results as the indexes stored in the red-black tree, while the indexed document is modified.
+ */
+public final class JsonARTIndexIntegrationTest {
+  private static final Path JSON = Paths.get("src", "test", "resources", "json");
+
+  private static final String NAME_PATH = "/features/[]/properties/name";
+
+  private static final String TYPE_PATH = "/features/[]/type";
+
+  private static final String COORDINATES_PATH = "/features/[]/geometry/coordinates/[]";
+
+  private static final String NEW_FEATURE = """
+      {"type":"Feature","properties":{"name":"ABC Radio Zulu"},
+       "geometry":{"type":"Point","coordinates":[42.5,-12.25]}}""";
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testCASIndexMatchesRedBlackTree() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = session.beginNodeTrx()) {
+      final var indexController = session.getWtxIndexController(trx.getRevisionNumber());
+
+      final var namePath = Set.of(parse(NAME_PATH, PathParser.Type.JSON));
+      final var coordinatesPath = Set.of(parse(COORDINATES_PATH, PathParser.Type.JSON));
+      final var rbNames = IndexDefs.createCASIdxDef(false, Type.STR, namePath, 0, IndexDef.DbType.JSON);
+      final var artNames =
+          IndexDefs.createCASIdxDef(false, Type.STR, namePath, 1, IndexDef.DbType.JSON, IndexBackendType.ART);
+      final var rbCoordinates = IndexDefs.createCASIdxDef(false, Type.DBL, coordinatesPath, 2, IndexDef.DbType.JSON);
+      final var artCoordinates =
+          IndexDefs.createCASIdxDef(false, Type.DBL, coordinatesPath, 3, IndexDef.DbType.JSON, IndexBackendType.ART);
+
+      indexController.createIndexes(Set.of(rbNames, artNames, rbCoordinates, artCoordinates), trx);
+
+      shred(trx);
+      assertCASIndexesMatch(session, trx, indexController, rbNames, artNames, rbCoordinates, artCoordinates);
+
+      removeFeature(trx, indexController, rbNames, "ABC Radio Adelaide");
+      assertCASIndexesMatch(session, trx, indexController, rbNames, artNames, rbCoordinates, artCoordinates);
+
+      insertFeature(trx, indexController, rbNames);
+      assertCASIndexesMatch(session, trx, indexController, rbNames, artNames, rbCoordinates, artCoordinates);
+    }
+  }
+
+  @Test
+  public void testPathIndexMatchesRedBlackTree() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = session.beginNodeTrx()) {
+      final var indexController = session.getWtxIndexController(trx.getRevisionNumber());
+
+      final var paths = Set.of(parse(NAME_PATH, PathParser.Type.JSON), parse(TYPE_PATH, PathParser.Type.JSON));
+      final var rbPaths = IndexDefs.createPathIdxDef(paths, 0, IndexDef.DbType.JSON);
+      final var artPaths = IndexDefs.createPathIdxDef(paths, 1, IndexDef.DbType.JSON, IndexBackendType.ART);
+      final var rbNames = IndexDefs.createCASIdxDef(false,
+                                                    Type.STR,
+                                                    Set.of(parse(NAME_PATH, PathParser.Type.JSON)),
+                                                    0,
+                                                    IndexDef.DbType.JSON);
+
+      indexController.createIndexes(Set.of(rbPaths, artPaths, rbNames), trx);
+
+      shred(trx);
+      assertPathIndexesMatch(session, trx, indexController, rbPaths, artPaths);
+
+      removeFeature(trx, indexController, rbNames, "ABC Radio Adelaide");
+      assertPathIndexesMatch(session, trx, indexController, rbPaths, artPaths);
+
+      insertFeature(trx, indexController, rbNames);
+      assertPathIndexesMatch(session, trx, indexController, rbPaths, artPaths);
+    }
+  }
+
+  @Test
+  public void testNameIndexMatchesRedBlackTree() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = session.beginNodeTrx()) {
+      final var indexController = session.getWtxIndexController(trx.getRevisionNumber());
+
+      final var rbNames = IndexDefs.createNameIdxDef(0, IndexDef.DbType.JSON);
+      final var artNames = IndexDefs.createNameIdxDef(1, IndexDef.DbType.JSON, IndexBackendType.ART);
+      final var rbNameValues = IndexDefs.createCASIdxDef(false,
+                                                         Type.STR,
+                                                         Set.of(parse(NAME_PATH, PathParser.Type.JSON)),
+                                                         0,
+                                                         IndexDef.DbType.JSON);
+
+      indexController.createIndexes(Set.of(rbNames, artNames, rbNameValues), trx);
+
+      shred(trx);
+      assertNameIndexesMatch(session, trx, indexController, rbNames, artNames);
+
+      removeFeature(trx, indexController, rbNameValues, "ABC Radio Adelaide");
+      assertNameIndexesMatch(session, trx, indexController, rbNames, artNames);
+
+      insertFeature(trx, indexController, rbNameValues);
+      assertNameIndexesMatch(session, trx, indexController, rbNames, artNames);
+    }
+  }
+
+  private static void shred(final JsonNodeTrx trx) {
+    final var jsonPath = JSON.resolve("abc-location-stations.json");
+    final var shredder = new JsonShredder.Builder(trx,
+                                                  JsonShredder.createFileReader(jsonPath),
+                                                  InsertPosition.AS_FIRST_CHILD).commitAfterwards().build();
+    shredder.call();
+  }
+
+  /**
+   * Remove the feature, whose name is the given one.
+   */
+  private static void removeFeature(final JsonNodeTrx trx, final JsonIndexController indexController,
+      final IndexDef nameIndex, final String name) {
+    final SortedSet<Long> nameValueKeys = nameValueKeys(trx, indexController, nameIndex, new Str(name));
+    assertEquals(1, nameValueKeys.size());
+
+    // name value -> "name" -> properties object -> "properties" -> feature object
+    trx.moveTo(nameValueKeys.first());
+    for (int i = 0; i < 4; i++) {
+      trx.moveToParent();
+    }
+    trx.remove();
+    trx.commit();
+  }
+
+  /**
+   * Insert a new feature as the first feature.
+   */
+  private static void insertFeature(final JsonNodeTrx trx, final JsonIndexController indexController,
+      final IndexDef nameIndex) {
+    final SortedSet<Long> nameValueKeys = nameValueKeys(trx, indexController, nameIndex, null);
+
+    // name value -> "name" -> properties object -> "properties" -> feature object -> features array
+    trx.moveTo(nameValueKeys.first());
+    for (int i = 0; i < 5; i++) {
+      trx.moveToParent();
+    }
+    trx.insertSubtreeAsFirstChild(JsonShredder.createStringReader(NEW_FEATURE));
+    trx.commit();
+  }
+
+  private static void assertCASIndexesMatch(final JsonResourceSession session, final JsonNodeTrx trx,
+      final JsonIndexController indexController, final IndexDef rbNames, final IndexDef artNames,
+      final IndexDef rbCoordinates, final IndexDef artCoordinates) {
+    // All entries.
+    assertCASFilterMatches(session, trx, indexController, rbNames, artNames, NAME_PATH, null, SearchMode.EQUAL);
+
+    // Point lookups and scans of the names.
+    final SortedSet<Long> allNameKeys = nameValueKeys(trx, indexController, rbNames, null);
+    assertFalse(allNameKeys.isEmpty());
+
+    final long namePathNodeKey =
+        trx.getPathSummary().getPCRsForPath(parse(NAME_PATH, PathParser.Type.JSON)).iterator().nextLong();
+    final RBTreeReader<CASValue, NodeReferences> rbReader =
+        RBTreeReader.getInstance(session.getIndexCache(), trx.getPageTrx(), rbNames.getType(), rbNames.getID());
+    final ARTReader<CASValue, NodeReferences> artReader =
+        ARTReader.getInstance(trx.getPageTrx(), artNames.getType(), artNames.getID(), IndexKeys.forCASValue());
+
+    for (final long nameKey : allNameKeys) {
+      trx.moveTo(nameKey);
+      final var name = new Str(trx.getValue());
+      final var casValue = new CASValue(name, Type.STR, namePathNodeKey);
+
+      assertEquals(nodeKeys(rbReader.get(casValue, SearchMode.EQUAL).orElseThrow()),
+                   nodeKeys(artReader.get(casValue).orElseThrow()));
+
+      for (final SearchMode mode : SearchMode.values()) {
+        assertCASFilterMatches(session, trx, indexController, rbNames, artNames, NAME_PATH, name, mode);
+      }
+    }
+
+    // Keys, which aren't indexed.
+    assertFalse(artReader.get(new CASValue(new Str("ABC Radio"), Type.STR, namePathNodeKey)).isPresent());
+    for (final SearchMode mode : SearchMode.values()) {
+      assertCASFilterMatches(session, trx, indexController, rbNames, artNames, NAME_PATH, new Str("ABC Radio M"),
+                             mode);
+    }
+
+    // Range scans of the coordinates.
+    assertCASFilterRangeMatches(trx, indexController, rbCoordinates, artCoordinates, new Dbl(0), new Dbl(160), true,
+                                true);
+    assertCASFilterRangeMatches(trx, indexController, rbCoordinates, artCoordinates, new Dbl(-35), new Dbl(140),
+                                false, false);
+    assertCASFilterRangeMatches(trx, indexController, rbCoordinates, artCoordinates, new Dbl(-90), new Dbl(-12.25),
+                                true, false);
+    for (final SearchMode mode : SearchMode.values()) {
+      assertCASFilterMatches(session, trx, indexController, rbCoordinates, artCoordinates, COORDINATES_PATH,
+                             new Dbl(42.5), mode);
+    }
+  }
+
+  private static void assertCASFilterMatches(final JsonResourceSession session, final JsonNodeTrx trx,
+      final JsonIndexController indexController, final IndexDef rbIndex, final IndexDef artIndex, final String path,
+      final Atomic key, final SearchMode mode) {
+    final Set<String> paths = key == null ? Set.of() : Set.of(path);
+    final var filter = indexController.createCASFilter(paths, key, mode, new JsonPCRCollector(trx));
+    final SortedSet<Long> expected;
+    if (key == null || mode == SearchMode.EQUAL) {
+      expected = nodeKeys(indexController.openCASIndex(trx.getPageTrx(), rbIndex, filter));
+    } else {
+      // Filter all entries of the red-black tree by the search mode.
+      final RBTreeReader<CASValue, NodeReferences> reader =
+          RBTreeReader.getInstance(session.getIndexCache(), trx.getPageTrx(), rbIndex.getType(), rbIndex.getID());
+      final var allEntries = reader.new RBNodeIterator(Fixed.DOCUMENT_NODE_KEY.getStandardProperty());
+      expected = nodeKeys(new IndexFilterAxis<>(reader, allEntries, Set.of(filter)));
+    }
+    assertEquals("Results differ for " + mode + " " + key,
+                 expected,
+                 nodeKeys(indexController.openCASIndex(trx.getPageTrx(), artIndex, filter)));
+  }
+
+  private static void assertCASFilterRangeMatches(final JsonNodeTrx trx, final JsonIndexController indexController,
+      final IndexDef rbIndex, final IndexDef artIndex, final Atomic min, final Atomic max, final boolean incMin,
+      final boolean incMax) {
+    final var filter = indexController.createCASFilterRange(Set.of(COORDINATES_PATH),
+                                                            min,
+                                                            max,
+                                                            incMin,
+                                                            incMax,
+                                                            new JsonPCRCollector(trx));
+    final SortedSet<Long> expected = nodeKeys(indexController.openCASIndex(trx.getPageTrx(), rbIndex, filter));
+    assertFalse(expected.isEmpty());
+    assertEquals("Results differ for range " + min + " - " + max,
+                 expected,
+                 nodeKeys(indexController.openCASIndex(trx.getPageTrx(), artIndex, filter)));
+  }
+
+  private static void assertPathIndexesMatch(final JsonResourceSession session, final JsonNodeTrx trx,
+      final JsonIndexController indexController, final IndexDef rbPaths, final IndexDef artPaths) {
+    final SortedSet<Long> all = nodeKeys(indexController.openPathIndex(trx.getPageTrx(), rbPaths, null));
+    assertFalse(all.isEmpty());
+    assertEquals(all, nodeKeys(indexController.openPathIndex(trx.getPageTrx(), artPaths, null)));
+
+    for (final String path : Set.of(NAME_PATH, TYPE_PATH)) {
+      final var filter = indexController.createPathFilter(Set.of(path), trx);
+      final SortedSet<Long> expected = nodeKeys(indexController.openPathIndex(trx.getPageTrx(), rbPaths, filter));
+      assertFalse(expected.isEmpty());
+      assertEquals(expected, nodeKeys(indexController.openPathIndex(trx.getPageTrx(), artPaths, filter)));
+
+      final long pathNodeKey =
+          trx.getPathSummary().getPCRsForPath(parse(path, PathParser.Type.JSON)).iterator().nextLong();
+      final RBTreeReader<Long, NodeReferences> rbReader =
+          RBTreeReader.getInstance(session.getIndexCache(), trx.getPageTrx(), rbPaths.getType(), rbPaths.getID());
+      final ARTReader<Long, NodeReferences> artReader =
+          ARTReader.getInstance(trx.getPageTrx(), artPaths.getType(), artPaths.getID(), IndexKeys.forPathNodeKey());
+      assertEquals(nodeKeys(rbReader.get(pathNodeKey, SearchMode.EQUAL).orElseThrow()),
+                   nodeKeys(artReader.get(pathNodeKey).orElseThrow()));
+    }
+  }
+
+  private static void assertNameIndexesMatch(final JsonResourceSession session, final JsonNodeTrx trx,
+      final JsonIndexController indexController, final IndexDef rbNames, final IndexDef artNames) {
+    for (final Set<String> names : Set.of(Set.of("name"),
+                                          Set.of("type", "coordinates"),
+                                          Set.of("streetaddress", "twitteraccount", "unknown"))) {
+      final var filter = indexController.createNameFilter(names);
+      final SortedSet<Long> expected = nodeKeys(indexController.openNameIndex(trx.getPageTrx(), rbNames, filter));
+      assertFalse(expected.isEmpty());
+      assertEquals(expected, nodeKeys(indexController.openNameIndex(trx.getPageTrx(), artNames, filter)));
+    }
+
+    final RBTreeReader<QNm, NodeReferences> rbReader =
+        RBTreeReader.getInstance(session.getIndexCache(), trx.getPageTrx(), rbNames.getType(), rbNames.getID());
+    final ARTReader<QNm, NodeReferences> artReader =
+        ARTReader.getInstance(trx.getPageTrx(), artNames.getType(), artNames.getID(), IndexKeys.forName());
+    final var name = new QNm("name");
+    assertEquals(nodeKeys(rbReader.get(name, SearchMode.EQUAL).orElseThrow()),
+                 nodeKeys(artReader.get(name).orElseThrow()));
+    assertFalse(artReader.get(new QNm("unknown")).isPresent());
+  }
+
+  private static SortedSet<Long> nameValueKeys(final JsonNodeTrx trx, final JsonIndexController indexController,
+      final IndexDef nameIndex, final Atomic name) {
+    // Without a key, all entries are scanned.
+    final Set<String> paths = name == null ? Set.of() : Set.of(NAME_PATH);
+    final var filter = indexController.createCASFilter(paths, name, SearchMode.EQUAL, new JsonPCRCollector(trx));
+    return nodeKeys(indexController.openCASIndex(trx.getPageTrx(), nameIndex, filter));
+  }
+
+  private static SortedSet<Long> nodeKeys(final Iterator<NodeReferences> index) {
+    final SortedSet<Long> nodeKeys = new TreeSet<>();
+    index.forEachRemaining(references -> nodeKeys.addAll(nodeKeys(references)));
+    return nodeKeys;
+  }
+
+  private static SortedSet<Long> nodeKeys(final NodeReferences references) {
+    final SortedSet<Long> nodeKeys = new TreeSet<>();
+    references.getNodeKeys().forEach(nodeKeys::add);
+    return nodeKeys;
+  }
+}
@@ -0,0 +1,260 @@
+package io.sirix.index;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.access.DatabaseType;
+import io.sirix.api.json.JsonNodeTrx;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.index.redblacktree.RBNodeKey;
+import io.sirix.index.redblacktree.RBTreeReader;
+import io.sirix.index.redblacktree.RBTreeWriter;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import io.sirix.settings.Fixed;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks red-black trees, which are built bottom-up from sorted entries, against the trees built by
+ * inserting the same entries.
+ */
+public final class RBTreeBulkLoadTest {
+
+  private static final long NULL_NODE_KEY = Fixed.NULL_NODE_KEY.getStandardProperty();
+
+  private static final int[] SIZES = { 1, 2, 3, 4, 7, 8, 100, 1_000 };
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.closeEverything();
+  }
+
+  @Test
+  public void testBulkLoadMatchesInserts() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = session.beginNodeTrx()) {
+      int index = 0;
+      for (final int size : SIZES) {
+        final List<Map.Entry<Long, NodeReferences>> entries = createEntries(size);
+
+        final RBTreeWriter<Long, NodeReferences> bulkWriter =
+            RBTreeWriter.getInstance(DatabaseType.JSON, trx.getPageWtx(), IndexType.PATH, index);
+        bulkWriter.bulkLoad(entries.iterator());
+
+        final RBTreeWriter<Long, NodeReferences> insertWriter =
+            RBTreeWriter.getInstance(DatabaseType.JSON, trx.getPageWtx(), IndexType.PATH, index + 1);
+        insert(insertWriter, createEntries(size));
+
+        assertTreesMatch(session, trx, index, index + 1, entries);
+        index += 2;
+      }
+
+      trx.commit();
+
+      // The bulk loaded trees are persisted like trees built by inserts.
+      index = 0;
+      for (final int size : SIZES) {
+        assertTreesMatch(session, trx, index, index + 1, createEntries(size));
+        index += 2;
+      }
+    }
+  }
+
+  @Test
+  public void testBulkLoaderWithSpilledRunsMatchesInserts() {
+    final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+    try (final var session = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = session.beginNodeTrx()) {
+      final List<Map.Entry<Long, NodeReferences>> entries = createEntries(500);
+
+      final RBTreeWriter<Long, NodeReferences> bulkWriter =
+          RBTreeWriter.getInstance(DatabaseType.JSON, trx.getPageWtx(), IndexType.PATH, 0);
+      try (final var bulkLoader = new IndexBulkLoader<>(bulkWriter, IndexBulkLoader.forPathNodeKey(), 64)) {
+        // Add the (key, node key) pairs in document order, that is by node key.
+        final List<long[]> pairs = new ArrayList<>();
+        for (final Map.Entry<Long, NodeReferences> entry : entries) {
+          entry.getValue().getNodeKeys().forEach((long nodeKey) -> pairs.add(new long[] { nodeKey, entry.getKey() }));
+        }
+        pairs.sort((first, second) -> Long.compare(first[0], second[0]));
+        for (final long[] pair : pairs) {
+          bulkLoader.add(pair[1], pair[0]);
+        }
+        bulkLoader.load();
+      }
+
+      final RBTreeWriter<Long, NodeReferences> insertWriter =
+          RBTreeWriter.getInstance(DatabaseType.JSON, trx.getPageWtx(), IndexType.PATH, 1);
+      insert(insertWriter, createEntries(500));
+
+      assertTreesMatch(session, trx, 0, 1, entries);
+    }
+  }
+
+  /**
+   * Creates entries with the keys {@code 0, 3, 6, ...}, such that lookups of the keys in between
+   * miss.
+   */
+  private static List<Map.Entry<Long, NodeReferences>> createEntries(final int size) {
+    final List<Map.Entry<Long, NodeReferences>> entries = new ArrayList<>(size);
+    for (long i = 0; i < size; i++) {
+      final var nodeKeys = new Roaring64Bitmap();
+      nodeKeys.addLong(10 * i + 1);
+      nodeKeys.addLong(10 * i + 5);
+      entries.add(Map.entry(3 * i, new NodeReferences(nodeKeys)));
+    }
+    return entries;
+  }
+
+  private static void insert(final RBTreeWriter<Long, NodeReferences> writer,
+      final List<Map.Entry<Long, NodeReferences>> entries) {
+    final List<Map.Entry<Long, NodeReferences>> shuffledEntries = new ArrayList<>(entries);
+    Collections.shuffle(shuffledEntries, new Random(42));
+    for (final Map.Entry<Long, NodeReferences> entry : shuffledEntries) {
+      writer.index(entry.getKey(), entry.getValue(), RBTreeReader.MoveCursor.NO_MOVE);
+    }
+  }
+
+  private static void assertTreesMatch(final JsonResourceSession session, final JsonNodeTrx trx,
+      final int bulkLoadedIndex, final int insertedIndex, final List<Map.Entry<Long, NodeReferences>> entries) {
+    final RBTreeReader<Long, NodeReferences> bulkLoaded =
+        RBTreeReader.getInstance(session.getIndexCache(), trx.getPageTrx(), IndexType.PATH, bulkLoadedIndex);
+    final RBTreeReader<Long, NodeReferences> inserted =
+        RBTreeReader.getInstance(session.getIndexCache(), trx.getPageTrx(), IndexType.PATH, insertedIndex);
+
+    assertEquals(entries.size(), bulkLoaded.size());
+    assertRedBlackInvariants(bulkLoaded, entries.size());
+
+    // Point lookups of present and missing keys.
+    final long maxKey = 3L * entries.size();
+    for (long key = -1; key <= maxKey; key++) {
+      assertArrayEquals("Lookup of " + key, toArray(inserted.get(key, SearchMode.EQUAL)),
+                        toArray(bulkLoaded.get(key, SearchMode.EQUAL)));
+    }
+    for (final Map.Entry<Long, NodeReferences> entry : entries) {
+      assertArrayEquals(entry.getValue().getNodeKeys().toArray(),
+                        toArray(bulkLoaded.get(entry.getKey(), SearchMode.EQUAL)));
+    }
+
+    // Range scans.
+    final long[][] ranges = { { -1, maxKey }, { 0, 0 }, { 1, 2 }, { 2, 10 }, { maxKey / 3, maxKey / 2 },
+        { maxKey - 4, maxKey + 4 } };
+    for (final long[] range : ranges) {
+      final List<Long> expected = new ArrayList<>();
+      for (final Map.Entry<Long, NodeReferences> entry : entries) {
+        if (entry.getKey() >= range[0] && entry.getKey() <= range[1]) {
+          expected.add(entry.getKey());
+        }
+      }
+      assertEquals(expected, scan(inserted, range[0], range[1]));
+      assertEquals(expected, scan(bulkLoaded, range[0], range[1]));
+    }
+  }
+
+  /**
+   * Checks that the root is black, no red node has a red child, all paths from the root to the
+   * leaves have the same number of black nodes, the keys are in order, the parents are linked and the
+   * value of a node is stored in the following node key.
+   */
+  private static void assertRedBlackInvariants(final RBTreeReader<Long, NodeReferences> reader, final int size) {
+    assertTrue(reader.moveToDocumentRoot());
+    assertTrue(reader.moveToFirstChild());
+    final RBNodeKey<Long> root = reader.getCurrentNodeAsRBNodeKey();
+    assertFalse("The root must be black.", root.isChanged());
+    assertEquals(Fixed.DOCUMENT_NODE_KEY.getStandardProperty(), root.getParentKey());
+
+    final Set<Long> nodeKeys = new HashSet<>();
+    assertRedBlackInvariants(reader, root.getNodeKey(), Long.MIN_VALUE, Long.MAX_VALUE, nodeKeys);
+    assertEquals(2 * size, nodeKeys.size());
+  }
+
+  /**
+   * @return the number of black nodes on each path from the node to the leaves
+   */
+  private static int assertRedBlackInvariants(final RBTreeReader<Long, NodeReferences> reader, final long nodeKey,
+      final long minKey, final long maxKey, final Set<Long> nodeKeys) {
+    if (nodeKey == NULL_NODE_KEY) {
+      return 1;
+    }
+    assertTrue(reader.moveTo(nodeKey));
+    final RBNodeKey<Long> node = reader.getCurrentNodeAsRBNodeKey();
+    final long key = node.getKey();
+    assertTrue("Key " + key + " out of order.", key >= minKey && key <= maxKey);
+    assertEquals(nodeKey + 1, node.getValueNodeKey());
+    assertTrue(nodeKeys.add(nodeKey));
+    assertTrue(nodeKeys.add(node.getValueNodeKey()));
+
+    for (final long childKey : new long[] { node.getLeftChildKey(), node.getRightChildKey() }) {
+      if (childKey != NULL_NODE_KEY) {
+        assertTrue(reader.moveTo(childKey));
+        final RBNodeKey<Long> child = reader.getCurrentNodeAsRBNodeKey();
+        assertEquals(nodeKey, child.getParentKey());
+        assertFalse("A red node must not have a red child.", node.isChanged() && child.isChanged());
+      }
+    }
+
+    final long leftChildKey = node.getLeftChildKey();
+    final long rightChildKey = node.getRightChildKey();
+    final boolean isRed = node.isChanged();
+    final int leftBlackHeight = assertRedBlackInvariants(reader, leftChildKey, minKey, key - 1, nodeKeys);
+    final int rightBlackHeight = assertRedBlackInvariants(reader, rightChildKey, key + 1, maxKey, nodeKeys);
+    assertEquals("Black heights differ below " + key, leftBlackHeight, rightBlackHeight);
+    return leftBlackHeight + (isRed ? 0 : 1);
+  }
+
+  /**
+   * Scans the keys in the given range in order, skipping the subtrees outside of the range.
+   */
+  private static List<Long> scan(final RBTreeReader<Long, NodeReferences> reader, final long from, final long to) {
+    final List<Long> keys = new ArrayList<>();
+    reader.moveToDocumentRoot();
+    if (reader.moveToFirstChild()) {
+      scan(reader, reader.getNodeKey(), from, to, keys);
+    }
+    return keys;
+  }
+
+  private static void scan(final RBTreeReader<Long, NodeReferences> reader, final long nodeKey, final long from,
+      final long to, final List<Long> keys) {
+    if (nodeKey == NULL_NODE_KEY) {
+      return;
+    }
+    reader.moveTo(nodeKey);
+    final RBNodeKey<Long> node = reader.getCurrentNodeAsRBNodeKey();
+    final long key = node.getKey();
+    final long leftChildKey = node.getLeftChildKey();
+    final long rightChildKey = node.getRightChildKey();
+    if (key > from) {
+      scan(reader, leftChildKey, from, to, keys);
+    }
+    if (key >= from && key <= to) {
+      keys.add(key);
+    }
+    if (key < to) {
+      scan(reader, rightChildKey, from, to, keys);
+    }
+  }
+
+  private static long[] toArray(final Optional<NodeReferences> references) {
+    return references.map(value -> value.getNodeKeys().toArray()).orElse(null);
+  }
+}
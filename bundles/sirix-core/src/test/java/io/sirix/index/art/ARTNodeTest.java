@@ -0,0 +1,109 @@
+package io.sirix.index.art;
+
+import io.brackit.query.atomic.Dbl;
+import io.brackit.query.atomic.Int32;
+import io.brackit.query.atomic.Str;
+import io.brackit.query.jdm.Type;
+import io.sirix.index.redblacktree.keyvalue.CASValue;
+import io.sirix.node.SirixDeweyID;
+import io.sirix.node.delegates.NodeDelegate;
+import io.sirix.settings.Fixed;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ARTNodeTest {
+
+  private static ARTNode newNode() {
+    return new ARTNode(new byte[] { 1, 2 }, new NodeDelegate(1, Fixed.NULL_NODE_KEY.getStandardProperty(), null, 0, 0,
+                                                             (SirixDeweyID) null));
+  }
+
+  @Test
+  public void testGrowth() {
+    final ARTNode node = newNode();
+    // Insert in descending order to exercise the sorted insertion.
+    for (int partialKey = 255; partialKey >= 0; partialKey--) {
+      node.putChild(partialKey, 1000 + partialKey);
+      final int size = 256 - partialKey;
+      assertEquals(size, node.size());
+      final ARTNode.Type expectedType = size <= 4
+          ? ARTNode.Type.NODE_4
+          : size <= 16 ? ARTNode.Type.NODE_16 : size <= 48 ? ARTNode.Type.NODE_48 : ARTNode.Type.NODE_256;
+      assertEquals(expectedType, node.getType());
+    }
+    for (int partialKey = 0; partialKey < 256; partialKey++) {
+      assertEquals(1000 + partialKey, node.getChild(partialKey));
+    }
+  }
+
+  @Test
+  public void testNextPartialKey() {
+    for (final int numberOfChildren : new int[] { 3, 10, 40, 100 }) {
+      final ARTNode node = newNode();
+      final List<Integer> expected = new ArrayList<>();
+      for (int i = numberOfChildren - 1; i >= 0; i--) {
+        node.putChild(i * 2 + 1, i);
+        expected.add(0, i * 2 + 1);
+      }
+      final List<Integer> actual = new ArrayList<>();
+      for (int partialKey = node.nextPartialKey(0); partialKey != -1;
+           partialKey = node.nextPartialKey(partialKey + 1)) {
+        actual.add(partialKey);
+      }
+      assertEquals(expected, actual);
+      assertEquals(Fixed.NULL_NODE_KEY.getStandardProperty(), node.getChild(0));
+    }
+  }
+
+  @Test
+  public void testReplaceChild() {
+    final ARTNode node = newNode();
+    node.putChild(7, 1);
+    node.putChild(7, 2);
+    assertEquals(1, node.size());
+    assertEquals(2, node.getChild(7));
+  }
+
+  @Test
+  public void testValueLeaf() {
+    final ARTNode node = newNode();
+    assertFalse(node.hasValueLeaf());
+    node.setValueLeafKey(42);
+    assertTrue(node.hasValueLeaf());
+    assertEquals(42, node.getValueLeafKey());
+  }
+
+  @Test
+  public void testStringKeysAreOrderPreserving() {
+    final String[] values = { "", "a", "ab", "b", "z", "ä", "€", "￿" };
+    for (int i = 1; i < values.length; i++) {
+      assertTrue(compare(new CASValue(new Str(values[i - 1]), Type.STR, 3),
+                         new CASValue(new Str(values[i]), Type.STR, 3)) < 0);
+    }
+  }
+
+  @Test
+  public void testNumericKeysAreOrderPreserving() {
+    final double[] values = { Double.NEGATIVE_INFINITY, -10.5, -1, 0, 0.25, 1, 1e10 };
+    for (int i = 1; i < values.length; i++) {
+      assertTrue(compare(new CASValue(new Dbl(values[i - 1]), Type.DBL, 3),
+                         new CASValue(new Dbl(values[i]), Type.DBL, 3)) < 0);
+    }
+    assertTrue(compare(new CASValue(new Int32(-5), Type.INT, 3), new CASValue(new Int32(4), Type.INT, 3)) < 0);
+  }
+
+  @Test
+  public void testKeysAreOrderedByPCRFirst() {
+    assertTrue(compare(new CASValue(new Str("z"), Type.STR, 1), new CASValue(new Str("a"), Type.STR, 2)) < 0);
+  }
+
+  private static int compare(final CASValue first, final CASValue second) {
+    final BinaryComparable<CASValue> binaryComparable = IndexKeys.forCASValue();
+    return Arrays.compareUnsigned(binaryComparable.get(first), binaryComparable.get(second));
+  }
+}
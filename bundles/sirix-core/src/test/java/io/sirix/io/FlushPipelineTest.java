@@ -0,0 +1,122 @@
+package io.sirix.io;
+
+import io.sirix.exception.SirixIOException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class FlushPipelineTest {
+
+  private Path file;
+
+  private FileChannel channel;
+
+  @Before
+  public void setUp() throws IOException {
+    file = Files.createTempFile("sirix-flush-pipeline-test", ".data");
+    channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    channel.close();
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void testWritesAreExecutedInSubmissionOrder() {
+    final List<Integer> executed = new ArrayList<>();
+
+    try (final var flushPipeline = new FlushPipeline()) {
+      for (int i = 0; i < 1_000; i++) {
+        final int number = i;
+        flushPipeline.submit(() -> executed.add(number));
+      }
+    }
+
+    assertEquals(1_000, executed.size());
+    for (int i = 0; i < executed.size(); i++) {
+      assertEquals(i, (int) executed.get(i));
+    }
+  }
+
+  @Test
+  public void testOverlappingWritesEndWithTheLastWrite() throws IOException {
+    try (final var flushPipeline = new FlushPipeline()) {
+      for (byte i = 0; i < 100; i++) {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[] { i, i, i, i });
+        flushPipeline.submit(() -> channel.write(buffer, 0));
+      }
+    }
+
+    final ByteBuffer content = ByteBuffer.allocate(4);
+    channel.read(content, 0);
+    assertArrayEquals(new byte[] { 99, 99, 99, 99 }, content.array());
+  }
+
+  @Test
+  public void testAwaitThrowsTheFailureAndSkipsSubsequentWrites() {
+    final var flushPipeline = new FlushPipeline();
+    final var failure = new IOException("disk full");
+    final var subsequentWriteExecuted = new AtomicBoolean();
+
+    flushPipeline.submit(() -> {
+      throw failure;
+    });
+    flushPipeline.submit(() -> subsequentWriteExecuted.set(true));
+
+    try {
+      flushPipeline.await();
+      fail("The failed write must be reported.");
+    } catch (final SirixIOException e) {
+      assertSame(failure, e.getCause());
+    }
+
+    assertFalse(subsequentWriteExecuted.get());
+
+    // The pipeline accepts new writes after the failure has been reported.
+    flushPipeline.submit(() -> subsequentWriteExecuted.set(true));
+    flushPipeline.await();
+    assertTrue(subsequentWriteExecuted.get());
+  }
+
+  @Test
+  public void testCloseWaitsForPendingWrites() throws Exception {
+    final var latch = new CountDownLatch(1);
+    final var flushPipeline = new FlushPipeline();
+
+    flushPipeline.submit(() -> {
+      try {
+        latch.await();
+      } catch (final InterruptedException e) {
+        throw new IOException(e);
+      }
+      channel.write(ByteBuffer.wrap(new byte[] { 1, 2, 3 }), 0);
+    });
+
+    assertTrue(flushPipeline.hasPendingFlushes());
+    latch.countDown();
+    flushPipeline.close();
+
+    assertFalse(flushPipeline.hasPendingFlushes());
+    assertEquals(3, channel.size());
+  }
+}
@@ -0,0 +1,117 @@
+package io.sirix.io;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public final class GroupCommitterTest {
+
+  private Path directory;
+
+  private Path file;
+
+  private Path otherFile;
+
+  private FileChannel channel;
+
+  private FileChannel otherChannel;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("sirix-group-commit-test");
+    file = Files.createFile(directory.resolve("resource1.data"));
+    otherFile = Files.createFile(directory.resolve("resource2.data"));
+    channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    otherChannel = FileChannel.open(otherFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    channel.close();
+    otherChannel.close();
+    Files.deleteIfExists(file);
+    Files.deleteIfExists(otherFile);
+    Files.deleteIfExists(directory);
+  }
+
+  @Test
+  public void testConcurrentForcesAreBatched() throws IOException {
+    try (final var groupCommitter = new GroupCommitter(200_000)) {
+      final GroupCommitter.Participant participant = groupCommitter.register(file, channel);
+      commitConcurrently(8, i -> participant, i -> channel);
+
+      assertEquals(8, groupCommitter.getNumberOfRequests());
+      assertTrue(groupCommitter.getNumberOfBatches() < 8);
+      // The file is forced once per batch.
+      assertEquals(groupCommitter.getNumberOfBatches(), groupCommitter.getNumberOfFileForces());
+      assertEquals(8, channel.size());
+    }
+  }
+
+  @Test
+  public void testFilesOnTheSameDeviceAreFlushedTogether() throws IOException {
+    try (final var groupCommitter = new GroupCommitter(200_000)) {
+      final GroupCommitter.Participant participant = groupCommitter.register(file, channel);
+      final GroupCommitter.Participant otherParticipant = groupCommitter.register(otherFile, otherChannel);
+      commitConcurrently(8,
+                         i -> i % 2 == 0 ? participant : otherParticipant,
+                         i -> i % 2 == 0 ? channel : otherChannel);
+
+      assertEquals(8, groupCommitter.getNumberOfRequests());
+      if (GroupCommitter.isSyncfsAvailable()) {
+        // A batch with both files flushes the file system once instead of forcing each file.
+        assertTrue(groupCommitter.getNumberOfDeviceFlushes() >= 1);
+        assertTrue(groupCommitter.getNumberOfDeviceFlushes() + groupCommitter.getNumberOfFileForces() < 8);
+      } else {
+        assertTrue(groupCommitter.getNumberOfFileForces() <= 2 * groupCommitter.getNumberOfBatches());
+      }
+      assertEquals(4, channel.size());
+      assertEquals(4, otherChannel.size());
+    }
+  }
+
+  private static void commitConcurrently(final int numberOfCommitters,
+      final IntFunction<GroupCommitter.Participant> participants,
+      final IntFunction<FileChannel> channels) {
+    final ExecutorService executor = Executors.newFixedThreadPool(numberOfCommitters);
+
+    try {
+      final var latch = new CountDownLatch(1);
+      final CompletableFuture<?>[] futures = IntStream.range(0, numberOfCommitters)
+                                                      .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                                                        try {
+                                                          latch.await();
+                                                          final FileChannel fileChannel = channels.apply(i);
+                                                          synchronized (fileChannel) {
+                                                            fileChannel.write(ByteBuffer.wrap(new byte[] { (byte) i }),
+                                                                              fileChannel.size());
+                                                          }
+                                                        } catch (final InterruptedException | IOException e) {
+                                                          throw new IllegalStateException(e);
+                                                        }
+                                                        participants.apply(i).force();
+                                                      }, executor))
+                                                      .toArray(CompletableFuture[]::new);
+      latch.countDown();
+      CompletableFuture.allOf(futures).join();
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -7,6 +7,10 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.*;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+import java.lang.foreign.ValueLayout;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
@@ -70,6 +74,48 @@ public final class ByteHandlerTest {
     }
   }
 
+  /**
+   * Test method for {@link ByteHandler#serialize(MemorySegment, SegmentAllocator)} and for
+   * {@link ByteHandler#deserialize(MemorySegment, SegmentAllocator)}, which must be interchangeable
+   * with the stream-based methods.
+   */
+  @Test(dataProvider = "instantiateByteHandler")
+  public void testSerializeAndDeserializeMemorySegments(Class<ByteHandler> clazz, ByteHandler[] handlers)
+      throws IOException {
+    final byte[] compressibleBytes = new byte[200_000];
+    for (int i = 0; i < compressibleBytes.length; i++) {
+      compressibleBytes[i] = (byte) ('a' + (i % 7) + (i % 1_000 == 0 ? 1 : 0));
+    }
+
+    try (final Arena arena = Arena.openConfined()) {
+      for (final ByteHandler handler : handlers) {
+        for (final byte[] bytes : new byte[][] { XmlTestHelper.generateRandomBytes(10000), compressibleBytes,
+            new byte[0] }) {
+          for (final SegmentAllocator allocator : new SegmentAllocator[] { ByteHandler.heapAllocator(), arena }) {
+            final MemorySegment source = allocator.allocate(bytes.length).copyFrom(MemorySegment.ofArray(bytes));
+
+            final MemorySegment encoded = handler.serialize(source, allocator);
+            assertTrue(Arrays.equals(bytes, handler.deserialize(encoded, allocator).toArray(ValueLayout.JAVA_BYTE)));
+
+            // Segments are serialized in the same format as streams.
+            final InputStream handledInput =
+                handler.deserialize(new ByteArrayInputStream(encoded.toArray(ValueLayout.JAVA_BYTE)));
+            assertTrue(Arrays.equals(bytes, handledInput.readAllBytes()));
+            handledInput.close();
+
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (final OutputStream handledOutput = handler.serialize(output)) {
+              handledOutput.write(bytes);
+            }
+            assertTrue(Arrays.equals(bytes,
+                                     handler.deserialize(MemorySegment.ofArray(output.toByteArray()), allocator)
+                                            .toArray(ValueLayout.JAVA_BYTE)));
+          }
+        }
+      }
+    }
+  }
+
   /**
    * Providing different implementations of the {@link ByteHandler} as Dataprovider to the test
    * class.
@@ -83,11 +129,12 @@ public final class ByteHandlerTest {
 
     Object[][] returnVal = {{ByteHandler.class,
         new ByteHandler[] {new Encryptor(encryptionKeyPath), new DeflateCompressor(),
-            new SnappyCompressor(),
+            new SnappyCompressor(), new LZ4Compressor(),
             new ByteHandlerPipeline(new Encryptor(encryptionKeyPath), new DeflateCompressor()),
             new ByteHandlerPipeline(new DeflateCompressor(), new Encryptor(encryptionKeyPath)),
             new ByteHandlerPipeline(new Encryptor(encryptionKeyPath), new SnappyCompressor()),
-            new ByteHandlerPipeline(new SnappyCompressor(), new Encryptor(encryptionKeyPath))}}};
+            new ByteHandlerPipeline(new SnappyCompressor(), new Encryptor(encryptionKeyPath)),
+            new ByteHandlerPipeline(new LZ4Compressor(), new Encryptor(encryptionKeyPath))}}};
     return returnVal;
   }
 
@@ -0,0 +1,117 @@
+package io.sirix.io.iouring;
+
+import io.sirix.exception.SirixIOException;
+import io.sirix.io.iouring.FragmentReads.FragmentRead;
+import io.sirix.io.iouring.FragmentReads.MergedRead;
+import io.sirix.io.iouring.FragmentReads.PositionalReader;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class FragmentReadsTest {
+
+  @Test
+  public void testAdjacentFragmentsAreMerged() {
+    // Fragment 0 occupies [0, 14), fragment 1 [14, 34).
+    final List<MergedRead> mergedReads =
+        FragmentReads.merge(List.of(new FragmentRead(1, 14, 16), new FragmentRead(0, 0, 10)), 0);
+
+    assertEquals(1, mergedReads.size());
+    assertEquals(0, mergedReads.get(0).from());
+    assertEquals(34, mergedReads.get(0).to());
+    assertEquals(List.of(new FragmentRead(0, 0, 10), new FragmentRead(1, 14, 16)),
+                 mergedReads.get(0).fragmentReads());
+  }
+
+  @Test
+  public void testOverlappingFragmentsAreMerged() {
+    // The same fragment is requested twice and another one lies within the first.
+    final List<MergedRead> mergedReads = FragmentReads.merge(List.of(new FragmentRead(0, 100, 50),
+                                                                     new FragmentRead(1, 100, 50),
+                                                                     new FragmentRead(2, 110, 10)), 0);
+
+    assertEquals(1, mergedReads.size());
+    assertEquals(100, mergedReads.get(0).from());
+    assertEquals(154, mergedReads.get(0).to());
+    assertEquals(3, mergedReads.get(0).fragmentReads().size());
+  }
+
+  @Test
+  public void testFragmentsWithinTheMaximumGapAreMerged() {
+    // Fragment 0 occupies [0, 14), fragment 1 starts after a gap of 50 bytes.
+    final List<MergedRead> mergedReads =
+        FragmentReads.merge(List.of(new FragmentRead(0, 0, 10), new FragmentRead(1, 64, 10)), 50);
+
+    assertEquals(1, mergedReads.size());
+    assertEquals(0, mergedReads.get(0).from());
+    assertEquals(78, mergedReads.get(0).to());
+  }
+
+  @Test
+  public void testFragmentsBeyondTheMaximumGapAreNotMerged() {
+    final List<MergedRead> mergedReads =
+        FragmentReads.merge(List.of(new FragmentRead(0, 0, 10), new FragmentRead(1, 65, 10)), 50);
+
+    assertEquals(2, mergedReads.size());
+    assertEquals(0, mergedReads.get(0).from());
+    assertEquals(14, mergedReads.get(0).to());
+    assertEquals(65, mergedReads.get(1).from());
+    assertEquals(79, mergedReads.get(1).to());
+  }
+
+  @Test
+  public void testShortReadsAreResubmitted() {
+    final byte[] file = new byte[100];
+    for (int i = 0; i < file.length; i++) {
+      file[i] = (byte) i;
+    }
+    final List<Long> positions = new ArrayList<>();
+
+    // Returns at most 7 bytes per read.
+    final PositionalReader reader = (buffer, position) -> {
+      positions.add(position);
+      final int length = Math.min(7, buffer.remaining());
+      buffer.put(file, (int) position, length);
+      return CompletableFuture.completedFuture(length);
+    };
+
+    final ByteBuffer buffer = ByteBuffer.allocate(20);
+    FragmentReads.readFully(reader, buffer, 10).join();
+
+    assertEquals(List.of(10L, 17L, 24L), positions);
+    final byte[] expected = new byte[20];
+    System.arraycopy(file, 10, expected, 0, 20);
+    assertArrayEquals(expected, buffer.array());
+  }
+
+  @Test
+  public void testReadFailsAtTheEndOfTheFile() {
+    final byte[] file = new byte[16];
+
+    final PositionalReader reader = (buffer, position) -> {
+      if (position >= file.length) {
+        return CompletableFuture.completedFuture(-1);
+      }
+      final int length = (int) Math.min(buffer.remaining(), file.length - position);
+      buffer.put(file, (int) position, length);
+      return CompletableFuture.completedFuture(length);
+    };
+
+    try {
+      FragmentReads.readFully(reader, ByteBuffer.allocate(20), 8).join();
+      fail("Reading beyond the end of the file must fail.");
+    } catch (final CompletionException e) {
+      assertTrue(e.getCause() instanceof SirixIOException);
+      assertTrue(e.getCause().getMessage().contains("read 8 of 20 bytes"));
+    }
+  }
+}
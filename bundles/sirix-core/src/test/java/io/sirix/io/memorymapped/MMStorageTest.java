@@ -0,0 +1,116 @@
+package io.sirix.io.memorymapped;
+
+import io.sirix.JsonTestHelper;
+import io.sirix.JsonTestHelper.PATHS;
+import io.sirix.access.DatabaseConfiguration;
+import io.sirix.access.Databases;
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.api.json.JsonResourceSession;
+import io.sirix.io.StorageType;
+import io.sirix.service.json.serialize.JsonSerializer;
+import io.sirix.service.json.shredder.JsonShredder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** Test {@link MMStorage} and {@link MMDataFile}. */
+public final class MMStorageTest {
+
+  private static final String RESOURCE = "mapped";
+
+  @Before
+  public void setUp() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @After
+  public void tearDown() {
+    JsonTestHelper.deleteEverything();
+  }
+
+  @Test
+  public void testWriteAndReadAcrossChunks() throws IOException {
+    final Path file = Files.createTempFile("sirix-mapped", ".data");
+    try (final var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+         final var dataFile = new MMDataFile(channel, 4096, 0)) {
+      final byte[] data = new byte[10_000];
+      for (int i = 0; i < data.length; i++) {
+        data[i] = (byte) i;
+      }
+
+      dataFile.writeInt(4094, data.length);
+      dataFile.write(4098, MemorySegment.ofArray(data));
+      dataFile.setSize(4098 + data.length);
+
+      assertEquals(data.length, dataFile.readInt(4094));
+      assertArrayEquals(data, dataFile.slice(4098, data.length).toArray(ValueLayout.JAVA_BYTE));
+      assertTrue(dataFile.slice(8192, 100).isMapped());
+
+      // Advising ranges across chunks, which aren't aligned to pages, is only a hint.
+      dataFile.willNeed(4094, data.length + 4);
+      assertArrayEquals(data, dataFile.slice(4098, data.length).toArray(ValueLayout.JAVA_BYTE));
+
+      dataFile.force(0, dataFile.size());
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testRevisionsAreReadAfterReopening() throws IOException {
+    final Path databasePath = PATHS.PATH1.getFile();
+    Databases.createJsonDatabase(new DatabaseConfiguration(databasePath));
+
+    final String firstRevision;
+    final String secondRevision;
+
+    try (final var database = Databases.openJsonDatabase(databasePath)) {
+      database.createResource(ResourceConfiguration.newBuilder(RESOURCE)
+                                                   .storageType(StorageType.MEMORY_MAPPED)
+                                                   .build());
+
+      try (final var manager = database.beginResourceSession(RESOURCE);
+           final var wtx = manager.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[1,{\"a\":true},\"b\"]"));
+        wtx.moveToDocumentRoot();
+        wtx.moveToFirstChild();
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("{\"c\":[null,2.5]}"));
+
+        firstRevision = serialize(manager, 1);
+        secondRevision = serialize(manager, 2);
+      }
+    }
+
+    try (final var database = Databases.openJsonDatabase(databasePath);
+         final var manager = database.beginResourceSession(RESOURCE)) {
+      assertEquals(2, manager.getMostRecentRevisionNumber());
+      assertEquals(firstRevision, serialize(manager, 1));
+      assertEquals(secondRevision, serialize(manager, 2));
+    }
+
+    final Path dataFile = databasePath.resolve(DatabaseConfiguration.DatabasePaths.DATA.getFile())
+                                      .resolve(RESOURCE)
+                                      .resolve(ResourceConfiguration.ResourcePaths.DATA.getPath())
+                                      .resolve("sirix.data");
+    assertTrue(Files.size(dataFile) < MMDataFile.DEFAULT_CHUNK_SIZE);
+  }
+
+  private static String serialize(final JsonResourceSession manager, final int revision) {
+    final var writer = new StringWriter();
+    new JsonSerializer.Builder(manager, writer, revision).build().call();
+    return writer.toString();
+  }
+}
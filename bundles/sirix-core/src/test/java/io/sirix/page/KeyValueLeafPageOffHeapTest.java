@@ -0,0 +1,241 @@
+package io.sirix.page;
+
+import io.sirix.access.ResourceConfiguration;
+import io.sirix.access.trx.node.InternalResourceSession;
+import io.sirix.api.PageReadOnlyTrx;
+import io.sirix.cache.RecordPageCache;
+import io.sirix.index.IndexType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class KeyValueLeafPageOffHeapTest {
+
+  private PageReadOnlyTrx pageReadOnlyTrx;
+
+  @Before
+  public void setUp() {
+    final var resourceSession = mock(InternalResourceSession.class);
+    when(resourceSession.getResourceConfig()).thenReturn(new ResourceConfiguration.Builder("foobar").build());
+    pageReadOnlyTrx = mock(PageReadOnlyTrx.class);
+    doReturn(resourceSession).when(pageReadOnlyTrx).getResourceSession();
+  }
+
+  @Test
+  public void testSlotsAreReadFromOffHeapMemory() {
+    final var page = new KeyValueLeafPage(0, IndexType.DOCUMENT, pageReadOnlyTrx);
+    page.setSlot(new byte[] { 1, 2, 3 }, 0);
+    page.setSlot(new byte[] { 4 }, 1023);
+    page.setDeweyId(new byte[] { 5, 6 }, 1023);
+
+    page.moveSlotsOffHeap();
+
+    assertTrue(page.areSlotsStoredOffHeap());
+    assertTrue(page.getOffHeapSize() > 0);
+    assertEquals(2, page.size());
+    assertArrayEquals(new byte[] { 1, 2, 3 }, page.getSlot(0));
+    assertArrayEquals(new byte[] { 4 }, page.getSlot(1023));
+    assertNull(page.getSlot(1));
+    assertNull(page.getDeweyId(0));
+    assertArrayEquals(new byte[] { 5, 6 }, page.getDeweyId(1023));
+
+    page.release();
+    assertTrue(page.isReleased());
+  }
+
+  @Test
+  public void testModificationMovesSlotsBackOnHeap() {
+    final var page = new KeyValueLeafPage(0, IndexType.DOCUMENT, pageReadOnlyTrx);
+    page.setSlot(new byte[] { 1, 2, 3 }, 0);
+    page.moveSlotsOffHeap();
+
+    page.setSlot(new byte[] { 7 }, 2);
+
+    assertFalse(page.areSlotsStoredOffHeap());
+    assertFalse(page.isReleased());
+    assertArrayEquals(new byte[] { 1, 2, 3 }, page.getSlot(0));
+    assertArrayEquals(new byte[] { 7 }, page.getSlot(2));
+    assertEquals(2, page.size());
+  }
+
+  @Test
+  public void testPinnedPageIsReleasedOnceUnpinned() {
+    final var page = newOffHeapPage(42);
+
+    assertTrue(page.pin());
+    page.release();
+
+    // Evicted, but still pinned.
+    assertFalse(page.isReleased());
+    assertArrayEquals(slot(42), page.getSlot(0));
+
+    page.unpin();
+
+    assertTrue(page.isReleased());
+    assertFalse(page.pin());
+  }
+
+  @Test
+  public void testReleaseIsIdempotent() {
+    final var page = newOffHeapPage(1);
+
+    assertTrue(page.pin());
+    page.release();
+    page.release();
+
+    assertFalse(page.isReleased());
+    assertArrayEquals(slot(1), page.getSlot(0));
+    page.unpin();
+    assertTrue(page.isReleased());
+  }
+
+  @Test
+  public void testSlotsMovedOnHeapStayReadableForPinnedReaders() {
+    final var page = newOffHeapPage(3);
+    assertTrue(page.pin());
+
+    final var clone = new KeyValueLeafPage(page);
+
+    // Cloning a shared page doesn't move its slots.
+    assertTrue(page.areSlotsStoredOffHeap());
+    assertArrayEquals(slot(3), clone.getSlot(0));
+
+    page.setSlot(new byte[] { 9 }, 1);
+    page.release();
+
+    assertFalse(page.isReleased());
+    assertArrayEquals(slot(3), page.getSlot(0));
+    page.unpin();
+    assertTrue(page.isReleased());
+  }
+
+  @Test
+  public void testConcurrentReadersAndEviction() throws Exception {
+    final int numberOfPages = 256;
+    final var cache = new RecordPageCache(16);
+    final List<PageReference> references =
+        IntStream.range(0, numberOfPages).mapToObj(i -> new PageReference().setKey(i)).toList();
+    final Queue<KeyValueLeafPage> createdPages = new ConcurrentLinkedQueue<>();
+    final var isStopped = new AtomicBoolean();
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      // Loaders, which put new pages into the cache and thus evict others.
+      final List<Future<?>> loaders = IntStream.range(0, 2).<Future<?>>mapToObj(unused -> executor.submit(() -> {
+        while (!isStopped.get()) {
+          final int number = ThreadLocalRandom.current().nextInt(numberOfPages);
+          final var page = newOffHeapPage(number);
+          createdPages.add(page);
+          cache.put(references.get(number), page);
+        }
+        return null;
+      })).toList();
+
+      // Readers, which read pages, as long as they have pinned them.
+      final List<Future<?>> readers = IntStream.range(0, 6).<Future<?>>mapToObj(unused -> executor.submit(() -> {
+        for (int i = 0; i < 200_000; i++) {
+          final int number = ThreadLocalRandom.current().nextInt(numberOfPages);
+          final var page = (KeyValueLeafPage) cache.get(references.get(number));
+          if (page == null || !page.pin()) {
+            continue;
+          }
+          try {
+            assertArrayEquals(slot(number), page.getSlot(0));
+            assertArrayEquals(slot(number), page.getDeweyId(0));
+          } finally {
+            page.unpin();
+          }
+        }
+        return null;
+      })).toList();
+
+      for (final Future<?> reader : readers) {
+        reader.get(2, TimeUnit.MINUTES);
+      }
+      isStopped.set(true);
+      for (final Future<?> loader : loaders) {
+        loader.get(1, TimeUnit.MINUTES);
+      }
+    } finally {
+      isStopped.set(true);
+      executor.shutdown();
+    }
+
+    cache.clear();
+
+    // Removal listeners are notified asynchronously.
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    for (final KeyValueLeafPage page : createdPages) {
+      while (!page.isReleased()) {
+        if (System.nanoTime() > deadline) {
+          fail("Evicted pages must be released, once they are unpinned.");
+        }
+        Thread.onSpinWait();
+      }
+    }
+  }
+
+  @Test
+  public void testReleasedBlocksAreReused() {
+    final var allocator = new OffHeapSlotAllocator();
+
+    final var block = allocator.allocate(10_000);
+    assertEquals(OffHeapSlotAllocator.blockSize(10_000), block.byteSize());
+    assertEquals(block.byteSize(), allocator.getAllocatedBytes());
+
+    allocator.release(block);
+    assertEquals(block.byteSize(), allocator.getFreeBytes());
+
+    // A request of the same size class gets the released block instead of new memory.
+    final var reusedBlock = allocator.allocate(9_500);
+    assertEquals(block.address(), reusedBlock.address());
+    assertEquals(block.byteSize(), allocator.getAllocatedBytes());
+    assertEquals(0, allocator.getFreeBytes());
+
+    // Other size classes don't.
+    allocator.release(reusedBlock);
+    allocator.allocate(100_000);
+    assertEquals(block.byteSize(), allocator.getFreeBytes());
+  }
+
+  @Test
+  public void testBlockSizeWastesAtMostAFifth() {
+    for (long size = 0; size < 1 << 20; size += 997) {
+      final long blockSize = OffHeapSlotAllocator.blockSize(size);
+      assertTrue(blockSize >= size);
+      assertTrue(blockSize == 4096 || 5 * (blockSize - size) <= blockSize);
+    }
+  }
+
+  private KeyValueLeafPage newOffHeapPage(final int number) {
+    final var page = new KeyValueLeafPage(number, IndexType.DOCUMENT, pageReadOnlyTrx);
+    page.setSlot(slot(number), 0);
+    page.setDeweyId(slot(number), 0);
+    page.moveSlotsOffHeap();
+    return page;
+  }
+
+  private static byte[] slot(final int number) {
+    return new byte[] { (byte) number, (byte) (number >>> 8), 42 };
+  }
+}
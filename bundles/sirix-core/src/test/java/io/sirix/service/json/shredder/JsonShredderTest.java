@@ -35,8 +35,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 public final class JsonShredderTest {
 
@@ -213,6 +215,21 @@ public final class JsonShredderTest {
     test("array.json");
   }
 
+  @Test
+  public void testParallelLarge() throws IOException {
+    testParallel("CVX.json");
+  }
+
+  @Test
+  public void testParallelRedditAll() throws IOException {
+    testParallel("reddit-all.json");
+  }
+
+  @Test
+  public void testParallelArray() throws IOException {
+    testParallel("array.json");
+  }
+
   @Test
   public void testArrayAsLastChild() throws IOException {
     final var jsonPath = JSON.resolve("array.json");
@@ -501,4 +518,41 @@ public final class JsonShredderTest {
       JSONAssert.assertEquals(expected, actual, true);
     }
   }
+
+  @Test
+  public void testParallelReaderStopsParserOnClose() throws IOException, InterruptedException {
+    final var jsonPath = JSON.resolve("abc-location-stations.json");
+    final var parser = new AtomicReference<Thread>();
+    final var reader = ParallelJsonReader.create(JsonShredder.createFileReader(jsonPath), 64, 2, runnable -> {
+      final var thread = new Thread(runnable);
+      parser.set(thread);
+      return thread;
+    });
+    reader.beginObject();
+    reader.close();
+
+    // The parser, which is blocked on the full queue of chunks, terminates.
+    parser.get().join(TimeUnit.SECONDS.toMillis(10));
+    assertFalse(parser.get().isAlive());
+  }
+
+  private void testParallel(String jsonFile) throws IOException {
+    final var jsonPath = JSON.resolve(jsonFile);
+    final var database = JsonTestHelper.getDatabase(PATHS.PATH1.getFile());
+    try (final var manager = database.beginResourceSession(JsonTestHelper.RESOURCE);
+         final var trx = manager.beginNodeTrx();
+         final var reader = ParallelJsonReader.create(JsonShredder.createFileReader(jsonPath),
+                                                      64,
+                                                      2,
+                                                      Thread.ofPlatform().daemon().factory());
+         final Writer writer = new StringWriter()) {
+      // Small chunks, such that the tokens are spread over many chunks.
+      trx.insertSubtreeAsFirstChild(reader);
+      final var serializer = new JsonSerializer.Builder(manager, writer).build();
+      serializer.call();
+      final var expected = Files.readString(jsonPath, StandardCharsets.UTF_8);
+      final var actual = writer.toString();
+      JSONAssert.assertEquals(expected, actual, true);
+    }
+  }
 }
@@ -43,6 +43,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.Set;
@@ -120,9 +121,18 @@ public final class JsonDBSerializer implements Serializer, AutoCloseable {
 
               item = printCommaIfNextItemExists(it);
             } else if ((item instanceof Array) || (item instanceof Object)) {
-              try (final var out = new ByteArrayOutputStream(); final var printWriter = new PrintWriter(out)) {
+              if (out instanceof Writer writer) {
+                // Don't buffer the item, as the writer might stream its output.
+                final var printWriter = new PrintWriter(writer);
                 new StringSerializer(printWriter).serialize(item);
-                this.out.append(out.toString(StandardCharsets.UTF_8));
+                if (printWriter.checkError()) {
+                  throw new IOException("Couldn't write the item.");
+                }
+              } else {
+                try (final var out = new ByteArrayOutputStream(); final var printWriter = new PrintWriter(out)) {
+                  new StringSerializer(printWriter).serialize(item);
+                  this.out.append(out.toString(StandardCharsets.UTF_8));
+                }
               }
 
               item = printCommaIfNextItemExists(it);
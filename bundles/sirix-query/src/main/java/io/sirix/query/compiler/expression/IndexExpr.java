@@ -2,7 +2,11 @@ package io.sirix.query.compiler.expression;
 
 import io.sirix.query.compiler.optimizer.walker.json.Paths;
 import io.sirix.query.function.jn.JNFun;
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
 import io.brackit.query.QueryContext;
 import io.brackit.query.QueryException;
 import io.brackit.query.Tuple;
@@ -13,10 +17,13 @@ import io.brackit.query.compiler.XQ;
 import io.brackit.query.jdm.Expr;
 import io.brackit.query.jdm.Item;
 import io.brackit.query.jdm.Sequence;
-import io.brackit.query.sequence.ItemSequence;
+import io.brackit.query.jdm.Iter;
+import io.brackit.query.sequence.BaseIter;
+import io.brackit.query.sequence.LazySequence;
 import io.brackit.query.util.ExprUtil;
 import io.brackit.query.util.path.Path;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.access.trx.node.json.JsonIndexController;
 import io.sirix.api.json.JsonResourceSession;
 import io.sirix.index.IndexDef;
 import io.sirix.index.IndexType;
@@ -25,11 +32,14 @@ import io.sirix.index.cas.CASFilter;
 import io.sirix.index.cas.CASFilterRange;
 import io.sirix.index.name.NameFilter;
 import io.sirix.index.path.json.JsonPCRCollector;
+import io.sirix.index.path.summary.PathSummaryReader;
 import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import io.sirix.node.SirixDeweyID;
 import io.sirix.query.SirixQueryContext;
 import io.sirix.query.compiler.optimizer.walker.json.QueryPathSegment;
 import io.sirix.query.json.JsonDBCollection;
 import io.sirix.query.json.JsonItemFactory;
+import io.sirix.settings.Fixed;
 
 import java.util.*;
 
@@ -38,6 +48,11 @@ import static java.util.stream.Collectors.toSet;
 
 public final class IndexExpr implements Expr {
 
+  /**
+   * The maximum number of resolved predicate ancestors of CAS index matches, which are remembered.
+   */
+  private static final int MAX_RESOLVED_ANCESTORS = 1 << 14;
+
   private final String databaseName;
 
   private final String resourceName;
@@ -60,42 +75,189 @@ public final class IndexExpr implements Expr {
 
   @Override
   public Sequence evaluate(QueryContext ctx, Tuple tuple) throws QueryException {
+    final IndexLookup indexLookup = openIndexLookup(ctx);
+
+    // The index is scanned on demand, such that positional predicates and early terminating FLWOR
+    // expressions stop the scan.
+    return new LazySequence() {
+      @Override
+      public Iter iterate() {
+        return new IndexIter(indexLookup, null);
+      }
+    };
+  }
+
+  /**
+   * Evaluate the index lookup to the node keys of the matching nodes, without materializing their
+   * items, such that the matches of several index lookups can be combined.
+   *
+   * @param ctx the query context
+   * @return the node keys of the matching nodes
+   * @throws QueryException if the index can't be scanned
+   */
+  Roaring64Bitmap evaluateToNodeKeys(final QueryContext ctx) throws QueryException {
+    final IndexLookup indexLookup = openIndexLookup(ctx);
+    final var nodeKeys = new Roaring64Bitmap();
+
+    final var indexIter = new IndexIter(indexLookup, nodeKeys);
+
+    try {
+      // The node keys are collected instead of returning items, thus the whole index is scanned.
+      indexIter.next();
+    } finally {
+      indexIter.close();
+      indexLookup.rtx().close();
+    }
+
+    return nodeKeys;
+  }
+
+  private IndexLookup openIndexLookup(final QueryContext ctx) {
     final var jsonItemStore = ((SirixQueryContext) ctx).getJsonItemStore();
 
     final JsonDBCollection jsonCollection = jsonItemStore.lookup(databaseName);
     final var database = jsonCollection.getDatabase();
 
     final var manager = database.beginResourceSession(resourceName);
-    final var indexController = revision == -1
+    final JsonIndexController indexController = revision == -1
         ? manager.getRtxIndexController(manager.getMostRecentRevisionNumber())
         : manager.getRtxIndexController(revision);
 
     final JsonNodeReadOnlyTrx rtx =
         revision == -1 ? manager.beginNodeReadOnlyTrx() : manager.beginNodeReadOnlyTrx(revision);
-    var nodeKeys = new ArrayList<Long>();
 
-    final var indexType = (IndexType) properties.get("indexType");
-    final var indexTypeToNodeKeys = new HashMap<IndexDef, List<Long>>();
-    @SuppressWarnings("unchecked") final var pathSegmentNamesToArrayIndexes =
-        (Deque<QueryPathSegment>) properties.get("pathSegmentNamesToArrayIndexes");
+    return new IndexLookup(manager, indexController, rtx, jsonCollection);
+  }
+
+  /**
+   * The resource session, index controller and transaction, which are used to scan the indexes.
+   */
+  private record IndexLookup(JsonResourceSession manager, JsonIndexController indexController,
+      JsonNodeReadOnlyTrx rtx, JsonDBCollection jsonCollection) {
+  }
 
-    for (final Map.Entry<IndexDef, List<Path<QNm>>> entrySet : indexDefsToPaths.entrySet()) {
-      final var pathStrings = entrySet.getValue().stream().map(Path::toString).collect(toSet());
+  /**
+   * Iterates over the items of all matching nodes, scanning one index after the other and pulling
+   * the node references from the index iterators only once the previous items have been consumed.
+   */
+  private final class IndexIter extends BaseIter {
 
-      switch (indexType) {
+    private final JsonResourceSession manager;
+
+    private final JsonIndexController indexController;
+
+    private final JsonNodeReadOnlyTrx rtx;
+
+    private final JsonDBCollection jsonCollection;
+
+    private final IndexType indexType;
+
+    private final Deque<QueryPathSegment> pathSegmentNamesToArrayIndexes;
+
+    private final long numberOfArrayIndexes;
+
+    private final JsonItemFactory jsonItemFactory = new JsonItemFactory();
+
+    /**
+     * The items of the current node, which haven't been returned yet.
+     */
+    private final Deque<Item> items = new ArrayDeque<>();
+
+    /**
+     * The node keys of the matching nodes, if they are collected instead of returning items.
+     */
+    private final @Nullable Roaring64Bitmap nodeKeys;
+
+    private Iterator<Map.Entry<IndexDef, List<Path<QNm>>>> indexDefsIterator;
+
+    private IndexDef indexDef;
+
+    private Iterator<NodeReferences> nodeReferencesIterator;
+
+    private LongIterator nodeKeysIterator;
+
+    /**
+     * Maps the DeweyIDs of the predicate ancestors of CAS index matches to their node keys, if the
+     * resource stores DeweyIDs. Matches with the same predicate ancestor, for instance values of an
+     * array within the ancestor, thus resolve it once.
+     */
+    private final Object2LongOpenHashMap<SirixDeweyID> ancestorIdsToKeys;
+
+    /**
+     * The number of levels between a CAS index match and its predicate ancestor, or {@code -1}, if
+     * no ancestor of the current index has been resolved yet.
+     */
+    private int levelsToAncestor = -1;
+
+    private PathSummaryReader pathSummary;
+
+    @SuppressWarnings("unchecked")
+    IndexIter(final IndexLookup indexLookup, final @Nullable Roaring64Bitmap nodeKeys) {
+      manager = indexLookup.manager();
+      indexController = indexLookup.indexController();
+      rtx = indexLookup.rtx();
+      jsonCollection = indexLookup.jsonCollection();
+      indexType = (IndexType) properties.get("indexType");
+      pathSegmentNamesToArrayIndexes = (Deque<QueryPathSegment>) properties.get("pathSegmentNamesToArrayIndexes");
+      this.nodeKeys = nodeKeys;
+      numberOfArrayIndexes = getNumberOfArrayIndexes(pathSegmentNamesToArrayIndexes);
+      if (indexType == IndexType.CAS && manager.getResourceConfig().areDeweyIDsStored) {
+        ancestorIdsToKeys = new Object2LongOpenHashMap<>();
+        ancestorIdsToKeys.defaultReturnValue(Fixed.NULL_NODE_KEY.getStandardProperty());
+      } else {
+        ancestorIdsToKeys = null;
+      }
+    }
+
+    @Override
+    public Item next() throws QueryException {
+      if (indexDefsIterator == null) {
+        indexDefsIterator = indexDefsToPaths.entrySet().iterator();
+      }
+
+      while (true) {
+        final Item item = items.poll();
+        if (item != null) {
+          return item;
+        }
+
+        if (nodeKeysIterator != null && nodeKeysIterator.hasNext()) {
+          addItems(nodeKeysIterator.nextLong());
+        } else if (nodeReferencesIterator != null && nodeReferencesIterator.hasNext()) {
+          nodeKeysIterator = getApplicableNodeKeys(nodeReferencesIterator.next()).iterator();
+        } else if (indexDefsIterator.hasNext()) {
+          final Map.Entry<IndexDef, List<Path<QNm>>> entrySet = indexDefsIterator.next();
+          indexDef = entrySet.getKey();
+          if (ancestorIdsToKeys != null) {
+            // The predicate level depends on the index definition.
+            ancestorIdsToKeys.clear();
+            levelsToAncestor = -1;
+          }
+          nodeReferencesIterator = openIndex(entrySet);
+          nodeKeysIterator = null;
+        } else {
+          close();
+          return null;
+        }
+      }
+    }
+
+    @Override
+    public void close() {
+      if (pathSummary != null) {
+        pathSummary.close();
+        pathSummary = null;
+      }
+    }
+
+    private Iterator<NodeReferences> openIndex(final Map.Entry<IndexDef, List<Path<QNm>>> entrySet)
+        throws QueryException {
+      return switch (indexType) {
         case PATH -> {
-          final Iterator<NodeReferences> nodeReferencesIterator = indexController.openPathIndex(rtx.getPageTrx(),
-                                                                                                entrySet.getKey(),
-                                                                                                indexController.createPathFilter(
-                                                                                                    pathStrings,
-                                                                                                    rtx));
-
-          checkIfIndexNodeIsApplicable(manager,
-                                       rtx,
-                                       pathSegmentNamesToArrayIndexes,
-                                       nodeReferencesIterator,
-                                       nodeKeys,
-                                       false);
+          final var pathStrings = entrySet.getValue().stream().map(Path::toString).collect(toSet());
+          yield indexController.openPathIndex(rtx.getPageTrx(),
+                                              entrySet.getKey(),
+                                              indexController.createPathFilter(pathStrings, rtx));
         }
         case CAS -> {
           final var atomic = (Atomic) properties.get("atomic");
@@ -119,257 +281,282 @@ public final class IndexExpr implements Expr {
                                                      searchModeUpperBound == SearchMode.LOWER_OR_EQUAL,
                                                      new JsonPCRCollector(rtx));
 
-            final Iterator<NodeReferences> nodeReferencesIterator =
-                indexController.openCASIndex(rtx.getPageTrx(), entrySet.getKey(), casFilter);
-
-            checkIfIndexNodeIsApplicable(manager,
-                                         rtx,
-                                         pathSegmentNamesToArrayIndexes,
-                                         nodeReferencesIterator,
-                                         nodeKeys,
-                                         false);
-
-          } else {
-
-            final var casFilter =
-                new CASFilter(new HashSet<>(entrySet.getValue()), atomic, searchMode, new JsonPCRCollector(rtx));
-
-            final Iterator<NodeReferences> nodeReferencesIterator =
-                indexController.openCASIndex(rtx.getPageTrx(), entrySet.getKey(), casFilter);
+            yield indexController.openCASIndex(rtx.getPageTrx(), entrySet.getKey(), casFilter);
+          }
 
-            checkIfIndexNodeIsApplicable(manager,
-                                         rtx,
-                                         pathSegmentNamesToArrayIndexes,
-                                         nodeReferencesIterator,
-                                         nodeKeys,
-                                         false);
+          final var casFilter =
+              new CASFilter(new HashSet<>(entrySet.getValue()), atomic, searchMode, new JsonPCRCollector(rtx));
 
-          }
-          indexTypeToNodeKeys.put(entrySet.getKey(), nodeKeys);
-          nodeKeys = new ArrayList<>();
+          yield indexController.openCASIndex(rtx.getPageTrx(), entrySet.getKey(), casFilter);
         }
         case NAME -> {
-          final Iterator<NodeReferences> nodeReferencesIterator = indexController.openNameIndex(rtx.getPageTrx(),
-                                                                                                entrySet.getKey(),
-                                                                                                new NameFilter(Set.of(
-                                                                                                    entrySet.getValue()
-                                                                                                            .get(
-                                                                                                                entrySet.getValue()
-                                                                                                                        .size()
-                                                                                                                    - 1)
-                                                                                                            .tail()),
-                                                                                                               Set.of()));
-
-          checkIfIndexNodeIsApplicable(manager,
-                                       rtx,
-                                       pathSegmentNamesToArrayIndexes,
-                                       nodeReferencesIterator,
-                                       nodeKeys,
-                                       true);
-
+          final List<Path<QNm>> paths = entrySet.getValue();
+          yield indexController.openNameIndex(rtx.getPageTrx(),
+                                              entrySet.getKey(),
+                                              new NameFilter(Set.of(paths.get(paths.size() - 1).tail()), Set.of()));
         }
         default -> throw new IllegalStateException("Index type " + indexType + " not known");
-      }
+      };
     }
 
-    final var sequence = new ArrayList<Item>();
-    final var jsonItemFactory = new JsonItemFactory();
-
-    switch (indexType) {
-      case PATH, NAME -> nodeKeys.forEach(nodeKey -> {
-        rtx.moveTo(nodeKey);
-        final Deque<Integer> arrayIndexes = pathSegmentNamesToArrayIndexes.getLast().arrayIndexes();
-        if (arrayIndexes.isEmpty()) {
-          rtx.moveToFirstChild();
-          sequence.add(jsonItemFactory.getSequence(rtx, jsonCollection));
-        } else if (arrayIndexes.getFirst() == Integer.MIN_VALUE) {
-          if (rtx.moveToFirstChild()) {
-            do {
-              sequence.add(jsonItemFactory.getSequence(rtx, jsonCollection));
-            } while (rtx.moveToRightSibling());
-          }
-        } else {
-          var index = arrayIndexes.getFirst();
-          index = index < 0 ? (int) (rtx.getChildCount() + index) : index;
-          boolean hasMoved = rtx.moveToFirstChild();
-          assert hasMoved;
-          int k = 1;
-          for (; k <= index; k++) {
-            hasMoved = rtx.moveToRightSibling();
+    /**
+     * Add the items of a matching node.
+     *
+     * @param nodeKey the node key of the index entry
+     */
+    private void addItems(final long nodeKey) throws QueryException {
+      switch (indexType) {
+        case PATH, NAME -> {
+          rtx.moveTo(nodeKey);
+          final Deque<Integer> arrayIndexes = pathSegmentNamesToArrayIndexes.getLast().arrayIndexes();
+          if (arrayIndexes.isEmpty()) {
+            rtx.moveToFirstChild();
+            addItem();
+          } else if (arrayIndexes.getFirst() == Integer.MIN_VALUE) {
+            if (rtx.moveToFirstChild()) {
+              do {
+                addItem();
+              } while (rtx.moveToRightSibling());
+            }
+          } else {
+            var index = arrayIndexes.getFirst();
+            index = index < 0 ? (int) (rtx.getChildCount() + index) : index;
+            boolean hasMoved = rtx.moveToFirstChild();
             assert hasMoved;
+            int k = 1;
+            for (; k <= index; k++) {
+              hasMoved = rtx.moveToRightSibling();
+              assert hasMoved;
+            }
+            addItem();
           }
-          sequence.add(jsonItemFactory.getSequence(rtx, jsonCollection));
         }
-      });
-      case CAS -> indexDefsToPaths.keySet().forEach(indexDef -> {
-        final var predicateLeafNode = (AST) properties.get("predicateLeafNode");
-        @SuppressWarnings(
-            "unchecked") final var indexDefToPredicateLevel = (Map<IndexDef, Integer>) properties.get("predicateLevel");
-        final var predicateLevel = indexDefToPredicateLevel.get(indexDef);
-        final var nodeKeysOfIndex = indexTypeToNodeKeys.get(indexDef);
-        nodeKeysOfIndex.forEach(nodeKey -> {
-          // TODO: We can skip this traversal once we store a DeweyID <=> nodeKey mapping.
-          // Then we can simply clip the DeweyID with the given path level and get the corresponding nodeKey.
-          rtx.moveTo(nodeKey);
-          rtx.moveToParent();
-          for (int i = 1; i < predicateLevel; i++) {
-            rtx.moveToParent();
+        case CAS -> {
+          final var predicateLeafNode = (AST) properties.get("predicateLeafNode");
+          @SuppressWarnings(
+              "unchecked") final var indexDefToPredicateLevel = (Map<IndexDef, Integer>) properties.get("predicateLevel");
+          final var predicateLevel = indexDefToPredicateLevel.get(indexDef);
+          moveToPredicateAncestor(nodeKey, predicateLevel, predicateLeafNode);
+          addItem();
+        }
+        default -> throw new QueryException(JNFun.ERR_INVALID_INDEX_TYPE, "Index type not known: " + indexType);
+      }
+    }
 
-            if (rtx.isObject() && i + 1 < predicateLevel) {
-              rtx.moveToParent();
-            }
-          }
-          if (predicateLeafNode != null && predicateLeafNode.getParent().getType() != XQ.ArrayAccess) {
-            rtx.moveToParent();
-          }
-          sequence.add(jsonItemFactory.getSequence(rtx, jsonCollection));
-        });
-      });
-      default -> throw new QueryException(JNFun.ERR_INVALID_INDEX_TYPE, "Index type not known: " + indexType);
+    /**
+     * Add the item of the node the transaction is located at, or its node key, if the node keys are
+     * collected.
+     */
+    private void addItem() {
+      if (nodeKeys != null) {
+        nodeKeys.addLong(rtx.getNodeKey());
+      } else {
+        items.add(jsonItemFactory.getSequence(rtx, jsonCollection));
+      }
     }
 
-    if (sequence.size() == 0) {
-      return null;
+    /**
+     * Move to the ancestor of a CAS index match, on which the predicate has been specified. If the
+     * resource stores DeweyIDs, the DeweyID of the ancestor is computed from the DeweyID of the match
+     * by clipping it to the level of the ancestor, such that an already resolved ancestor is found
+     * without moving up the tree. The predicate path is the same for all matches of an index, thus
+     * the ancestor is the same number of levels above each match.
+     *
+     * @param nodeKey           the node key of the match
+     * @param predicateLevel    the number of levels of the predicate path
+     * @param predicateLeafNode the leaf node of the predicate, or {@code null}
+     */
+    private void moveToPredicateAncestor(final long nodeKey, final int predicateLevel,
+        final AST predicateLeafNode) {
+      rtx.moveTo(nodeKey);
+
+      final SirixDeweyID matchId = ancestorIdsToKeys == null ? null : rtx.getDeweyID();
+      if (matchId != null && levelsToAncestor != -1) {
+        // The level argument of getAncestor(int) counts the document root as level 1.
+        final SirixDeweyID ancestorId = matchId.getAncestor(matchId.getLevel() + 1 - levelsToAncestor);
+        final long ancestorKey =
+            ancestorId == null ? Fixed.NULL_NODE_KEY.getStandardProperty() : ancestorIdsToKeys.getLong(ancestorId);
+        if (ancestorKey != Fixed.NULL_NODE_KEY.getStandardProperty()) {
+          rtx.moveTo(ancestorKey);
+          return;
+        }
+      }
+
+      rtx.moveToParent();
+      for (int i = 1; i < predicateLevel; i++) {
+        rtx.moveToParent();
+
+        if (rtx.isObject() && i + 1 < predicateLevel) {
+          rtx.moveToParent();
+        }
+      }
+      if (predicateLeafNode != null && predicateLeafNode.getParent().getType() != XQ.ArrayAccess) {
+        rtx.moveToParent();
+      }
+
+      final SirixDeweyID ancestorId = matchId == null ? null : rtx.getDeweyID();
+      if (ancestorId != null) {
+        final int levels = matchId.getLevel() - ancestorId.getLevel();
+        if (levels != levelsToAncestor || ancestorIdsToKeys.size() >= MAX_RESOLVED_ANCESTORS) {
+          // The matches are read in node key order, thus older ancestors are rarely seen again.
+          ancestorIdsToKeys.clear();
+          levelsToAncestor = levels;
+        }
+        ancestorIdsToKeys.put(ancestorId, rtx.getNodeKey());
+      }
     }
 
-    return new ItemSequence(sequence.toArray(new Item[0]));
-  }
+    private PathSummaryReader getPathSummary() {
+      if (pathSummary == null) {
+        pathSummary = revision == -1 ? manager.openPathSummary() : manager.openPathSummary(revision);
+      }
+      return pathSummary;
+    }
 
-  private SearchMode getSearchMode(String comparisonType) {
-    return switch (comparisonType) {
-      case "ValueCompGT", "GeneralCompGT" -> SearchMode.GREATER;
-      case "ValueCompLT", "GeneralCompLT" -> SearchMode.LOWER;
-      case "ValueCompEQ", "GeneralCompEQ" -> SearchMode.EQUAL;
-      case "ValueCompGE", "GeneralCompGE" -> SearchMode.GREATER_OR_EQUAL;
-      case "ValueCompLE", "GeneralCompLE" -> SearchMode.LOWER_OR_EQUAL;
-      case null, default -> throw new IllegalStateException("Unexpected value: " + comparisonType);
-    };
-  }
+    /**
+     * Get the node keys of an index entry, which match the query path, dropping false positives of
+     * array indexes and field names, which aren't stored in the index.
+     *
+     * @param currentNodeReferences the node references of the index entry
+     * @return the matching node keys
+     */
+    private LongLinkedOpenHashSet getApplicableNodeKeys(final NodeReferences currentNodeReferences) {
+      final boolean checkPathBecauseOfFieldNameChecks = indexType == IndexType.NAME;
+      final var currNodeKeys = new LongLinkedOpenHashSet(currentNodeReferences.getNodeKeys().toArray());
+      // if array numberOfArrayIndexes are given (only some might be specified we have to drop false positive nodes
+      if (numberOfArrayIndexes != 0 || checkPathBecauseOfFieldNameChecks) {
+        final PathSummaryReader pathSummary = getPathSummary();
+        final var nodeKeyIter =  currentNodeReferences.getNodeKeys().getLongIterator();
+        while (nodeKeyIter.hasNext()) {
+          final var nodeKey = nodeKeyIter.next();
+          final var currentPathSegmentNamesToArrayIndexes = new ArrayDeque<QueryPathSegment>();
+          pathSegmentNamesToArrayIndexes.forEach(pathSegmentNameToArrayIndex -> {
+            final var currentIndexes = new ArrayDeque<>(pathSegmentNameToArrayIndex.arrayIndexes());
+            currentPathSegmentNamesToArrayIndexes.addLast(new QueryPathSegment(pathSegmentNameToArrayIndex.pathSegmentName(), currentIndexes));
+          });
 
-  private void checkIfIndexNodeIsApplicable(JsonResourceSession manager, JsonNodeReadOnlyTrx rtx,
-      Deque<QueryPathSegment> pathSegmentNamesToArrayIndexes, Iterator<NodeReferences> nodeReferencesIterator,
-      List<Long> nodeKeys, boolean checkPathBecauseOfFieldNameChecks) {
-    final long numberOfArrayIndexes = getNumberOfArrayIndexes(pathSegmentNamesToArrayIndexes);
-    try (final var pathSummary = revision == -1 ? manager.openPathSummary() : manager.openPathSummary(revision)) {
-      nodeReferencesIterator.forEachRemaining(currentNodeReferences -> {
-        final var currNodeKeys = new LongLinkedOpenHashSet(currentNodeReferences.getNodeKeys().toArray());
-        // if array numberOfArrayIndexes are given (only some might be specified we have to drop false positive nodes
-        if (numberOfArrayIndexes != 0 || checkPathBecauseOfFieldNameChecks) {
-          final var nodeKeyIter =  currentNodeReferences.getNodeKeys().getLongIterator();
-          while (nodeKeyIter.hasNext()) {
-            final var nodeKey = nodeKeyIter.next();
-            final var currentPathSegmentNamesToArrayIndexes = new ArrayDeque<QueryPathSegment>();
-            pathSegmentNamesToArrayIndexes.forEach(pathSegmentNameToArrayIndex -> {
-              final var currentIndexes = new ArrayDeque<>(pathSegmentNameToArrayIndex.arrayIndexes());
-              currentPathSegmentNamesToArrayIndexes.addLast(new QueryPathSegment(pathSegmentNameToArrayIndex.pathSegmentName(), currentIndexes));
-            });
-
-            rtx.moveTo(nodeKey);
-            if (rtx.isStringValue() || rtx.isNumberValue() || rtx.isBooleanValue() || rtx.isNullValue()) {
-              rtx.moveToParent();
-            }
+          rtx.moveTo(nodeKey);
+          if (rtx.isStringValue() || rtx.isNumberValue() || rtx.isBooleanValue() || rtx.isNullValue()) {
+            rtx.moveToParent();
+          }
 
-            final var pathNodeKey = rtx.getPathNodeKey();
-            pathSummary.moveTo(pathNodeKey);
-            final var path = pathSummary.getPath();
+          final var pathNodeKey = rtx.getPathNodeKey();
+          pathSummary.moveTo(pathNodeKey);
+          final var path = pathSummary.getPath();
 
-            if (checkPathBecauseOfFieldNameChecks) {
-              if (Paths.isPathNodeNotAQueryResult(pathSegmentNamesToArrayIndexes, pathSummary, pathNodeKey)) {
-                currNodeKeys.remove(nodeKey);
-                continue;
-              }
+          if (checkPathBecauseOfFieldNameChecks) {
+            if (Paths.isPathNodeNotAQueryResult(pathSegmentNamesToArrayIndexes, pathSummary, pathNodeKey)) {
+              currNodeKeys.remove(nodeKey);
+              continue;
             }
+          }
 
-            assert path != null;
-            final var steps = path.steps();
+          assert path != null;
+          final var steps = path.steps();
 
-            outer:
-            for (int i = steps.size() - 1; i >= 0; i--) {
-              final var step = steps.get(i);
+          outer:
+          for (int i = steps.size() - 1; i >= 0; i--) {
+            final var step = steps.get(i);
 
-              boolean moveToParent = true;
-              final int currentIndex = i;
+            boolean moveToParent = true;
+            final int currentIndex = i;
 
-              if (step.getAxis() == Path.Axis.CHILD_ARRAY) {
-                int j = i - 1;
-                // nested child arrays
-                while (j >= 0 && steps.get(j).getAxis() == Path.Axis.CHILD_ARRAY) {
-                  j--;
-                  i--;
-                }
+            if (step.getAxis() == Path.Axis.CHILD_ARRAY) {
+              int j = i - 1;
+              // nested child arrays
+              while (j >= 0 && steps.get(j).getAxis() == Path.Axis.CHILD_ARRAY) {
+                j--;
+                i--;
+              }
 
-                final Deque<Integer> tempIndexes;
+              final Deque<Integer> tempIndexes;
 
-                assert currentPathSegmentNamesToArrayIndexes.peekLast() != null;
-                tempIndexes = currentPathSegmentNamesToArrayIndexes.peekLast().arrayIndexes();
-                final Deque<Integer> indexes = tempIndexes == null ? null : new ArrayDeque<>(tempIndexes);
+              assert currentPathSegmentNamesToArrayIndexes.peekLast() != null;
+              tempIndexes = currentPathSegmentNamesToArrayIndexes.peekLast().arrayIndexes();
+              final Deque<Integer> indexes = tempIndexes == null ? null : new ArrayDeque<>(tempIndexes);
 
-                if (indexes == null) {
-                  // no array numberOfArrayIndexes given
-                  while (j < currentIndex) {
-                    j++;
-                    rtx.moveToParent();
-                  }
-                } else {
-                  // at least some array numberOfArrayIndexes are given for the specific object key node
-                  int y = 0;
-                  for (int m = 0, length = currentIndex - j - indexes.size(); m < length; m++) {
-                    // for instance =>foo[[0]]=>bar   in a path /foo/[]/[]/[]/bar meaning at least one index is not specified
-                    y++;
-                    rtx.moveToParent();
-                  }
-                  for (int l = currentIndex, length = j + y; l > length; l--) {
-                    // remaining with array numberOfArrayIndexes specified
-                    int index = indexes.pop();
-
-                    if (index != Integer.MIN_VALUE) {
-                      index = index < 0 ? (int) (rtx.getChildCount() + index) : index;
-                      if (currentIndex == steps.size() - 1) {
-                        boolean hasMoved = rtx.moveToFirstChild();
-                        int k = 0;
-                        for (; k <= index && hasMoved; k++) {
-                          hasMoved = rtx.moveToRightSibling();
-                        }
-                        if (k - 1 != index) {
-                          currNodeKeys.remove(nodeKey);
-                          break outer;
-                        }
-                      } else {
-                        boolean hasMoved = true;
-                        for (int k = 0; k < index && hasMoved; k++) {
-                          hasMoved = rtx.moveToLeftSibling();
-                        }
-                        if (!hasMoved || rtx.hasLeftSibling()) {
-                          currNodeKeys.remove(nodeKey);
-                          break outer;
-                        }
+              if (indexes == null) {
+                // no array numberOfArrayIndexes given
+                while (j < currentIndex) {
+                  j++;
+                  rtx.moveToParent();
+                }
+              } else {
+                // at least some array numberOfArrayIndexes are given for the specific object key node
+                int y = 0;
+                for (int m = 0, length = currentIndex - j - indexes.size(); m < length; m++) {
+                  // for instance =>foo[[0]]=>bar   in a path /foo/[]/[]/[]/bar meaning at least one index is not specified
+                  y++;
+                  rtx.moveToParent();
+                }
+                for (int l = currentIndex, length = j + y; l > length; l--) {
+                  // remaining with array numberOfArrayIndexes specified
+                  int index = indexes.pop();
+
+                  if (index != Integer.MIN_VALUE) {
+                    index = index < 0 ? (int) (rtx.getChildCount() + index) : index;
+                    if (currentIndex == steps.size() - 1) {
+                      boolean hasMoved = rtx.moveToFirstChild();
+                      int k = 0;
+                      for (; k <= index && hasMoved; k++) {
+                        hasMoved = rtx.moveToRightSibling();
+                      }
+                      if (k - 1 != index) {
+                        currNodeKeys.remove(nodeKey);
+                        break outer;
+                      }
+                    } else {
+                      boolean hasMoved = true;
+                      for (int k = 0; k < index && hasMoved; k++) {
+                        hasMoved = rtx.moveToLeftSibling();
+                      }
+                      if (!hasMoved || rtx.hasLeftSibling()) {
+                        currNodeKeys.remove(nodeKey);
+                        break outer;
                       }
-                    } else if (l == steps.size() - 1) {
-                      moveToParent = false;
                     }
-                    rtx.moveToParent();
+                  } else if (l == steps.size() - 1) {
+                    moveToParent = false;
                   }
+                  rtx.moveToParent();
                 }
-              } else {
-                currentPathSegmentNamesToArrayIndexes.removeLast();
               }
+            } else {
+              currentPathSegmentNamesToArrayIndexes.removeLast();
+            }
 
-              // if not the last step is an array unboxing
-              if (moveToParent) {
-                rtx.moveToParent();
-              }
+            // if not the last step is an array unboxing
+            if (moveToParent) {
+              rtx.moveToParent();
+            }
 
-              if (rtx.isObject() && i - 1 > 0 && steps.get(i - 1).getAxis() == Path.Axis.CHILD_OBJECT_FIELD) {
-                rtx.moveToParent();
-              }
+            if (rtx.isObject() && i - 1 > 0 && steps.get(i - 1).getAxis() == Path.Axis.CHILD_OBJECT_FIELD) {
+              rtx.moveToParent();
             }
           }
         }
-        nodeKeys.addAll(currNodeKeys);
-      });
+      }
+      return currNodeKeys;
     }
   }
 
+  /**
+   * Get the search mode of a CAS index lookup for a comparison.
+   *
+   * @param comparisonType the name of the comparison, for instance {@code "ValueCompGT"}
+   * @return the search mode
+   */
+  public static SearchMode getSearchMode(String comparisonType) {
+    return switch (comparisonType) {
+      case "ValueCompGT", "GeneralCompGT" -> SearchMode.GREATER;
+      case "ValueCompLT", "GeneralCompLT" -> SearchMode.LOWER;
+      case "ValueCompEQ", "GeneralCompEQ" -> SearchMode.EQUAL;
+      case "ValueCompGE", "GeneralCompGE" -> SearchMode.GREATER_OR_EQUAL;
+      case "ValueCompLE", "GeneralCompLE" -> SearchMode.LOWER_OR_EQUAL;
+      case null, default -> throw new IllegalStateException("Unexpected value: " + comparisonType);
+    };
+  }
+
   private long getNumberOfArrayIndexes(Deque<QueryPathSegment> pathSegmentNamesToArrayIndexes) {
     return pathSegmentNamesToArrayIndexes.stream()
                                          .map(QueryPathSegment::arrayIndexes)
@@ -0,0 +1,144 @@
+package io.sirix.query.compiler.expression;
+
+import io.brackit.query.QueryContext;
+import io.brackit.query.QueryException;
+import io.brackit.query.Tuple;
+import io.brackit.query.jdm.Expr;
+import io.brackit.query.jdm.Item;
+import io.brackit.query.jdm.Iter;
+import io.brackit.query.jdm.Sequence;
+import io.brackit.query.sequence.BaseIter;
+import io.brackit.query.sequence.LazySequence;
+import io.brackit.query.util.ExprUtil;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.query.SirixQueryContext;
+import io.sirix.query.json.JsonDBCollection;
+import io.sirix.query.json.JsonItemFactory;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Combines the matches of several index lookups, which filter the same context nodes, for instance
+ * the predicates of {@code $x[$$.a = 1 and $$.b > 5]}. The node keys of the matching context nodes
+ * are intersected (conjunction) or united (disjunction) as compressed bitmaps, before the items of
+ * the remaining nodes are materialized in node key order.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class IndexSetExpr implements Expr {
+
+  /**
+   * The set operation, which combines the matches of the index lookups.
+   */
+  public enum Operation {
+    /**
+     * The nodes, which are matched by all index lookups.
+     */
+    INTERSECTION,
+
+    /**
+     * The nodes, which are matched by any index lookup.
+     */
+    UNION
+  }
+
+  private final String databaseName;
+
+  private final String resourceName;
+
+  private final Integer revision;
+
+  private final Operation operation;
+
+  private final List<IndexExpr> indexExprs;
+
+  /**
+   * Constructor.
+   *
+   * @param properties the properties of the AST node
+   * @param indexExprs the index lookups to combine
+   */
+  public IndexSetExpr(final Map<String, Object> properties, final List<IndexExpr> indexExprs) {
+    requireNonNull(properties);
+    databaseName = (String) properties.get("databaseName");
+    resourceName = (String) properties.get("resourceName");
+    revision = (Integer) properties.get("revision");
+    operation = (Operation) requireNonNull(properties.get("operation"));
+    this.indexExprs = List.copyOf(indexExprs);
+  }
+
+  @Override
+  public Sequence evaluate(QueryContext ctx, Tuple tuple) throws QueryException {
+    Roaring64Bitmap nodeKeys = null;
+
+    for (final IndexExpr indexExpr : indexExprs) {
+      final Roaring64Bitmap matchingNodeKeys = indexExpr.evaluateToNodeKeys(ctx);
+
+      if (nodeKeys == null) {
+        nodeKeys = matchingNodeKeys;
+      } else if (operation == Operation.INTERSECTION) {
+        nodeKeys.and(matchingNodeKeys);
+      } else {
+        nodeKeys.or(matchingNodeKeys);
+      }
+
+      if (operation == Operation.INTERSECTION && nodeKeys.isEmpty()) {
+        // the remaining indexes can't add any matches
+        break;
+      }
+    }
+
+    final Roaring64Bitmap resultNodeKeys = nodeKeys == null ? new Roaring64Bitmap() : nodeKeys;
+
+    final var jsonItemStore = ((SirixQueryContext) ctx).getJsonItemStore();
+    final JsonDBCollection jsonCollection = jsonItemStore.lookup(databaseName);
+    final var manager = jsonCollection.getDatabase().beginResourceSession(resourceName);
+    final JsonNodeReadOnlyTrx rtx =
+        revision == -1 ? manager.beginNodeReadOnlyTrx() : manager.beginNodeReadOnlyTrx(revision);
+
+    return new LazySequence() {
+      @Override
+      public Iter iterate() {
+        return new BaseIter() {
+          private final JsonItemFactory jsonItemFactory = new JsonItemFactory();
+
+          private final LongIterator nodeKeysIterator = resultNodeKeys.getLongIterator();
+
+          @Override
+          public Item next() {
+            if (!nodeKeysIterator.hasNext()) {
+              return null;
+            }
+
+            rtx.moveTo(nodeKeysIterator.next());
+            return jsonItemFactory.getSequence(rtx, jsonCollection);
+          }
+
+          @Override
+          public void close() {
+          }
+        };
+      }
+    };
+  }
+
+  @Override
+  public Item evaluateToItem(QueryContext ctx, Tuple tuple) throws QueryException {
+    return ExprUtil.asItem(evaluate(ctx, tuple));
+  }
+
+  @Override
+  public boolean isUpdating() {
+    return false;
+  }
+
+  @Override
+  public boolean isVacuous() {
+    return false;
+  }
+}
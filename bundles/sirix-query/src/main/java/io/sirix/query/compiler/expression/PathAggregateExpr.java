@@ -0,0 +1,150 @@
+package io.sirix.query.compiler.expression;
+
+import io.brackit.query.QueryContext;
+import io.brackit.query.QueryException;
+import io.brackit.query.Tuple;
+import io.brackit.query.atomic.Bool;
+import io.brackit.query.atomic.Int64;
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.jdm.Expr;
+import io.brackit.query.jdm.Item;
+import io.brackit.query.jdm.Sequence;
+import io.sirix.index.path.summary.PathSummaryReader;
+import io.sirix.node.NodeKind;
+import io.sirix.query.SirixQueryContext;
+import io.sirix.query.compiler.optimizer.walker.json.Paths;
+import io.sirix.query.compiler.optimizer.walker.json.QueryPathSegment;
+import io.sirix.query.json.JsonDBCollection;
+
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Evaluates {@code fn:count}, {@code fn:exists} or {@code fn:empty} over a path of a JSON resource
+ * without materializing the items of the path. The number of nodes on the path is the sum of the
+ * reference counts of the matching path summary nodes, which are maintained during each commit. If
+ * the resource doesn't maintain a path summary, the original aggregate is evaluated.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class PathAggregateExpr implements Expr {
+
+  /**
+   * The aggregate function.
+   */
+  public enum Aggregate {
+    /**
+     * {@code fn:count}.
+     */
+    COUNT,
+
+    /**
+     * {@code fn:exists}.
+     */
+    EXISTS,
+
+    /**
+     * {@code fn:empty}.
+     */
+    EMPTY
+  }
+
+  private final String databaseName;
+
+  private final String resourceName;
+
+  private final Integer revision;
+
+  private final Aggregate aggregate;
+
+  private final Deque<QueryPathSegment> pathSegmentNamesToArrayIndexes;
+
+  private final Expr aggregateExpr;
+
+  /**
+   * Constructor.
+   *
+   * @param properties    the properties of the AST node
+   * @param aggregateExpr the original aggregate, which materializes the items of the path
+   */
+  @SuppressWarnings("unchecked")
+  public PathAggregateExpr(final Map<String, Object> properties, final Expr aggregateExpr) {
+    requireNonNull(properties);
+    databaseName = (String) properties.get("databaseName");
+    resourceName = (String) properties.get("resourceName");
+    revision = (Integer) properties.get("revision");
+    aggregate = (Aggregate) requireNonNull(properties.get("aggregate"));
+    pathSegmentNamesToArrayIndexes =
+        (Deque<QueryPathSegment>) requireNonNull(properties.get("pathSegmentNamesToArrayIndexes"));
+    this.aggregateExpr = requireNonNull(aggregateExpr);
+  }
+
+  @Override
+  public Sequence evaluate(QueryContext ctx, Tuple tuple) throws QueryException {
+    return evaluateToItem(ctx, tuple);
+  }
+
+  @Override
+  public Item evaluateToItem(QueryContext ctx, Tuple tuple) throws QueryException {
+    final var jsonItemStore = ((SirixQueryContext) ctx).getJsonItemStore();
+    final JsonDBCollection jsonCollection = jsonItemStore.lookup(databaseName);
+    final var manager = jsonCollection.getDatabase().beginResourceSession(resourceName);
+
+    if (!manager.getResourceConfig().withPathSummary) {
+      return aggregateExpr.evaluateToItem(ctx, tuple);
+    }
+
+    final long numberOfNodes;
+    try (final PathSummaryReader pathSummary = revision == -1
+        ? manager.openPathSummary()
+        : manager.openPathSummary(revision)) {
+      numberOfNodes = getNumberOfNodes(pathSummary);
+    }
+
+    return switch (aggregate) {
+      case COUNT -> new Int64(numberOfNodes);
+      case EXISTS -> numberOfNodes > 0 ? Bool.TRUE : Bool.FALSE;
+      case EMPTY -> numberOfNodes == 0 ? Bool.TRUE : Bool.FALSE;
+    };
+  }
+
+  private long getNumberOfNodes(final PathSummaryReader pathSummary) {
+    // path node keys of all paths, which have the right most field of the query in its path
+    final var queryPathSegment = pathSegmentNamesToArrayIndexes.getLast();
+    final BitSet pathNodeKeys = pathSummary.match(new QNm(queryPathSegment.pathSegmentName()), 0, NodeKind.OBJECT_KEY);
+
+    long numberOfNodes = 0;
+
+    for (int pathNodeKey = pathNodeKeys.nextSetBit(0); pathNodeKey >= 0;
+         pathNodeKey = pathNodeKeys.nextSetBit(pathNodeKey + 1)) {
+      if (Paths.isPathNodeNotAQueryResult(pathSegmentNamesToArrayIndexes, pathSummary, pathNodeKey)) {
+        continue;
+      }
+
+      final var pathNode = pathSummary.getPathNodeForPathNodeKey(pathNodeKey);
+
+      if (pathNode != null) {
+        numberOfNodes += pathNode.getReferences();
+
+        if (aggregate != Aggregate.COUNT && numberOfNodes > 0) {
+          break;
+        }
+      }
+    }
+
+    return numberOfNodes;
+  }
+
+  @Override
+  public boolean isUpdating() {
+    return false;
+  }
+
+  @Override
+  public boolean isVacuous() {
+    return false;
+  }
+}
@@ -2,6 +2,7 @@ package io.sirix.query.compiler.optimizer;
 
 import java.util.Map;
 
+import io.sirix.query.compiler.optimizer.walker.json.JsonAggregateStep;
 import io.sirix.query.compiler.optimizer.walker.json.JsonPathStep;
 import io.brackit.query.QueryException;
 import io.brackit.query.atomic.QNm;
@@ -19,10 +20,25 @@ public final class SirixOptimizer extends TopDownOptimizer {
 
   public SirixOptimizer(final Map<QNm, Str> options, final XmlDBStore nodeStore, final JsonDBStore jsonItemStore) {
     super(options);
+    // Answer aggregates over paths by the path summary, before the paths are matched against indexes.
+    getStages().add(new AggregatePushdown(jsonItemStore));
     // Perform index matching as last step.
     getStages().add(new IndexMatching(nodeStore, jsonItemStore));
   }
 
+  private static class AggregatePushdown implements Stage {
+    private final JsonDBStore jsonItemStore;
+
+    public AggregatePushdown(final JsonDBStore jsonItemStore) {
+      this.jsonItemStore = jsonItemStore;
+    }
+
+    @Override
+    public AST rewrite(StaticContext sctx, AST ast) throws QueryException {
+      return new JsonAggregateStep(jsonItemStore).walk(ast);
+    }
+  }
+
   private static class IndexMatching implements Stage {
     private final XmlDBStore xmlNodeStore;
 
@@ -93,11 +93,13 @@ abstract class AbstractJsonPathWalker extends ScopeWalker {
                                                  pathNodeKey))
                                              .toList();
 
+      final var pathNodeKeysWithQueryPathSegment = List.copyOf(pathNodeKeys);
+
       // remove path node keys which do not belong to the query result
       pathNodeKeys.removeIf(pathNodeKeysToRemove::contains);
 
       if (pathNodeKeys.isEmpty()) {
-        return replaceAstNodeWithEmptySequenceAstNode(astNode);
+        return replaceWithEmptySequence(astNode);
       }
 
       final var foundIndexDefsToPaths = new HashMap<IndexDef, List<Path<QNm>>>();
@@ -120,6 +122,26 @@ abstract class AbstractJsonPathWalker extends ScopeWalker {
                                                       foundIndexDefsToPredicateLevels);
 
       if (!notFound) {
+        final var costModel = new IndexCostModel(rtx.getDescendantCount());
+
+        if (costModel.isCostBased()) {
+          final var indexController = revisionData.revision() == -1
+              ? resMgr.getRtxIndexController(resMgr.getMostRecentRevisionNumber())
+              : resMgr.getRtxIndexController(revisionData.revision());
+          final long numberOfMatches = estimateNumberOfMatches(indexController,
+                                                               rtx,
+                                                               pathSummary,
+                                                               pathNodeKeysWithQueryPathSegment,
+                                                               pathNodeKeys,
+                                                               foundIndexDefsToPaths,
+                                                               costModel.getMaxNumberOfMatches());
+
+          if (!costModel.isIndexCheaper(numberOfMatches)) {
+            // scanning the document is cheaper
+            return null;
+          }
+        }
+
         return replaceFoundAST(astNode,
                                revisionData,
                                foundIndexDefsToPaths,
@@ -133,7 +155,7 @@ abstract class AbstractJsonPathWalker extends ScopeWalker {
   }
 
   @NotNull
-  private static AST replaceAstNodeWithEmptySequenceAstNode(AST astNode) {
+  AST replaceWithEmptySequence(AST astNode) {
     // no path node keys found: replace with empty sequence node
     final var parentASTNode = astNode.getParent();
     final var emptySequence = new AST(XQ.EmptySequenceType);
@@ -299,7 +321,27 @@ abstract class AbstractJsonPathWalker extends ScopeWalker {
   abstract Optional<IndexDef> findIndex(Path<QNm> pathToFoundNode,
       IndexController<JsonNodeReadOnlyTrx, JsonNodeTrx> indexController, Type type);
 
-  private boolean isDocumentNodeFunction(AST newChildNode) {
+  /**
+   * Estimate the number of nodes, which are matched by the found indexes. By default, these are all
+   * nodes on the paths of the query result.
+   *
+   * @param indexController                  the index controller
+   * @param rtx                              the read-only trx
+   * @param pathSummary                      the path summary
+   * @param pathNodeKeysWithQueryPathSegment the path node keys of all paths ending with the right most
+   *                                         path segment of the query
+   * @param pathNodeKeys                     the path node keys of the query result
+   * @param foundIndexDefsToPaths            the found indexes and their paths
+   * @param maxNumberOfMatches               the number of matches, after which the estimation may stop
+   * @return the estimated number of matches
+   */
+  long estimateNumberOfMatches(IndexController<JsonNodeReadOnlyTrx, JsonNodeTrx> indexController,
+      JsonNodeReadOnlyTrx rtx, PathSummaryReader pathSummary, List<Integer> pathNodeKeysWithQueryPathSegment,
+      List<Integer> pathNodeKeys, Map<IndexDef, List<Path<QNm>>> foundIndexDefsToPaths, long maxNumberOfMatches) {
+    return IndexCostModel.getNumberOfReferences(pathSummary, pathNodeKeys);
+  }
+
+  boolean isDocumentNodeFunction(AST newChildNode) {
     return new QNm(JSONFun.JSON_NSURI, JSONFun.JSON_PREFIX, "doc").equals(newChildNode.getValue())
         || new QNm(JSONFun.JSON_NSURI, JSONFun.JSON_PREFIX, "open").equals(newChildNode.getValue());
   }
@@ -18,6 +18,13 @@ final class ComparatorData {
     this.upperBoundAtomic = upperBoundAtomic;
   }
 
+  public void clear() {
+    comparator = null;
+    atomic = null;
+    upperBoundComparator = null;
+    upperBoundAtomic = null;
+  }
+
   public Atomic getUpperBoundAtomic() {
     return upperBoundAtomic;
   }
@@ -0,0 +1,104 @@
+package io.sirix.query.compiler.optimizer.walker.json;
+
+import io.brackit.query.util.Cfg;
+import io.sirix.index.path.summary.PathSummaryReader;
+
+import java.util.Collection;
+
+/**
+ * Decides, based on the statistics of a resource, if evaluating a path or a predicate with an index
+ * is cheaper than navigating the document.
+ *
+ * <p>
+ * A scan visits all nodes of the document sequentially, whereas an index lookup has to move to each
+ * matching node and to its ancestors, which is a random access. Thus, the index is only chosen, if
+ * the estimated number of matches times the cost of a random access is lower than the number of
+ * nodes. The number of matches is estimated from the reference counts of the path summary, which
+ * are maintained during each commit, or by probing a few entries of the index itself.
+ * </p>
+ *
+ * @author Johannes Lichtenberger
+ */
+final class IndexCostModel {
+
+  /**
+   * The number of nodes, from which on the cost model is applied. For smaller documents, a matching
+   * index is always used.
+   */
+  private static final int MIN_NODE_NUMBER = Cfg.asInt("org.sirix.xquery.optimize.cost.min.node.number", 1 << 14);
+
+  /**
+   * The cost of retrieving a node matched by an index relative to visiting a node during a scan.
+   */
+  private static final int INDEX_MATCH_COST = Cfg.asInt("org.sirix.xquery.optimize.cost.index.match", 4);
+
+  /**
+   * The maximum number of index entries (distinct keys), which are read to estimate the number of
+   * matches of a predicate, such that the estimation stays cheap.
+   */
+  static final int MAX_NUMBER_OF_PROBED_ENTRIES = Cfg.asInt("org.sirix.xquery.optimize.cost.probe.entries", 64);
+
+  /**
+   * The number of nodes of the document.
+   */
+  private final long numberOfNodes;
+
+  /**
+   * Constructor.
+   *
+   * @param numberOfNodes the number of nodes of the document (the cost of a scan)
+   */
+  IndexCostModel(final long numberOfNodes) {
+    this.numberOfNodes = numberOfNodes;
+  }
+
+  /**
+   * Determines if the costs have to be estimated, or if a matching index is always used.
+   *
+   * @return {@code true}, if the costs have to be estimated, {@code false} otherwise
+   */
+  boolean isCostBased() {
+    return numberOfNodes >= MIN_NODE_NUMBER;
+  }
+
+  /**
+   * Get the number of matches, from which on a scan is cheaper than the index. Estimations of the
+   * number of matches may stop counting once this number has been reached.
+   *
+   * @return the maximum number of matches
+   */
+  long getMaxNumberOfMatches() {
+    return numberOfNodes / INDEX_MATCH_COST;
+  }
+
+  /**
+   * Determines if the index is cheaper than a scan.
+   *
+   * @param numberOfMatches the estimated number of matches of the index
+   * @return {@code true}, if the index is cheaper, {@code false} otherwise
+   */
+  boolean isIndexCheaper(final long numberOfMatches) {
+    return !isCostBased() || numberOfMatches < getMaxNumberOfMatches();
+  }
+
+  /**
+   * Get the number of nodes on the given paths.
+   *
+   * @param pathSummary  the path summary
+   * @param pathNodeKeys the keys of the path nodes
+   * @return the number of nodes
+   */
+  static long getNumberOfReferences(final PathSummaryReader pathSummary, final Collection<Integer> pathNodeKeys) {
+    long numberOfReferences = 0;
+
+    for (final int pathNodeKey : pathNodeKeys) {
+      final var pathNode = pathSummary.getPathNodeForPathNodeKey(pathNodeKey);
+
+      if (pathNode != null) {
+        numberOfReferences += pathNode.getReferences();
+      }
+    }
+
+    return numberOfReferences;
+  }
+}
@@ -0,0 +1,157 @@
+package io.sirix.query.compiler.optimizer.walker.json;
+
+import io.brackit.query.atomic.QNm;
+import io.brackit.query.atomic.Str;
+import io.brackit.query.compiler.AST;
+import io.brackit.query.compiler.XQ;
+import io.brackit.query.jdm.Type;
+import io.brackit.query.module.Namespaces;
+import io.brackit.query.util.path.Path;
+import io.sirix.access.trx.node.IndexController;
+import io.sirix.api.json.JsonNodeReadOnlyTrx;
+import io.sirix.api.json.JsonNodeTrx;
+import io.sirix.index.IndexDef;
+import io.sirix.query.compiler.XQExt;
+import io.sirix.query.compiler.expression.PathAggregateExpr;
+import io.sirix.query.json.JsonDBStore;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Rewrites {@code fn:count}, {@code fn:exists} and {@code fn:empty} over a path of a JSON resource,
+ * for instance {@code count(jn:doc('db','resource').events[].type)}, into a {@link PathAggregateExpr},
+ * which reads the number of nodes on the path from the path summary instead of materializing them.
+ *
+ * @author Johannes Lichtenberger
+ */
+public final class JsonAggregateStep extends AbstractJsonPathWalker {
+
+  private static final QNm COUNT = new QNm(Namespaces.FN_NSURI, Namespaces.FN_PREFIX, "count");
+
+  private static final QNm EXISTS = new QNm(Namespaces.FN_NSURI, Namespaces.FN_PREFIX, "exists");
+
+  private static final QNm EMPTY = new QNm(Namespaces.FN_NSURI, Namespaces.FN_PREFIX, "empty");
+
+  public JsonAggregateStep(final JsonDBStore jsonDBStore) {
+    super(jsonDBStore);
+  }
+
+  @Override
+  protected AST visit(AST astNode) {
+    if (astNode.getType() != XQ.FunctionCall || astNode.getChildCount() != 1
+        || astNode.getParent().getType() == XQExt.PathAggregateExpr) {
+      return astNode;
+    }
+
+    final PathAggregateExpr.Aggregate aggregate = getAggregate(astNode.getValue());
+
+    if (aggregate == null) {
+      return astNode;
+    }
+
+    // the right most step has to be an object field, otherwise its items aren't nodes on a path
+    final var pathAstNode = astNode.getChild(0);
+
+    if (pathAstNode.getType() != XQ.DerefExpr) {
+      return astNode;
+    }
+
+    final var firstChildNode = pathAstNode.getChild(0);
+
+    if (!(firstChildNode.getType() == XQ.DerefExpr || firstChildNode.getType() == XQ.ArrayAccess
+        || firstChildNode.getType() == XQ.FunctionCall)) {
+      return astNode;
+    }
+
+    final var pathData = traversePath(pathAstNode, null);
+
+    if (pathData == null || pathData.node() == null || pathData.pathSegmentNamesToArrayIndexes().size() <= 1) {
+      return astNode;
+    }
+
+    final var documentNode = pathData.node();
+
+    if (!isDocumentNodeFunction(documentNode) || !isMostRecentRevisionOfLiteralResource(documentNode)) {
+      return astNode;
+    }
+
+    final var pathSegmentNamesToArrayIndexes = pathData.pathSegmentNamesToArrayIndexes();
+
+    if (!pathSegmentNamesToArrayIndexes.getLast().arrayIndexes().isEmpty()
+        || !areAllArrayMembersSelected(pathSegmentNamesToArrayIndexes)) {
+      return astNode;
+    }
+
+    final var aggregateExpr = new AST(XQExt.PathAggregateExpr, XQExt.toName(XQExt.PathAggregateExpr));
+    aggregateExpr.setProperty("aggregate", aggregate);
+    aggregateExpr.setProperty("databaseName", documentNode.getChild(0).getStringValue());
+    aggregateExpr.setProperty("resourceName", documentNode.getChild(1).getStringValue());
+    aggregateExpr.setProperty("revision", -1);
+    aggregateExpr.setProperty("pathSegmentNamesToArrayIndexes", pathSegmentNamesToArrayIndexes);
+
+    astNode.getParent().replaceChild(astNode.getChildIndex(), aggregateExpr);
+    // evaluated instead, if the resource doesn't maintain a path summary
+    aggregateExpr.addChild(astNode);
+
+    return aggregateExpr;
+  }
+
+  private static PathAggregateExpr.Aggregate getAggregate(Object functionName) {
+    if (COUNT.equals(functionName)) {
+      return PathAggregateExpr.Aggregate.COUNT;
+    } else if (EXISTS.equals(functionName)) {
+      return PathAggregateExpr.Aggregate.EXISTS;
+    } else if (EMPTY.equals(functionName)) {
+      return PathAggregateExpr.Aggregate.EMPTY;
+    }
+    return null;
+  }
+
+  private static boolean isMostRecentRevisionOfLiteralResource(AST documentNode) {
+    return documentNode.getChildCount() == 2 && documentNode.getChild(0).getValue() instanceof Str
+        && documentNode.getChild(1).getValue() instanceof Str;
+  }
+
+  /**
+   * Determines if all members of the arrays on the path are selected ({@code []}), such that each
+   * node on the path is a query result. Positional array accesses are evaluated by navigation.
+   */
+  private static boolean areAllArrayMembersSelected(Deque<QueryPathSegment> pathSegmentNamesToArrayIndexes) {
+    for (final QueryPathSegment queryPathSegment : pathSegmentNamesToArrayIndexes) {
+      if (queryPathSegment.pathSegmentName() == null) {
+        return false;
+      }
+
+      for (final int arrayIndex : queryPathSegment.arrayIndexes()) {
+        if (arrayIndex != Integer.MIN_VALUE) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  int getPredicateLevel(Path<QNm> pathToFoundNode, Deque<String> predicateSegmentNames) {
+    // predicates aren't pushed down
+    return 0;
+  }
+
+  @Override
+  AST replaceFoundAST(AST astNode, RevisionData revisionData, Map<IndexDef, List<Path<QNm>>> foundIndexDefs,
+      Map<IndexDef, Integer> predicateLevels, Deque<QueryPathSegment> pathSegmentNamesToArrayIndexes,
+      AST predicateLeafNode) {
+    // aggregates are answered by the path summary, not by an index
+    return astNode;
+  }
+
+  @Override
+  Optional<IndexDef> findIndex(Path<QNm> pathToFoundNode,
+      IndexController<JsonNodeReadOnlyTrx, JsonNodeTrx> indexController, Type type) {
+    return Optional.empty();
+  }
+}
@@ -14,6 +14,14 @@ import io.sirix.access.trx.node.IndexController;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
 import io.sirix.api.json.JsonNodeTrx;
 import io.sirix.index.IndexDef;
+import io.sirix.index.SearchMode;
+import io.sirix.index.cas.CASFilter;
+import io.sirix.index.cas.CASFilterRange;
+import io.sirix.index.path.json.JsonPCRCollector;
+import io.sirix.index.path.summary.PathSummaryReader;
+import io.sirix.index.redblacktree.keyvalue.NodeReferences;
+import io.sirix.query.compiler.expression.IndexExpr;
+import io.sirix.query.compiler.expression.IndexSetExpr;
 
 import java.util.*;
 
@@ -23,6 +31,12 @@ public final class JsonCASStep extends AbstractJsonPathWalker {
 
   private Deque<QueryPathSegment> pathSegmentNamesToArrayIndexes;
 
+  /**
+   * The index expressions of the operands of a conjunctive or disjunctive predicate, which are
+   * collected instead of replacing the filter expression (or {@code null}).
+   */
+  private List<AST> operandIndexExprs;
+
   public JsonCASStep(final JsonDBStore jsonDBStore) {
     super(jsonDBStore);
     comparatorData = new ComparatorData();
@@ -90,6 +104,11 @@ public final class JsonCASStep extends AbstractJsonPathWalker {
                                                                          Bits.BIT_PREFIX,
                                                                          "array-values").equals(parent.getValue()));
 
+    if (operandIndexExprs != null) {
+      operandIndexExprs.add(indexExpr);
+      return indexExpr;
+    }
+
     if (parent.getType() == XQ.FilterExpr) {
       parent.getParent().replaceChild(parent.getChildIndex(), indexExpr);
     } else {
@@ -100,6 +119,17 @@ public final class JsonCASStep extends AbstractJsonPathWalker {
     return indexExpr;
   }
 
+  @Override
+  AST replaceWithEmptySequence(AST astNode) {
+    if (operandIndexExprs != null) {
+      final var emptySequence = new AST(XQ.EmptySequenceType);
+      operandIndexExprs.add(emptySequence);
+      return emptySequence;
+    }
+
+    return super.replaceWithEmptySequence(astNode);
+  }
+
   private boolean checkIfDifferentPathsAreCompared(Deque<QueryPathSegment> pathSegmentNamesToArrayIndexes) {
     return !(this.pathSegmentNamesToArrayIndexes.equals(pathSegmentNamesToArrayIndexes));
   }
@@ -110,6 +140,93 @@ public final class JsonCASStep extends AbstractJsonPathWalker {
     return indexController.getIndexes().findCASIndex(pathToFoundNode, type);
   }
 
+  @Override
+  long estimateNumberOfMatches(IndexController<JsonNodeReadOnlyTrx, JsonNodeTrx> indexController,
+      JsonNodeReadOnlyTrx rtx, PathSummaryReader pathSummary, List<Integer> pathNodeKeysWithQueryPathSegment,
+      List<Integer> pathNodeKeys, Map<IndexDef, List<Path<QNm>>> foundIndexDefsToPaths, long maxNumberOfMatches) {
+    final long numberOfNodesOnPaths = super.estimateNumberOfMatches(indexController,
+                                                                    rtx,
+                                                                    pathSummary,
+                                                                    pathNodeKeysWithQueryPathSegment,
+                                                                    pathNodeKeys,
+                                                                    foundIndexDefsToPaths,
+                                                                    maxNumberOfMatches);
+
+    if (numberOfNodesOnPaths < maxNumberOfMatches) {
+      // even if all values match, the index is cheaper
+      return numberOfNodesOnPaths;
+    }
+
+    // probe the selectivity of the predicate by reading a bounded number of index entries (distinct
+    // keys): if the predicate matches only a few keys, the number of matches is exact, otherwise it's
+    // unknown without value statistics and all nodes on the paths are assumed to match
+    long numberOfMatches = 0;
+    int numberOfEntries = 0;
+
+    for (final var entry : foundIndexDefsToPaths.entrySet()) {
+      final Iterator<NodeReferences> nodeReferences = openCASIndex(indexController, rtx, entry);
+
+      if (nodeReferences == null) {
+        return numberOfNodesOnPaths;
+      }
+
+      while (nodeReferences.hasNext()) {
+        if (numberOfMatches >= maxNumberOfMatches) {
+          // a scan is cheaper
+          return numberOfMatches;
+        }
+
+        if (numberOfEntries == IndexCostModel.MAX_NUMBER_OF_PROBED_ENTRIES) {
+          return numberOfNodesOnPaths;
+        }
+
+        numberOfMatches += nodeReferences.next().getNodeKeys().getLongCardinality();
+        numberOfEntries++;
+      }
+    }
+
+    return numberOfMatches;
+  }
+
+  private Iterator<NodeReferences> openCASIndex(IndexController<JsonNodeReadOnlyTrx, JsonNodeTrx> indexController,
+      JsonNodeReadOnlyTrx rtx, Map.Entry<IndexDef, List<Path<QNm>>> entry) {
+    final var atomic = comparatorData.getAtomic();
+    final var comparator = comparatorData.getComparator();
+
+    if (atomic == null || comparator == null) {
+      return null;
+    }
+
+    final SearchMode searchMode = IndexExpr.getSearchMode(comparator);
+    final var upperBoundAtomic = comparatorData.getUpperBoundAtomic();
+    final var upperBoundComparator = comparatorData.getUpperBoundComparator();
+
+    if (upperBoundAtomic != null && upperBoundComparator != null) {
+      final SearchMode upperBoundSearchMode = IndexExpr.getSearchMode(upperBoundComparator);
+
+      if ((searchMode != SearchMode.GREATER && searchMode != SearchMode.GREATER_OR_EQUAL) || (
+          upperBoundSearchMode != SearchMode.LOWER && upperBoundSearchMode != SearchMode.LOWER_OR_EQUAL)) {
+        return null;
+      }
+
+      return indexController.openCASIndex(rtx.getPageTrx(),
+                                          entry.getKey(),
+                                          new CASFilterRange(new HashSet<>(entry.getValue()),
+                                                             atomic,
+                                                             upperBoundAtomic,
+                                                             searchMode == SearchMode.GREATER_OR_EQUAL,
+                                                             upperBoundSearchMode == SearchMode.LOWER_OR_EQUAL,
+                                                             new JsonPCRCollector(rtx)));
+    }
+
+    return indexController.openCASIndex(rtx.getPageTrx(),
+                                        entry.getKey(),
+                                        new CASFilter(new HashSet<>(entry.getValue()),
+                                                      atomic,
+                                                      searchMode,
+                                                      new JsonPCRCollector(rtx)));
+  }
+
   @Override
   public Optional<AST> getPredicatePathStep(AST node, Deque<QueryPathSegment> predicatePathSegmentsToArrayIndexes) {
     for (int i = 0, length = node.getChildCount(); i < length; i++) {
@@ -196,7 +313,7 @@ public final class JsonCASStep extends AbstractJsonPathWalker {
 
     final var predicateChildAstNode = predicateAstNode.getChild(0);
 
-    if (predicateChildAstNode.getType() == XQ.AndExpr) {
+    if (predicateChildAstNode.getType() == XQ.AndExpr && isRangeComparison(predicateChildAstNode)) {
       processPredicateChildAstNode(astNode, leftChild, predicateChildAstNode.getChild(0), true, false);
 
       final var comparator = comparatorData.getComparator();
@@ -218,9 +335,146 @@ public final class JsonCASStep extends AbstractJsonPathWalker {
 
     }
 
+    if (predicateChildAstNode.getType() == XQ.AndExpr || predicateChildAstNode.getType() == XQ.OrExpr) {
+      return replaceWithIndexSetExprIfApplicable(astNode, leftChild, predicateChildAstNode);
+    }
+
     return processPredicateChildAstNode(astNode, leftChild, predicateChildAstNode, false, true);
   }
 
+  /**
+   * Determines if a conjunction compares the same path with a lower and an upper bound, which is
+   * looked up as a range in a single CAS index.
+   */
+  private static boolean isRangeComparison(AST andExpr) {
+    final var lowerBoundComparison = andExpr.getChild(0);
+    final var upperBoundComparison = andExpr.getChild(1);
+
+    if (lowerBoundComparison.getChildCount() != 3 || upperBoundComparison.getChildCount() != 3) {
+      return false;
+    }
+
+    final var lowerBoundComparator = lowerBoundComparison.getChild(0).getStringValue();
+    final var upperBoundComparator = upperBoundComparison.getChild(0).getStringValue();
+
+    return ("ValueCompGT".equals(lowerBoundComparator) || "GeneralCompGT".equals(lowerBoundComparator)
+        || "ValueCompGE".equals(lowerBoundComparator) || "GeneralCompGE".equals(lowerBoundComparator)) && (
+        "ValueCompLT".equals(upperBoundComparator) || "GeneralCompLT".equals(upperBoundComparator)
+            || "ValueCompLE".equals(upperBoundComparator) || "GeneralCompLE".equals(upperBoundComparator))
+        && isSameTree(lowerBoundComparison.getChild(1), upperBoundComparison.getChild(1));
+  }
+
+  private static boolean isSameTree(AST first, AST second) {
+    if (first.getType() != second.getType() || !Objects.equals(first.getValue(), second.getValue())
+        || first.getChildCount() != second.getChildCount()) {
+      return false;
+    }
+
+    for (int i = 0, length = first.getChildCount(); i < length; i++) {
+      if (!isSameTree(first.getChild(i), second.getChild(i))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Replace a filter expression with a conjunctive or disjunctive predicate on different paths by an
+   * index set expression, which intersects or unites the matches of a CAS index lookup per operand.
+   * The operands of a conjunction, which can't be answered by an index, are kept as a filter on top
+   * of the index lookups.
+   *
+   * @param astNode               the filter expression
+   * @param leftChild             the filtered expression
+   * @param predicateChildAstNode the {@code and} or {@code or} expression
+   * @return the replacement, or the filter expression, if no operand of a conjunction or not every
+   *         operand of a disjunction is answered by an index
+   */
+  private AST replaceWithIndexSetExprIfApplicable(AST astNode, AST leftChild, AST predicateChildAstNode) {
+    final boolean isConjunction = predicateChildAstNode.getType() == XQ.AndExpr;
+    final var indexExprs = new ArrayList<AST>();
+    final var remainingOperands = new ArrayList<AST>();
+    operandIndexExprs = indexExprs;
+
+    try {
+      for (int i = 0, length = predicateChildAstNode.getChildCount(); i < length; i++) {
+        final int numberOfIndexExprs = indexExprs.size();
+        final var operand = predicateChildAstNode.getChild(i);
+
+        processPredicateChildAstNode(astNode, leftChild, operand, false, true);
+
+        if (indexExprs.size() == numberOfIndexExprs) {
+          // the operand can't be answered by an index (or a scan is cheaper)
+          if (!isConjunction) {
+            return astNode;
+          }
+          remainingOperands.add(operand);
+        }
+      }
+    } finally {
+      operandIndexExprs = null;
+    }
+
+    if (remainingOperands.size() == predicateChildAstNode.getChildCount()) {
+      return astNode;
+    }
+
+    final boolean hasEmptyOperand = indexExprs.removeIf(indexExpr -> indexExpr.getType() == XQ.EmptySequenceType);
+
+    final AST replacement;
+
+    if ((isConjunction && hasEmptyOperand) || indexExprs.isEmpty()) {
+      replacement = new AST(XQ.EmptySequenceType);
+    } else {
+      final AST indexLookup;
+
+      if (indexExprs.size() == 1) {
+        indexLookup = indexExprs.get(0);
+      } else {
+        final var firstIndexExpr = indexExprs.get(0);
+        indexLookup = new AST(XQExt.IndexSetExpr, XQExt.toName(XQExt.IndexSetExpr));
+        indexLookup.setProperty("operation",
+                                isConjunction ? IndexSetExpr.Operation.INTERSECTION : IndexSetExpr.Operation.UNION);
+        indexLookup.setProperty("databaseName", firstIndexExpr.getProperty("databaseName"));
+        indexLookup.setProperty("resourceName", firstIndexExpr.getProperty("resourceName"));
+        indexLookup.setProperty("revision", firstIndexExpr.getProperty("revision"));
+        indexExprs.forEach(indexLookup::addChild);
+      }
+
+      replacement = remainingOperands.isEmpty() ? indexLookup : createFilterExpr(indexLookup, remainingOperands);
+    }
+
+    astNode.getParent().replaceChild(astNode.getChildIndex(), replacement);
+
+    return replacement;
+  }
+
+  /**
+   * Create a filter expression, which filters the matches of the index lookups by the operands of a
+   * conjunction, which can't be answered by an index.
+   *
+   * @param indexLookup       the index lookups
+   * @param remainingOperands the remaining operands
+   * @return the filter expression
+   */
+  private static AST createFilterExpr(AST indexLookup, List<AST> remainingOperands) {
+    final var predicate = new AST(XQ.Predicate);
+
+    if (remainingOperands.size() == 1) {
+      predicate.addChild(remainingOperands.get(0).copyTree());
+    } else {
+      final var andExpr = new AST(XQ.AndExpr);
+      remainingOperands.forEach(operand -> andExpr.addChild(operand.copyTree()));
+      predicate.addChild(andExpr);
+    }
+
+    final var filterExpr = new AST(XQ.FilterExpr);
+    filterExpr.addChild(indexLookup);
+    filterExpr.addChild(predicate);
+    return filterExpr;
+  }
+
   private AST processPredicateChildAstNode(AST astNode, AST leftChild, AST predicateChildAstNode,
       boolean firstInAndComparison, boolean noAndComparison) {
     if (predicateChildAstNode.getChildCount() != 3) {
@@ -240,6 +494,10 @@ public final class JsonCASStep extends AbstractJsonPathWalker {
 
     final var atomicType = atomic.type();
 
+    if (noAndComparison) {
+      comparatorData.clear();
+    }
+
     if (firstInAndComparison || noAndComparison) {
       comparatorData.setAtomic(atomic);
       comparatorData.setComparator(comparator);
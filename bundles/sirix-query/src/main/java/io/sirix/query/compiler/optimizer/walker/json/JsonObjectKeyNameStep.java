@@ -12,6 +12,7 @@ import io.sirix.api.json.JsonNodeReadOnlyTrx;
 import io.sirix.api.json.JsonNodeTrx;
 import io.sirix.index.IndexDef;
 import io.sirix.index.IndexType;
+import io.sirix.index.path.summary.PathSummaryReader;
 
 import java.util.Deque;
 import java.util.List;
@@ -50,6 +51,14 @@ public class JsonObjectKeyNameStep extends AbstractJsonPathWalker {
     return indexController.getIndexes().findNameIndex(pathToFoundNode.tail());
   }
 
+  @Override
+  long estimateNumberOfMatches(IndexController<JsonNodeReadOnlyTrx, JsonNodeTrx> indexController,
+      JsonNodeReadOnlyTrx rtx, PathSummaryReader pathSummary, List<Integer> pathNodeKeysWithQueryPathSegment,
+      List<Integer> pathNodeKeys, Map<IndexDef, List<Path<QNm>>> foundIndexDefsToPaths, long maxNumberOfMatches) {
+    // the name index references all object keys with the name, regardless of their path
+    return IndexCostModel.getNumberOfReferences(pathSummary, pathNodeKeysWithQueryPathSegment);
+  }
+
   @Override
   AST replaceFoundAST(AST astNode, RevisionData revisionData, Map<IndexDef, List<Path<QNm>>> foundIndexDefs,
       Map<IndexDef, Integer> predicateLevels, Deque<QueryPathSegment> pathSegmentNamesToArrayIndexes, AST predicateLeafNode) {
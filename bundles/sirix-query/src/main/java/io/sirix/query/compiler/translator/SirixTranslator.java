@@ -12,6 +12,8 @@ import io.sirix.exception.SirixException;
 import io.sirix.index.path.summary.PathSummaryReader;
 import io.sirix.query.compiler.XQExt;
 import io.sirix.query.compiler.expression.IndexExpr;
+import io.sirix.query.compiler.expression.IndexSetExpr;
+import io.sirix.query.compiler.expression.PathAggregateExpr;
 import io.sirix.query.node.XmlDBNode;
 import io.sirix.query.stream.node.SirixNodeStream;
 import io.sirix.query.stream.node.TemporalSirixNodeStream;
@@ -72,6 +74,10 @@ public final class SirixTranslator extends TopDownTranslator {
   protected Expr anyExpr(AST node) throws QueryException {
     if (node.getType() == XQExt.IndexExpr) {
       return indexExpr(node);
+    } else if (node.getType() == XQExt.IndexSetExpr) {
+      return indexSetExpr(node);
+    } else if (node.getType() == XQExt.PathAggregateExpr) {
+      return new PathAggregateExpr(node.getProperties(), expr(node.getChild(0), true));
     } else if (node.getType() == XQ.DerefDescendantExpr) {
       return derefDescendantExpr(node);
     }
@@ -88,6 +94,14 @@ public final class SirixTranslator extends TopDownTranslator {
     return new IndexExpr(node.getProperties());
   }
 
+  private Expr indexSetExpr(AST node) {
+    final var indexExprs = new ArrayList<IndexExpr>(node.getChildCount());
+    for (int i = 0; i < node.getChildCount(); i++) {
+      indexExprs.add(new IndexExpr(node.getChild(i).getProperties()));
+    }
+    return new IndexSetExpr(node.getProperties(), indexExprs);
+  }
+
   @Override
   protected Accessor axis(final AST node) {
     if (!OPTIMIZE) {
@@ -8,20 +8,16 @@ import io.brackit.query.jdm.Sequence;
 import io.brackit.query.jdm.Signature;
 import io.brackit.query.module.StaticContext;
 import io.brackit.query.sequence.ItemSequence;
-import io.sirix.api.NodeReadOnlyTrx;
 import io.sirix.api.json.JsonNodeReadOnlyTrx;
 import io.sirix.api.xml.XmlNodeReadOnlyTrx;
-import io.sirix.index.IndexType;
-import io.sirix.node.RevisionReferencesNode;
+import io.sirix.axis.temporal.HistoryAxis;
 import io.sirix.query.StructuredDBItem;
 import io.sirix.query.function.sdb.SDBFun;
 import io.sirix.query.json.JsonDBItem;
 import io.sirix.query.json.JsonItemFactory;
 import io.sirix.query.node.XmlDBNode;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.List;
 
 /**
@@ -55,61 +51,19 @@ public final class ItemHistory extends AbstractFunction {
   @Override
   public Sequence execute(final StaticContext sctx, final QueryContext ctx, final Sequence[] args) {
     final StructuredDBItem<?> item = ((StructuredDBItem<?>) args[0]);
-    final NodeReadOnlyTrx rtx = item.getTrx();
+    final List<Item> sequences = new ArrayList<>();
 
-    final var resMgr = rtx.getResourceSession();
-    final NodeReadOnlyTrx rtxInMostRecentRevision = resMgr.beginNodeReadOnlyTrx();
-
-    final RevisionReferencesNode node =
-        rtxInMostRecentRevision.getPageTrx().getRecord(item.getNodeKey(), IndexType.RECORD_TO_REVISIONS, 0);
-
-    if (node == null) {
-      final Deque<Item> sequences = new ArrayDeque<>();
-      final var resourceSession = item.getTrx().getResourceSession();
-      int revision = resourceSession.getMostRecentRevisionNumber();
-      while (revision > 0) {
-        final NodeReadOnlyTrx rtxInRevision = resMgr.beginNodeReadOnlyTrx(revision);
-        if (rtxInRevision.moveTo(item.getNodeKey())) {
-          if (rtxInRevision instanceof XmlNodeReadOnlyTrx) {
-            assert item instanceof XmlDBNode;
-            final var xmlDBNode = new XmlDBNode((XmlNodeReadOnlyTrx) rtxInRevision, ((XmlDBNode) item).getCollection());
-            sequences.addFirst(xmlDBNode);
-          } else if (rtxInRevision instanceof JsonNodeReadOnlyTrx trx) {
-            assert item instanceof JsonDBItem;
-            final var jsonItem = new JsonItemFactory().getSequence(trx, ((JsonDBItem) item).getCollection());
-            sequences.addFirst(jsonItem);
-          }
-          revision = rtxInRevision.getPreviousRevisionNumber();
-        } else {
-          rtxInRevision.close();
-          revision--;
-        }
-      }
-
-      return new ItemSequence(sequences.toArray(new Item[0]));
-    } else {
-      final int[] revisions = node.getRevisions();
-      final List<Item> sequences = new ArrayList<>(revisions.length);
-
-      for (final int revision : revisions) {
-        final NodeReadOnlyTrx rtxInRevision = resMgr.beginNodeReadOnlyTrx(revision);
-
-        if (rtxInRevision.moveTo(item.getNodeKey())) {
-          if (rtxInRevision instanceof XmlNodeReadOnlyTrx) {
-            assert item instanceof XmlDBNode;
-            sequences.add(new XmlDBNode((XmlNodeReadOnlyTrx) rtxInRevision, ((XmlDBNode) item).getCollection()));
-          } else if (rtxInRevision instanceof JsonNodeReadOnlyTrx) {
-            assert item instanceof JsonDBItem;
-            final JsonDBItem jsonItem = (JsonDBItem) item;
-            sequences.add(new JsonItemFactory().getSequence((JsonNodeReadOnlyTrx) rtxInRevision,
-                                                            jsonItem.getCollection()));
-          }
-        } else {
-          sequences.add(null);
-        }
-      }
-
-      return new ItemSequence(sequences.toArray(new Item[0]));
+    if (item instanceof XmlDBNode xmlDBNode) {
+      final XmlNodeReadOnlyTrx rtx = xmlDBNode.getTrx();
+      new HistoryAxis<>(rtx.getResourceSession(), rtx).forEachRemaining(
+          rtxInRevision -> sequences.add(new XmlDBNode(rtxInRevision, xmlDBNode.getCollection())));
+    } else if (item instanceof JsonDBItem jsonItem) {
+      final JsonNodeReadOnlyTrx rtx = (JsonNodeReadOnlyTrx) item.getTrx();
+      final var itemFactory = new JsonItemFactory();
+      new HistoryAxis<>(rtx.getResourceSession(), rtx).forEachRemaining(
+          rtxInRevision -> sequences.add(itemFactory.getSequence(rtxInRevision, jsonItem.getCollection())));
     }
+
+    return new ItemSequence(sequences.toArray(new Item[0]));
   }
 }
@@ -52,7 +52,16 @@ public final class SirixJsonStream implements Stream<Item> {
   }
 
   @Override
-  public void close() {}
+  public void close() {
+    // Stop the producers of a concurrent axis, if the stream isn't consumed till the end.
+    if (axis instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      } catch (final Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
 
   @Override
   public String toString() {
@@ -1,11 +1,32 @@
 package io.sirix.query;
 
+import io.brackit.query.Query;
+import io.brackit.query.jdm.Expr;
+import io.brackit.query.module.MainModule;
+import io.sirix.JsonTestHelper;
+import io.sirix.query.compiler.expression.IndexExpr;
+import io.sirix.query.compiler.expression.IndexSetExpr;
+import io.sirix.query.compiler.expression.PathAggregateExpr;
+import io.sirix.query.json.BasicJsonDBStore;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public final class JsonIntegrationTest extends AbstractJsonTest {
 
@@ -755,6 +776,114 @@ public final class JsonIntegrationTest extends AbstractJsonTest {
     test(storeQuery, indexQuery, openQuery, "{\"boolean\":5,\"nodekey\":10}");
   }
 
+  // CAS index, of which only the first match is consumed.
+  @Test
+  public void testNestingFirstMatch() throws IOException {
+    final String storeQuery =
+        "jn:store('json-path1','mydoc.jn','[{\"value\":[{\"key\":{\"boolean\":5}},{\"key\":{\"boolean\":7}},{\"key\":{\"boolean\":9}}]}]')";
+    final String indexQuery =
+        "let $doc := jn:doc('json-path1','mydoc.jn') let $stats := jn:create-cas-index($doc, 'xs:integer', '/[]/value/[]/key/boolean') return {\"revision\": sdb:commit($doc)}";
+    final String openQuery =
+        "let $result := jn:doc('json-path1','mydoc.jn')[[0]].value[].key[$$.boolean gt 3] return $result[1]";
+    test(storeQuery, indexQuery, openQuery, "{\"boolean\":5}");
+  }
+
+  // CAS index, intersection of the matches of two paths.
+  @Test
+  public void testNestingIndexIntersection() throws IOException {
+    final String storeQuery =
+        "jn:store('json-path1','mydoc.jn','{\"value\":[{\"key\":{\"a\":1,\"b\":7}},{\"key\":{\"a\":1,\"b\":3}},{\"key\":{\"a\":2,\"b\":9}}]}')";
+    final String indexQuery =
+        "let $doc := jn:doc('json-path1','mydoc.jn') let $stats := jn:create-cas-index($doc, 'xs:integer', ('/value/[]/key/a','/value/[]/key/b')) return {\"revision\": sdb:commit($doc)}";
+    final String openQuery =
+        "let $result := jn:doc('json-path1','mydoc.jn').value[].key[$$.a eq 1 and $$.b gt 5] return $result";
+    test(storeQuery, indexQuery, openQuery, "{\"a\":1,\"b\":7}");
+    assertTrue(containsExpr(compileBody(openQuery), IndexSetExpr.class));
+  }
+
+  // CAS index on one operand of a conjunction, the other operand filters its matches.
+  @Test
+  public void testNestingIndexIntersectionWithUnindexedOperand() throws IOException {
+    final String storeQuery =
+        "jn:store('json-path1','mydoc.jn','{\"value\":[{\"key\":{\"a\":1,\"b\":7,\"c\":4}},{\"key\":{\"a\":1,\"b\":3,\"c\":4}},{\"key\":{\"a\":1,\"b\":9,\"c\":5}}]}')";
+    final String indexQuery =
+        "let $doc := jn:doc('json-path1','mydoc.jn') let $stats := jn:create-cas-index($doc, 'xs:integer', ('/value/[]/key/a','/value/[]/key/c')) return {\"revision\": sdb:commit($doc)}";
+    final String openQuery =
+        "let $result := jn:doc('json-path1','mydoc.jn').value[].key[$$.a eq 1 and $$.b gt 5 and $$.c eq 4] return $result";
+    test(storeQuery, indexQuery, openQuery, "{\"a\":1,\"b\":7,\"c\":4}");
+    assertTrue(containsExpr(compileBody(openQuery), IndexSetExpr.class));
+  }
+
+  // CAS index, union of the matches of two paths.
+  @Test
+  public void testNestingIndexUnion() throws IOException {
+    final String storeQuery =
+        "jn:store('json-path1','mydoc.jn','{\"value\":[{\"key\":{\"a\":1,\"b\":7}},{\"key\":{\"a\":1,\"b\":3}},{\"key\":{\"a\":2,\"b\":9}}]}')";
+    final String indexQuery =
+        "let $doc := jn:doc('json-path1','mydoc.jn') let $stats := jn:create-cas-index($doc, 'xs:integer', ('/value/[]/key/a','/value/[]/key/b')) return {\"revision\": sdb:commit($doc)}";
+    final String openQuery =
+        "let $result := jn:doc('json-path1','mydoc.jn').value[].key[$$.a eq 2 or $$.b lt 5] return [$result]";
+    test(storeQuery, indexQuery, openQuery, "[{\"a\":1,\"b\":3},{\"a\":2,\"b\":9}]");
+    assertTrue(containsExpr(compileBody(openQuery), IndexSetExpr.class));
+  }
+
+  @Test
+  public void testCASIndexIsOnlyUsedForSelectivePredicatesOnLargeDocuments() throws IOException {
+    // 6000 objects with a key a and about 18000 nodes, such that the cost model applies.
+    final var document = new StringBuilder("{\"value\":[");
+    for (int i = 0; i < 6000; i++) {
+      document.append(i == 0 ? "" : ",").append("{\"a\":").append(i).append("}");
+    }
+    document.append("]}");
+    query("jn:store('json-path1','mydoc.jn','" + document + "')");
+    query("let $doc := jn:doc('json-path1','mydoc.jn') let $stats := jn:create-cas-index($doc, 'xs:integer', '/value/[]/a') return {\"revision\": sdb:commit($doc)}");
+
+    final String selectiveQuery = "jn:doc('json-path1','mydoc.jn').value[][$$.a eq 42]";
+    final String unselectiveQuery = "jn:doc('json-path1','mydoc.jn').value[][$$.a ge 0]";
+    // The probe reads at most 64 distinct keys, beyond that all nodes on the path are assumed to match.
+    final String fewKeysQuery = "jn:doc('json-path1','mydoc.jn').value[][$$.a lt 10]";
+    final String manyKeysQuery = "jn:doc('json-path1','mydoc.jn').value[][$$.a lt 100]";
+
+    try (final BasicJsonDBStore store = BasicJsonDBStore.newBuilder()
+                                                        .location(JsonTestHelper.PATHS.PATH1.getFile().getParent())
+                                                        .build();
+         final SirixCompileChain chain = SirixCompileChain.createWithJsonStore(store)) {
+      assertTrue(((MainModule) new Query(chain, selectiveQuery).getModule()).getBody() instanceof IndexExpr);
+      assertFalse(((MainModule) new Query(chain, unselectiveQuery).getModule()).getBody() instanceof IndexExpr);
+      assertTrue(((MainModule) new Query(chain, fewKeysQuery).getModule()).getBody() instanceof IndexExpr);
+      assertFalse(((MainModule) new Query(chain, manyKeysQuery).getModule()).getBody() instanceof IndexExpr);
+    }
+
+    test(selectiveQuery, "{\"a\":42}");
+  }
+
+  // Aggregates answered by the path summary.
+  @Test
+  public void testPathAggregates() throws IOException {
+    final String storeQuery =
+        "jn:store('json-path1','mydoc.jn','{\"events\":[{\"type\":\"a\"},{\"type\":\"b\",\"nested\":{\"type\":\"c\"}},{\"other\":1}],\"type\":\"d\"}')";
+    final String query =
+        "let $doc := jn:doc('json-path1','mydoc.jn') return {\"count\": count($doc.events[].type), \"exists\": exists($doc.events[].other), \"empty\": empty($doc.events[].missing)}";
+    test(storeQuery, query, "{\"count\":2,\"exists\":true,\"empty\":true}");
+    assertTrue(containsExpr(compileBody(query), PathAggregateExpr.class));
+  }
+
+  @Test
+  public void testPathAggregatesAreNotRewrittenForPositionsOrRevisions() throws IOException {
+    query("jn:store('json-path1','mydoc.jn','{\"events\":[{\"type\":\"a\"},{\"type\":\"b\"}]}')");
+
+    // A positional array access needs navigation.
+    final String positionalQuery = "count(jn:doc('json-path1','mydoc.jn').events[[0]].type)";
+    // Only the most recent revision is answered by the path summary.
+    final String revisionQuery = "count(jn:doc('json-path1','mydoc.jn', 1).events[].type)";
+
+    assertFalse(containsExpr(compileBody(positionalQuery), PathAggregateExpr.class));
+    assertFalse(containsExpr(compileBody(revisionQuery), PathAggregateExpr.class));
+
+    test(positionalQuery, "1");
+    test(revisionQuery, "2");
+  }
+
   @Test
   public void testNesting4() throws IOException {
     final URI docUri = JSON_RESOURCE_PATH.resolve("twitter.json").toUri();
@@ -802,6 +931,31 @@ public final class JsonIntegrationTest extends AbstractJsonTest {
          Files.readString(JSON_RESOURCE_PATH.resolve("testNesting6").resolve("expectedOutput")));
   }
 
+  // Several CAS index matches within one array resolve their predicate ancestor by its DeweyID.
+  @Test
+  public void testCASIndexMatchesWithTheSameAncestor() throws IOException {
+    final String document =
+        "{\"value\":[{\"id\":1,\"params\":[{\"name\":\"x\"},{\"name\":\"y\"},{\"name\":\"x\"}]},{\"id\":2,\"params\":[{\"name\":\"y\"}]},{\"id\":3,\"params\":[{\"name\":\"x\"},{\"name\":\"x\"},{\"name\":\"x\"}]}]}";
+    final String indexQuery =
+        "let $doc := jn:doc('%s','mydoc.jn') let $stats := jn:create-cas-index($doc, 'xs:string', '/value/[]/params/[]/name') return {\"revision\": sdb:commit($doc)}";
+    final String openQuery =
+        "for $i in jn:doc('%s','mydoc.jn').value[][$$.params[].name = 'x'] return $i.id";
+
+    // The resource of the first database stores DeweyIDs, the one of the second doesn't.
+    serialize(true, "jn:store('json-path1','mydoc.jn','" + document + "')");
+    serialize(true, String.format(indexQuery, "json-path1"));
+    serialize(false, "jn:store('json-path2','mydoc.jn','" + document + "')");
+    serialize(false, String.format(indexQuery, "json-path2"));
+
+    final String result = serialize(true, String.format(openQuery, "json-path1"));
+
+    assertTrue(containsExpr(compileBody(String.format(openQuery, "json-path1")), IndexExpr.class));
+    assertEquals(serialize(false, String.format(openQuery, "json-path2")), result);
+    assertTrue(result.contains("1"));
+    assertFalse(result.contains("2"));
+    assertTrue(result.contains("3"));
+  }
+
   @Test
   public void testNesting7() throws IOException {
     final URI docUri = JSON_RESOURCE_PATH.resolve("testNesting7").resolve("trade-apis.json").toUri();
@@ -1312,4 +1466,86 @@ public final class JsonIntegrationTest extends AbstractJsonTest {
          findAndScanPathIndexQuery,
          Files.readString(JSON_RESOURCE_PATH.resolve("testCreateAndScanCASIndex3").resolve("expectedOutput")));
   }
+
+  private static String serialize(final boolean storeDeweyIds, final String query) {
+    try (final BasicJsonDBStore store = BasicJsonDBStore.newBuilder()
+                                                        .location(JsonTestHelper.PATHS.PATH1.getFile().getParent())
+                                                        .storeDeweyIds(storeDeweyIds)
+                                                        .build();
+         final SirixQueryContext ctx = SirixQueryContext.createWithJsonStore(store);
+         final SirixCompileChain chain = SirixCompileChain.createWithJsonStore(store);
+         final var out = new ByteArrayOutputStream();
+         final var printWriter = new PrintWriter(out)) {
+      new Query(chain, query).serialize(ctx, printWriter);
+      printWriter.flush();
+      return out.toString();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Expr compileBody(final String query) {
+    try (final BasicJsonDBStore store = BasicJsonDBStore.newBuilder()
+                                                        .location(JsonTestHelper.PATHS.PATH1.getFile().getParent())
+                                                        .build();
+         final SirixCompileChain chain = SirixCompileChain.createWithJsonStore(store)) {
+      return ((MainModule) new Query(chain, query).getModule()).getBody();
+    }
+  }
+
+  /**
+   * Determines if a compiled expression contains an expression of the given type, by following the
+   * fields of the compiled expressions and operators, which hold other expressions or operators.
+   */
+  private static boolean containsExpr(final Expr expr, final Class<? extends Expr> type) {
+    return containsExpr(expr, type, Collections.newSetFromMap(new IdentityHashMap<>()));
+  }
+
+  private static boolean containsExpr(final Object node, final Class<? extends Expr> type, final Set<Object> visited) {
+    if (type.isInstance(node)) {
+      return true;
+    }
+
+    if (!visited.add(node)) {
+      return false;
+    }
+
+    for (Class<?> clazz = node.getClass(); clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+      for (final Field field : clazz.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+          continue;
+        }
+
+        final Object value;
+        try {
+          field.setAccessible(true);
+          value = field.get(node);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+          continue;
+        }
+
+        final Iterable<?> children;
+        if (value instanceof Object[] array) {
+          children = Arrays.asList(array);
+        } else if (value instanceof Iterable<?> iterable) {
+          children = iterable;
+        } else {
+          children = Collections.singletonList(value);
+        }
+
+        for (final Object child : children) {
+          if (isCompiledQueryPart(child) && containsExpr(child, type, visited)) {
+            return true;
+          }
+        }
+      }
+    }
+
+    return false;
+  }
+
+  private static boolean isCompiledQueryPart(final Object object) {
+    return object != null && (object.getClass().getName().startsWith("io.brackit.query.")
+        || object.getClass().getName().startsWith("io.sirix.query."));
+  }
 }
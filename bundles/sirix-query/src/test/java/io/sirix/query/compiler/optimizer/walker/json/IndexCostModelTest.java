@@ -0,0 +1,81 @@
+package io.sirix.query.compiler.optimizer.walker.json;
+
+import io.brackit.query.atomic.QNm;
+import io.sirix.JsonTestHelper;
+import io.sirix.access.Databases;
+import io.sirix.node.NodeKind;
+import io.sirix.query.AbstractJsonTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public final class IndexCostModelTest extends AbstractJsonTest {
+
+  @Test
+  public void testIndexIsAlwaysUsedForSmallDocuments() {
+    final var costModel = new IndexCostModel((1 << 14) - 1);
+
+    assertFalse(costModel.isCostBased());
+    assertTrue(costModel.isIndexCheaper(0));
+    assertTrue(costModel.isIndexCheaper(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testIndexIsUsedIfFewerNodesMatchThanAQuarterOfTheDocument() {
+    final var costModel = new IndexCostModel(100_000);
+
+    assertTrue(costModel.isCostBased());
+    assertEquals(25_000, costModel.getMaxNumberOfMatches());
+    assertTrue(costModel.isIndexCheaper(0));
+    assertTrue(costModel.isIndexCheaper(24_999));
+    assertFalse(costModel.isIndexCheaper(25_000));
+    assertFalse(costModel.isIndexCheaper(100_000));
+  }
+
+  @Test
+  public void testCostModelIsAppliedFromTheMinimumNumberOfNodes() {
+    final var costModel = new IndexCostModel(1 << 14);
+
+    assertTrue(costModel.isCostBased());
+    assertTrue(costModel.isIndexCheaper(4_095));
+    assertFalse(costModel.isIndexCheaper(4_096));
+  }
+
+  @Test
+  public void testNumberOfReferences() {
+    query("jn:store('json-path1','mydoc.jn','[{\"a\":1},{\"a\":2,\"b\":{\"a\":3}},{\"b\":4}]')");
+
+    try (final var database = Databases.openJsonDatabase(JsonTestHelper.PATHS.PATH1.getFile());
+         final var session = database.beginResourceSession("mydoc.jn");
+         final var pathSummary = session.openPathSummary()) {
+      final List<Integer> pathNodeKeysOfA = getPathNodeKeys(pathSummary.match(new QNm("a"), 0, NodeKind.OBJECT_KEY));
+      final List<Integer> pathNodeKeysOfB = getPathNodeKeys(pathSummary.match(new QNm("b"), 0, NodeKind.OBJECT_KEY));
+
+      // The paths /[]/a and /[]/b/a.
+      assertEquals(2, pathNodeKeysOfA.size());
+      assertEquals(3, IndexCostModel.getNumberOfReferences(pathSummary, pathNodeKeysOfA));
+      assertEquals(2, IndexCostModel.getNumberOfReferences(pathSummary, pathNodeKeysOfB));
+
+      final var pathNodeKeys = new ArrayList<>(pathNodeKeysOfA);
+      pathNodeKeys.addAll(pathNodeKeysOfB);
+      assertEquals(5, IndexCostModel.getNumberOfReferences(pathSummary, pathNodeKeys));
+
+      // Unknown path nodes don't match any nodes.
+      assertEquals(0, IndexCostModel.getNumberOfReferences(pathSummary, List.of(1_000)));
+    }
+  }
+
+  private static List<Integer> getPathNodeKeys(final BitSet pathNodeKeyBitmap) {
+    final var pathNodeKeys = new ArrayList<Integer>();
+    for (int i = pathNodeKeyBitmap.nextSetBit(0); i >= 0; i = pathNodeKeyBitmap.nextSetBit(i + 1)) {
+      pathNodeKeys.add(i);
+    }
+    return pathNodeKeys;
+  }
+}
@@ -59,6 +59,40 @@ public final class ItemHistoryTest {
     }
   }
 
+  @Test
+  public void testWithNodeHistory() throws IOException {
+    try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile())) {
+      database.createResource(ResourceConfiguration.newBuilder("mydoc.jn").storeNodeHistory(true).build());
+
+      try (final var manager = database.beginResourceSession("mydoc.jn"); final var wtx = manager.beginNodeTrx()) {
+        wtx.insertSubtreeAsFirstChild(JsonShredder.createStringReader("[\"bla\", \"blubb\"]"));
+        wtx.moveTo(3);
+        wtx.setStringValue("blubbblubb").commit();
+        wtx.moveTo(2);
+        wtx.setStringValue("blabla").commit();
+        wtx.moveTo(3);
+        wtx.setStringValue("blubbblubbblubb").commit();
+        wtx.moveTo(2);
+        wtx.remove().commit();
+      }
+    }
+
+    // Initialize query context and store.
+    try (final BasicJsonDBStore store = BasicJsonDBStore.newBuilder()
+                                                        .location(JsonTestHelper.PATHS.PATH1.getFile().getParent())
+                                                        .build();
+         final SirixQueryContext ctx = SirixQueryContext.createWithJsonStore(store);
+         final SirixCompileChain chain = SirixCompileChain.createWithJsonStore(store)) {
+      // Only the revisions in which the item has been changed, not the one in which it has been removed.
+      final String openQuery = "sdb:item-history(sdb:select-item(jn:doc('json-path1','mydoc.jn', 1), 2))";
+
+      try (final var out = new ByteArrayOutputStream(); final var printWriter = new PrintWriter(out)) {
+        new Query(chain, openQuery).serialize(ctx, printWriter);
+        Assertions.assertEquals("\"bla\" \"blabla\"", out.toString());
+      }
+    }
+  }
+
   @Test
   public void test2() throws IOException {
     try (final var database = JsonTestHelper.getDatabase(JsonTestHelper.PATHS.PATH1.getFile())) {
@@ -0,0 +1,175 @@
+package io.sirix.rest
+
+import io.vertx.core.Context
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.streams.ReadStream
+import java.io.IOException
+import java.io.InputStream
+import java.io.InterruptedIOException
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * An [InputStream] on a Vert.x [ReadStream], for instance an HTTP request body, which is read while its
+ * chunks arrive, such that a document can be shredded incrementally by a blocking parser on a worker
+ * thread.
+ *
+ * At most [maxBufferedChunks] chunks are buffered: the stream is paused as soon as the buffer is full and
+ * resumed on the [context] of the stream once the worker has caught up. Thus, the memory needed is
+ * constant regardless of the size of the document. The stream must be paused when the input stream is
+ * created.
+ */
+class ReadStreamInputStream(
+    private val stream: ReadStream<Buffer>,
+    private val context: Context,
+    private val maxBufferedChunks: Int = DEFAULT_MAX_BUFFERED_CHUNKS
+) : InputStream() {
+    companion object {
+        /** The default maximum number of buffered chunks. */
+        const val DEFAULT_MAX_BUFFERED_CHUNKS = 32
+    }
+
+    private val lock = ReentrantLock()
+
+    private val notEmpty = lock.newCondition()
+
+    private val chunks = ArrayDeque<Buffer>()
+
+    private var chunk: Buffer? = null
+
+    private var position = 0
+
+    private var paused = true
+
+    private var ended = false
+
+    private var closed = false
+
+    private var failure: Throwable? = null
+
+    init {
+        require(maxBufferedChunks > 1) { "At least two chunks must be buffered." }
+
+        context.runOnContext {
+            stream.handler { buffer ->
+                lock.withLock {
+                    // The remaining chunks are discarded, once the input stream has been closed.
+                    if (!closed) {
+                        chunks.addLast(buffer)
+                        if (chunks.size >= maxBufferedChunks && !paused) {
+                            paused = true
+                            stream.pause()
+                        }
+                        notEmpty.signal()
+                    }
+                }
+            }
+            stream.exceptionHandler { t ->
+                lock.withLock {
+                    failure = t
+                    notEmpty.signal()
+                }
+            }
+            stream.endHandler {
+                lock.withLock {
+                    ended = true
+                    notEmpty.signal()
+                }
+            }
+            lock.withLock {
+                paused = false
+            }
+            stream.resume()
+        }
+    }
+
+    override fun read(): Int {
+        val current = nextChunk() ?: return -1
+        return current.getByte(position++).toInt() and 0xFF
+    }
+
+    override fun read(b: ByteArray, off: Int, len: Int): Int {
+        if (len == 0) {
+            return 0
+        }
+
+        val current = nextChunk() ?: return -1
+        val count = minOf(len, current.length() - position)
+        current.getBytes(position, position + count, b, off)
+        position += count
+        return count
+    }
+
+    override fun available(): Int {
+        val current = chunk ?: return 0
+        return current.length() - position
+    }
+
+    /**
+     * Closes the input stream. The remaining chunks of the stream are discarded.
+     */
+    override fun close() {
+        val resume = lock.withLock {
+            closed = true
+            chunks.clear()
+            val wasPaused = paused
+            paused = false
+            wasPaused
+        }
+
+        if (resume) {
+            context.runOnContext { stream.resume() }
+        }
+    }
+
+    private fun nextChunk(): Buffer? {
+        var current = chunk
+
+        while (current == null || position == current.length()) {
+            var resume = false
+
+            try {
+                lock.lockInterruptibly()
+            } catch (e: InterruptedException) {
+                Thread.currentThread().interrupt()
+                throw InterruptedIOException(e.message)
+            }
+
+            try {
+                if (closed) {
+                    throw IOException("The input stream has been closed.")
+                }
+
+                while (chunks.isEmpty() && !ended && failure == null) {
+                    notEmpty.await()
+                }
+
+                if (chunks.isEmpty()) {
+                    failure?.let { throw IOException(it) }
+                    chunk = null
+                    return null
+                }
+
+                current = chunks.removeFirst()
+                if (paused && chunks.size <= maxBufferedChunks / 2) {
+                    paused = false
+                    resume = true
+                }
+            } catch (e: InterruptedException) {
+                Thread.currentThread().interrupt()
+                throw InterruptedIOException(e.message)
+            } finally {
+                lock.unlock()
+            }
+
+            if (resume) {
+                context.runOnContext { stream.resume() }
+            }
+
+            chunk = current
+            position = 0
+        }
+
+        return current
+    }
+}
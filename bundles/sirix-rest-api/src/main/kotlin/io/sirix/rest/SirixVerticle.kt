@@ -280,7 +280,6 @@ class SirixVerticle : CoroutineVerticle() {
         post("/:database/:resource")
             .consumes("application/xml")
             .produces("application/xml")
-            .handler(BodyHandler.create())
             .coroutineHandler {
                 io.sirix.rest.Auth(keycloak, authz, AuthRole.MODIFY).handle(it)
                 it.next()
@@ -290,7 +289,6 @@ class SirixVerticle : CoroutineVerticle() {
         post("/:database/:resource")
             .consumes("application/json")
             .produces("application/json")
-            .handler(BodyHandler.create())
             .coroutineHandler {
                 io.sirix.rest.Auth(keycloak, authz, AuthRole.MODIFY).handle(it)
                 it.next()
@@ -438,6 +436,14 @@ class SirixVerticle : CoroutineVerticle() {
     }
 
     private fun response(response: HttpServerResponse, statusCode: Int, failureMessage: String?) {
+        // The status of a streamed response might have been sent already, thus the client only can be
+        // notified by resetting the connection.
+        if (response.headWritten()) {
+            if (!response.closed()) {
+                response.reset()
+            }
+            return
+        }
         response.setStatusCode(statusCode).end("Failure calling the RESTful API: $failureMessage")
     }
 
@@ -81,9 +81,9 @@ abstract class AbstractCreateHandler<T : ResourceSession<*, *>>(
     ) {
         val dbFile = location.resolve(databaseName)
         val context = ctx.vertx().orCreateContext
+        // The request is resumed once its body is read.
         ctx.request().pause()
         createDatabaseIfNotExists(dbFile, context)
-        ctx.request().resume()
         insertResource(dbFile, resPathName, ctx)
     }
 
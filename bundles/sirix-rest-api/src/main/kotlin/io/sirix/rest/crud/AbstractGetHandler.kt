@@ -202,11 +202,15 @@ private val authz: AuthorizationProvider){
         }.await()
     }
 
+    /**
+     * Serializes the resource. Returns the response body or `null`, if the body has been streamed into the
+     * response.
+     */
     abstract suspend fun serializeResource(
             manager: T, revisions: IntArray, nodeId: Long?,
             ctx: RoutingContext,
             vertxContext: Context
-    ): String
+    ): String?
 
     abstract suspend fun openDatabase(dbFile: Path): Database<T>
 
@@ -221,5 +225,5 @@ private val authz: AuthorizationProvider){
             queryCtx: SirixQueryContext,
             endResultSeqIndex: Long?,
             routingContext: RoutingContext
-    ): String
+    ): String?
 }
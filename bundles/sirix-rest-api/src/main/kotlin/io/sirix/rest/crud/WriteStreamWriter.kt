@@ -0,0 +1,126 @@
+package io.sirix.rest.crud
+
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.streams.WriteStream
+import java.io.IOException
+import java.io.InterruptedIOException
+import java.io.Writer
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+
+/**
+ * A [Writer], which writes the serialized characters in UTF-8 encoded chunks into a Vert.x
+ * [WriteStream], for instance a chunked HTTP response.
+ *
+ * The writer must be used from a worker thread (`executeBlocking`), never from an event loop: whenever
+ * the write queue of the stream is full, the writer blocks until the stream has been drained, which in
+ * turn pauses the serializer and thus the traversal of the nodes. Once the stream has been closed by the
+ * peer, [abort] lets the writer throw an [IOException] instead of blocking forever.
+ */
+class WriteStreamWriter(
+    private val stream: WriteStream<Buffer>,
+    private val chunkSize: Int = DEFAULT_CHUNK_SIZE
+) : Writer() {
+    companion object {
+        /** The default number of characters of a chunk. */
+        const val DEFAULT_CHUNK_SIZE = 8192
+    }
+
+    private val chunk = StringBuilder(chunkSize)
+
+    @Volatile
+    private var drained: CompletableFuture<Void>? = null
+
+    @Volatile
+    private var aborted = false
+
+    override fun write(cbuf: CharArray, off: Int, len: Int) {
+        chunk.appendRange(cbuf, off, off + len)
+        if (chunk.length >= chunkSize) {
+            writeChunk()
+        }
+    }
+
+    override fun write(str: String, off: Int, len: Int) {
+        chunk.append(str, off, off + len)
+        if (chunk.length >= chunkSize) {
+            writeChunk()
+        }
+    }
+
+    override fun write(c: Int) {
+        chunk.append(c.toChar())
+        if (chunk.length >= chunkSize) {
+            writeChunk()
+        }
+    }
+
+    override fun flush() {
+        writeChunk()
+    }
+
+    /**
+     * Writes the remaining characters. The stream itself isn't ended.
+     */
+    override fun close() {
+        writeChunk()
+    }
+
+    /**
+     * Signals that the stream has been closed, such that pending and further writes fail.
+     */
+    fun abort() {
+        aborted = true
+        drained?.completeExceptionally(IOException("The stream has been closed."))
+    }
+
+    private fun writeChunk() {
+        if (chunk.isEmpty()) {
+            return
+        }
+
+        // A surrogate pair must not be split between two chunks.
+        val length = if (Character.isHighSurrogate(chunk[chunk.length - 1])) chunk.length - 1 else chunk.length
+
+        if (length == 0) {
+            return
+        }
+
+        awaitDrain()
+        stream.write(Buffer.buffer(chunk.substring(0, length)))
+        chunk.delete(0, length)
+    }
+
+    private fun awaitDrain() {
+        if (aborted) {
+            throw IOException("The stream has been closed.")
+        }
+
+        if (!stream.writeQueueFull()) {
+            return
+        }
+
+        val drained = CompletableFuture<Void>()
+        this.drained = drained
+        stream.drainHandler { drained.complete(null) }
+
+        // The stream might have been drained or closed before the handler has been set.
+        if (!stream.writeQueueFull()) {
+            drained.complete(null)
+        }
+        if (aborted) {
+            drained.completeExceptionally(IOException("The stream has been closed."))
+        }
+
+        try {
+            drained.get()
+        } catch (e: InterruptedException) {
+            Thread.currentThread().interrupt()
+            throw InterruptedIOException(e.message)
+        } catch (e: ExecutionException) {
+            throw e.cause as? IOException ?: IOException(e.cause)
+        } finally {
+            this.drained = null
+        }
+    }
+}
@@ -2,7 +2,6 @@ package io.sirix.rest.crud.json
 
 import io.vertx.core.Context
 import io.vertx.core.Promise
-import io.vertx.core.parsetools.JsonParser
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
 import io.vertx.kotlin.coroutines.dispatcher
@@ -15,13 +14,17 @@ import io.sirix.access.User
 import io.sirix.access.trx.node.HashType
 import io.sirix.api.Database
 import io.sirix.api.json.JsonResourceSession
-import io.sirix.rest.KotlinJsonStreamingShredder
+import io.sirix.api.json.JsonNodeTrx
+import io.sirix.rest.ReadStreamInputStream
 import io.sirix.rest.crud.AbstractCreateHandler
 import io.sirix.rest.crud.Revisions
 import io.sirix.rest.crud.SirixDBUser
 import io.sirix.service.json.serialize.JsonSerializer
 import io.sirix.service.json.shredder.JsonShredder
+import io.sirix.service.json.shredder.ParallelJsonReader
+import java.io.InputStreamReader
 import java.io.StringWriter
+import java.nio.charset.StandardCharsets
 import java.nio.file.Path
 
 private const val MAX_NODES_TO_SERIALIZE = 5000
@@ -35,6 +38,7 @@ class JsonCreate(
         ctx: RoutingContext
     ) {
         ctx.request().pause()
+        val vertxContext = ctx.vertx().orCreateContext
 
         withContext(Dispatchers.IO) {
             var body: String? = null
@@ -56,7 +60,7 @@ class JsonCreate(
                 val manager = database.beginResourceSession(resPathName)
 
                 manager.use {
-                    val maxNodeKey = insertJsonSubtreeAsFirstChild(manager, ctx)
+                    val maxNodeKey = insertJsonSubtreeAsFirstChild(manager, ctx, vertxContext)
 
                     if (maxNodeKey < MAX_NODES_TO_SERIALIZE) {
                         body = serializeResource(manager, ctx)
@@ -107,9 +111,10 @@ class JsonCreate(
     }
 
 
-    private suspend fun insertJsonSubtreeAsFirstChild(
+    private fun insertJsonSubtreeAsFirstChild(
         manager: JsonResourceSession,
-        ctx: RoutingContext
+        ctx: RoutingContext,
+        vertxContext: Context
     ): Long {
         val commitMessage = ctx.queryParam("commitMessage").getOrNull(0)
         val commitTimestampAsString = ctx.queryParam("commitTimestamp").getOrNull(0)
@@ -121,10 +126,16 @@ class JsonCreate(
 
         val wtx = manager.beginNodeTrx()
         return wtx.use {
-            val jsonParser = JsonParser.newParser(ctx.request())
-            val future = KotlinJsonStreamingShredder(wtx, jsonParser).call()
-            ctx.request().resume()
-            future.await()
+            // The body is parsed by another thread while it arrives, with a bounded number of buffered
+            // chunks, such that parsing overlaps with creating the nodes.
+            ReadStreamInputStream(ctx.request(), vertxContext).use { input ->
+                val jsonReader = ParallelJsonReader.create(
+                    JsonShredder.createReader(InputStreamReader(input, StandardCharsets.UTF_8))
+                )
+                jsonReader.use {
+                    wtx.insertSubtreeAsFirstChild(jsonReader, JsonNodeTrx.Commit.NO)
+                }
+            }
             wtx.commit(commitMessage, commitTimestamp)
             return@use wtx.maxNodeKey
         }
@@ -137,7 +148,7 @@ class JsonCreate(
     ): Long {
         val wtx = manager.beginNodeTrx()
         return wtx.use {
-            val eventReader = JsonShredder.createFileReader(filePath)
+            val eventReader = ParallelJsonReader.create(JsonShredder.createFileReader(filePath))
             eventReader.use {
                 wtx.insertSubtreeAsFirstChild(eventReader)
             }
@@ -21,6 +21,7 @@ import io.sirix.api.xml.XmlResourceSession
 import io.sirix.rest.crud.PermissionCheckingQuery
 import io.sirix.rest.crud.QuerySerializer
 import io.sirix.rest.crud.Revisions
+import io.sirix.rest.crud.WriteStreamWriter
 import io.sirix.rest.crud.xml.XmlSessionDBStore
 import io.sirix.service.json.serialize.JsonRecordSerializer
 import io.sirix.service.json.serialize.JsonSerializer
@@ -32,7 +33,6 @@ import io.sirix.query.json.*
 import io.sirix.query.node.BasicXmlDBStore
 import io.sirix.query.node.XmlDBCollection
 import io.vertx.core.json.Json
-import java.io.StringWriter
 import java.nio.file.Path
 
 class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, private val authz: AuthorizationProvider): AbstractGetHandler <JsonResourceSession, JsonDBCollection, JsonNodeReadOnlyTrx> (location, authz) {
@@ -124,33 +124,34 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
         queryCtx: SirixQueryContext,
         endResultSeqIndex: Long?,
         routingContext: RoutingContext
-    ): String {
-        val out = StringBuilder()
-
-        executeQueryAndSerialize(
-            routingContext,
-            xmlDBStore,
-            jsonDBStore,
-            out,
-            startResultSeqIndex,
-            query,
-            queryCtx,
-            endResultSeqIndex
-        )
-
-        val body = out.toString()
-
-        routingContext.response().setStatusCode(200)
+    ): String? {
+        val response = routingContext.response()
+
+        response.setStatusCode(200)
             .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+        response.isChunked = true
+
+        streamResponse(routingContext) { out ->
+            executeQueryAndSerialize(
+                routingContext,
+                xmlDBStore,
+                jsonDBStore,
+                out,
+                startResultSeqIndex,
+                query,
+                queryCtx,
+                endResultSeqIndex
+            )
+        }
 
-        return body
+        return null
     }
 
     private fun executeQueryAndSerialize(
         routingContext: RoutingContext,
         xmlDBStore: XmlSessionDBStore,
         jsonDBStore: JsonSessionDBStore,
-        out: StringBuilder,
+        out: Appendable,
         startResultSeqIndex: Long?,
         query: String,
         queryCtx: SirixQueryContext,
@@ -182,100 +183,112 @@ class JsonGet(private val location: Path, private val keycloak: OAuth2Auth, priv
         }
     }
 
+    /**
+     * Streams the serialization into the response. Must be called from a worker thread, as the
+     * serialization blocks whenever the write queue of the response is full.
+     */
+    private fun streamResponse(ctx: RoutingContext, serialize: (WriteStreamWriter) -> Unit) {
+        val out = WriteStreamWriter(ctx.response())
+        ctx.response().closeHandler { out.abort() }
+
+        out.use {
+            serialize(out)
+        }
+    }
+
     override suspend fun serializeResource(
         manager: JsonResourceSession, revisions: IntArray, nodeId: Long?,
         ctx: RoutingContext,
         vertxContext: Context
-    ): String {
-        val serializedString = vertxContext.executeBlocking { promise: Promise<String> ->
+    ): String? {
+        vertxContext.executeBlocking { promise: Promise<Nothing> ->
             val nextTopLevelNodes = ctx.queryParam("nextTopLevelNodes").getOrNull(0)?.toInt()
             val lastTopLevelNodeKey = ctx.queryParam("lastTopLevelNodeKey").getOrNull(0)?.toLong()
 
             val numberOfNodes = ctx.queryParam("numberOfNodes").getOrNull(0)?.toLong()
             val maxChildren = ctx.queryParam("maxChildren").getOrNull(0)?.toLong()
 
-            val out = StringWriter()
-
             val withMetaData: String? = ctx.queryParam("withMetaData").getOrNull(0)
             val maxLevel: String? = ctx.queryParam("maxLevel").getOrNull(0)
             val prettyPrint: String? = ctx.queryParam("prettyPrint").getOrNull(0)
 
-            if (nextTopLevelNodes == null) {
-                val serializerBuilder = JsonSerializer.newBuilder(manager, out).revisions(revisions)
+            streamResponse(ctx) { out ->
+                if (nextTopLevelNodes == null) {
+                    val serializerBuilder = JsonSerializer.newBuilder(manager, out).revisions(revisions)
 
-                nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
+                    nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
 
-                if (withMetaData != null) {
-                    when (withMetaData) {
-                        "nodeKeyAndChildCount" -> serializerBuilder.withNodeKeyAndChildCountMetaData(true)
-                        "nodeKey" -> serializerBuilder.withNodeKeyMetaData(true)
-                        else -> serializerBuilder.withMetaData(true)
+                    if (withMetaData != null) {
+                        when (withMetaData) {
+                            "nodeKeyAndChildCount" -> serializerBuilder.withNodeKeyAndChildCountMetaData(true)
+                            "nodeKey" -> serializerBuilder.withNodeKeyMetaData(true)
+                            else -> serializerBuilder.withMetaData(true)
+                        }
                     }
-                }
 
-                if (maxLevel != null) {
-                    serializerBuilder.maxLevel(maxLevel.toLong())
-                }
+                    if (maxLevel != null) {
+                        serializerBuilder.maxLevel(maxLevel.toLong())
+                    }
 
-                if (maxChildren != null) {
-                    serializerBuilder.maxChildren(maxChildren.toLong())
-                }
+                    if (maxChildren != null) {
+                        serializerBuilder.maxChildren(maxChildren.toLong())
+                    }
 
-                if (prettyPrint != null) {
-                    serializerBuilder.prettyPrint()
-                }
+                    if (prettyPrint != null) {
+                        serializerBuilder.prettyPrint()
+                    }
 
-                if (numberOfNodes != null) {
-                    serializerBuilder.numberOfNodes(numberOfNodes)
-                }
+                    if (numberOfNodes != null) {
+                        serializerBuilder.numberOfNodes(numberOfNodes)
+                    }
 
-                val serializer = serializerBuilder.build()
+                    val serializer = serializerBuilder.build()
 
-                promise.complete(JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId))
-            } else {
-                val serializerBuilder =
-                    JsonRecordSerializer.newBuilder(manager, nextTopLevelNodes, out).revisions(revisions)
+                    JsonSerializeHelper().serializeStreaming(serializer, out, ctx, manager, revisions, nodeId)
+                } else {
+                    val serializerBuilder =
+                        JsonRecordSerializer.newBuilder(manager, nextTopLevelNodes, out).revisions(revisions)
 
-                nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
+                    nodeId?.let { serializerBuilder.startNodeKey(nodeId) }
 
-                if (withMetaData != null) {
-                    when (withMetaData) {
-                        "nodeKeyAndChildCount" -> serializerBuilder.withNodeKeyAndChildCountMetaData(true)
-                        "nodeKey" -> serializerBuilder.withNodeKeyMetaData(true)
-                        else -> serializerBuilder.withMetaData(true)
+                    if (withMetaData != null) {
+                        when (withMetaData) {
+                            "nodeKeyAndChildCount" -> serializerBuilder.withNodeKeyAndChildCountMetaData(true)
+                            "nodeKey" -> serializerBuilder.withNodeKeyMetaData(true)
+                            else -> serializerBuilder.withMetaData(true)
+                        }
                     }
-                }
 
-                if (maxLevel != null) {
-                    serializerBuilder.maxLevel(maxLevel.toLong())
-                }
+                    if (maxLevel != null) {
+                        serializerBuilder.maxLevel(maxLevel.toLong())
+                    }
 
-                if (maxChildren != null) {
-                    serializerBuilder.maxChildren(maxChildren.toLong())
-                }
+                    if (maxChildren != null) {
+                        serializerBuilder.maxChildren(maxChildren.toLong())
+                    }
 
-                if (prettyPrint != null) {
-                    serializerBuilder.prettyPrint()
-                }
+                    if (prettyPrint != null) {
+                        serializerBuilder.prettyPrint()
+                    }
 
-                if (lastTopLevelNodeKey != null) {
-                    serializerBuilder.lastTopLevelNodeKey(lastTopLevelNodeKey)
-                }
+                    if (lastTopLevelNodeKey != null) {
+                        serializerBuilder.lastTopLevelNodeKey(lastTopLevelNodeKey)
+                    }
 
-                if (numberOfNodes != null) {
-                    serializerBuilder.numberOfNodes(numberOfNodes)
-                }
+                    if (numberOfNodes != null) {
+                        serializerBuilder.numberOfNodes(numberOfNodes)
+                    }
 
-                val serializer = serializerBuilder.build()
+                    val serializer = serializerBuilder.build()
 
-                promise.complete(JsonSerializeHelper().serialize(serializer, out, ctx, manager, revisions, nodeId))
+                    JsonSerializeHelper().serializeStreaming(serializer, out, ctx, manager, revisions, nodeId)
+                }
             }
-        }.await()
 
-        ctx.response().setStatusCode(200)
-            .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
+            promise.complete()
+        }.await()
 
-        return serializedString!!
+        return null
     }
 
     override suspend fun openDatabase(dbFile: Path): Database<JsonResourceSession> {
@@ -4,6 +4,7 @@ import io.vertx.core.http.HttpHeaders
 import io.vertx.ext.web.RoutingContext
 import io.sirix.access.trx.node.HashType
 import io.sirix.api.json.JsonResourceSession
+import io.sirix.rest.crud.WriteStreamWriter
 import java.io.StringWriter
 import java.util.concurrent.Callable
 
@@ -29,6 +30,30 @@ class JsonSerializeHelper {
         return body
     }
 
+    /**
+     * Serializes into the chunked response, such that the serialization is paused whenever the write
+     * queue of the response is full. The headers are set upfront, neither the writer is closed nor the
+     * response is ended.
+     */
+    fun serializeStreaming(
+        serializer: Callable<*>,
+        out: WriteStreamWriter,
+        ctx: RoutingContext,
+        manager: JsonResourceSession,
+        revisions: IntArray,
+        nodeId: Long?,
+    ) {
+        if (manager.resourceConfig.hashType == HashType.NONE) {
+            writeResponseWithoutHashValue(ctx)
+        } else {
+            writeResponseWithHashValue(manager, revisions[0], ctx, nodeId)
+        }
+
+        ctx.response().isChunked = true
+
+        serializer.call()
+    }
+
     private fun writeResponseWithoutHashValue(ctx: RoutingContext) {
         ctx.response().setStatusCode(200)
             .putHeader(HttpHeaders.CONTENT_TYPE, "application/json")
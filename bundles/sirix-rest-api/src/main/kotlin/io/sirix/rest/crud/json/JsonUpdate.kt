@@ -11,6 +11,7 @@ import io.sirix.access.Databases
 import io.sirix.access.trx.node.HashType
 import io.sirix.access.trx.node.json.objectvalue.*
 import io.sirix.api.json.JsonNodeTrx
+import io.sirix.rest.ReadStreamInputStream
 import io.sirix.rest.crud.Revisions
 import io.sirix.rest.crud.SirixDBUser
 import io.sirix.rest.crud.json.JsonInsertionMode.Companion.getInsertionModeByName
@@ -18,7 +19,9 @@ import io.sirix.service.json.JsonNumber
 import io.sirix.service.json.serialize.JsonSerializer
 import io.sirix.service.json.shredder.JsonShredder
 import java.io.IOException
+import java.io.InputStreamReader
 import java.io.StringWriter
+import java.nio.charset.StandardCharsets
 import java.nio.file.Path
 import java.time.Instant
 import java.util.*
@@ -299,16 +302,17 @@ class JsonUpdate(private val location: Path) {
             throw IllegalArgumentException("Database name and resource name not given.")
         }
 
-        val body = ctx.body().asString()
+        // The body is read while it arrives, once the resource has been opened.
+        ctx.request().pause()
 
-        update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, body, ctx)
+        update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, ctx)
 
         return ctx.currentRoute()
     }
 
     private suspend fun update(
         databaseName: String, resPathName: String, nodeId: Long?, insertionModeAsString: String?,
-        resFileToStore: String, ctx: RoutingContext
+        ctx: RoutingContext
     ) {
         val vertxContext = ctx.vertx().orCreateContext
 
@@ -332,7 +336,8 @@ class JsonUpdate(private val location: Path) {
                     }
                     val wtx = manager.beginNodeTrx()
                     val revision = wtx.revisionNumber
-                    val (maxNodeKey, hash) = wtx.use {
+                    val input = ReadStreamInputStream(ctx.request(), vertxContext)
+                    val (maxNodeKey, hash) = input.use { wtx.use {
                         if (nodeId != null) {
                             wtx.moveTo(nodeId)
                         }
@@ -354,7 +359,9 @@ class JsonUpdate(private val location: Path) {
                             throw IllegalArgumentException("Insertion mode must be given.")
                         }
 
-                        val jsonReader = JsonShredder.createStringReader(resFileToStore)
+                        val jsonReader = JsonShredder.createReader(
+                            InputStreamReader(input, StandardCharsets.UTF_8)
+                        )
 
                         val insertionModeByName = getInsertionModeByName(insertionModeAsString)
 
@@ -381,7 +388,7 @@ class JsonUpdate(private val location: Path) {
                         }
 
                         Pair(wtx.maxNodeKey, wtx.hash)
-                    }
+                    } }
 
                     if (maxNodeKey > 5000) {
                         ctx.response().statusCode = 200
@@ -2,8 +2,6 @@ package io.sirix.rest.crud.xml
 
 import io.vertx.core.Context
 import io.vertx.core.Promise
-import io.vertx.core.file.OpenOptions
-import io.vertx.core.file.impl.FileResolverImpl
 import io.vertx.ext.web.RoutingContext
 import io.vertx.kotlin.coroutines.await
 import io.vertx.kotlin.coroutines.dispatcher
@@ -17,6 +15,7 @@ import io.sirix.access.trx.node.HashType
 import io.sirix.api.Database
 import io.sirix.api.xml.XmlNodeTrx
 import io.sirix.api.xml.XmlResourceSession
+import io.sirix.rest.ReadStreamInputStream
 import io.sirix.rest.crud.AbstractCreateHandler
 import io.sirix.rest.crud.Revisions
 import io.sirix.rest.crud.SirixDBUser
@@ -24,9 +23,7 @@ import io.sirix.service.xml.serialize.XmlSerializer
 import io.sirix.service.xml.shredder.XmlShredder
 import java.io.ByteArrayOutputStream
 import java.io.FileInputStream
-import java.nio.file.Files
 import java.nio.file.Path
-import java.util.*
 
 class XmlCreate(
     location: Path,
@@ -38,18 +35,7 @@ class XmlCreate(
     ) {
         val dispatcher = ctx.vertx().dispatcher()
         ctx.request().pause()
-        val fileResolver = FileResolverImpl()
-
-        val filePath = withContext(Dispatchers.IO) {
-            fileResolver.resolveFile(Files.createTempFile(UUID.randomUUID().toString(), null).toString())
-        }
-
-        val file = ctx.vertx().fileSystem().open(
-            filePath.toString(),
-            OpenOptions()
-        ).await()
-        ctx.request().resume()
-        ctx.request().pipeTo(file).await()
+        val vertxContext = ctx.vertx().orCreateContext
 
         withContext(Dispatchers.IO) {
             var body: String? = null
@@ -67,10 +53,7 @@ class XmlCreate(
                 val manager = database.beginResourceSession(resPathName)
 
                 manager.use {
-                    val pathToFile = filePath.toPath()
-                    val maxNodeKey = insertResourceSubtreeAsFirstChild(manager, pathToFile.toAbsolutePath(), ctx)
-
-                    ctx.vertx().fileSystem().delete(filePath.toString()).await()
+                    val maxNodeKey = insertXmlSubtreeAsFirstChild(manager, ctx, vertxContext)
 
                     if (maxNodeKey < 5000) {
                         body = serializeResource(manager, ctx)
@@ -113,6 +96,33 @@ class XmlCreate(
         }.await()
     }
 
+    private fun insertXmlSubtreeAsFirstChild(
+        manager: XmlResourceSession,
+        ctx: RoutingContext,
+        vertxContext: Context
+    ): Long {
+        val commitMessage = ctx.queryParam("commitMessage").getOrNull(0)
+        val commitTimestampAsString = ctx.queryParam("commitTimestamp").getOrNull(0)
+        val commitTimestamp = if (commitTimestampAsString == null) {
+            null
+        } else {
+            Revisions.parseRevisionTimestamp(commitTimestampAsString).toInstant()
+        }
+
+        val wtx = manager.beginNodeTrx()
+        return wtx.use {
+            // The body is parsed while it arrives, with a bounded number of buffered chunks.
+            val inputStream = ReadStreamInputStream(ctx.request(), vertxContext)
+            return@use inputStream.use {
+                val eventStream = XmlShredder.createReader(inputStream)
+                wtx.insertSubtreeAsFirstChild(eventStream, XmlNodeTrx.Commit.No)
+                eventStream.close()
+                wtx.commit(commitMessage, commitTimestamp)
+                wtx.maxNodeKey
+            }
+        }
+    }
+
     override fun insertResourceSubtreeAsFirstChild(
         manager: XmlResourceSession,
         filePath: Path,
@@ -8,6 +8,7 @@ import io.vertx.kotlin.coroutines.await
 import io.sirix.access.Databases
 import io.sirix.access.trx.node.HashType
 import io.sirix.api.xml.XmlNodeTrx
+import io.sirix.rest.ReadStreamInputStream
 import io.sirix.rest.crud.Revisions
 import io.sirix.rest.crud.SirixDBUser
 import io.sirix.service.xml.serialize.XmlSerializer
@@ -74,16 +75,17 @@ class XmlUpdate(private val location: Path) {
             throw IllegalArgumentException("Database name and resource name not given.")
         }
 
-        val body = ctx.body().asString()
+        // The body is read while it arrives, once the resource has been opened.
+        ctx.request().pause()
 
-        update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, body, ctx)
+        update(databaseName, resource, nodeId?.toLongOrNull(), insertionMode, ctx)
 
         return ctx.currentRoute()
     }
 
     private suspend fun update(
         databaseName: String, resPathName: String, nodeId: Long?, insertionMode: String?,
-        resFileToStore: String, ctx: RoutingContext
+        ctx: RoutingContext
     ) {
         val vertxContext = ctx.vertx().orCreateContext
 
@@ -108,7 +110,8 @@ class XmlUpdate(private val location: Path) {
                     }
 
                     val wtx = manager.beginNodeTrx()
-                    val (maxNodeKey, hash) = wtx.use {
+                    val input = ReadStreamInputStream(ctx.request(), vertxContext)
+                    val (maxNodeKey, hash) = input.use { wtx.use {
                         if (nodeId != null) {
                             wtx.moveTo(nodeId)
                         }
@@ -125,7 +128,7 @@ class XmlUpdate(private val location: Path) {
                             }
                         }
 
-                        val xmlReader = XmlShredder.createStringReader(resFileToStore)
+                        val xmlReader = XmlShredder.createReader(input)
 
                         if (insertionMode != null)
                             XmlInsertionMode.getInsertionModeByName(insertionMode)
@@ -140,7 +143,7 @@ class XmlUpdate(private val location: Path) {
                             wtx.moveToFirstChild()
 
                         Pair(wtx.maxNodeKey, wtx.hash)
-                    }
+                    } }
 
                     if (maxNodeKey > 5000) {
                         ctx.response().statusCode = 200
@@ -0,0 +1,158 @@
+package io.sirix.rest
+
+import io.vertx.core.Context
+import io.vertx.core.Handler
+import io.vertx.core.Vertx
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.streams.ReadStream
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertArrayEquals
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import java.io.ByteArrayOutputStream
+import java.io.IOException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Test the bounded buffering of the [ReadStreamInputStream].
+ */
+class ReadStreamInputStreamTest {
+
+    private lateinit var vertx: Vertx
+
+    @BeforeEach
+    fun setup() {
+        vertx = Vertx.vertx()
+    }
+
+    @AfterEach
+    fun tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS)
+    }
+
+    @Test
+    fun testBodyLargerThanTheBufferIsReadWithBoundedBuffering() {
+        val chunkSize = 1024
+        val numberOfChunks = 1000
+        val maxBufferedChunks = 4
+        val bytesRead = AtomicLong()
+        val context = vertx.orCreateContext
+        val stream = ChunkedReadStream(context, chunkSize, numberOfChunks) { bytesRead.get() }
+
+        val out = ByteArrayOutputStream()
+        ReadStreamInputStream(stream, context, maxBufferedChunks).use { input ->
+            // A slow consumer, such that the stream has to be paused.
+            Thread.sleep(100)
+
+            val bytes = ByteArray(100)
+            while (true) {
+                val count = input.read(bytes)
+                if (count == -1) {
+                    break
+                }
+                out.write(bytes, 0, count)
+                bytesRead.addAndGet(count.toLong())
+            }
+        }
+
+        assertArrayEquals(stream.expectedBody(), out.toByteArray())
+        assertTrue(stream.numberOfPauses.get() > 0)
+        assertEquals(stream.numberOfPauses.get(), stream.numberOfResumes.get() - 1)
+        // The chunk, which is currently read, isn't buffered anymore.
+        assertTrue(stream.maxNumberOfUnreadChunks.get() <= maxBufferedChunks + 1)
+    }
+
+    @Test
+    fun testReadAfterCloseFails() {
+        val context = vertx.orCreateContext
+        val stream = ChunkedReadStream(context, 16, 1000) { 0 }
+        val input = ReadStreamInputStream(stream, context, 2)
+
+        input.read()
+        input.close()
+
+        assertThrows(IOException::class.java) { input.readAllBytes() }
+    }
+
+    /**
+     * A [ReadStream], which emits chunks on its context as long as it isn't paused.
+     */
+    private class ChunkedReadStream(
+        private val context: Context,
+        private val chunkSize: Int,
+        private val numberOfChunks: Int,
+        private val bytesRead: () -> Long
+    ) : ReadStream<Buffer> {
+        val numberOfPauses = AtomicInteger()
+
+        val numberOfResumes = AtomicInteger()
+
+        val maxNumberOfUnreadChunks = AtomicInteger()
+
+        private var paused = true
+
+        private var emittedChunks = 0
+
+        private var handler: Handler<Buffer>? = null
+
+        private var endHandler: Handler<Void>? = null
+
+        fun expectedBody(): ByteArray {
+            val body = ByteArray(chunkSize * numberOfChunks)
+            for (i in body.indices) {
+                body[i] = (i / chunkSize).toByte()
+            }
+            return body
+        }
+
+        private fun emit() {
+            while (!paused && emittedChunks < numberOfChunks) {
+                val chunk = Buffer.buffer(ByteArray(chunkSize) { emittedChunks.toByte() })
+                emittedChunks++
+                val unreadChunks = emittedChunks - (bytesRead() / chunkSize).toInt()
+                maxNumberOfUnreadChunks.accumulateAndGet(unreadChunks) { max, unread -> maxOf(max, unread) }
+                handler?.handle(chunk)
+            }
+            if (emittedChunks == numberOfChunks) {
+                emittedChunks++
+                endHandler?.handle(null)
+            }
+        }
+
+        override fun exceptionHandler(handler: Handler<Throwable>?): ReadStream<Buffer> = this
+
+        override fun handler(handler: Handler<Buffer>?): ReadStream<Buffer> {
+            this.handler = handler
+            return this
+        }
+
+        override fun pause(): ReadStream<Buffer> {
+            if (!paused) {
+                paused = true
+                numberOfPauses.incrementAndGet()
+            }
+            return this
+        }
+
+        override fun resume(): ReadStream<Buffer> {
+            if (paused) {
+                paused = false
+                numberOfResumes.incrementAndGet()
+                context.runOnContext { emit() }
+            }
+            return this
+        }
+
+        override fun fetch(amount: Long): ReadStream<Buffer> = resume()
+
+        override fun endHandler(endHandler: Handler<Void>?): ReadStream<Buffer> {
+            this.endHandler = endHandler
+            return this
+        }
+    }
+}
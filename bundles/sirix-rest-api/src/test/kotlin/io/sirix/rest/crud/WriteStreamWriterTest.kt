@@ -0,0 +1,157 @@
+package io.sirix.rest.crud
+
+import io.vertx.core.AsyncResult
+import io.vertx.core.Future
+import io.vertx.core.Handler
+import io.vertx.core.Promise
+import io.vertx.core.Vertx
+import io.vertx.core.buffer.Buffer
+import io.vertx.core.http.HttpMethod
+import io.vertx.core.http.HttpServer
+import io.vertx.core.streams.WriteStream
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import java.io.IOException
+import java.util.Collections
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+
+/**
+ * Test the backpressure of the [WriteStreamWriter].
+ */
+class WriteStreamWriterTest {
+
+    private lateinit var vertx: Vertx
+
+    @BeforeEach
+    fun setup() {
+        vertx = Vertx.vertx()
+    }
+
+    @AfterEach
+    fun tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS)
+    }
+
+    @Test
+    fun testWriterBlocksUntilDrained() {
+        val stream = SlowWriteStream()
+        val writer = WriteStreamWriter(stream, 4)
+
+        val written = CompletableFuture.runAsync { writer.write("abcd") }
+
+        assertThrows(TimeoutException::class.java) { written.get(200, TimeUnit.MILLISECONDS) }
+        assertTrue(stream.chunks.isEmpty())
+
+        stream.drain()
+
+        written.get(10, TimeUnit.SECONDS)
+        assertEquals(listOf("abcd"), stream.chunks)
+    }
+
+    @Test
+    fun testAbortFailsBlockedWriter() {
+        val stream = SlowWriteStream()
+        val writer = WriteStreamWriter(stream, 4)
+
+        val written = CompletableFuture.runAsync { writer.write("abcd") }
+
+        assertThrows(TimeoutException::class.java) { written.get(200, TimeUnit.MILLISECONDS) }
+
+        writer.abort()
+
+        val e = assertThrows(ExecutionException::class.java) { written.get(10, TimeUnit.SECONDS) }
+        assertTrue(e.cause is IOException)
+        assertThrows(IOException::class.java) { writer.write("efgh") }
+        assertTrue(stream.chunks.isEmpty())
+    }
+
+    @Test
+    fun testClosedClientAbortsBlockedWriter() {
+        val serverResult = CompletableFuture<IOException>()
+
+        val server: HttpServer = vertx.createHttpServer().requestHandler { request ->
+            val response = request.response().setChunked(true)
+            val writer = WriteStreamWriter(response)
+            response.closeHandler { writer.abort() }
+
+            vertx.executeBlocking { promise: Promise<Nothing> ->
+                try {
+                    // The client doesn't read, thus the writer has to block long before.
+                    repeat(100_000) { writer.write("x".repeat(WriteStreamWriter.DEFAULT_CHUNK_SIZE)) }
+                    serverResult.completeExceptionally(IllegalStateException("The writer hasn't been blocked."))
+                } catch (e: IOException) {
+                    serverResult.complete(e)
+                }
+                promise.complete()
+            }
+        }.listen(0).toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS)
+
+        val client = vertx.createHttpClient()
+        val response = client.request(HttpMethod.GET, server.actualPort(), "localhost", "/")
+            .compose { request -> request.send() }
+            .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS)
+
+        // A slow client, which doesn't read the response.
+        response.pause()
+
+        assertThrows(TimeoutException::class.java) { serverResult.get(500, TimeUnit.MILLISECONDS) }
+        assertFalse(serverResult.isDone)
+
+        // The client goes away, which has to abort the blocked writer.
+        response.request().connection().close()
+
+        serverResult.get(10, TimeUnit.SECONDS)
+    }
+
+    /**
+     * A [WriteStream], whose write queue is full until it's drained.
+     */
+    private class SlowWriteStream : WriteStream<Buffer> {
+        val chunks: MutableList<String> = Collections.synchronizedList(mutableListOf())
+
+        @Volatile
+        private var writeQueueFull = true
+
+        @Volatile
+        private var drainHandler: Handler<Void>? = null
+
+        fun drain() {
+            writeQueueFull = false
+            drainHandler?.handle(null)
+        }
+
+        override fun exceptionHandler(handler: Handler<Throwable>?): WriteStream<Buffer> = this
+
+        override fun write(data: Buffer): Future<Void> {
+            chunks.add(data.toString())
+            return Future.succeededFuture()
+        }
+
+        override fun write(data: Buffer, handler: Handler<AsyncResult<Void>>?) {
+            write(data).onComplete(handler)
+        }
+
+        override fun end(): Future<Void> = Future.succeededFuture()
+
+        override fun end(handler: Handler<AsyncResult<Void>>?) {
+            end().onComplete(handler)
+        }
+
+        override fun setWriteQueueMaxSize(maxSize: Int): WriteStream<Buffer> = this
+
+        override fun writeQueueFull(): Boolean = writeQueueFull
+
+        override fun drainHandler(handler: Handler<Void>?): WriteStream<Buffer> {
+            drainHandler = handler
+            return this
+        }
+    }
+}